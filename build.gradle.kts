@@ -11,6 +11,7 @@ plugins {
 	id("org.gradle.test-retry") version "1.6.5"
 	id("org.graalvm.buildtools.native") version "1.1.1"
 	id("com.github.ben-manes.versions") version "0.54.0"
+	id("me.champeau.jmh") version "0.7.3"
 	eclipse
 }
 
@@ -79,6 +80,9 @@ sourceSets {
 		}
 		resources.srcDirs("test/resources")
 	}
+	named("jmh") {
+		java.srcDirs("jmh")
+	}
 }
 
 tasks.withType<Javadoc>().configureEach {
@@ -131,6 +135,15 @@ testing {
 	}
 }
 
+jmh {
+	jmhVersion = "1.37"
+	// results are kept per version, e.g., for comparison with tools like jmh.morethan.io
+	resultFormat = "JSON"
+	resultsFile = layout.buildDirectory.file("reports/jmh/results-${project.version}.json")
+	// run a subset with -PjmhIncludes=<regex>
+	providers.gradleProperty("jmhIncludes").orNull?.let { includes.add(it) }
+}
+
 tasks.named<JavaExec>("run") {
 	// Work around https://github.com/graalvm/native-build-tools/issues/743
 	outputs.upToDateWhen { false }
@@ -0,0 +1,106 @@
+/*
+    Calimero 3 - A library for KNX network access
+    Copyright (c) 2026 B. Malinowsky
+
+    This program is free software; you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation; either version 2 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program; if not, write to the Free Software
+    Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+
+    Linking this library statically or dynamically with other modules is
+    making a combined work based on this library. Thus, the terms and
+    conditions of the GNU General Public License cover the whole
+    combination.
+
+    As a special exception, the copyright holders of this library give you
+    permission to link this library with independent modules to produce an
+    executable, regardless of the license terms of these independent
+    modules, and to copy and distribute the resulting executable under terms
+    of your choice, provided that you also meet, for each linked independent
+    module, the terms and conditions of the license of that module. An
+    independent module is a module which is not derived from or based on
+    this library. If you modify this library, you may extend this exception
+    to your version of the library, but you are not obligated to do so. If
+    you do not wish to do so, delete this exception statement from your
+    version.
+*/
+
+package io.calimero.buffer.cache;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of concurrent {@link LFUCache} reads and writes, with readers outnumbering writers. Keys are drawn from
+ * a key space twice the cache size, so that both hits and evictions occur.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LFUCacheBenchmark {
+	private static final int CacheSize = 1000;
+	private static final int Keys = 2 * CacheSize;
+
+	@Param({ "false", "true" })
+	public boolean admission;
+
+	private LFUCache cache;
+	private final Integer[] keys = new Integer[Keys];
+
+	@Setup(Level.Trial)
+	public void setup() {
+		cache = new LFUCache(CacheSize, 0, admission);
+		for (int i = 0; i < Keys; i++) {
+			keys[i] = i;
+			cache.put(new CacheObject(keys[i], keys[i]));
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		cache.clear();
+	}
+
+	@Benchmark
+	@Group("contended")
+	@GroupThreads(6)
+	public CacheObject get() {
+		return cache.get(keys[ThreadLocalRandom.current().nextInt(Keys)]);
+	}
+
+	@Benchmark
+	@Group("contended")
+	@GroupThreads(2)
+	public void put() {
+		final Integer key = keys[ThreadLocalRandom.current().nextInt(Keys)];
+		cache.put(new CacheObject(key, key));
+	}
+}
@@ -0,0 +1,97 @@
+/*
+    Calimero 3 - A library for KNX network access
+    Copyright (c) 2026 B. Malinowsky
+
+    This program is free software; you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation; either version 2 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program; if not, write to the Free Software
+    Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+
+    Linking this library statically or dynamically with other modules is
+    making a combined work based on this library. Thus, the terms and
+    conditions of the GNU General Public License cover the whole
+    combination.
+
+    As a special exception, the copyright holders of this library give you
+    permission to link this library with independent modules to produce an
+    executable, regardless of the license terms of these independent
+    modules, and to copy and distribute the resulting executable under terms
+    of your choice, provided that you also meet, for each linked independent
+    module, the terms and conditions of the license of that module. An
+    independent module is a module which is not derived from or based on
+    this library. If you modify this library, you may extend this exception
+    to your version of the library, but you are not obligated to do so. If
+    you do not wish to do so, delete this exception statement from your
+    version.
+*/
+
+package io.calimero.cemi;
+
+import java.util.HexFormat;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.calimero.KNXFormatException;
+
+/**
+ * Parsing and serialization of cEMI L-Data frames.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CemiBenchmark {
+	// L-Data.ind, group value write 1/2/1 = on
+	private final byte[] standard = HexFormat.of().parseHex("2900bce011010a01010081");
+	// L-Data.ind, extended frame with 48 bytes of data, 1/2/1
+	private final byte[] extended = HexFormat.of().parseHex("29003ce011010a0131" + "0080" + "00".repeat(48));
+
+	private final CemiLDataView view = new CemiLDataView();
+	private CEMILData frame;
+
+	@Setup
+	public void setup() throws KNXFormatException {
+		frame = (CEMILData) CEMIFactory.create(standard, 0, standard.length);
+	}
+
+	@Benchmark
+	public CEMI createStandard() throws KNXFormatException {
+		return CEMIFactory.create(standard, 0, standard.length);
+	}
+
+	@Benchmark
+	public CEMI createExtended() throws KNXFormatException {
+		return CEMIFactory.create(extended, 0, extended.length);
+	}
+
+	@Benchmark
+	public int wrapView() throws KNXFormatException {
+		return view.wrap(standard, 0, standard.length).destinationRaw();
+	}
+
+	@Benchmark
+	public byte[] toByteArray() {
+		return frame.toByteArray();
+	}
+}
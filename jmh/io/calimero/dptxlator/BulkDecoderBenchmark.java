@@ -0,0 +1,110 @@
+/*
+    Calimero 3 - A library for KNX network access
+    Copyright (c) 2026 B. Malinowsky
+
+    This program is free software; you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation; either version 2 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program; if not, write to the Free Software
+    Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+
+    Linking this library statically or dynamically with other modules is
+    making a combined work based on this library. Thus, the terms and
+    conditions of the GNU General Public License cover the whole
+    combination.
+
+    As a special exception, the copyright holders of this library give you
+    permission to link this library with independent modules to produce an
+    executable, regardless of the license terms of these independent
+    modules, and to copy and distribute the resulting executable under terms
+    of your choice, provided that you also meet, for each linked independent
+    module, the terms and conditions of the license of that module. An
+    independent module is a module which is not derived from or based on
+    this library. If you modify this library, you may extend this exception
+    to your version of the library, but you are not obligated to do so. If
+    you do not wish to do so, delete this exception statement from your
+    version.
+*/
+
+package io.calimero.dptxlator;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.calimero.KNXException;
+
+/**
+ * Decoding a batch of 2-byte float values using a translator, {@link DptCodec}, and {@link BulkDecoder}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BulkDecoderBenchmark {
+	private static final DptId dptId = new DptId(9, 1);
+
+	@Param({ "1000", "1000000" })
+	public int count;
+
+	private byte[] data;
+	private double[] values;
+	private DPTXlator translator;
+
+	@Setup
+	public void setup() throws KNXException {
+		data = new byte[2 * count];
+		new Random(1).nextBytes(data);
+		values = new double[count];
+		translator = TranslatorTypes.createTranslator(dptId);
+	}
+
+	@Benchmark
+	public double[] translator() throws KNXException {
+		for (int i = 0; i < count; i++) {
+			translator.setData(new byte[] { data[2 * i], data[2 * i + 1] });
+			values[i] = translator.getNumericValue();
+		}
+		return values;
+	}
+
+	@Benchmark
+	public double[] codec() {
+		for (int i = 0; i < count; i++)
+			values[i] = DptCodec.decodeDouble(dptId, data, 2 * i);
+		return values;
+	}
+
+	@Benchmark
+	public double[] bulk() {
+		BulkDecoder.decodeDouble(dptId, data, 0, count, values, false);
+		return values;
+	}
+
+	@Benchmark
+	public double[] bulkParallel() {
+		BulkDecoder.decodeDouble(dptId, data, 0, count, values, true);
+		return values;
+	}
+}
@@ -0,0 +1,98 @@
+/*
+    Calimero 3 - A library for KNX network access
+    Copyright (c) 2026 B. Malinowsky
+
+    This program is free software; you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation; either version 2 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program; if not, write to the Free Software
+    Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+
+    Linking this library statically or dynamically with other modules is
+    making a combined work based on this library. Thus, the terms and
+    conditions of the GNU General Public License cover the whole
+    combination.
+
+    As a special exception, the copyright holders of this library give you
+    permission to link this library with independent modules to produce an
+    executable, regardless of the license terms of these independent
+    modules, and to copy and distribute the resulting executable under terms
+    of your choice, provided that you also meet, for each linked independent
+    module, the terms and conditions of the license of that module. An
+    independent module is a module which is not derived from or based on
+    this library. If you modify this library, you may extend this exception
+    to your version of the library, but you are not obligated to do so. If
+    you do not wish to do so, delete this exception statement from your
+    version.
+*/
+
+package io.calimero.dptxlator;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.calimero.KNXException;
+import io.calimero.KNXFormatException;
+
+/**
+ * Translation between KNX data and string values, one datapoint type per main number.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DPTXlatorBenchmark {
+	@Param({ "1.001", "2.001", "3.007", "5.001", "6.001", "7.001", "8.001", "9.001", "10.001", "11.001", "12.001",
+		"13.001", "14.019", "16.001", "17.001", "18.001", "19.001", "20.102", "22.101", "28.001", "29.010", "229.001",
+		"232.600", "242.600", "243.600", "249.600", "250.600", "251.600" })
+	public String dpt;
+
+	private DPTXlator t;
+	private byte[] data;
+	private String value;
+
+	@Setup
+	public void setup() throws KNXException {
+		t = TranslatorTypes.createTranslator(dpt);
+		data = t.getData();
+		value = t.getValue();
+	}
+
+	@Benchmark
+	public String setDataGetValue() {
+		t.setData(data);
+		return t.getValue();
+	}
+
+	@Benchmark
+	public byte[] setValueGetData() throws KNXFormatException {
+		t.setValue(value);
+		return t.getData();
+	}
+
+	@Benchmark
+	public DPTXlator create() throws KNXException {
+		return TranslatorTypes.createTranslator(dpt);
+	}
+}
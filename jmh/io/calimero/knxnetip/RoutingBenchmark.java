@@ -0,0 +1,151 @@
+/*
+    Calimero 3 - A library for KNX network access
+    Copyright (c) 2026 B. Malinowsky
+
+    This program is free software; you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation; either version 2 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program; if not, write to the Free Software
+    Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+
+    Linking this library statically or dynamically with other modules is
+    making a combined work based on this library. Thus, the terms and
+    conditions of the GNU General Public License cover the whole
+    combination.
+
+    As a special exception, the copyright holders of this library give you
+    permission to link this library with independent modules to produce an
+    executable, regardless of the license terms of these independent
+    modules, and to copy and distribute the resulting executable under terms
+    of your choice, provided that you also meet, for each linked independent
+    module, the terms and conditions of the license of that module. An
+    independent module is a module which is not derived from or based on
+    this library. If you modify this library, you may extend this exception
+    to your version of the library, but you are not obligated to do so. If
+    you do not wish to do so, delete this exception statement from your
+    version.
+*/
+
+package io.calimero.knxnetip;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardProtocolFamily;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
+import java.util.HexFormat;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.calimero.KNXException;
+import io.calimero.KNXListener;
+
+/**
+ * Receive throughput of a {@link KNXnetIPRouting} connection using loopback multicast. Routing indications are sent
+ * in bursts from a separate datagram channel, and each invocation completes once the routing connection notified its
+ * listener about every frame of the burst. Sending over {@code KNXnetIPRouting} itself is not measured, because it is
+ * paced to the KNX IP routing datagram rate limit. Datagrams not received within a timeout are counted as lost,
+ * and reported by the {@code lost} secondary result.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RoutingBenchmark {
+	private static final int Burst = 100;
+	private static final long Timeout = TimeUnit.SECONDS.toNanos(1);
+
+	// routing indication, L-Data.ind group value write 1/2/1 = on
+	private static final byte[] packet = HexFormat.of().parseHex("061005300011" + "2900bce011010a01010081");
+
+	/** Lost datagrams, reported as secondary result. */
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	public static class Losses {
+		public long lost;
+
+		@Setup(Level.Iteration)
+		public void reset() { lost = 0; }
+	}
+
+	/** Listener type, either {@code view} for a {@link FrameViewListener}, or {@code event} for a {@link KNXListener}. */
+	@Param({ "view", "event" })
+	public String listener;
+
+	private final LongAdder received = new LongAdder();
+	// datagrams sent, minus the ones counted as lost
+	private long expected;
+
+	private KNXnetIPRouting routing;
+	private DatagramChannel sender;
+	private final ByteBuffer buffer = ByteBuffer.wrap(packet);
+	private final InetSocketAddress group = new InetSocketAddress(KNXnetIPRouting.DefaultMulticast,
+			KNXnetIPConnection.DEFAULT_PORT);
+
+	@Setup(Level.Trial)
+	public void setup() throws KNXException, IOException {
+		routing = new KNXnetIPRouting(null, KNXnetIPRouting.DefaultMulticast);
+		if ("view".equals(listener))
+			routing.addFrameViewListener(__ -> received.increment());
+		else
+			routing.addConnectionListener((KNXListener) __ -> received.increment());
+
+		sender = DatagramChannel.open(StandardProtocolFamily.INET)
+				.setOption(StandardSocketOptions.IP_MULTICAST_LOOP, true);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws IOException {
+		sender.close();
+		routing.close();
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(Burst)
+	public long receive(final Losses losses) throws IOException {
+		for (int i = 0; i < Burst; i++) {
+			sender.send(buffer, group);
+			buffer.rewind();
+		}
+		expected += Burst;
+		final long deadline = System.nanoTime() + Timeout;
+		long n;
+		while ((n = received.sum()) < expected) {
+			if (System.nanoTime() - deadline > 0) {
+				// count lost datagrams, and don't carry the loss over to the next invocation
+				losses.lost += expected - n;
+				expected = n;
+				break;
+			}
+			Thread.onSpinWait();
+		}
+		return n;
+	}
+}
@@ -0,0 +1,134 @@
+/*
+    Calimero 3 - A library for KNX network access
+    Copyright (c) 2026 B. Malinowsky
+
+    This program is free software; you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation; either version 2 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program; if not, write to the Free Software
+    Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+
+    Linking this library statically or dynamically with other modules is
+    making a combined work based on this library. Thus, the terms and
+    conditions of the GNU General Public License cover the whole
+    combination.
+
+    As a special exception, the copyright holders of this library give you
+    permission to link this library with independent modules to produce an
+    executable, regardless of the license terms of these independent
+    modules, and to copy and distribute the resulting executable under terms
+    of your choice, provided that you also meet, for each linked independent
+    module, the terms and conditions of the license of that module. An
+    independent module is a module which is not derived from or based on
+    this library. If you modify this library, you may extend this exception
+    to your version of the library, but you are not obligated to do so. If
+    you do not wish to do so, delete this exception statement from your
+    version.
+*/
+
+package io.calimero.secure;
+
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.calimero.IndividualAddress;
+import io.calimero.KNXAddress;
+import io.calimero.KNXException;
+import io.calimero.cemi.CEMILData;
+import io.calimero.link.AbstractLink;
+import io.calimero.link.KNXNetworkLink;
+import io.calimero.link.medium.TPSettings;
+import io.calimero.secure.SecurityControl.DataSecurity;
+
+/**
+ * Authenticated encryption and decryption of S-A_Data PDUs (AES-128 CCM), using the test vectors of
+ * {@code SecureApplicationLayerTest}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SecureApplicationLayerBenchmark {
+	private static final byte[] toolKey = HexFormat.of().parseHex("000102030405060708090a0b0c0d0e0f");
+
+	// property write, tool access, sequence number 4
+	private static final byte[] apdu = HexFormat.of().parseHex("03D70535100120212223242526272829" + "2A2B2C2D2E2F");
+	private static final byte[] secureApdu = HexFormat.of()
+			.parseHex("03f1900000000000046767242a2308ca76a11774214ee4cf5d94909f743d050d8fc168");
+
+	private static final IndividualAddress local = new IndividualAddress(15, 15, 103);
+	private static final IndividualAddress remote = new IndividualAddress(15, 15, 0);
+
+	private final SecurityControl secCtrl = SecurityControl.of(DataSecurity.AuthConf, true);
+
+	private KNXNetworkLink link;
+	private SecureApplicationLayer sal;
+
+	@Setup(Level.Trial)
+	public void setup() throws KNXException {
+		link = new AbstractLink<>(null, "bench", new TPSettings()) {
+			@Override
+			protected void onSend(final CEMILData msg, final boolean waitForCon) {}
+
+			@Override
+			protected void onSend(final KNXAddress dst, final byte[] msg, final boolean waitForCon) {}
+		};
+
+		sal = new SecureApplicationLayer(link, Map.of(), Map.of(), Map.of()) {
+			@Override
+			long nextSequenceNumber(final boolean toolAccess) { return 4; }
+
+			@Override
+			protected long lastValidSequenceNumber(final boolean toolAccess, final IndividualAddress remote) {
+				return 3;
+			}
+
+			@Override
+			protected byte[] toolKey(final IndividualAddress device) { return toolKey; }
+
+			@Override
+			protected int tpci(final KNXAddress dst) { return 0; }
+		};
+		SecureApplicationLayer.test = true;
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		sal.close();
+		link.close();
+	}
+
+	@Benchmark
+	public byte[] encrypt() {
+		return sal.secure(SecureApplicationLayer.SecureDataPdu, local, remote, apdu, secCtrl).get();
+	}
+
+	@Benchmark
+	public byte[] decrypt() {
+		return sal.extract(local, remote, secureApdu).apdu();
+	}
+}
@@ -36,9 +36,20 @@
 
 package io.calimero;
 
+import java.nio.ByteBuffer;
+
 public interface ServiceType {
 
 	int length();
 
 	byte[] toByteArray();
+
+	/**
+	 * Writes the byte representation of this service type into {@code buffer}, starting at the buffer's current
+	 * position; the buffer position is advanced by {@link #length()}.
+	 *
+	 * @param buffer buffer to write to, with at least {@link #length()} bytes remaining
+	 * @throws java.nio.BufferOverflowException if the buffer has insufficient space remaining
+	 */
+	default void writeTo(final ByteBuffer buffer) { buffer.put(toByteArray()); }
 }
@@ -36,12 +36,6 @@
 
 package io.calimero.buffer;
 
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-
 import io.calimero.GroupAddress;
 import io.calimero.KNXAddress;
 import io.calimero.buffer.Configuration.NetworkFilter;
@@ -52,9 +46,6 @@ import io.calimero.cemi.CEMI;
 import io.calimero.cemi.CEMIFactory;
 import io.calimero.cemi.CEMILData;
 import io.calimero.cemi.CEMILDataEx;
-import io.calimero.datapoint.ChangeListener;
-import io.calimero.datapoint.ChangeNotifier;
-import io.calimero.datapoint.Datapoint;
 import io.calimero.datapoint.DatapointMap;
 import io.calimero.datapoint.DatapointModel;
 import io.calimero.datapoint.StateDP;
@@ -73,52 +64,25 @@ import io.calimero.datapoint.StateDP;
  * KNX messages are buffered using a {@link LDataObject} (an object of this type is also
  * expected when the request method is invoked).
  * <p>
- * If a datapoint model is available in the {@link Configuration}, the filter uses that
- * model in its {@link #init(Configuration)} method. It initializes its local lookup
- * references with necessary updating/invalidating information of other datapoints stored
- * in that model. Thus, the filter will update or invalidate all other associated
- * datapoint state values in the network buffer configuration when receiving a new KNX
- * message.<br>
- * To reflect subsequent changes of the datapoint model in the filter, the filter has to
- * be reinitialized (using {@link #init(Configuration)}).
+ * If a {@link DatapointMap} is available as datapoint model in the {@link Configuration},
+ * the filter uses that model in its {@link #init(Configuration)} method. It looks up the
+ * updating/invalidating information of other datapoints stored in that model using the
+ * map indexes. Thus, the filter will update or invalidate all other associated datapoint
+ * state values in the network buffer configuration when receiving a new KNX message.<br>
+ * Subsequent changes of the datapoint map are reflected by the filter; if another
+ * datapoint model is used in the configuration, the filter has to be reinitialized
+ * (using {@link #init(Configuration)}).<br>
+ * Buffered state values of datapoints with an expiration timeout are not answered by
+ * {@link #request(KNXAddress, Configuration)} once that timeout elapsed; the expiry policy
+ * of the configuration cache is left unchanged.
  *
  * @author B. Malinowsky
  */
 public class StateFilter implements NetworkFilter, RequestFilter
 {
-	// contains cross-references of datapoints: which datapoint (key, of
-	// type KNXAddress) invalidates/updates which datapoints (value,
-	// of type List with GroupAddress entries)
-	private Map<KNXAddress, List<GroupAddress>> invalidate;
-	private Map<KNXAddress, List<GroupAddress>> update;
-
-	// keep a reference to a notifying model used by the change listener
-	private DatapointModel<? extends Datapoint> model;
-	private final ChangeListener cl = new ChangeListener()
-	{
-		/**
-		 * @param m
-		 * @param dp
-		 */
-		@Override
-		public void onDatapointRemoved(final DatapointModel<? extends Datapoint> m,
-			final Datapoint dp)
-		{
-			if (dp instanceof final StateDP dP)
-				destroyReferences(dP);
-		}
-
-		/**
-		 * @param m
-		 * @param dp
-		 */
-		@Override
-		public void onDatapointAdded(final DatapointModel<? extends Datapoint> m, final Datapoint dp)
-		{
-			if (dp instanceof final StateDP dP)
-				createReferences(dP);
-		}
-	};
+	// provides cross-references of datapoints: which datapoints are updated/invalidated
+	// by a group address
+	private volatile DatapointMap<?> datapoints;
 
 	/**
 	 * Creates a new state based filter.
@@ -128,16 +92,8 @@ public class StateFilter implements NetworkFilter, RequestFilter
 	@Override
 	public void init(final Configuration c)
 	{
-		// check if we have a current model which emits change notifications
-		if (model instanceof final ChangeNotifier notifier)
-			notifier.removeChangeListener(cl);
 		final DatapointModel<?> m = c.getDatapointModel();
-		if (m instanceof final ChangeNotifier notifier) {
-			model = m;
-			notifier.addChangeListener(cl);
-		}
-		if (m != null)
-			createReferences(m);
+		datapoints = m instanceof final DatapointMap<?> map ? map : null;
 	}
 
 	/**
@@ -248,73 +204,23 @@ public class StateFilter implements NetworkFilter, RequestFilter
 
 	private void update(final CEMILData f, final Cache c)
 	{
-		if (update != null) {
-			final List<GroupAddress> upd = update.get(f.getDestination());
-			if (upd != null)
-				for (final var groupAddress : upd) {
-					final CacheObject co = c.get(groupAddress);
-					if (co != null)
-						((LDataObject) co).setFrame(CEMIFactory.create(null,
-								(KNXAddress) co.getKey(), f, false));
-				}
-		}
-	}
-
-	private void invalidate(final CEMILData f, final Cache c)
-	{
-		if (invalidate != null) {
-			final List<GroupAddress> inv = invalidate.get(f.getDestination());
-			if (inv != null)
-				for (final var groupAddress : inv)
-					c.remove(groupAddress);
-		}
-	}
-
-	private void createReferences(final DatapointModel<? extends Datapoint> m)
-	{
-		invalidate = new HashMap<>();
-		update = new HashMap<>();
-		final Collection<? extends Datapoint> c = ((DatapointMap<? extends Datapoint>) m)
-				.getDatapoints();
-		synchronized (c) {
-			for (final Datapoint dp : c) {
-				if (dp instanceof final StateDP dP)
-					createReferences(dP);
+		final var map = datapoints;
+		if (map != null && f.getDestination() instanceof final GroupAddress ga) {
+			for (final StateDP dp : map.updatedBy(ga)) {
+				final CacheObject co = c.get(dp.getMainAddress());
+				if (co != null)
+					((LDataObject) co).setFrame(CEMIFactory.create(null,
+							(KNXAddress) co.getKey(), f, false));
 			}
 		}
 	}
 
-	private void createReferences(final StateDP dp)
-	{
-		createReferences(invalidate, dp.getAddresses(false), dp.getMainAddress());
-		createReferences(update, dp.getAddresses(true), dp.getMainAddress());
-	}
-
-	private static void createReferences(final Map<KNXAddress, List<GroupAddress>> map,
-		final Collection<GroupAddress> forAddr, final GroupAddress toAddr)
-	{
-		for (final GroupAddress ga : forAddr) {
-			final List<GroupAddress> l = map.computeIfAbsent(ga, k -> new ArrayList<>());
-			l.add(toAddr);
-		}
-	}
-
-	private void destroyReferences(final StateDP dp)
-	{
-		destroyReferences(invalidate, dp.getAddresses(false), dp.getMainAddress());
-		destroyReferences(update, dp.getAddresses(true), dp.getMainAddress());
-	}
-
-	private static void destroyReferences(final Map<KNXAddress, List<GroupAddress>> map,
-		final Collection<GroupAddress> forAddr, final GroupAddress toAddr)
+	private void invalidate(final CEMILData f, final Cache c)
 	{
-		for (final GroupAddress ga : forAddr) {
-			final List<GroupAddress> l = map.get(ga);
-			if (l != null) {
-				l.remove(toAddr);
-				if (l.isEmpty())
-					map.remove(ga);
-			}
+		final var map = datapoints;
+		if (map != null && f.getDestination() instanceof final GroupAddress ga) {
+			for (final StateDP dp : map.invalidatedBy(ga))
+				c.remove(dp.getMainAddress());
 		}
 	}
 }
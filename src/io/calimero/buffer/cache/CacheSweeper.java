@@ -0,0 +1,151 @@
+/*
+    Calimero 3 - A library for KNX network access
+    Copyright (c) 2026 B. Malinowsky
+
+    This program is free software; you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation; either version 2 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program; if not, write to the Free Software
+    Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+
+    Linking this library statically or dynamically with other modules is
+    making a combined work based on this library. Thus, the terms and
+    conditions of the GNU General Public License cover the whole
+    combination.
+
+    As a special exception, the copyright holders of this library give you
+    permission to link this library with independent modules to produce an
+    executable, regardless of the license terms of these independent
+    modules, and to copy and distribute the resulting executable under terms
+    of your choice, provided that you also meet, for each linked independent
+    module, the terms and conditions of the license of that module. An
+    independent module is a module which is not derived from or based on
+    this library. If you modify this library, you may extend this exception
+    to your version of the library, but you are not obligated to do so. If
+    you do not wish to do so, delete this exception statement from your
+    version.
+*/
+
+package io.calimero.buffer.cache;
+
+import static java.lang.System.Logger.Level.ERROR;
+
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import io.calimero.internal.Executor;
+import io.calimero.log.LogService;
+
+/**
+ * Sweeps all expiring caches of this JVM using one scheduled task, which runs at the time the next cache is
+ * due for sweeping.
+ */
+final class CacheSweeper
+{
+	private record Sweep(ExpiringCache cache, long due) {}
+
+	private static final Object lock = new Object();
+	private static final PriorityQueue<Sweep> sweeps = new PriorityQueue<>(Comparator.comparingLong(Sweep::due));
+	private static final Map<ExpiringCache, Sweep> scheduled = new IdentityHashMap<>();
+	private static ScheduledFuture<?> next;
+	private static long nextRun = Long.MAX_VALUE;
+
+	private CacheSweeper() {}
+
+	/**
+	 * Schedules sweeping of {@code cache} at time {@code due}, unless the cache is already scheduled for an
+	 * earlier sweep.
+	 *
+	 * @param cache the cache to sweep
+	 * @param due time in milliseconds
+	 */
+	static void schedule(final ExpiringCache cache, final long due)
+	{
+		synchronized (lock) {
+			final Sweep current = scheduled.get(cache);
+			if (current != null) {
+				if (current.due() <= due)
+					return;
+				sweeps.remove(current);
+			}
+			final Sweep sweep = new Sweep(cache, due);
+			scheduled.put(cache, sweep);
+			sweeps.add(sweep);
+			if (due < nextRun)
+				runAt(due);
+		}
+	}
+
+	static void cancel(final ExpiringCache cache)
+	{
+		synchronized (lock) {
+			final Sweep sweep = scheduled.remove(cache);
+			if (sweep != null)
+				sweeps.remove(sweep);
+		}
+	}
+
+	static boolean isScheduled(final ExpiringCache cache)
+	{
+		synchronized (lock) {
+			return scheduled.containsKey(cache);
+		}
+	}
+
+	private static void run()
+	{
+		Thread.currentThread().setName("Calimero cache sweeper");
+		while (true) {
+			final ExpiringCache cache;
+			synchronized (lock) {
+				final Sweep head = sweeps.peek();
+				if (head == null) {
+					next = null;
+					nextRun = Long.MAX_VALUE;
+					return;
+				}
+				if (head.due() > System.currentTimeMillis()) {
+					runAt(head.due());
+					return;
+				}
+				sweeps.poll();
+				scheduled.remove(head.cache());
+				cache = head.cache();
+			}
+			long due;
+			try {
+				due = cache.sweep();
+			}
+			catch (final RuntimeException e) {
+				LogService.getLogger("io.calimero.buffer").log(ERROR, "sweeping cache " + cache, e);
+				due = System.currentTimeMillis() + ExpiringCache.defaultSweepInterval * 1000L;
+			}
+			synchronized (lock) {
+				// cache might have stopped sweeping in the meantime
+				if (due != Long.MAX_VALUE && cache.isSweeping())
+					schedule(cache, due);
+			}
+		}
+	}
+
+	private static void runAt(final long due)
+	{
+		if (next != null)
+			next.cancel(false);
+		nextRun = due;
+		final long delay = Math.max(0, due - System.currentTimeMillis());
+		next = Executor.scheduledExecutor().schedule(CacheSweeper::run, delay, TimeUnit.MILLISECONDS);
+	}
+}
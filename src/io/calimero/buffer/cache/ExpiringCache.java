@@ -40,10 +40,7 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.concurrent.ScheduledFuture;
-import java.util.concurrent.TimeUnit;
-
-import io.calimero.internal.Executor;
+import java.util.function.ToIntFunction;
 
 /**
  * Implements a cache expiring mechanism for {@link CacheObject}s.
@@ -57,6 +54,12 @@ import io.calimero.internal.Executor;
  * Note that if the timestamp of a {@link CacheObject} changes after it was put into the
  * cache, the object has to be reinserted (see {@link #put(CacheObject)}) to keep the
  * cache in a consistent state. If no expiring is used, this might be omitted.<br>
+ * <p>
+ * Subclasses which schedule the expiry of each cache object using {@link #scheduleExpiry(CacheObject)} expire
+ * cache objects incrementally: the cache sweeper is run at the time the next cache object expires, and only
+ * visits expired cache objects. This also supports individual times to expire for cache objects, see
+ * {@link #setTimeToExpire(ToIntFunction)}. All caches are swept using one scheduled task shared by all
+ * caches.
  *
  * @author B. Malinowsky
  */
@@ -69,7 +72,8 @@ public abstract class ExpiringCache implements Cache
 	protected static final int defaultSweepInterval = 60;
 
 	/**
-	 * Sweep interval in seconds used for the cache sweeper.
+	 * Sweep interval in seconds used for the cache sweeper, if cache objects are not scheduled for
+	 * expiry individually.
 	 * <p>
 	 * It defaults to {@value #defaultSweepInterval} seconds. For a new value to take
 	 * effect, it has to be assigned either before the first {@link #startSweeper()} call,
@@ -81,11 +85,19 @@ public abstract class ExpiringCache implements Cache
 	 * The map holding the {@link CacheObject}s.
 	 * <p>
 	 * The map instance itself is not synchronized, synchronization is done using the
-	 * cache object (this).
+	 * cache object (this). Subclasses supplying their own map instance might use a different
+	 * synchronization policy.
 	 */
 	protected final Map<Object, CacheObject> map;
-	private ScheduledFuture<?> sweeper;
 	private final int timeToExpire;
+	private volatile ToIntFunction<? super CacheObject> objectTimeToExpire;
+
+	private volatile boolean sweeping;
+	// set once a subclass schedules expiry of cache objects using the timer wheel
+	private volatile boolean expiryScheduled;
+	private final TimerWheel wheel = new TimerWheel(1000, System.currentTimeMillis());
+	// time of the next sweep for expiring scheduled cache objects
+	private volatile long sweepDue = Long.MAX_VALUE;
 
 	/**
 	 * Creates an {@link ExpiringCache}.
@@ -108,6 +120,23 @@ public abstract class ExpiringCache implements Cache
 		}
 	}
 
+	/**
+	 * Creates an {@link ExpiringCache} holding its {@link CacheObject}s in the supplied map.
+	 * <p>
+	 * Cache objects are only expired by {@link #removeExpired()} if {@code map} is a
+	 * {@link LinkedHashMap} in insertion order, otherwise a subclass is responsible for expiring
+	 * them.
+	 *
+	 * @param timeToExpire time &gt; 0 in seconds for cache entries to stay valid, on time =
+	 *        0 no expiring of cache entries will occur
+	 * @param map the (empty) map used for holding the cache objects
+	 */
+	protected ExpiringCache(final int timeToExpire, final Map<Object, CacheObject> map)
+	{
+		this.timeToExpire = Math.max(0, timeToExpire);
+		this.map = map;
+	}
+
 	/**
 	 * Removes all {@link CacheObject CacheObjects}, where {@code CacheObject::getTimestamp + timeToExpire ≤ now}, with
 	 * {@code timeToExpire > 0} and {@code now} is the point of time {@link #removeExpired()} is invoked.
@@ -116,6 +145,12 @@ public abstract class ExpiringCache implements Cache
 	@Override
 	public void removeExpired()
 	{
+		if (expiryScheduled) {
+			final long now = System.currentTimeMillis();
+			for (final Object key : wheel.advance(now))
+				expire(key, now);
+			return;
+		}
 		if (timeToExpire == 0 || !(map instanceof LinkedHashMap))
 			return;
 		final long now = System.currentTimeMillis();
@@ -142,6 +177,108 @@ public abstract class ExpiringCache implements Cache
 	 */
 	protected void notifyRemoved(final CacheObject obj) {}
 
+	/**
+	 * Sets the time to expire of individual cache objects.
+	 * <p>
+	 * For a cache object put into this cache, {@code timeToExpire} returns the time in seconds for the cache
+	 * object to stay valid, or 0 to use the time to expire of this cache. This applies to caches which schedule
+	 * expiry of their cache objects (see {@link #scheduleExpiry(CacheObject)}), and takes effect for cache
+	 * objects put into the cache after setting it.
+	 *
+	 * @param timeToExpire function returning the time to expire in seconds for a cache object
+	 */
+	public final void setTimeToExpire(final ToIntFunction<? super CacheObject> timeToExpire)
+	{
+		objectTimeToExpire = timeToExpire;
+	}
+
+	/**
+	 * Returns the time in seconds {@code obj} stays valid in this cache.
+	 *
+	 * @param obj cache object
+	 * @return time to expire in seconds, 0 for no expiring
+	 */
+	protected final int timeToExpire(final CacheObject obj)
+	{
+		final var f = objectTimeToExpire;
+		final int t = f != null ? f.applyAsInt(obj) : 0;
+		return t > 0 ? t : timeToExpire;
+	}
+
+	/**
+	 * Returns whether {@code obj} has expired at time {@code now}.
+	 *
+	 * @param obj cache object
+	 * @param now time in milliseconds
+	 * @return {@code true} if expired, {@code false} otherwise
+	 */
+	protected final boolean isExpired(final CacheObject obj, final long now)
+	{
+		final int t = timeToExpire(obj);
+		return t > 0 && now >= obj.getTimestamp() + t * 1000L;
+	}
+
+	/**
+	 * Schedules the expiry of {@code obj} according to its time to expire, replacing a scheduled expiry of a
+	 * cache object with the same key, and ensures the cache sweeper is running.
+	 * <p>
+	 * Subclasses invoke this method after putting {@code obj} into the cache, in place of
+	 * {@link #startSweeper()}. Once invoked, {@link #removeExpired()} only visits cache objects due to expire,
+	 * and removes them using {@link #expire(Object, long)}.
+	 *
+	 * @param obj cache object put into the cache
+	 */
+	protected final void scheduleExpiry(final CacheObject obj)
+	{
+		expiryScheduled = true;
+		final int t = timeToExpire(obj);
+		if (t == 0) {
+			wheel.cancel(obj.getKey());
+			return;
+		}
+		final long deadline = obj.getTimestamp() + t * 1000L;
+		wheel.schedule(obj.getKey(), deadline);
+		if (deadline < sweepDue) {
+			sweepDue = deadline;
+			sweeping = true;
+			CacheSweeper.schedule(this, deadline);
+		}
+	}
+
+	/**
+	 * Cancels a scheduled expiry for the cache object associated with {@code key}.
+	 *
+	 * @param key key of the cache object removed from the cache
+	 */
+	protected final void cancelExpiry(final Object key)
+	{
+		if (expiryScheduled)
+			wheel.cancel(key);
+	}
+
+	/**
+	 * Removes the cache object associated with {@code key} if it has expired at time {@code now}, otherwise
+	 * the cache object is scheduled for expiry again. This method is invoked by {@link #removeExpired()} for
+	 * scheduled cache objects; subclasses which maintain additional state for cache objects override it.
+	 *
+	 * @param key key of the cache object due to expire
+	 * @param now time in milliseconds
+	 */
+	protected void expire(final Object key, final long now)
+	{
+		synchronized (this) {
+			final CacheObject o = map.get(key);
+			if (o == null)
+				return;
+			if (isExpired(o, now)) {
+				map.remove(key);
+				notifyRemoved(o);
+			}
+			else
+				scheduleExpiry(o);
+		}
+	}
+
 	/**
 	 * Starts a new cache sweeper, if not already running, and if an expiring time
 	 * for {@link CacheObject} was specified.<br>
@@ -150,27 +287,41 @@ public abstract class ExpiringCache implements Cache
 	 */
 	protected final void startSweeper()
 	{
-		if (timeToExpire > 0 && sweeper == null) {
-			final Runnable task = () -> {
-				Thread.currentThread().setName("Calimero cache sweeper");
-				removeExpired();
-			};
-
-			final int delay = sweepInterval;
-			sweeper = Executor.scheduledExecutor().scheduleWithFixedDelay(task, delay, delay, TimeUnit.SECONDS);
+		if (timeToExpire > 0 && !sweeping) {
+			sweeping = true;
+			CacheSweeper.schedule(this, System.currentTimeMillis() + sweepInterval * 1000L);
 		}
 	}
 
 	/**
-	 * Stops the cache sweeper, if any.
+	 * Stops the cache sweeper, if any, and discards any scheduled expiry of cache objects.
 	 */
 	protected final void stopSweeper()
 	{
-		final var s = sweeper;
-		if (s != null) {
-			s.cancel(true);
-			sweeper = null;
+		sweeping = false;
+		CacheSweeper.cancel(this);
+		sweepDue = Long.MAX_VALUE;
+		wheel.clear();
+	}
+
+	// invoked by the cache sweeper, returns the time of the next sweep
+	final long sweep()
+	{
+		if (!expiryScheduled) {
+			removeExpired();
+			return System.currentTimeMillis() + sweepInterval * 1000L;
 		}
+		// cache objects scheduled while sweeping will reschedule the sweeper
+		sweepDue = Long.MAX_VALUE;
+		removeExpired();
+		final long due = wheel.nextDeadline();
+		sweepDue = due;
+		return due;
+	}
+
+	final boolean isSweeping()
+	{
+		return sweeping;
 	}
 
 	static void updateAccess(final CacheObject obj)
@@ -34,26 +34,86 @@
     version.
 */
 
+
 package io.calimero.buffer.cache;
 
-import java.util.Comparator;
-import java.util.SortedMap;
-import java.util.TreeMap;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * A {@link Cache} using a LFU replacement policy.
  * <p>
  * The usage value of {@link CacheObject#getUsage()} equals the access count,
  * {@link CacheObject#getCount()}.
+ * <p>
+ * Cache objects are kept in a list of frequency buckets, so that put, get, and eviction take constant time;
+ * cache objects of equal usage are evicted in least recently used order. Lookups with {@link #get(Object)}
+ * do not block on the cache lock: if the lock is held by another thread, the access is recorded and applied to
+ * the cache object and the frequency list by the next thread owning the lock. Hence, the access count of a
+ * returned cache object might not yet include that access.<br>
+ * Optionally, a cache of limited size admits new cache objects only if the estimated access frequency of the
+ * new key is higher than the one of the cache object to evict (TinyLFU admission). Access frequencies are
+ * estimated for all keys put or requested, including keys not in the cache, and age over time.
+ * <p>
+ * Cache objects are scheduled for expiry individually, an expired cache object is also removed on access.
  *
  * @author B. Malinowsky
  */
 public class LFUCache extends ExpiringCache
 {
-	private final SortedMap<CacheObject, CacheObject> tree;
-	private int maxSize;
-	private long hits;
-	private long misses;
+	// max. number of accesses recorded while the cache lock is held by another thread
+	private static final int MaxPendingAccesses = 512;
+
+	private static final class Node
+	{
+		final Object key;
+		CacheObject obj;
+		Bucket bucket;
+		Node prev;
+		Node next;
+
+		Node(final Object key, final CacheObject obj)
+		{
+			this.key = key;
+			this.obj = obj;
+		}
+	}
+
+	private static final class Bucket
+	{
+		final int frequency;
+		Bucket lower;
+		Bucket higher;
+		// least recently used node first
+		Node first;
+		Node last;
+
+		Bucket(final int frequency)
+		{
+			this.frequency = frequency;
+		}
+	}
+
+	private final ReentrantLock lock = new ReentrantLock();
+	// all following state is guarded by lock
+	private final Map<Object, Node> nodes = new HashMap<>();
+	// bucket with lowest frequency, buckets are linked in ascending order of frequency
+	private Bucket lowest;
+	private final FrequencySketch sketch;
+
+	private final Queue<Object> pendingAccesses = new ConcurrentLinkedQueue<>();
+	private final AtomicInteger pending = new AtomicInteger();
+
+	private final int maxSize;
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
 
 	/**
 	 * Creates a new LFU cache.
@@ -67,10 +127,26 @@ public class LFUCache extends ExpiringCache
 	 */
 	public LFUCache(final int cacheSize, final int timeToExpire)
 	{
-		super(timeToExpire);
-		if (cacheSize > 0)
-			maxSize = cacheSize;
-		tree = new TreeMap<>(new LFUObjectCompare());
+		this(cacheSize, timeToExpire, false);
+	}
+
+	/**
+	 * Creates a new LFU cache, optionally using frequency-based admission of new cache objects.
+	 * <p>
+	 * If {@code admission} is {@code true} and the cache is full, a new {@link CacheObject} is only put into the
+	 * cache if its key was accessed more frequently than the key of the least frequently used cache object, which
+	 * is then evicted. Admission only applies to caches with a maximum size.
+	 *
+	 * @param cacheSize maximum number of {@link CacheObject}s in the cache, or 0 for no maximum
+	 * @param timeToExpire time in seconds for cache objects to stay valid, or 0 for no expiring
+	 * @param admission {@code true} to admit new cache objects based on their estimated access frequency,
+	 *        {@code false} to always admit new cache objects
+	 */
+	public LFUCache(final int cacheSize, final int timeToExpire, final boolean admission)
+	{
+		super(timeToExpire, new ConcurrentHashMap<>());
+		maxSize = Math.max(0, cacheSize);
+		sketch = admission && maxSize > 0 ? new FrequencySketch(maxSize) : null;
 	}
 
 	/**
@@ -78,38 +154,57 @@ public class LFUCache extends ExpiringCache
 	 * If expiring of cache objects is set, and the timestamp of a
 	 * {@link CacheObject} is renewed after it has been put into the cache, a
 	 * new {@link #put(CacheObject)} is required for that object to apply the
-	 * timestamp and keep the cache in a consistent state.
+	 * timestamp and keep the cache in a consistent state.<br>
+	 * If admission is used, a cache object with a key not already in the cache might not be admitted.
 	 */
 	@Override
-	public synchronized void put(final CacheObject obj)
+	public void put(final CacheObject obj)
 	{
-		// ensure sweeping is on if we have expiring objects
-		startSweeper();
-		final Object old = map.remove(obj.getKey());
-		if (old != null)
-			tree.remove(old);
-		else
-			ensureSizeLimits();
-		obj.resetTimestamp();
-		map.put(obj.getKey(), obj);
-		tree.put(obj, obj);
+		final Object key = obj.getKey();
+		lock.lock();
+		try {
+			drainPendingAccesses();
+			if (sketch != null)
+				sketch.increment(key);
+			Node n = nodes.get(key);
+			if (n != null)
+				n.obj = obj;
+			else {
+				if (!ensureSizeLimits(key))
+					return;
+				n = new Node(key, obj);
+				nodes.put(key, n);
+			}
+			obj.resetTimestamp();
+			map.put(key, obj);
+			moveToBucket(n, obj.getUsage());
+			scheduleExpiry(obj);
+		}
+		finally {
+			lock.unlock();
+		}
 	}
 
 	/* (non-Javadoc)
 	 * @see io.calimero.buffer.cache.Cache#get(java.lang.Object)
 	 */
 	@Override
-	public synchronized CacheObject get(final Object key)
+	public CacheObject get(final Object key)
 	{
-		final CacheObject o = map.get(key);
+		CacheObject o = map.get(key);
 		if (o != null) {
-			tree.remove(o);
-			updateAccess(o);
-			tree.put(o, o);
-			++hits;
+			final long now = System.currentTimeMillis();
+			if (isExpired(o, now)) {
+				expire(key, now);
+				o = null;
+			}
 		}
+		if (o != null)
+			hits.increment();
 		else
-			++misses;
+			misses.increment();
+		if (o != null || sketch != null)
+			recordAccess(key);
 		return o;
 	}
 
@@ -117,62 +212,279 @@ public class LFUCache extends ExpiringCache
 	 * @see io.calimero.buffer.cache.Cache#remove(java.lang.Object)
 	 */
 	@Override
-	public synchronized void remove(final Object key)
+	public void remove(final Object key)
 	{
-		final Object o = map.remove(key);
-		if (o != null)
-			tree.remove(o);
+		lock.lock();
+		try {
+			drainPendingAccesses();
+			final Node n = nodes.get(key);
+			if (n != null)
+				removeNode(n);
+		}
+		finally {
+			lock.unlock();
+		}
 	}
 
 	/* (non-Javadoc)
-	 * @see io.calimero.buffer.cache.Cache#clear()
+	 * @see io.calimero.buffer.cache.ExpiringCache#expire(java.lang.Object, long)
 	 */
 	@Override
-	public synchronized void clear()
+	protected void expire(final Object key, final long now)
 	{
-		stopSweeper();
-		map.clear();
-		tree.clear();
+		lock.lock();
+		try {
+			final Node n = nodes.get(key);
+			if (n == null)
+				return;
+			if (isExpired(n.obj, now)) {
+				removeNode(n);
+				notifyRemoved(n.obj);
+			}
+			else
+				scheduleExpiry(n.obj);
+		}
+		finally {
+			lock.unlock();
+		}
 	}
 
 	/* (non-Javadoc)
-	 * @see io.calimero.buffer.cache.Cache#statistic()
+	 * @see io.calimero.buffer.cache.Cache#clear()
 	 */
 	@Override
-	public synchronized Statistic statistic()
+	public void clear()
 	{
-		return new StatisticImpl(hits, misses);
+		lock.lock();
+		try {
+			stopSweeper();
+			map.clear();
+			nodes.clear();
+			lowest = null;
+			pendingAccesses.clear();
+			pending.set(0);
+			if (sketch != null)
+				sketch.clear();
+		}
+		finally {
+			lock.unlock();
+		}
 	}
 
 	/* (non-Javadoc)
-	 * @see io.calimero.buffer.cache.ExpiringCache#notifyRemoved(
-	 * io.calimero.buffer.cache.CacheObject)
+	 * @see io.calimero.buffer.cache.Cache#statistic()
 	 */
 	@Override
-	protected final void notifyRemoved(final CacheObject obj)
+	public Statistic statistic()
+	{
+		return new StatisticImpl(hits.sum(), misses.sum());
+	}
+
+	// Records an access for key; if the cache lock is not available, the access is queued for the next
+	// lock owner. If too many accesses are queued already, we wait for the lock.
+	private void recordAccess(final Object key)
+	{
+		if (!lock.tryLock()) {
+			if (pending.getAndIncrement() < MaxPendingAccesses) {
+				pendingAccesses.offer(key);
+				return;
+			}
+			pending.decrementAndGet();
+			lock.lock();
+		}
+		try {
+			drainPendingAccesses();
+			access(key);
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	private void drainPendingAccesses()
+	{
+		for (Object key; (key = pendingAccesses.poll()) != null;) {
+			pending.decrementAndGet();
+			access(key);
+		}
+	}
+
+	private void access(final Object key)
 	{
-		tree.remove(obj);
+		if (sketch != null)
+			sketch.increment(key);
+		final Node n = nodes.get(key);
+		if (n != null) {
+			updateAccess(n.obj);
+			moveToBucket(n, n.obj.getUsage());
+		}
 	}
 
-	private void ensureSizeLimits()
+	// returns false if the cache object with key is not admitted
+	private boolean ensureSizeLimits(final Object key)
 	{
 		if (maxSize > 0)
-			while (map.size() >= maxSize)
-				remove(tree.firstKey().getKey());
+			while (nodes.size() >= maxSize) {
+				final Node victim = lowest.first;
+				if (sketch != null && sketch.frequency(key) <= sketch.frequency(victim.key))
+					return false;
+				removeNode(victim);
+			}
+		return true;
+	}
+
+	private void removeNode(final Node n)
+	{
+		nodes.remove(n.key);
+		map.remove(n.key);
+		unlinkBucket(n);
+		cancelExpiry(n.key);
+	}
+
+	// moves n to the most recently used position of the bucket with the requested frequency
+	private void moveToBucket(final Node n, final int frequency)
+	{
+		final Bucket current = n.bucket;
+		Bucket target = current;
+		if (current == null || current.frequency != frequency) {
+			// usage only increases for cache objects in the cache, so we usually find the target
+			// bucket at or next to the current one
+			Bucket lower = current != null && current.frequency < frequency ? current : null;
+			for (Bucket b = lower == null ? lowest : lower.higher; b != null && b.frequency < frequency; b = b.higher)
+				lower = b;
+			final Bucket higher = lower == null ? lowest : lower.higher;
+			if (higher != null && higher.frequency == frequency)
+				target = higher;
+			else {
+				target = new Bucket(frequency);
+				target.lower = lower;
+				target.higher = higher;
+				if (lower == null)
+					lowest = target;
+				else
+					lower.higher = target;
+				if (higher != null)
+					higher.lower = target;
+			}
+		}
+		else if (current.last == n)
+			return;
+		unlinkBucket(n);
+		n.bucket = target;
+		n.prev = target.last;
+		if (target.last == null)
+			target.first = n;
+		else
+			target.last.next = n;
+		target.last = n;
+	}
+
+	private void unlinkBucket(final Node n)
+	{
+		final Bucket b = n.bucket;
+		if (b == null)
+			return;
+		if (n.prev == null)
+			b.first = n.next;
+		else
+			n.prev.next = n.next;
+		if (n.next == null)
+			b.last = n.prev;
+		else
+			n.next.prev = n.prev;
+		n.prev = null;
+		n.next = null;
+		n.bucket = null;
+
+		if (b.first == null) {
+			if (b.lower == null)
+				lowest = b.higher;
+			else
+				b.lower.higher = b.higher;
+			if (b.higher != null)
+				b.higher.lower = b.lower;
+		}
 	}
 
-	private static class LFUObjectCompare implements Comparator<CacheObject>
+	// Count-min sketch using 4 rows of 4 bit counters, all counters are halved after a sample period
+	// of 10 * cache size increments, so that frequency estimates reflect recent history.
+	private static final class FrequencySketch
 	{
-		LFUObjectCompare() {}
+		private static final long[] Seeds = { 0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL,
+			0xcbf29ce484222325L };
+		private static final long ResetMask = 0x7777777777777777L;
+
+		private final long[] table;
+		private final int mask;
+		private final int samplePeriod;
+		private int samples;
+
+		FrequencySketch(final int maxSize)
+		{
+			int counters = 64;
+			while (counters < 4L * maxSize && counters < (1 << 30))
+				counters <<= 1;
+			table = new long[counters / 16];
+			mask = counters - 1;
+			samplePeriod = (int) Math.min(Integer.MAX_VALUE, 10L * maxSize);
+		}
+
+		void increment(final Object key)
+		{
+			final int hash = spread(key.hashCode());
+			boolean added = false;
+			for (int i = 0; i < Seeds.length; i++)
+				added |= increment(index(hash, i));
+			if (added && ++samples >= samplePeriod)
+				age();
+		}
+
+		int frequency(final Object key)
+		{
+			final int hash = spread(key.hashCode());
+			int frequency = 15;
+			for (int i = 0; i < Seeds.length; i++)
+				frequency = Math.min(frequency, counter(index(hash, i)));
+			return frequency;
+		}
+
+		void clear()
+		{
+			Arrays.fill(table, 0);
+			samples = 0;
+		}
+
+		private boolean increment(final int index)
+		{
+			if (counter(index) == 15)
+				return false;
+			table[index >>> 4] += 1L << ((index & 15) << 2);
+			return true;
+		}
+
+		private int counter(final int index)
+		{
+			return (int) (table[index >>> 4] >>> ((index & 15) << 2)) & 0xf;
+		}
+
+		private int index(final int hash, final int row)
+		{
+			long h = (hash + Seeds[row]) * Seeds[row];
+			h += h >>> 32;
+			return (int) h & mask;
+		}
+
+		private void age()
+		{
+			for (int i = 0; i < table.length; i++)
+				table[i] = (table[i] >>> 1) & ResetMask;
+			samples /= 2;
+		}
 
-		@Override
-		public int compare(final CacheObject o1, final CacheObject o2)
+		private static int spread(final int hashCode)
 		{
-			if (o1.getUsage() > o2.getUsage())
-				return 1;
-			if (o1.getUsage() < o2.getUsage())
-				return -1;
-			return Integer.compare(o1.getCount(), o2.getCount());
+			final int h = hashCode * 0x9e3779b9;
+			return h ^ (h >>> 16);
 		}
 	}
 }
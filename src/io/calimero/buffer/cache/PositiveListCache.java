@@ -38,7 +38,6 @@ package io.calimero.buffer.cache;
 
 import java.util.Collection;
 import java.util.HashSet;
-import java.util.LinkedHashMap;
 import java.util.Set;
 
 /**
@@ -157,12 +156,9 @@ public class PositiveListCache extends ExpiringCache
 	public synchronized void put(final CacheObject obj)
 	{
 		if (posList.contains(obj.getKey())) {
-			startSweeper();
 			obj.resetTimestamp();
-			// maintain insertion order, if any
-			if (map instanceof LinkedHashMap)
-				map.remove(obj.getKey());
 			map.put(obj.getKey(), obj);
+			scheduleExpiry(obj);
 		}
 	}
 
@@ -172,7 +168,12 @@ public class PositiveListCache extends ExpiringCache
 	@Override
 	public synchronized CacheObject get(final Object key)
 	{
-		final CacheObject o = map.get(key);
+		CacheObject o = map.get(key);
+		if (o != null && isExpired(o, System.currentTimeMillis())) {
+			remove(key);
+			notifyRemoved(o);
+			o = null;
+		}
 		if (o != null) {
 			updateAccess(o);
 			++hits;
@@ -189,6 +190,7 @@ public class PositiveListCache extends ExpiringCache
 	public synchronized void remove(final Object key)
 	{
 		map.remove(key);
+		cancelExpiry(key);
 	}
 
 	/**
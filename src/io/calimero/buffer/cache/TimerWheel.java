@@ -0,0 +1,231 @@
+/*
+    Calimero 3 - A library for KNX network access
+    Copyright (c) 2026 B. Malinowsky
+
+    This program is free software; you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation; either version 2 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program; if not, write to the Free Software
+    Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+
+    Linking this library statically or dynamically with other modules is
+    making a combined work based on this library. Thus, the terms and
+    conditions of the GNU General Public License cover the whole
+    combination.
+
+    As a special exception, the copyright holders of this library give you
+    permission to link this library with independent modules to produce an
+    executable, regardless of the license terms of these independent
+    modules, and to copy and distribute the resulting executable under terms
+    of your choice, provided that you also meet, for each linked independent
+    module, the terms and conditions of the license of that module. An
+    independent module is a module which is not derived from or based on
+    this library. If you modify this library, you may extend this exception
+    to your version of the library, but you are not obligated to do so. If
+    you do not wish to do so, delete this exception statement from your
+    version.
+*/
+
+package io.calimero.buffer.cache;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hierarchical timing wheel for scheduling the expiry of cache entries identified by key.
+ * <p>
+ * The wheel uses 4 levels of 64 slots; a slot of the lowest level spans one tick. Scheduling and cancelling are
+ * constant time, advancing the wheel only visits slots of ticks that have passed, cascading timers of a higher level
+ * slot down when its time span begins. Deadlines beyond the span of the highest level are re-scheduled when
+ * reaching the end of that span.
+ */
+final class TimerWheel
+{
+	private static final int Bits = 6;
+	private static final int Slots = 1 << Bits;
+	private static final int SlotMask = Slots - 1;
+	private static final int Levels = 4;
+
+	private static final class Timer
+	{
+		final Object key;
+		long deadline;
+		long tick;
+		int level;
+		int slot;
+		Timer prev;
+		Timer next;
+
+		Timer(final Object key)
+		{
+			this.key = key;
+		}
+	}
+
+	private final long resolution;
+	private final Timer[][] wheel = new Timer[Levels][Slots];
+	private final Map<Object, Timer> timers = new HashMap<>();
+	// all ticks before the current tick were processed
+	private long currentTick;
+
+	/**
+	 * @param resolution tick duration in milliseconds
+	 * @param now current time in milliseconds
+	 */
+	TimerWheel(final long resolution, final long now)
+	{
+		this.resolution = resolution;
+		currentTick = now / resolution;
+	}
+
+	synchronized void schedule(final Object key, final long deadline)
+	{
+		Timer t = timers.get(key);
+		if (t == null) {
+			t = new Timer(key);
+			timers.put(key, t);
+		}
+		else
+			unlink(t);
+		t.deadline = deadline;
+		t.tick = Math.ceilDiv(deadline, resolution);
+		link(t);
+	}
+
+	synchronized void cancel(final Object key)
+	{
+		final Timer t = timers.remove(key);
+		if (t != null)
+			unlink(t);
+	}
+
+	synchronized int size()
+	{
+		return timers.size();
+	}
+
+	synchronized void clear()
+	{
+		timers.clear();
+		for (final Timer[] level : wheel)
+			Arrays.fill(level, null);
+	}
+
+	/**
+	 * Advances the wheel to {@code now} and removes all timers with a deadline up to and including {@code now}.
+	 *
+	 * @param now current time in milliseconds
+	 * @return keys of the expired timers
+	 */
+	synchronized List<Object> advance(final long now)
+	{
+		final List<Object> expired = new ArrayList<>();
+		final long target = now / resolution;
+		if (timers.isEmpty())
+			currentTick = Math.max(currentTick, target + 1);
+		for (; currentTick <= target && !timers.isEmpty(); currentTick++) {
+			for (int level = Levels - 1; level > 0; level--)
+				if ((currentTick & ((1L << (Bits * level)) - 1)) == 0)
+					cascade(level, (int) (currentTick >>> (Bits * level)) & SlotMask);
+			expire(0, (int) currentTick & SlotMask, Long.MAX_VALUE, expired);
+		}
+		currentTick = Math.max(currentTick, target + 1);
+		// the next tick might already contain timers due before its end
+		if (!timers.isEmpty())
+			expire(0, (int) currentTick & SlotMask, now, expired);
+		return expired;
+	}
+
+	/**
+	 * Returns the earliest time the wheel has to be advanced to either expire or cascade timers.
+	 *
+	 * @return time in milliseconds, or {@link Long#MAX_VALUE} if no timers are scheduled
+	 */
+	synchronized long nextDeadline()
+	{
+		if (timers.isEmpty())
+			return Long.MAX_VALUE;
+		long next = Long.MAX_VALUE;
+		for (int i = 0; i < Slots && next == Long.MAX_VALUE; i++)
+			for (Timer t = wheel[0][(int) (currentTick + i) & SlotMask]; t != null; t = t.next)
+				next = Math.min(next, t.deadline);
+		// timers of higher levels might be due earlier than the ones in the lowest level
+		for (int level = 1; level < Levels; level++) {
+			final int shift = Bits * level;
+			final long period = currentTick >>> shift;
+			for (int i = 1; i <= Slots; i++)
+				if (wheel[level][(int) (period + i) & SlotMask] != null) {
+					next = Math.min(next, ((period + i) << shift) * resolution);
+					break;
+				}
+		}
+		return next;
+	}
+
+	private void cascade(final int level, final int slot)
+	{
+		Timer t = wheel[level][slot];
+		wheel[level][slot] = null;
+		while (t != null) {
+			final Timer next = t.next;
+			t.prev = null;
+			t.next = null;
+			link(t);
+			t = next;
+		}
+	}
+
+	private void expire(final int level, final int slot, final long now, final List<Object> expired)
+	{
+		for (Timer t = wheel[level][slot]; t != null;) {
+			final Timer next = t.next;
+			if (t.deadline <= now) {
+				unlink(t);
+				timers.remove(t.key);
+				expired.add(t.key);
+			}
+			t = next;
+		}
+	}
+
+	private void link(final Timer t)
+	{
+		final long tick = Math.max(t.tick, currentTick);
+		final long delta = tick - currentTick;
+		int level = 0;
+		while (level < Levels - 1 && delta >= 1L << (Bits * (level + 1)))
+			level++;
+		final int shift = Bits * level;
+		// beyond the wheel span, park the timer in the last slot of the highest level
+		final long period = Math.min(tick >>> shift, (currentTick >>> shift) + Slots);
+		t.level = level;
+		t.slot = (int) period & SlotMask;
+		t.next = wheel[level][t.slot];
+		if (t.next != null)
+			t.next.prev = t;
+		wheel[level][t.slot] = t;
+	}
+
+	private void unlink(final Timer t)
+	{
+		if (t.prev == null)
+			wheel[t.level][t.slot] = t.next;
+		else
+			t.prev.next = t.next;
+		if (t.next != null)
+			t.next.prev = t.prev;
+		t.prev = null;
+		t.next = null;
+	}
+}
@@ -37,7 +37,7 @@
 package io.calimero.cemi;
 
 import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.HexFormat;
 import java.util.Objects;
@@ -448,18 +448,22 @@ public class CEMILData implements CEMI
 	@Override
 	public byte[] toByteArray()
 	{
-		final ByteArrayOutputStream os = new ByteArrayOutputStream();
-		os.write(mc);
-		writeAddInfo(os);
+		final ByteBuffer buffer = ByteBuffer.allocate(getStructLength());
+		writeTo(buffer);
+		return buffer.array();
+	}
+
+	@Override
+	public void writeTo(final ByteBuffer buffer)
+	{
+		buffer.put((byte) mc);
+		writeAddInfo(buffer);
 		setCtrlPriority();
-		os.write(ctrl1);
-		os.write(ctrl2);
-		byte[] buf = source.toByteArray();
-		os.write(buf, 0, buf.length);
-		buf = dst.toByteArray();
-		os.write(buf, 0, buf.length);
-		writePayload(os);
-		return os.toByteArray();
+		buffer.put((byte) ctrl1);
+		buffer.put((byte) ctrl2);
+		buffer.putShort((short) source.getRawAddress());
+		buffer.putShort((short) dst.getRawAddress());
+		writePayload(buffer);
 	}
 
 	@Override
@@ -503,22 +507,22 @@ public class CEMILData implements CEMI
 	}
 
 	/**
-	 * Writes additional information to {@code os}.
+	 * Writes additional information to {@code buffer}.
 	 * <p>
 	 * This type does not support additional information; the additional info length is
 	 * set to 0, indicating no additional information.
 	 *
-	 * @param os the output stream
+	 * @param buffer the buffer to write to
 	 */
-	void writeAddInfo(final ByteArrayOutputStream os)
+	void writeAddInfo(final ByteBuffer buffer)
 	{
-		os.write(0);
+		buffer.put((byte) 0);
 	}
 
-	void writePayload(final ByteArrayOutputStream os)
+	void writePayload(final ByteBuffer buffer)
 	{
-		os.write(data.length - 1);
-		os.write(data, 0, data.length);
+		buffer.put((byte) (data.length - 1));
+		buffer.put(data);
 	}
 
 	boolean isValidTPDULength(final byte[] tpdu)
@@ -37,7 +37,7 @@
 package io.calimero.cemi;
 
 import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
@@ -313,6 +313,12 @@ public class CEMILDataEx extends CEMILData implements Cloneable
 		return super.toByteArray();
 	}
 
+	@Override
+	public synchronized void writeTo(final ByteBuffer buffer)
+	{
+		super.writeTo(buffer);
+	}
+
 	@Override
 	public String toString()
 	{
@@ -388,33 +394,33 @@ public class CEMILDataEx extends CEMILData implements Cloneable
 	}
 
 	/**
-	 * Writes all additional information to {@code os}.
+	 * Writes all additional information to {@code buffer}.
 	 *
-	 * @param os the output stream
+	 * @param buffer the buffer to write to
 	 */
 	@Override
-	void writeAddInfo(final ByteArrayOutputStream os)
+	void writeAddInfo(final ByteBuffer buffer)
 	{
 		synchronized (addInfo) {
-			os.write(getAddInfoLength());
+			buffer.put((byte) getAddInfoLength());
 			addInfo.sort(Comparator.comparingInt(AdditionalInfo::type));
 			for (final var infoField : addInfo) {
-				os.write(infoField.type());
+				buffer.put((byte) infoField.type());
 				final byte[] info = infoField.info();
-				os.write(info.length);
-				os.write(info, 0, info.length);
+				buffer.put((byte) info.length);
+				buffer.put(info);
 			}
 		}
 	}
 
 	@Override
-	void writePayload(final ByteArrayOutputStream os)
+	void writePayload(final ByteBuffer buffer)
 	{
 		// RF frames don't use NPDU length field
 //		final boolean rf = addInfo.stream().anyMatch(info -> info.type() == AdditionalInfo.RfMedium);
-//		os.write(rf ? 0 : data.length - 1);
-		os.write(data.length - 1);
-		os.write(data, 0, data.length);
+//		buffer.put(rf ? 0 : data.length - 1);
+		buffer.put((byte) (data.length - 1));
+		buffer.put(data);
 	}
 
 	@Override
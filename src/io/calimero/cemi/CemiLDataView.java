@@ -0,0 +1,258 @@
+/*
+    Calimero 3 - A library for KNX network access
+    Copyright (c) 2026 B. Malinowsky
+
+    This program is free software; you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation; either version 2 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program; if not, write to the Free Software
+    Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+
+    Linking this library statically or dynamically with other modules is
+    making a combined work based on this library. Thus, the terms and
+    conditions of the GNU General Public License cover the whole
+    combination.
+
+    As a special exception, the copyright holders of this library give you
+    permission to link this library with independent modules to produce an
+    executable, regardless of the license terms of these independent
+    modules, and to copy and distribute the resulting executable under terms
+    of your choice, provided that you also meet, for each linked independent
+    module, the terms and conditions of the license of that module. An
+    independent module is a module which is not derived from or based on
+    this library. If you modify this library, you may extend this exception
+    to your version of the library, but you are not obligated to do so. If
+    you do not wish to do so, delete this exception statement from your
+    version.
+*/
+
+package io.calimero.cemi;
+
+import java.util.HexFormat;
+
+import io.calimero.GroupAddress;
+import io.calimero.IndividualAddress;
+import io.calimero.KNXAddress;
+import io.calimero.KNXFormatException;
+import io.calimero.Priority;
+
+/**
+ * A reusable, read-only view over the bytes of a cEMI L-Data frame, providing access to the frame fields without
+ * copying or parsing the frame into a {@link CEMILData} object.
+ * <p>
+ * A view is bound to a frame using {@link #wrap(byte[], int, int)}; the view does not copy the frame data, and is only
+ * valid as long as the wrapped data is not modified. In particular, a view supplied by a receiver is only valid for the
+ * duration of the notification. Use {@link #toCEMI()} to obtain a cEMI frame independent of the view.
+ * <p>
+ * Objects of this type are not thread-safe.
+ */
+public final class CemiLDataView {
+	private byte[] data;
+	private int offset;
+	private int length;
+	// absolute index of control field 1
+	private int ctrl;
+
+	/**
+	 * Creates a new, unbound view; use {@link #wrap(byte[], int, int)} before accessing any frame fields.
+	 */
+	public CemiLDataView() {}
+
+	/**
+	 * Binds this view to the cEMI L-Data frame contained in {@code data}.
+	 *
+	 * @param data byte array containing the cEMI L-Data frame
+	 * @param offset start offset of the frame in {@code data}
+	 * @param length length of the frame in {@code data}
+	 * @return this view
+	 * @throws KNXFormatException if {@code data} does not contain a (valid) cEMI L-Data frame
+	 */
+	public CemiLDataView wrap(final byte[] data, final int offset, final int length) throws KNXFormatException {
+		if (length < 10 || offset + length > data.length)
+			throw new KNXFormatException("buffer too short for cEMI L-Data frame", length);
+		final int mc = data[offset] & 0xff;
+		if (mc != CEMILData.MC_LDATA_REQ && mc != CEMILData.MC_LDATA_CON && mc != CEMILData.MC_LDATA_IND)
+			throw new KNXFormatException("msg code indicates no L-data frame", mc);
+		final int ctrl = offset + 2 + (data[offset + 1] & 0xff);
+		if (ctrl + 7 >= offset + length)
+			throw new KNXFormatException("buffer too short for cEMI L-Data frame", length);
+		final int tpduLength = (data[ctrl + 6] & 0xff) + 1;
+		if (ctrl + 7 + tpduLength > offset + length)
+			throw new KNXFormatException("length of tpdu exceeds available data", tpduLength);
+
+		this.data = data;
+		this.offset = offset;
+		this.length = ctrl + 7 + tpduLength - offset;
+		this.ctrl = ctrl;
+		return this;
+	}
+
+	/**
+	 * @return the cEMI message code
+	 */
+	public int messageCode() { return data[offset] & 0xff; }
+
+	/**
+	 * @return length of the frame in bytes
+	 */
+	public int length() { return length; }
+
+	/**
+	 * @return length of the additional information field in bytes, {@code 0} for no additional information
+	 */
+	public int additionalInfoLength() { return data[offset + 1] & 0xff; }
+
+	/**
+	 * @return the message priority
+	 */
+	public Priority priority() { return Priority.get((data[ctrl] >> 2) & 0x03); }
+
+	/**
+	 * @return {@code true} if the frame is a repetition (for indications), or is not to be repeated (for requests)
+	 */
+	public boolean isRepetition() {
+		final boolean flag = (data[ctrl] & 0x20) == 0;
+		return messageCode() == CEMILData.MC_LDATA_IND ? flag : !flag;
+	}
+
+	/**
+	 * @return {@code true} for system broadcast, {@code false} for domain broadcast or "don't care"
+	 */
+	public boolean isSystemBroadcast() { return (data[ctrl] & 0x10) == 0; }
+
+	/**
+	 * @return {@code true} if the destination address is a group address, {@code false} for an individual address
+	 */
+	public boolean isGroupDestination() { return (data[ctrl + 1] & 0x80) != 0; }
+
+	/**
+	 * @return the hop count
+	 */
+	public int hopCount() { return (data[ctrl + 1] & 0x70) >> 4; }
+
+	/**
+	 * @return the raw source address
+	 */
+	public int sourceRaw() { return unsigned16(ctrl + 2); }
+
+	/**
+	 * @return the raw destination address, see {@link #isGroupDestination()} for the address type
+	 */
+	public int destinationRaw() { return unsigned16(ctrl + 4); }
+
+	/**
+	 * Creates the source address of this frame; prefer {@link #sourceRaw()} to avoid allocation.
+	 *
+	 * @return the source address
+	 */
+	public IndividualAddress source() { return new IndividualAddress(sourceRaw()); }
+
+	/**
+	 * Creates the destination address of this frame; prefer {@link #destinationRaw()} to avoid allocation.
+	 *
+	 * @return the destination address
+	 */
+	public KNXAddress destination() {
+		final int raw = destinationRaw();
+		return isGroupDestination() ? new GroupAddress(raw) : new IndividualAddress(raw);
+	}
+
+	/**
+	 * @return length of the TPDU (transport layer protocol data unit) in bytes
+	 */
+	public int tpduLength() { return (data[ctrl + 6] & 0xff) + 1; }
+
+	/**
+	 * Returns the TPDU byte at {@code index}, with {@code index = 0} being the TPCI.
+	 *
+	 * @param index TPDU byte index, {@code 0 <= index < tpduLength()}
+	 * @return TPDU byte as unsigned value
+	 */
+	public int tpdu(final int index) {
+		if (index < 0 || index >= tpduLength())
+			throw new IndexOutOfBoundsException(index);
+		return data[tpduOffset() + index] & 0xff;
+	}
+
+	/**
+	 * Returns the application layer service code (APCI) contained in the TPDU, or {@code -1} if the TPDU is too short
+	 * to contain an APCI.
+	 *
+	 * @return APCI, with optimized group value data masked out
+	 */
+	public int apci() {
+		if (tpduLength() < 2)
+			return -1;
+		final int apci = unsigned16(tpduOffset()) & 0x03ff;
+		// group value response and write might contain optimized data in the low 6 bits
+		final int svc = apci & 0x03c0;
+		if (svc == 0x0040 || svc == 0x0080)
+			return svc;
+		return apci;
+	}
+
+	/**
+	 * Returns the length of the application layer data following the APCI, excluding data optimized into the APCI.
+	 *
+	 * @return data length in bytes, {@code 0} if the frame contains no APCI data bytes
+	 */
+	public int dataLength() { return Math.max(0, tpduLength() - 2); }
+
+	/**
+	 * Copies the TPDU of this frame into {@code dst}.
+	 *
+	 * @param dst destination array
+	 * @param dstOffset start offset in {@code dst}
+	 * @return number of bytes copied, i.e., the TPDU length
+	 */
+	public int copyTpdu(final byte[] dst, final int dstOffset) {
+		final int len = tpduLength();
+		System.arraycopy(data, tpduOffset(), dst, dstOffset, len);
+		return len;
+	}
+
+	/**
+	 * Returns the array backing this view; the frame starts at {@link #offset()} in the returned array.
+	 *
+	 * @return the wrapped byte array
+	 */
+	public byte[] array() { return data; }
+
+	/**
+	 * @return start offset of the frame in {@link #array()}
+	 */
+	public int offset() { return offset; }
+
+	/**
+	 * @return start offset of the TPDU in {@link #array()}
+	 */
+	public int tpduOffset() { return ctrl + 7; }
+
+	/**
+	 * Creates a cEMI L-Data frame out of this view, the returned frame does not reference the data of this view.
+	 *
+	 * @return new cEMI L-Data frame
+	 * @throws KNXFormatException on unsupported frame format
+	 */
+	public CEMILData toCEMI() throws KNXFormatException {
+		return (CEMILData) CEMIFactory.create(data, offset, length);
+	}
+
+	@Override
+	public String toString() {
+		if (data == null)
+			return "unbound cEMI L-Data view";
+		return source() + "->" + destination() + ", tpdu "
+				+ HexFormat.ofDelimiter(" ").formatHex(data, tpduOffset(), tpduOffset() + tpduLength());
+	}
+
+	private int unsigned16(final int index) { return (data[index] & 0xff) << 8 | data[index + 1] & 0xff; }
+}
@@ -36,10 +36,15 @@
 
 package io.calimero.datapoint;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 
 import io.calimero.GroupAddress;
 import io.calimero.KNXIllegalArgumentException;
@@ -50,6 +55,16 @@ import io.calimero.xml.XmlWriter;
 
 /**
  * A datapoint model storing datapoints with no defined order or hierarchy using a map implementation.
+ * <p>
+ * Lookups and iteration do not lock the map: {@link #get(GroupAddress)} and the datapoint indexes are safe to use
+ * concurrently with modifications of the map, and iterating the collections returned by this map never throws
+ * {@link java.util.ConcurrentModificationException}. Collections returned by this map are views; a view reflects
+ * modifications happening during iteration at most once per datapoint, and does not require synchronization.
+ * <p>
+ * Besides the main address, datapoints are indexed by DPT main number, by name, and, for state-based datapoints,
+ * by updating and invalidating group address. Indexes are maintained when adding or removing datapoints; a datapoint
+ * changing its name or its updating/invalidating addresses after it was added has to be removed and added again to
+ * update the indexes.
  *
  * @author B. Malinowsky
  */
@@ -57,7 +72,20 @@ public class DatapointMap<T extends Datapoint> implements DatapointModel<T>, Cha
 {
 	private static final String TAG_DATAPOINTS = "datapoints";
 
+	// modifications synchronize on points
 	private final Map<GroupAddress, T> points;
+	// secondary indexes, datapoints are keyed by main address because datapoint hash codes are not stable
+	private final Map<Integer, Map<GroupAddress, T>> mainNumbers = new ConcurrentHashMap<>();
+	private final NavigableMap<String, Map<GroupAddress, T>> names = new ConcurrentSkipListMap<>();
+	// state-based datapoints by updating/invalidating address, lists are replaced on modification
+	private final Map<GroupAddress, List<StateDP>> updating = new ConcurrentHashMap<>();
+	private final Map<GroupAddress, List<StateDP>> invalidating = new ConcurrentHashMap<>();
+	// index keys used for each datapoint at the time it was indexed, guarded by the points lock
+	private final Map<GroupAddress, IndexEntry> indexed = new HashMap<>();
+
+	private record IndexEntry(int mainNumber, String name, List<GroupAddress> updating,
+		List<GroupAddress> invalidating) {}
+
 	private final EventListeners<ChangeListener> listeners = new EventListeners<>();
 
 	private final Class<? extends Datapoint> dpTypeRef;
@@ -72,7 +100,7 @@ public class DatapointMap<T extends Datapoint> implements DatapointModel<T>, Cha
 
 	DatapointMap(final Class<? extends Datapoint> type)
 	{
-		points = Collections.synchronizedMap(new HashMap<>(20));
+		points = new ConcurrentHashMap<>(20);
 		dpTypeRef = type;
 	}
 
@@ -88,15 +116,13 @@ public class DatapointMap<T extends Datapoint> implements DatapointModel<T>, Cha
 	 */
 	public DatapointMap(final Collection<T> datapoints)
 	{
-		// not all HashSets put additional capacity in HashSet(Collection) ctor
-		final Map<GroupAddress, T> m = new HashMap<>(Math.max(2 * datapoints.size(), 11));
+		points = new ConcurrentHashMap<>(Math.max(2 * datapoints.size(), 11));
+		dpTypeRef = Datapoint.class;
 		for (final T dp : datapoints) {
-			if (m.containsKey(dp.getMainAddress()))
+			if (points.putIfAbsent(dp.getMainAddress(), dp) != null)
 				throw new KNXIllegalArgumentException("duplicate datapoint " + dp.getMainAddress());
-			m.put(dp.getMainAddress(), dp);
+			index(dp);
 		}
-		points = Collections.synchronizedMap(m);
-		dpTypeRef = Datapoint.class;
 	}
 
 	@Override
@@ -107,6 +133,7 @@ public class DatapointMap<T extends Datapoint> implements DatapointModel<T>, Cha
 				throw new KNXIllegalArgumentException("duplicate datapoint "
 					+ dp.getMainAddress());
 			points.put(dp.getMainAddress(), dp);
+			index(dp);
 			fireChangeNotification(dp, true);
 		}
 	}
@@ -114,14 +141,27 @@ public class DatapointMap<T extends Datapoint> implements DatapointModel<T>, Cha
 	@Override
 	public void remove(final T dp)
 	{
-		if (points.remove(dp.getMainAddress()) != null)
+		final T removed;
+		synchronized (points) {
+			removed = points.remove(dp.getMainAddress());
+			if (removed != null)
+				unindex(removed);
+		}
+		if (removed != null)
 			fireChangeNotification(dp, false);
 	}
 
 	@Override
 	public void removeAll()
 	{
-		points.clear();
+		synchronized (points) {
+			points.clear();
+			mainNumbers.clear();
+			names.clear();
+			updating.clear();
+			invalidating.clear();
+			indexed.clear();
+		}
 	}
 
 	@Override
@@ -142,6 +182,59 @@ public class DatapointMap<T extends Datapoint> implements DatapointModel<T>, Cha
 		return Collections.unmodifiableCollection(points.values());
 	}
 
+	/**
+	 * Returns all datapoints of this map using a datapoint type with the specified DPT main number.
+	 *
+	 * @param mainNumber DPT main number
+	 * @return unmodifiable collection of datapoints, empty collection if no datapoint uses that main number
+	 */
+	public Collection<T> datapoints(final int mainNumber)
+	{
+		final Map<GroupAddress, T> m = mainNumbers.get(mainNumber);
+		return m != null ? Collections.unmodifiableCollection(m.values()) : List.of();
+	}
+
+	/**
+	 * Returns all datapoints of this map with a name starting with {@code prefix}, ordered by name.
+	 *
+	 * @param prefix name prefix, an empty prefix matches all datapoints
+	 * @return list of datapoints
+	 */
+	public List<T> datapointsByName(final String prefix)
+	{
+		final List<T> l = new ArrayList<>();
+		for (final var entry : names.tailMap(prefix).entrySet()) {
+			if (!entry.getKey().startsWith(prefix))
+				break;
+			l.addAll(entry.getValue().values());
+		}
+		return l;
+	}
+
+	/**
+	 * Returns the state-based datapoints of this map which state is updated by messages to group address
+	 * {@code ga}, see {@link StateDP#isUpdating(GroupAddress)}.
+	 *
+	 * @param ga updating group address
+	 * @return unmodifiable list of datapoints, empty list if {@code ga} is not an updating address
+	 */
+	public List<StateDP> updatedBy(final GroupAddress ga)
+	{
+		return updating.getOrDefault(ga, List.of());
+	}
+
+	/**
+	 * Returns the state-based datapoints of this map which state is invalidated by messages to group address
+	 * {@code ga}, see {@link StateDP#isInvalidating(GroupAddress)}.
+	 *
+	 * @param ga invalidating group address
+	 * @return unmodifiable list of datapoints, empty list if {@code ga} is not an invalidating address
+	 */
+	public List<StateDP> invalidatedBy(final GroupAddress ga)
+	{
+		return invalidating.getOrDefault(ga, List.of());
+	}
+
 	@Override
 	public boolean contains(final GroupAddress main)
 	{
@@ -172,6 +265,7 @@ public class DatapointMap<T extends Datapoint> implements DatapointModel<T>, Cha
 				@SuppressWarnings("unchecked")
 				final T castDp = (T) dp;
 				points.put(dp.getMainAddress(), castDp);
+				index(castDp);
 			}
 		}
 	}
@@ -199,6 +293,78 @@ public class DatapointMap<T extends Datapoint> implements DatapointModel<T>, Cha
 		listeners.remove(l);
 	}
 
+	// invoked while holding the points lock, or during construction
+	private void index(final T dp)
+	{
+		final GroupAddress main = dp.getMainAddress();
+		final int mainNumber = dp.dptId().mainNumber();
+		final String name = name(dp);
+		mainNumbers.computeIfAbsent(mainNumber, __ -> new ConcurrentHashMap<>()).put(main, dp);
+		names.computeIfAbsent(name, __ -> new ConcurrentHashMap<>()).put(main, dp);
+		List<GroupAddress> updatingAddresses = List.of();
+		List<GroupAddress> invalidatingAddresses = List.of();
+		if (dp instanceof final StateDP sdp) {
+			updatingAddresses = List.copyOf(sdp.getAddresses(true));
+			invalidatingAddresses = List.copyOf(sdp.getAddresses(false));
+			for (final GroupAddress ga : updatingAddresses)
+				updating.merge(ga, List.of(sdp), DatapointMap::concat);
+			for (final GroupAddress ga : invalidatingAddresses)
+				invalidating.merge(ga, List.of(sdp), DatapointMap::concat);
+		}
+		indexed.put(main, new IndexEntry(mainNumber, name, updatingAddresses, invalidatingAddresses));
+	}
+
+	// invoked while holding the points lock; the datapoint DPT, name, or addresses might have changed since
+	// indexing, so we only use the index keys recorded by index()
+	private void unindex(final T dp)
+	{
+		final GroupAddress main = dp.getMainAddress();
+		final IndexEntry entry = indexed.remove(main);
+		if (entry == null)
+			return;
+		removeReference(mainNumbers, entry.mainNumber(), main);
+		removeReference(names, entry.name(), main);
+		for (final GroupAddress ga : entry.updating())
+			removeReference(updating, ga, dp);
+		for (final GroupAddress ga : entry.invalidating())
+			removeReference(invalidating, ga, dp);
+	}
+
+	private static <K, T> void removeReference(final Map<K, Map<GroupAddress, T>> index, final K key,
+		final GroupAddress main)
+	{
+		final Map<GroupAddress, T> m = index.get(key);
+		if (m != null && m.remove(main) != null && m.isEmpty())
+			index.remove(key);
+	}
+
+	private static void removeReference(final Map<GroupAddress, List<StateDP>> references, final GroupAddress ga,
+		final Datapoint dp)
+	{
+		final List<StateDP> l = references.get(ga);
+		if (l == null)
+			return;
+		final List<StateDP> without = l.stream().filter(e -> e != dp).toList();
+		if (without.isEmpty())
+			references.remove(ga);
+		else if (without.size() < l.size())
+			references.put(ga, without);
+	}
+
+	private static List<StateDP> concat(final List<StateDP> l1, final List<StateDP> l2)
+	{
+		final List<StateDP> l = new ArrayList<>(l1.size() + l2.size());
+		l.addAll(l1);
+		l.addAll(l2);
+		return List.copyOf(l);
+	}
+
+	private static String name(final Datapoint dp)
+	{
+		final String name = dp.getName();
+		return name != null ? name : "";
+	}
+
 	private void fireChangeNotification(final T dp, final boolean added)
 	{
 		if (added)
@@ -0,0 +1,397 @@
+/*
+    Calimero 3 - A library for KNX network access
+    Copyright (c) 2026 B. Malinowsky
+
+    This program is free software; you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation; either version 2 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program; if not, write to the Free Software
+    Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+
+    Linking this library statically or dynamically with other modules is
+    making a combined work based on this library. Thus, the terms and
+    conditions of the GNU General Public License cover the whole
+    combination.
+
+    As a special exception, the copyright holders of this library give you
+    permission to link this library with independent modules to produce an
+    executable, regardless of the license terms of these independent
+    modules, and to copy and distribute the resulting executable under terms
+    of your choice, provided that you also meet, for each linked independent
+    module, the terms and conditions of the license of that module. An
+    independent module is a module which is not derived from or based on
+    this library. If you modify this library, you may extend this exception
+    to your version of the library, but you are not obligated to do so. If
+    you do not wish to do so, delete this exception statement from your
+    version.
+*/
+
+package io.calimero.dptxlator;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import io.calimero.KNXIllegalArgumentException;
+
+/**
+ * Bulk decoding of batches of KNX datapoint data into primitive {@code double[]} or {@code long[]} columns, e.g., for
+ * analyzing recorded bus traffic. The KNX data of a batch is packed into a single byte array, either contiguously
+ * using the type size of the datapoint type, or located by an offset per item. Decoding uses the same scaling as
+ * {@link DptCodec}. Numeric values ({@code decodeDouble}) are supported for DPT main numbers 1, 5, 7, 8, 9, 12, 13, 14,
+ * and 29, unscaled integer values ({@code decodeLong}) for DPT main numbers 1, 5, 7, 8, 12, 13, and 29. All
+ * datapoint types of a batch are checked before decoding, i.e., on an unsupported datapoint type, {@code dst} is left
+ * unchanged.
+ * <p>
+ * Batches with items of different datapoint types are decoded per datapoint type, i.e., the datapoint type is
+ * resolved once for all items of that type. Decoding optionally splits large batches into subtasks, which are run in
+ * parallel in the common fork-join pool.
+ */
+public final class BulkDecoder {
+	// minimum number of items decoded by a single task
+	private static final int SplitThreshold = 1 << 14;
+
+	// items are located at data[offsets[i]] or, if no offsets are given, at data[base + i * stride]; the items of a
+	// column are given by index, or all items are part of the column if index is null
+	private record Batch(byte[] data, int[] offsets, int base, int stride, int[] index) {}
+
+	private BulkDecoder() {}
+
+	/**
+	 * Decodes {@code count} contiguous items of a datapoint type into numeric values, equal to
+	 * {@link DptCodec#decodeDouble(DptId, byte[], int)} for each item.
+	 *
+	 * @param dptId datapoint type ID of all items
+	 * @param data packed KNX data, each item occupying {@link DptCodec#typeSize(DptId)} bytes
+	 * @param offset offset of the first item in {@code data}
+	 * @param count number of items to decode
+	 * @param dst destination array receiving {@code count} values, starting at index 0
+	 * @param parallel {@code true} to decode large batches in parallel, {@code false} to decode in the calling
+	 *        thread
+	 */
+	public static void decodeDouble(final DptId dptId, final byte[] data, final int offset, final int count,
+			final double[] dst, final boolean parallel) {
+		checkSupported(dptId, false);
+		final int size = DptCodec.typeSize(dptId);
+		checkBounds(data, offset, count, size, dst.length);
+		run(new Batch(data, null, offset, size, null), dptId, 0, count, dst, parallel);
+	}
+
+	/**
+	 * Decodes items of a datapoint type into numeric values, with the data of item {@code i} located at
+	 * {@code data[offsets[i]]}.
+	 *
+	 * @param dptId datapoint type ID of all items
+	 * @param data packed KNX data
+	 * @param offsets offset of each item in {@code data}
+	 * @param dst destination array receiving a value for each item, {@code dst.length} &ge; {@code offsets.length}
+	 * @param parallel {@code true} to decode large batches in parallel, {@code false} to decode in the calling
+	 *        thread
+	 */
+	public static void decodeDouble(final DptId dptId, final byte[] data, final int[] offsets, final double[] dst,
+			final boolean parallel) {
+		checkSupported(dptId, false);
+		checkLength(offsets.length, dst.length);
+		run(new Batch(data, offsets, 0, 0, null), dptId, 0, offsets.length, dst, parallel);
+	}
+
+	/**
+	 * Decodes items of different datapoint types into numeric values, with item {@code i} of datapoint type
+	 * {@code dptIds[i]} located at {@code data[offsets[i]]}.
+	 *
+	 * @param dptIds datapoint type ID of each item
+	 * @param data packed KNX data
+	 * @param offsets offset of each item in {@code data}
+	 * @param dst destination array receiving a value for each item, {@code dst.length} &ge; {@code offsets.length}
+	 * @param parallel {@code true} to decode large batches in parallel, {@code false} to decode in the calling
+	 *        thread
+	 */
+	public static void decodeDouble(final DptId[] dptIds, final byte[] data, final int[] offsets, final double[] dst,
+			final boolean parallel) {
+		checkLength(dptIds.length, offsets.length);
+		checkLength(offsets.length, dst.length);
+		for (final var column : columns(dptIds, false).entrySet()) {
+			final int[] index = column.getValue();
+			run(new Batch(data, offsets, 0, 0, index), column.getKey(), 0, index.length, dst, parallel);
+		}
+	}
+
+	/**
+	 * Decodes {@code count} contiguous items of a datapoint type into unscaled integer values, equal to
+	 * {@link DptCodec#decodeLong(DptId, byte[], int)} for each item.
+	 *
+	 * @param dptId datapoint type ID of all items
+	 * @param data packed KNX data, each item occupying {@link DptCodec#typeSize(DptId)} bytes
+	 * @param offset offset of the first item in {@code data}
+	 * @param count number of items to decode
+	 * @param dst destination array receiving {@code count} values, starting at index 0
+	 * @param parallel {@code true} to decode large batches in parallel, {@code false} to decode in the calling
+	 *        thread
+	 */
+	public static void decodeLong(final DptId dptId, final byte[] data, final int offset, final int count,
+			final long[] dst, final boolean parallel) {
+		checkSupported(dptId, true);
+		final int size = DptCodec.typeSize(dptId);
+		checkBounds(data, offset, count, size, dst.length);
+		run(new Batch(data, null, offset, size, null), dptId, 0, count, dst, parallel);
+	}
+
+	/**
+	 * Decodes items of a datapoint type into unscaled integer values, with the data of item {@code i} located at
+	 * {@code data[offsets[i]]}.
+	 *
+	 * @param dptId datapoint type ID of all items
+	 * @param data packed KNX data
+	 * @param offsets offset of each item in {@code data}
+	 * @param dst destination array receiving a value for each item, {@code dst.length} &ge; {@code offsets.length}
+	 * @param parallel {@code true} to decode large batches in parallel, {@code false} to decode in the calling
+	 *        thread
+	 */
+	public static void decodeLong(final DptId dptId, final byte[] data, final int[] offsets, final long[] dst,
+			final boolean parallel) {
+		checkSupported(dptId, true);
+		checkLength(offsets.length, dst.length);
+		run(new Batch(data, offsets, 0, 0, null), dptId, 0, offsets.length, dst, parallel);
+	}
+
+	/**
+	 * Decodes items of different datapoint types into unscaled integer values, with item {@code i} of datapoint type
+	 * {@code dptIds[i]} located at {@code data[offsets[i]]}.
+	 *
+	 * @param dptIds datapoint type ID of each item
+	 * @param data packed KNX data
+	 * @param offsets offset of each item in {@code data}
+	 * @param dst destination array receiving a value for each item, {@code dst.length} &ge; {@code offsets.length}
+	 * @param parallel {@code true} to decode large batches in parallel, {@code false} to decode in the calling
+	 *        thread
+	 */
+	public static void decodeLong(final DptId[] dptIds, final byte[] data, final int[] offsets, final long[] dst,
+			final boolean parallel) {
+		checkLength(dptIds.length, offsets.length);
+		checkLength(offsets.length, dst.length);
+		for (final var column : columns(dptIds, true).entrySet()) {
+			final int[] index = column.getValue();
+			run(new Batch(data, offsets, 0, 0, index), column.getKey(), 0, index.length, dst, parallel);
+		}
+	}
+
+	// groups item indices by datapoint type, after checking that all datapoint types are supported
+	private static Map<DptId, int[]> columns(final DptId[] dptIds, final boolean integer) {
+		final Map<DptId, int[]> counts = new HashMap<>();
+		for (final var dptId : dptIds)
+			counts.computeIfAbsent(dptId, __ -> new int[1])[0]++;
+		for (final var dptId : counts.keySet())
+			checkSupported(dptId, integer);
+		final Map<DptId, int[]> columns = new HashMap<>();
+		for (final var entry : counts.entrySet())
+			columns.put(entry.getKey(), new int[entry.getValue()[0]]);
+		for (int i = 0; i < dptIds.length; i++) {
+			final int[] count = counts.get(dptIds[i]);
+			final int[] index = columns.get(dptIds[i]);
+			index[index.length - count[0]--] = i;
+		}
+		return columns;
+	}
+
+	private static void checkSupported(final DptId dptId, final boolean integer) {
+		final boolean supported = switch (dptId.mainNumber()) {
+			case 1, 5, 7, 8, 12, 13, 29 -> true;
+			case 9, 14 -> !integer;
+			default -> false;
+		};
+		if (!supported)
+			throw new KNXIllegalArgumentException("DPT " + dptId + " not supported for "
+					+ (integer ? "integer" : "numeric") + " decoding");
+	}
+
+	private static void run(final Batch batch, final DptId dptId, final int from, final int to, final Object dst,
+			final boolean parallel) {
+		if (parallel && to - from > SplitThreshold)
+			ForkJoinPool.commonPool().invoke(new DecodeTask(batch, dptId, from, to, dst));
+		else
+			decode(batch, dptId, from, to, dst);
+	}
+
+	private static final class DecodeTask extends RecursiveAction {
+		private final Batch batch;
+		private final DptId dptId;
+		private final int from;
+		private final int to;
+		private final Object dst;
+
+		DecodeTask(final Batch batch, final DptId dptId, final int from, final int to, final Object dst) {
+			this.batch = batch;
+			this.dptId = dptId;
+			this.from = from;
+			this.to = to;
+			this.dst = dst;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from <= SplitThreshold) {
+				decode(batch, dptId, from, to, dst);
+				return;
+			}
+			final int mid = (from + to) >>> 1;
+			invokeAll(new DecodeTask(batch, dptId, from, mid, dst), new DecodeTask(batch, dptId, mid, to, dst));
+		}
+	}
+
+	private static void decode(final Batch batch, final DptId dptId, final int from, final int to, final Object dst) {
+		if (dst instanceof final double[] values)
+			decodeDouble(batch, dptId, from, to, values);
+		else
+			decodeLong(batch, dptId, from, to, (long[]) dst);
+	}
+
+	// the loops are specialized per main number, with loop-invariant conditions only, so the JIT can unswitch and
+	// unroll them
+	private static void decodeDouble(final Batch batch, final DptId dptId, final int from, final int to,
+			final double[] dst) {
+		final byte[] data = batch.data();
+		final int[] offsets = batch.offsets();
+		final int base = batch.base();
+		final int stride = batch.stride();
+		final int[] index = batch.index();
+		final int sub = dptId.subNumber();
+
+		switch (dptId.mainNumber()) {
+			case 1 -> {
+				for (int j = from; j < to; j++) {
+					final int i = index != null ? index[j] : j;
+					dst[i] = data[offsets != null ? offsets[i] : base + i * stride] & 0x01;
+				}
+			}
+			case 5 -> {
+				for (int j = from; j < to; j++) {
+					final int i = index != null ? index[j] : j;
+					dst[i] = DptCodec.decodeUnsigned8(sub, data[offsets != null ? offsets[i] : base + i * stride] & 0xff);
+				}
+			}
+			case 7 -> {
+				for (int j = from; j < to; j++) {
+					final int i = index != null ? index[j] : j;
+					final int at = offsets != null ? offsets[i] : base + i * stride;
+					dst[i] = DptCodec.decodeUnsigned16(sub, DptCodec.unsigned16(data, at));
+				}
+			}
+			case 8 -> {
+				for (int j = from; j < to; j++) {
+					final int i = index != null ? index[j] : j;
+					final int at = offsets != null ? offsets[i] : base + i * stride;
+					dst[i] = DptCodec.decodeSigned16(sub, (short) DptCodec.unsigned16(data, at));
+				}
+			}
+			case 9 -> {
+				for (int j = from; j < to; j++) {
+					final int i = index != null ? index[j] : j;
+					dst[i] = DptCodec.decodeFloat16(data, offsets != null ? offsets[i] : base + i * stride);
+				}
+			}
+			case 12 -> {
+				for (int j = from; j < to; j++) {
+					final int i = index != null ? index[j] : j;
+					dst[i] = DptCodec.unsigned32(data, offsets != null ? offsets[i] : base + i * stride);
+				}
+			}
+			case 13 -> {
+				for (int j = from; j < to; j++) {
+					final int i = index != null ? index[j] : j;
+					dst[i] = (int) DptCodec.unsigned32(data, offsets != null ? offsets[i] : base + i * stride);
+				}
+			}
+			case 14 -> {
+				for (int j = from; j < to; j++) {
+					final int i = index != null ? index[j] : j;
+					final int at = offsets != null ? offsets[i] : base + i * stride;
+					dst[i] = Float.intBitsToFloat((int) DptCodec.unsigned32(data, at));
+				}
+			}
+			case 29 -> {
+				for (int j = from; j < to; j++) {
+					final int i = index != null ? index[j] : j;
+					dst[i] = DptCodec.signed64(data, offsets != null ? offsets[i] : base + i * stride);
+				}
+			}
+			default -> throw new KNXIllegalArgumentException("DPT " + dptId + " not supported for numeric decoding");
+		}
+	}
+
+	private static void decodeLong(final Batch batch, final DptId dptId, final int from, final int to,
+			final long[] dst) {
+		final byte[] data = batch.data();
+		final int[] offsets = batch.offsets();
+		final int base = batch.base();
+		final int stride = batch.stride();
+		final int[] index = batch.index();
+
+		switch (dptId.mainNumber()) {
+			case 1 -> {
+				for (int j = from; j < to; j++) {
+					final int i = index != null ? index[j] : j;
+					dst[i] = data[offsets != null ? offsets[i] : base + i * stride] & 0x01;
+				}
+			}
+			case 5 -> {
+				for (int j = from; j < to; j++) {
+					final int i = index != null ? index[j] : j;
+					dst[i] = data[offsets != null ? offsets[i] : base + i * stride] & 0xff;
+				}
+			}
+			case 7 -> {
+				for (int j = from; j < to; j++) {
+					final int i = index != null ? index[j] : j;
+					dst[i] = DptCodec.unsigned16(data, offsets != null ? offsets[i] : base + i * stride);
+				}
+			}
+			case 8 -> {
+				for (int j = from; j < to; j++) {
+					final int i = index != null ? index[j] : j;
+					dst[i] = (short) DptCodec.unsigned16(data, offsets != null ? offsets[i] : base + i * stride);
+				}
+			}
+			case 12 -> {
+				for (int j = from; j < to; j++) {
+					final int i = index != null ? index[j] : j;
+					dst[i] = DptCodec.unsigned32(data, offsets != null ? offsets[i] : base + i * stride);
+				}
+			}
+			case 13 -> {
+				for (int j = from; j < to; j++) {
+					final int i = index != null ? index[j] : j;
+					dst[i] = (int) DptCodec.unsigned32(data, offsets != null ? offsets[i] : base + i * stride);
+				}
+			}
+			case 29 -> {
+				for (int j = from; j < to; j++) {
+					final int i = index != null ? index[j] : j;
+					dst[i] = DptCodec.signed64(data, offsets != null ? offsets[i] : base + i * stride);
+				}
+			}
+			default -> throw new KNXIllegalArgumentException("DPT " + dptId + " not supported for integer decoding");
+		}
+	}
+
+	private static void checkBounds(final byte[] data, final int offset, final int count, final int size,
+			final int dstLength) {
+		if (offset < 0 || count < 0 || (long) offset + (long) count * size > data.length)
+			throw new KNXIllegalArgumentException(
+					"data length " + data.length + " too short for " + count + " items at offset " + offset);
+		checkLength(count, dstLength);
+	}
+
+	private static void checkLength(final int items, final int length) {
+		if (length < items)
+			throw new KNXIllegalArgumentException("array length " + length + " < " + items + " items");
+	}
+}
@@ -0,0 +1,383 @@
+/*
+    Calimero 3 - A library for KNX network access
+    Copyright (c) 2026 B. Malinowsky
+
+    This program is free software; you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation; either version 2 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program; if not, write to the Free Software
+    Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+
+    Linking this library statically or dynamically with other modules is
+    making a combined work based on this library. Thus, the terms and
+    conditions of the GNU General Public License cover the whole
+    combination.
+
+    As a special exception, the copyright holders of this library give you
+    permission to link this library with independent modules to produce an
+    executable, regardless of the license terms of these independent
+    modules, and to copy and distribute the resulting executable under terms
+    of your choice, provided that you also meet, for each linked independent
+    module, the terms and conditions of the license of that module. An
+    independent module is a module which is not derived from or based on
+    this library. If you modify this library, you may extend this exception
+    to your version of the library, but you are not obligated to do so. If
+    you do not wish to do so, delete this exception statement from your
+    version.
+*/
+
+package io.calimero.dptxlator;
+
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+
+import io.calimero.KNXFormatException;
+import io.calimero.KNXIllegalArgumentException;
+
+/**
+ * Stateless encoding and decoding of KNX datapoint values of fixed-size numeric datapoint types, working directly on
+ * KNX data without creating a {@link DPTXlator}. Decoding and encoding of DPT main numbers 1, 5, 7, 8, 9, 12, 13,
+ * 14, and 29 does not allocate objects.
+ * <p>
+ * Values are scaled and rounded the same way as the corresponding translators do, e.g., a DPT 5.001 value is decoded
+ * in percent, a DPT 7.003 value in milliseconds. Range checks on encoding are limited to the value range of the KNX
+ * encoding; DPT-specific limits of the translators (e.g., the lower limit of -273 °C for DPT 9.001) are not enforced.
+ * DPT 1 data is the boolean in the lowest bit of the data byte, and encoding keeps the other bits unchanged.
+ *
+ * @see TranslatorTypes
+ */
+public final class DptCodec {
+	private static final double MinFloat16 = -671088.64;
+	private static final double MaxFloat16 = 670760.96;
+
+	private DptCodec() {}
+
+	/**
+	 * Returns whether the datapoint type is supported by this codec.
+	 *
+	 * @param dptId datapoint type ID
+	 * @return {@code true} if supported, {@code false} otherwise
+	 */
+	public static boolean supports(final DptId dptId) {
+		return typeSize(dptId.mainNumber()) > 0 || dptId.mainNumber() == 19;
+	}
+
+	/**
+	 * Returns the KNX data type size of the datapoint type in bytes.
+	 *
+	 * @param dptId datapoint type ID of a supported datapoint type
+	 * @return size in bytes, with DPT 1 occupying 1 byte
+	 */
+	public static int typeSize(final DptId dptId) {
+		final int size = dptId.mainNumber() == 19 ? 8 : typeSize(dptId.mainNumber());
+		if (size == 0)
+			throw unsupported(dptId);
+		return size;
+	}
+
+	/**
+	 * Decodes the numeric value of a datapoint, equal to {@link DPTXlator#getNumericValue()} of the corresponding
+	 * translator.
+	 *
+	 * @param dptId datapoint type ID
+	 * @param data KNX data
+	 * @param offset offset into {@code data}
+	 * @return decoded value, scaled according to the datapoint type
+	 */
+	public static double decodeDouble(final DptId dptId, final byte[] data, final int offset) {
+		return switch (dptId.mainNumber()) {
+			case 1 -> data[offset] & 0x01;
+			case 5 -> decodeUnsigned8(dptId.subNumber(), data[offset] & 0xff);
+			case 7 -> decodeUnsigned16(dptId.subNumber(), unsigned16(data, offset));
+			case 8 -> decodeSigned16(dptId.subNumber(), (short) unsigned16(data, offset));
+			case 9 -> decodeFloat16(data, offset);
+			case 12 -> unsigned32(data, offset);
+			case 13 -> (int) unsigned32(data, offset);
+			case 14 -> Float.intBitsToFloat((int) unsigned32(data, offset));
+			case 29 -> signed64(data, offset);
+			default -> throw unsupported(dptId);
+		};
+	}
+
+	/**
+	 * Decodes the unscaled integer value of a datapoint, i.e., the KNX data value interpreted as unsigned or signed
+	 * integer, depending on the datapoint type.
+	 *
+	 * @param dptId datapoint type ID of an integer datapoint type (main number 1, 5, 7, 8, 12, 13, or 29)
+	 * @param data KNX data
+	 * @param offset offset into {@code data}
+	 * @return decoded value
+	 */
+	public static long decodeLong(final DptId dptId, final byte[] data, final int offset) {
+		return switch (dptId.mainNumber()) {
+			case 1 -> data[offset] & 0x01;
+			case 5 -> data[offset] & 0xff;
+			case 7 -> unsigned16(data, offset);
+			case 8 -> (short) unsigned16(data, offset);
+			case 12 -> unsigned32(data, offset);
+			case 13 -> (int) unsigned32(data, offset);
+			case 29 -> signed64(data, offset);
+			default -> throw unsupported(dptId);
+		};
+	}
+
+	/**
+	 * Decodes a boolean datapoint value (DPT main number 1).
+	 *
+	 * @param dptId datapoint type ID with main number 1
+	 * @param data KNX data
+	 * @param offset offset into {@code data}
+	 * @return decoded value
+	 */
+	public static boolean decodeBoolean(final DptId dptId, final byte[] data, final int offset) {
+		if (dptId.mainNumber() != 1)
+			throw unsupported(dptId);
+		return (data[offset] & 0x01) != 0;
+	}
+
+	/**
+	 * Decodes a date-time datapoint value (DPT 19.001) as instant, interpreting the date and time in the supplied
+	 * time zone. Like {@link DPTXlatorDateTime#localDateTime()}, the day of week, working day, and daylight saving time
+	 * information is ignored, and a time of 24:00:00 is decoded as the last instant of that day.
+	 *
+	 * @param dptId datapoint type ID with main number 19
+	 * @param data KNX data
+	 * @param offset offset into {@code data}
+	 * @param zone time zone of the KNX date-time
+	 * @return decoded instant
+	 * @throws KNXFormatException on faulty clock, missing year or date information, or invalid field values
+	 */
+	public static Instant decodeInstant(final DptId dptId, final byte[] data, final int offset, final ZoneId zone)
+			throws KNXFormatException {
+		if (dptId.mainNumber() != 19)
+			throw unsupported(dptId);
+
+		final int flags = data[offset + 6] & 0xff;
+		if ((flags & 0x80) != 0)
+			throw new KNXFormatException("faulty clock");
+		if ((flags & 0x18) != 0)
+			throw new KNXFormatException("insufficient date information for instant");
+		try {
+			final var date = LocalDate.of(1900 + (data[offset] & 0xff), data[offset + 1] & 0x0f,
+					data[offset + 2] & 0x1f);
+			var time = LocalTime.MIN;
+			if ((flags & 0x02) == 0) {
+				final int hour = data[offset + 3] & 0x1f;
+				// we use LocalTime.MAX for 24:00:00
+				time = hour == 24 ? LocalTime.MAX
+						: LocalTime.of(hour, data[offset + 4] & 0x3f, data[offset + 5] & 0x3f);
+			}
+			return LocalDateTime.of(date, time).atZone(zone).toInstant();
+		}
+		catch (final DateTimeException e) {
+			throw new KNXFormatException("invalid date-time: " + e.getMessage());
+		}
+	}
+
+	/**
+	 * Encodes a numeric datapoint value, equal to {@link DPTXlator#setValue(double)} followed by
+	 * {@link DPTXlator#getData(byte[], int)} of the corresponding translator. Unlike the translators, values of
+	 * DPT 13 and DPT 29 outside the range of the KNX encoding are rejected instead of saturated.
+	 *
+	 * @param dptId datapoint type ID
+	 * @param value value, scaled according to the datapoint type
+	 * @param dst destination for the KNX data
+	 * @param offset offset into {@code dst}
+	 * @return number of bytes written, i.e., the type size
+	 * @throws KNXFormatException if {@code value} is not within the value range of the KNX encoding, or
+	 *         {@code value} is NaN for a datapoint type other than DPT 14
+	 */
+	public static int encode(final DptId dptId, final double value, final byte[] dst, final int offset)
+			throws KNXFormatException {
+		final int main = dptId.mainNumber();
+		final int sub = dptId.subNumber();
+		// only the 4 byte float encoding can represent NaN
+		if (Double.isNaN(value) && main != 14 && typeSize(main) > 0)
+			throw outOfRange(dptId, value);
+		switch (main) {
+			case 1 -> {
+				if (value != 0 && value != 1)
+					throw outOfRange(dptId, value);
+				dst[offset] = (byte) (value == 1 ? dst[offset] | 1 : dst[offset] & ~1);
+			}
+			case 5 -> {
+				final int upper = sub == 1 ? 100 : sub == 3 ? 360 : 255;
+				if (value < 0 || value > upper)
+					throw outOfRange(dptId, value);
+				final long v = sub == 1 ? Math.round(value * 255 / 100)
+						: sub == 3 ? Math.round(value * 255 / 360) : (long) value;
+				dst[offset] = (byte) v;
+			}
+			case 7 -> {
+				final double upper = sub == 3 ? 655350 : sub == 4 ? 6553500 : 65535;
+				if (value < 0 || value > upper)
+					throw outOfRange(dptId, value);
+				final int v = sub == 3 ? (int) Math.round(value / 10)
+						: sub == 4 ? (int) Math.round(value / 100) : (int) value;
+				putUnsigned16(v, dst, offset);
+			}
+			case 8 -> {
+				final double factor = sub == 3 ? 10 : sub == 4 ? 100 : sub == 10 ? 0.01 : 1;
+				if (value < -32768 * factor || value > 32767 * factor)
+					throw outOfRange(dptId, value);
+				final int v = sub == 3 ? (int) Math.round(value / 10) : sub == 4 ? (int) Math.round(value / 100)
+						: sub == 10 ? (int) Math.round(value * 100) : (int) value;
+				putUnsigned16(v, dst, offset);
+			}
+			case 9 -> {
+				if (value < MinFloat16 || value > MaxFloat16)
+					throw outOfRange(dptId, value);
+				encodeFloat16(value, dst, offset);
+			}
+			case 12 -> {
+				if (value < 0 || value > 0xffffffffL)
+					throw outOfRange(dptId, value);
+				putUnsigned32((long) value, dst, offset);
+			}
+			case 13 -> {
+				if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE)
+					throw outOfRange(dptId, value);
+				putUnsigned32((int) value, dst, offset);
+			}
+			case 14 -> {
+				final float f = (float) value;
+				if (f < -Float.MAX_VALUE || f > Float.MAX_VALUE)
+					throw outOfRange(dptId, value);
+				putUnsigned32(Float.floatToRawIntBits(f), dst, offset);
+			}
+			case 29 -> {
+				// 2^63 is the smallest double not within the range of long
+				if (value < Long.MIN_VALUE || value >= 0x1p63)
+					throw outOfRange(dptId, value);
+				putSigned64((long) value, dst, offset);
+			}
+			default -> throw unsupported(dptId);
+		}
+		return Math.max(1, typeSize(main));
+	}
+
+	/**
+	 * Encodes a boolean datapoint value (DPT main number 1) into the lowest bit of the data byte, keeping all other
+	 * bits unchanged.
+	 *
+	 * @param dptId datapoint type ID with main number 1
+	 * @param value boolean value
+	 * @param dst destination for the KNX data
+	 * @param offset offset into {@code dst}
+	 * @return number of bytes written, i.e., 1
+	 */
+	public static int encode(final DptId dptId, final boolean value, final byte[] dst, final int offset) {
+		if (dptId.mainNumber() != 1)
+			throw unsupported(dptId);
+		dst[offset] = (byte) (value ? dst[offset] | 1 : dst[offset] & ~1);
+		return 1;
+	}
+
+	// type size in bytes, 1 for DPT 1, 0 if not supported
+	private static int typeSize(final int mainNumber) {
+		return switch (mainNumber) {
+			case 1, 5 -> 1;
+			case 7, 8, 9 -> 2;
+			case 12, 13, 14 -> 4;
+			case 29 -> 8;
+			default -> 0;
+		};
+	}
+
+	static double decodeUnsigned8(final int sub, final int v) {
+		if (sub == 1)
+			return v * 100d / 255;
+		if (sub == 3)
+			return v * 360d / 255;
+		return v;
+	}
+
+	static double decodeUnsigned16(final int sub, final int v) {
+		if (sub == 3)
+			return v * 10;
+		if (sub == 4)
+			return v * 100;
+		return v;
+	}
+
+	static double decodeSigned16(final int sub, final int v) {
+		if (sub == 3)
+			return v * 10;
+		if (sub == 4)
+			return v * 100;
+		if (sub == 10)
+			return v / 100d;
+		return v;
+	}
+
+	// DPT bits high byte: MEEEEMMM, low byte: MMMMMMMM, value = (0.01*M)*2^E
+	static double decodeFloat16(final byte[] data, final int offset) {
+		final int msb = data[offset] & 0xff;
+		// left align all mantissa bits, then normalize
+		final int m = (((msb & 0x80) << 24) | ((msb & 0x7) << 28) | ((data[offset + 1] & 0xff) << 20)) >> 20;
+		final int exp = (msb & 0x78) >> 3;
+		return (1 << exp) * m * 0.01;
+	}
+
+	static void encodeFloat16(final double value, final byte[] dst, final int offset) {
+		double v = value * 100.0f;
+		int e = 0;
+		for (; v < -2048.0f; v /= 2)
+			e++;
+		for (; v > 2047.0f; v /= 2)
+			e++;
+		final int m = (int) Math.round(v) & 0x7FF;
+		int msb = e << 3 | m >> 8;
+		if (value < 0.0)
+			msb |= 0x80;
+		dst[offset] = (byte) msb;
+		dst[offset + 1] = (byte) m;
+	}
+
+	static int unsigned16(final byte[] data, final int offset) {
+		return (data[offset] & 0xff) << 8 | data[offset + 1] & 0xff;
+	}
+
+	static long unsigned32(final byte[] data, final int offset) {
+		return ((long) unsigned16(data, offset) << 16) | unsigned16(data, offset + 2);
+	}
+
+	static long signed64(final byte[] data, final int offset) {
+		return unsigned32(data, offset) << 32 | unsigned32(data, offset + 4);
+	}
+
+	private static void putUnsigned16(final int v, final byte[] dst, final int offset) {
+		dst[offset] = (byte) (v >> 8);
+		dst[offset + 1] = (byte) v;
+	}
+
+	private static void putUnsigned32(final long v, final byte[] dst, final int offset) {
+		putUnsigned16((int) (v >> 16), dst, offset);
+		putUnsigned16((int) v, dst, offset + 2);
+	}
+
+	private static void putSigned64(final long v, final byte[] dst, final int offset) {
+		putUnsigned32(v >> 32, dst, offset);
+		putUnsigned32(v, dst, offset + 4);
+	}
+
+	private static KNXIllegalArgumentException unsupported(final DptId dptId) {
+		return new KNXIllegalArgumentException("DPT " + dptId + " not supported by codec");
+	}
+
+	private static KNXFormatException outOfRange(final DptId dptId, final double value) {
+		return new KNXFormatException("DPT " + dptId + " value out of range", Double.toString(value));
+	}
+}
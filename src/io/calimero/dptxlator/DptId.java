@@ -36,8 +36,6 @@
 
 package io.calimero.dptxlator;
 
-import java.util.Locale;
-
 import io.calimero.KNXIllegalArgumentException;
 
 /**
@@ -63,6 +61,7 @@ public record DptId(int mainNumber, int subNumber) {
 
 	@Override
 	public String toString() {
-		return String.format(Locale.ROOT, "%d.%03d", mainNumber, subNumber);
+		final var sub = Integer.toString(subNumber);
+		return mainNumber + (sub.length() >= 3 ? "." : sub.length() == 2 ? ".0" : ".00") + sub;
 	}
 }
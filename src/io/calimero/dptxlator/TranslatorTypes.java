@@ -41,14 +41,19 @@ import static java.lang.System.Logger.Level.TRACE;
 import static java.lang.System.Logger.Level.WARNING;
 import static java.util.Collections.emptyList;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
 
 import io.calimero.KNXException;
 import io.calimero.KNXFormatException;
@@ -235,23 +240,7 @@ public final class TranslatorTypes
 		@Deprecated(forRemoval = true)
 		public DPTXlator createTranslator(final String dptId) throws KNXException
 		{
-			try {
-				return translator.getConstructor(String.class).newInstance(dptId);
-			}
-			catch (final InvocationTargetException e) {
-				// try to forward encapsulated target exception
-				if (e.getTargetException() instanceof KNXFormatException)
-					throw (KNXFormatException) e.getTargetException();
-				// throw generic message
-				throw new KNXFormatException("failed to init translator", dptId);
-			}
-			catch (final NoSuchMethodException e) {
-				throw new KnxRuntimeException("interface specification error, no public constructor(String dptId)");
-			}
-			catch (final Exception e) {
-				// for SecurityException, InstantiationException, IllegalAccessException
-				throw new KNXException("failed to create translator", e);
-			}
+			return create(dptId);
 		}
 
 		/**
@@ -265,22 +254,26 @@ public final class TranslatorTypes
 		 */
 		public DPTXlator createTranslator(final DptId dptId) throws KNXException
 		{
+			return create(dptId.toString());
+		}
+
+		private DPTXlator create(final String dptId) throws KNXException
+		{
+			final Factory factory;
 			try {
-				return translator.getConstructor(String.class).newInstance(dptId.toString());
+				factory = factory(translator);
 			}
-			catch (final InvocationTargetException e) {
-				// try to forward encapsulated target exception
-				if (e.getTargetException() instanceof KNXFormatException)
-					throw (KNXFormatException) e.getTargetException();
-				// throw generic message
-				throw new KNXFormatException("failed to init translator", dptId.toString());
+			catch (final KnxRuntimeException e) {
+				if (e.getCause() instanceof IllegalAccessException)
+					throw new KNXException("failed to create translator", e.getCause());
+				throw e;
 			}
-			catch (final NoSuchMethodException e) {
-				throw new KnxRuntimeException("interface specification error, no public constructor(String dptId)");
+			try {
+				return factory.create(dptId);
 			}
-			catch (final Exception e) {
-				// for SecurityException, InstantiationException, IllegalAccessException
-				throw new KNXException("failed to create translator", e);
+			catch (final RuntimeException e) {
+				// throw generic message
+				throw new KNXFormatException("failed to init translator", dptId, e);
 			}
 		}
 
@@ -312,47 +305,55 @@ public final class TranslatorTypes
 		}
 	}
 
-	private static final Map<Integer, MainType> map = Collections.synchronizedMap(new HashMap<>());
-
-	private static final String[] builtinXlators = {
-			"DptXlator16BitSet",
-			"DPTXlator1BitControlled",
-			"DPTXlator2ByteFloat",
-			"DptXlator2ByteSigned",
-			"DPTXlator2ByteUnsigned",
-			"DPTXlator3BitControlled",
-			"DPTXlator4ByteFloat",
-			"DPTXlator4ByteSigned",
-			"DPTXlator4ByteUnsigned",
-			"DPTXlator64BitSigned",
-			"DPTXlator8BitEnum",
-			"DptXlator8BitSet",
-			"DPTXlator8BitSigned",
-			"DPTXlator8BitUnsigned",
-			"DPTXlatorBoolean",
-			"DptXlatorBrightnessClrTempControl",
-			"DptXlatorBrightnessClrTempTrans",
-			"DPTXlatorDate",
-			"DPTXlatorDateTime",
-			"DptXlatorMeteringValue",
-			"DptXlatorRelativeControlRgb",
-			"DptXlatorRelativeControlRgbw",
-			"DptXlatorRelativeControlXyY",
-			"DPTXlatorRGB",
-			"DptXlatorRgbw",
-			"DPTXlatorSceneControl",
-			"DPTXlatorSceneNumber",
-			"DPTXlatorString",
-			"DPTXlatorTime",
-			"DPTXlatorUtf8",
-			"DptXlatorXyY",
-			"DptXlatorXyYTransition",
-	};
+	private static final Map<Integer, MainType> map = new ConcurrentHashMap<>();
+
+	// creates a translator for a DPT ID, equivalent to invoking the translator constructor taking a String
+	@FunctionalInterface
+	private interface Factory {
+		DPTXlator create(String dptId) throws KNXFormatException;
+	}
+
+	// factories of built-in translators, and of user-supplied translators once resolved
+	private static final Map<Class<? extends DPTXlator>, Factory> factories = new ConcurrentHashMap<>();
+
+	// pooled translator instances for reuse, keyed by DPT ID
+	private static final int MaxPooledPerDpt = 8;
+	private static final Map<DptId, Queue<DPTXlator>> pool = new ConcurrentHashMap<>();
 
 	static {
 		try {
-			for (final var x : builtinXlators)
-				addTranslator("io.calimero.dptxlator." + x);
+			addTranslator(DptXlator16BitSet.class, DptXlator16BitSet::new);
+			addTranslator(DPTXlator1BitControlled.class, DPTXlator1BitControlled::new);
+			addTranslator(DPTXlator2ByteFloat.class, DPTXlator2ByteFloat::new);
+			addTranslator(DptXlator2ByteSigned.class, DptXlator2ByteSigned::new);
+			addTranslator(DPTXlator2ByteUnsigned.class, DPTXlator2ByteUnsigned::new);
+			addTranslator(DPTXlator3BitControlled.class, DPTXlator3BitControlled::new);
+			addTranslator(DPTXlator4ByteFloat.class, DPTXlator4ByteFloat::new);
+			addTranslator(DPTXlator4ByteSigned.class, DPTXlator4ByteSigned::new);
+			addTranslator(DPTXlator4ByteUnsigned.class, DPTXlator4ByteUnsigned::new);
+			addTranslator(DPTXlator64BitSigned.class, DPTXlator64BitSigned::new);
+			addTranslator(DPTXlator8BitEnum.class, DPTXlator8BitEnum::new);
+			addTranslator(DptXlator8BitSet.class, DptXlator8BitSet::new);
+			addTranslator(DPTXlator8BitSigned.class, DPTXlator8BitSigned::new);
+			addTranslator(DPTXlator8BitUnsigned.class, DPTXlator8BitUnsigned::new);
+			addTranslator(DPTXlatorBoolean.class, DPTXlatorBoolean::new);
+			addTranslator(DptXlatorBrightnessClrTempControl.class, DptXlatorBrightnessClrTempControl::new);
+			addTranslator(DptXlatorBrightnessClrTempTrans.class, DptXlatorBrightnessClrTempTrans::new);
+			addTranslator(DPTXlatorDate.class, DPTXlatorDate::new);
+			addTranslator(DPTXlatorDateTime.class, DPTXlatorDateTime::new);
+			addTranslator(DptXlatorMeteringValue.class, DptXlatorMeteringValue::new);
+			addTranslator(DptXlatorRelativeControlRgb.class, DptXlatorRelativeControlRgb::new);
+			addTranslator(DptXlatorRelativeControlRgbw.class, DptXlatorRelativeControlRgbw::new);
+			addTranslator(DptXlatorRelativeControlXyY.class, DptXlatorRelativeControlXyY::new);
+			addTranslator(DPTXlatorRGB.class, DPTXlatorRGB::new);
+			addTranslator(DptXlatorRgbw.class, DptXlatorRgbw::new);
+			addTranslator(DPTXlatorSceneControl.class, DPTXlatorSceneControl::new);
+			addTranslator(DPTXlatorSceneNumber.class, DPTXlatorSceneNumber::new);
+			addTranslator(DPTXlatorString.class, DPTXlatorString::new);
+			addTranslator(DPTXlatorTime.class, DPTXlatorTime::new);
+			addTranslator(DPTXlatorUtf8.class, DPTXlatorUtf8::new);
+			addTranslator(DptXlatorXyY.class, DptXlatorXyY::new);
+			addTranslator(DptXlatorXyYTransition.class, DptXlatorXyYTransition::new);
 		}
 		catch (final Exception e) {
 			DPTXlator.logger.log(ERROR, "failed to initialize list of available DPT translators", e);
@@ -362,15 +363,10 @@ public final class TranslatorTypes
 	private TranslatorTypes() {}
 
 
-	private static void addTranslator(final String className)
+	private static void addTranslator(final Class<? extends DPTXlator> x, final Factory factory)
 	{
 		try {
-			final Class<?> c = Class.forName(className);
-			if (DPTXlator.class.equals(c) || !DPTXlator.class.isAssignableFrom(c))
-				return;
-
-			@SuppressWarnings("unchecked")
-			final Class<? extends DPTXlator> x = (Class<? extends DPTXlator>) c;
+			factories.put(x, factory);
 			final Map<String, DPT> dpts = subTypes(x);
 			final String id = dpts.values().iterator().next().getID();
 			final int mainNumber = getMainNumber(0, id);
@@ -380,10 +376,43 @@ public final class TranslatorTypes
 			DPTXlator.logger.log(TRACE, "loaded DPT translator for {0}", desc);
 		}
 		catch (ReflectiveOperationException | RuntimeException e) {
-			DPTXlator.logger.log(WARNING, "lookup DPT translator class " + className, e);
+			DPTXlator.logger.log(WARNING, "lookup DPT translator class " + x.getName(), e);
 		}
 	}
 
+	// resolves the public constructor(String dptId) of user-supplied translators only once
+	private static Factory factory(final Class<? extends DPTXlator> x) {
+		final var factory = factories.get(x);
+		if (factory != null)
+			return factory;
+		return factories.computeIfAbsent(x, TranslatorTypes::constructorFactory);
+	}
+
+	private static Factory constructorFactory(final Class<? extends DPTXlator> x) {
+		final MethodHandle ctor;
+		try {
+			ctor = MethodHandles.publicLookup().findConstructor(x, MethodType.methodType(void.class, String.class))
+					.asType(MethodType.methodType(DPTXlator.class, String.class));
+		}
+		catch (final NoSuchMethodException e) {
+			throw new KnxRuntimeException("interface specification error, no public constructor(String dptId)", e);
+		}
+		catch (final IllegalAccessException e) {
+			throw new KnxRuntimeException("failed to access translator " + x.getName(), e);
+		}
+		return dptId -> {
+			try {
+				return (DPTXlator) ctor.invokeExact(dptId);
+			}
+			catch (KNXFormatException | RuntimeException | Error e) {
+				throw e;
+			}
+			catch (final Throwable t) {
+				throw new KNXFormatException("failed to init translator", dptId, t);
+			}
+		};
+	}
+
 	private static Map<String, DPT> subTypes(final Class<? extends DPTXlator> x)
 			throws IllegalAccessException, InvocationTargetException {
 		try {
@@ -663,6 +692,46 @@ public final class TranslatorTypes
 		return t;
 	}
 
+	/**
+	 * Returns a DPT translator for the given datapoint type ID, reusing a translator previously returned by
+	 * {@link #releaseTranslator(DPTXlator)} if available, or creating a new one otherwise. Use this method for
+	 * short-lived translations, e.g., translating every received datapoint value. The translator state is undefined
+	 * until data or a value is set.
+	 *
+	 * @param dptId datapoint type ID
+	 * @return a {@link DPTXlator} for exclusive use by the caller, until released
+	 * @throws KNXException if no matching DPT translator is available or creation failed
+	 */
+	public static DPTXlator acquireTranslator(final DptId dptId) throws KNXException {
+		final var pooled = pool.get(dptId);
+		if (pooled != null) {
+			final var t = pooled.poll();
+			// check for a translator main type replaced in the meantime
+			final var type = map.get(dptId.mainNumber());
+			if (t != null && type != null && type.translator() == t.getClass())
+				return t;
+		}
+		return createTranslator(dptId);
+	}
+
+	/**
+	 * Returns a translator obtained by {@link #acquireTranslator(DptId)} for later reuse; the caller must not use
+	 * the translator afterward. Translators configured differently than upon creation (e.g., by
+	 * {@link DPTXlator#setAppendUnit(boolean)}) should not be released.
+	 *
+	 * @param t the translator to release
+	 */
+	public static void releaseTranslator(final DPTXlator t) {
+		final DptId dptId;
+		try {
+			dptId = DptId.from(t.getType().getID());
+		}
+		catch (final RuntimeException e) {
+			return;
+		}
+		pool.computeIfAbsent(dptId, __ -> new ArrayBlockingQueue<>(MaxPooledPerDpt)).offer(t);
+	}
+
 	// throws NumberFormatException or KNXIllegalArgumentException
 	private static int getMainNumber(final int mainNumber, final String dptId)
 	{
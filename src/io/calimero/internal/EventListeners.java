@@ -119,6 +119,13 @@ public class EventListeners<T>
 		return Collections.unmodifiableList(listeners);
 	}
 
+	/**
+	 * Returns whether this container has no event listeners.
+	 *
+	 * @return {@code true} if this container is empty, {@code false} otherwise
+	 */
+	public boolean isEmpty() { return listeners.isEmpty(); }
+
 	public void fire(final Consumer<? super T> c)
 	{
 		for (final T l : listeners) {
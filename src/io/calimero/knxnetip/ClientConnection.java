@@ -46,6 +46,7 @@ import java.io.IOException;
 import java.lang.System.Logger.Level;
 import java.net.DatagramSocket;
 import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
 import java.time.Duration;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Condition;
@@ -255,6 +256,15 @@ public abstract class ClientConnection extends ConnectionBase
 		}
 	}
 
+	@Override
+	void sendBuffer(final ByteBuffer packet, final EndpointAddress dst) throws IOException {
+		switch (dst) {
+			case final UdpEndpointAddress __ -> super.sendBuffer(packet, dst);
+			case final TcpEndpointAddress __ -> connection.send(packet);
+			case final UdsEndpointAddress __ -> connection.send(packet);
+		}
+	}
+
 	@Override
 	protected void cleanup(final int initiator, final String reason, final Level level,
 		final Throwable t)
@@ -48,6 +48,7 @@ import java.lang.System.Logger.Level;
 import java.net.DatagramPacket;
 import java.net.DatagramSocket;
 import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
 import java.util.HexFormat;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Condition;
@@ -66,8 +67,6 @@ import io.calimero.knxnetip.servicetype.DisconnectRequest;
 import io.calimero.knxnetip.servicetype.ErrorCodes;
 import io.calimero.knxnetip.servicetype.KNXnetIPHeader;
 import io.calimero.knxnetip.servicetype.PacketHelper;
-import io.calimero.knxnetip.servicetype.RoutingIndication;
-import io.calimero.knxnetip.servicetype.ServiceRequest;
 import io.calimero.knxnetip.util.HPAI;
 
 /**
@@ -87,6 +86,9 @@ public abstract class ConnectionBase implements KNXnetIPConnection
 	 */
 	public static final int ACK_ERROR = 3;
 
+	// KNXnet/IP header and connection header
+	private static final int PacketHeaderSize = 10;
+
 	// KNXnet/IP client SHALL wait 10 seconds for a connect response frame from server
 	static final int CONNECT_REQ_TIMEOUT = 10;
 
@@ -134,6 +136,10 @@ public abstract class ConnectionBase implements KNXnetIPConnection
 
 	CEMI keepForCon;
 
+	// reusable packet buffer and datagram for sending cEMI frames, guarded by lock
+	private ByteBuffer sendBuffer;
+	private final DatagramPacket sendPacket = new DatagramPacket(new byte[0], 0);
+
 	private ReceiverLoop receiver;
 
 	// lock object to do wait() on for protocol timeouts
@@ -223,22 +229,18 @@ public abstract class ConnectionBase implements KNXnetIPConnection
 				}
 				updateState = mode == NonBlocking;
 				inBlockingSend = mode != NonBlocking;
-				final byte[] buf;
-				if (serviceRequest == KNXnetIPHeader.ROUTING_IND)
-					buf = PacketHelper.toPacket(new RoutingIndication(frame));
-				else
-					buf = PacketHelper.toPacket(new ServiceRequest<>(serviceRequest, channelId, getSeqSend(), frame));
+				final ByteBuffer buf = encode(frame);
 				keepForCon = frame;
 				int attempt = 0;
 				for (; attempt < maxSendAttempts; ++attempt) {
 					if (logger.isLoggable(TRACE))
 						if (serviceRequest == KNXnetIPHeader.ROUTING_IND)
-							logger.log(TRACE, "sending cEMI frame, {0} {1}", mode, HexFormat.ofDelimiter(" ").formatHex(buf));
+							logger.log(TRACE, "sending cEMI frame, {0} {1}", mode, toHex(buf));
 						else
 							logger.log(TRACE, "sending cEMI frame seq {0}, {1}, attempt {2} (channel {3}) {4}", getSeqSend(), mode,
-									(attempt + 1), channelId, HexFormat.ofDelimiter(" ").formatHex(buf));
+									(attempt + 1), channelId, toHex(buf));
 
-					send(buf, dataEp);
+					send(buf.rewind(), dataEp);
 					// shortcut for routing, don't switch into 'ack-pending'
 					if (serviceRequest == KNXnetIPHeader.ROUTING_IND)
 						return;
@@ -296,6 +298,59 @@ public abstract class ConnectionBase implements KNXnetIPConnection
 			ctrlSocket.send(p);
 	}
 
+	// sends the remaining bytes of packet, with packet being a buffer which is reused for subsequent frames; unless
+	// the packet buffer can be sent directly, a copy is sent using send(byte[], EndpointAddress)
+	final void send(final ByteBuffer packet, final EndpointAddress dst) throws IOException {
+		if (writesToBuffer())
+			sendBuffer(packet, dst);
+		else
+			send(remaining(packet), dst);
+	}
+
+	// returns whether packets are sent unchanged, so that the packet buffer can be sent using sendBuffer; a subclass
+	// transforming packets in send(byte[], EndpointAddress) returns false
+	boolean writesToBuffer() { return false; }
+
+	// sends the packet buffer without copying, the buffer's position is advanced by the number of bytes sent
+	void sendBuffer(final ByteBuffer packet, final EndpointAddress dst) throws IOException {
+		if (!packet.hasArray()) {
+			send(remaining(packet), dst);
+			return;
+		}
+		sendPacket.setData(packet.array(), packet.arrayOffset() + packet.position(), packet.remaining());
+		sendPacket.setSocketAddress(dst.address());
+		if (dst.equals(dataEp))
+			socket.send(sendPacket);
+		else
+			ctrlSocket.send(sendPacket);
+		packet.position(packet.limit());
+	}
+
+	// returns a new send buffer for packets of at least the specified capacity
+	ByteBuffer newSendBuffer(final int capacity) { return ByteBuffer.allocate(capacity); }
+
+	static byte[] remaining(final ByteBuffer packet) {
+		final byte[] copy = new byte[packet.remaining()];
+		packet.get(copy);
+		return copy;
+	}
+
+	private ByteBuffer encode(final CEMI frame) {
+		final int size = PacketHeaderSize + frame.length();
+		if (sendBuffer == null || sendBuffer.capacity() < size)
+			sendBuffer = newSendBuffer(Math.max(size, 0x200));
+		final ByteBuffer buf = sendBuffer.clear();
+		if (serviceRequest == KNXnetIPHeader.ROUTING_IND)
+			PacketHelper.writeRoutingIndication(buf, frame);
+		else
+			PacketHelper.writeServiceRequest(buf, serviceRequest, channelId, getSeqSend(), frame);
+		return buf.flip();
+	}
+
+	private static String toHex(final ByteBuffer packet) {
+		return HexFormat.ofDelimiter(" ").formatHex(remaining(packet.duplicate()));
+	}
+
 	@Override
 	@Deprecated(forRemoval = true)
 	public final InetSocketAddress getRemoteAddress()
@@ -73,8 +73,12 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
 import io.calimero.KNXException;
 import io.calimero.KNXFormatException;
@@ -82,6 +86,7 @@ import io.calimero.KNXIllegalArgumentException;
 import io.calimero.KNXInvalidResponseException;
 import io.calimero.KNXTimeoutException;
 import io.calimero.KnxRuntimeException;
+import io.calimero.SerialNumber;
 import io.calimero.internal.Executor;
 import io.calimero.internal.UdpSocketLooper;
 import io.calimero.knxnetip.StreamConnection.SecureSession;
@@ -160,6 +165,7 @@ public class Discoverer
 
 	private final List<ReceiverLoop> receivers = Collections.synchronizedList(new ArrayList<>());
 	private final List<Result<SearchResponse>> responses = Collections.synchronizedList(new ArrayList<>());
+	private final Object describeLock = new Object();
 
 
 	/**
@@ -338,6 +344,155 @@ public class Discoverer
 		}
 	}
 
+	/**
+	 * Returns a publisher which, for each subscriber, searches for KNXnet/IP servers on all network interfaces
+	 * concurrently, and publishes the search result of every distinct server as soon as it responds. Servers are
+	 * distinguished by their KNX serial number, i.e., a server responding on more than one network interface or to
+	 * both the standard and the extended search request is published once. The subscription completes when the
+	 * search timeout (see {@link #timeout(Duration)}) elapsed, or early once {@code expectedServers} distinct servers
+	 * responded.
+	 *
+	 * @param expectedServers number of servers after which the search completes, use 0 to always search until timeout
+	 * @param searchParameters optional search parameters for an extended search
+	 * @return cold publisher of search results, every subscription starts a new search
+	 */
+	public Flow.Publisher<Result<SearchResponse>> searchStream(final int expectedServers,
+			final Srp... searchParameters) {
+		if (expectedServers < 0)
+			throw new KNXIllegalArgumentException("expected servers < 0");
+		return searchStream(servers -> expectedServers > 0 && servers.size() >= expectedServers,
+				CompletableFuture::completedFuture, searchParameters);
+	}
+
+	/**
+	 * Like {@link #searchStream(int, Srp...)}, but completes early once all servers with the expected KNX serial
+	 * numbers responded. Servers are not filtered by serial number, search parameters can be used to narrow down
+	 * responding servers.
+	 *
+	 * @param expectedServers serial numbers of the servers after which the search completes
+	 * @param searchParameters optional search parameters for an extended search
+	 * @return cold publisher of search results, every subscription starts a new search
+	 */
+	public Flow.Publisher<Result<SearchResponse>> searchStream(final Set<SerialNumber> expectedServers,
+			final Srp... searchParameters) {
+		final var expected = Set.copyOf(expectedServers);
+		return searchStream(servers -> servers.containsAll(expected), CompletableFuture::completedFuture,
+				searchParameters);
+	}
+
+	/**
+	 * Returns a publisher which searches for KNXnet/IP servers as {@link #searchStream(int, Srp...)}, and requests the
+	 * self-description of every distinct server as soon as it responds to the search. Description requests are sent
+	 * in parallel (sequentially if this discoverer uses a fixed local port); servers which do not answer the
+	 * description request are skipped. The subscription completes after the search completed and all description
+	 * requests finished.
+	 *
+	 * @param expectedServers number of servers after which the search completes, use 0 to always search until timeout
+	 * @param searchParameters optional search parameters for an extended search
+	 * @return cold publisher of description results, every subscription starts a new search
+	 */
+	public Flow.Publisher<Result<DescriptionResponse>> describeStream(final int expectedServers,
+			final Srp... searchParameters) {
+		if (expectedServers < 0)
+			throw new KNXIllegalArgumentException("expected servers < 0");
+		return searchStream(servers -> expectedServers > 0 && servers.size() >= expectedServers,
+				r -> CompletableFuture.supplyAsync(() -> describe(r), executor), searchParameters);
+	}
+
+	private <T> Flow.Publisher<T> searchStream(final Predicate<Set<Object>> complete,
+			final Function<Result<SearchResponse>, CompletableFuture<T>> pipeline, final Srp... searchParameters) {
+		return subscriber -> {
+			final var publisher = new SubmissionPublisher<T>(executor, Flow.defaultBufferSize());
+			publisher.subscribe(subscriber);
+			new StreamingSearch<>(publisher, complete, pipeline).start(searchParameters);
+		};
+	}
+
+	private Result<DescriptionResponse> describe(final Result<SearchResponse> server) {
+		final var hpai = server.response().getControlEndpoint();
+		final var ctrlEndpoint = hpai.nat() ? server.remoteEndpoint() : hpai.endpoint();
+		final int seconds = (int) Math.max(1, Math.min(timeout().toSeconds(), 10));
+		try {
+			// with a fixed local port, concurrent description requests would compete for the same port
+			if (port == 0)
+				return getDescription(ctrlEndpoint, seconds);
+			synchronized (describeLock) {
+				return getDescription(ctrlEndpoint, seconds);
+			}
+		}
+		catch (final KNXException e) {
+			throw new KnxRuntimeException("description of " + hostPort(ctrlEndpoint), e);
+		}
+	}
+
+	private final class StreamingSearch<T> {
+		private final SubmissionPublisher<T> publisher;
+		private final Predicate<Set<Object>> complete;
+		private final Function<Result<SearchResponse>, CompletableFuture<T>> pipeline;
+
+		private final Set<Object> servers = ConcurrentHashMap.newKeySet();
+		// published items of the pipeline, guarded by this
+		private final List<CompletableFuture<Void>> items = new ArrayList<>();
+		private boolean done;
+		private volatile List<CompletableFuture<Void>> searches = List.of();
+
+		StreamingSearch(final SubmissionPublisher<T> publisher, final Predicate<Set<Object>> complete,
+				final Function<Result<SearchResponse>, CompletableFuture<T>> pipeline) {
+			this.publisher = publisher;
+			this.complete = complete;
+			this.pipeline = pipeline;
+		}
+
+		void start(final Srp... searchParameters) {
+			try {
+				searches = startSearches(timeout(), this::response, searchParameters);
+			}
+			catch (KNXException | SocketException | RuntimeException e) {
+				publisher.closeExceptionally(e);
+				return;
+			}
+			// we might have completed already while starting the searches
+			synchronized (this) {
+				if (done)
+					searches.forEach(cf -> cf.cancel(false));
+			}
+			CompletableFuture.allOf(searches.toArray(new CompletableFuture<?>[0]))
+					.whenComplete((__, ___) -> searchCompleted());
+		}
+
+		private void response(final Result<SearchResponse> result) {
+			final var device = result.response().getDevice();
+			final Object server = device.serialNumber().equals(SerialNumber.Zero)
+					? result.response().getControlEndpoint() : device.serialNumber();
+			synchronized (this) {
+				if (done || !servers.add(server))
+					return;
+				items.add(pipeline.apply(result).thenAccept(publisher::submit).exceptionally(t -> {
+					logger.log(WARNING, "discovered server {0}: {1}", device.getName(), t.getMessage());
+					return null;
+				}));
+			}
+			if (complete.test(servers) || !publisher.hasSubscribers())
+				stop();
+		}
+
+		private void stop() {
+			searches.forEach(cf -> cf.cancel(false));
+			searchCompleted();
+		}
+
+		private void searchCompleted() {
+			final CompletableFuture<?>[] pending;
+			synchronized (this) {
+				if (done)
+					return;
+				done = true;
+				pending = items.toArray(new CompletableFuture<?>[0]);
+			}
+			CompletableFuture.allOf(pending).whenComplete((__, ___) -> publisher.close());
+		}
+	}
+
 	private static InetAddress localHost() {
 		try {
 			return InetAddress.getLocalHost();
@@ -469,19 +624,34 @@ public class Discoverer
 
 	private CompletableFuture<List<Result<SearchResponse>>> searchAsync(final Duration timeout,
 			final Srp... searchParameters) {
-		if (timeout.isNegative())
-			throw new KNXIllegalArgumentException("timeout has to be >= 0");
-		final NetworkInterface[] nifs;
+		final Set<Result<SearchResponse>> responses = ConcurrentHashMap.newKeySet();
+		final List<CompletableFuture<Void>> cfs;
 		try {
-			nifs = NetworkInterface.networkInterfaces().toArray(NetworkInterface[]::new);
+			cfs = startSearches(timeout, responses::add, searchParameters);
 		}
-		catch (final SocketException e) {
+		catch (KNXException | SocketException e) {
 			return CompletableFuture.failedFuture(e);
 		}
+
+		final CompletableFuture<List<Result<SearchResponse>>> search = CompletableFuture
+				.allOf(cfs.toArray(new CompletableFuture<?>[0])).thenApply(__ -> List.copyOf(responses));
+		search.exceptionally(t -> {
+			cfs.forEach(cf -> cf.cancel(false));
+			return null;
+		});
+		return search;
+	}
+
+	// starts a search on every network interface which is up, returns the receiver futures of the started searches
+	private List<CompletableFuture<Void>> startSearches(final Duration timeout,
+			final Consumer<Result<SearchResponse>> notifyResponse, final Srp... searchParameters)
+			throws KNXException, SocketException {
+		if (timeout.isNegative())
+			throw new KNXIllegalArgumentException("timeout has to be >= 0");
+		final NetworkInterface[] nifs = NetworkInterface.networkInterfaces().toArray(NetworkInterface[]::new);
 		// loopback flag, so we start at most one local search
 		boolean lo = false;
 		final List<CompletableFuture<Void>> cfs = new ArrayList<>();
-		final Set<Result<SearchResponse>> responses = ConcurrentHashMap.newKeySet();
 		for (final NetworkInterface ni : nifs) {
 			try {
 				if (!ni.isUp())
@@ -497,7 +667,7 @@ public class Discoverer
 				else
 					try {
 						if (!(lo && a.isLoopbackAddress())) {
-							cfs.add(search(a, port, ni, timeout, responses::add, searchParameters));
+							cfs.add(search(a, port, ni, timeout, notifyResponse, searchParameters));
 						}
 						if (a.isLoopbackAddress()) {
 							lo = true;
@@ -515,16 +685,8 @@ public class Discoverer
 			}
 		}
 		if (cfs.isEmpty())
-			return CompletableFuture.failedFuture(
-					new KNXException("search could not be started on any network interface"));
-
-		final CompletableFuture<List<Result<SearchResponse>>> search = CompletableFuture
-				.allOf(cfs.toArray(new CompletableFuture<?>[0])).thenApply(__ -> List.copyOf(responses));
-		search.exceptionally(t -> {
-			cfs.forEach(cf -> cf.cancel(false));
-			return null;
-		});
-		return search;
+			throw new KNXException("search could not be started on any network interface");
+		return cfs;
 	}
 
 	/**
@@ -195,6 +195,10 @@ public class DiscovererTcp {
 			}
 		}
 
+		// packets are wrapped in send(byte[], EndpointAddress)
+		@Override
+		boolean writesToBuffer() { return false; }
+
 		@Override
 		protected void send(final byte[] packet, final EndpointAddress dst) throws IOException {
 			var send = packet;
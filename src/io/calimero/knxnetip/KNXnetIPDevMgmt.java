@@ -143,6 +143,9 @@ public class KNXnetIPDevMgmt extends ClientConnection
 		return "KNXnet/IP DevMgmt " + super.name();
 	}
 
+	@Override
+	boolean writesToBuffer() { return true; }
+
 	@Override
 	protected boolean handleServiceType(final KNXnetIPHeader h, final byte[] data, final int offset,
 		final EndpointAddress src) throws KNXFormatException, IOException
@@ -57,16 +57,14 @@ import java.nio.ByteBuffer;
 import java.nio.channels.DatagramChannel;
 import java.time.Duration;
 import java.time.Instant;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HexFormat;
-import java.util.Iterator;
-import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
+import java.util.function.Supplier;
 
 import io.calimero.CloseEvent;
 import io.calimero.FrameEvent;
@@ -78,6 +76,7 @@ import io.calimero.KNXTimeoutException;
 import io.calimero.KnxRuntimeException;
 import io.calimero.cemi.CEMI;
 import io.calimero.cemi.CEMILData;
+import io.calimero.cemi.CemiLDataView;
 import io.calimero.internal.Executor;
 import io.calimero.knxnetip.servicetype.KNXnetIPHeader;
 import io.calimero.knxnetip.servicetype.PacketHelper;
@@ -85,9 +84,7 @@ import io.calimero.knxnetip.servicetype.RoutingBusy;
 import io.calimero.knxnetip.servicetype.RoutingIndication;
 import io.calimero.knxnetip.servicetype.RoutingLostMessage;
 import io.calimero.knxnetip.servicetype.RoutingSystemBroadcast;
-import io.calimero.knxnetip.servicetype.SearchRequest;
 import io.calimero.knxnetip.servicetype.SearchResponse;
-import io.calimero.knxnetip.util.HPAI;
 import io.calimero.log.LogService;
 
 /**
@@ -106,6 +103,11 @@ import io.calimero.log.LogService;
  * instead of a default {@link KNXListener}, to receive {@link RoutingListener#lostMessage(LostMessageEvent)}
  * notifications.
  * <p>
+ * For high frame rates, a {@link FrameViewListener} can be added using
+ * {@link #addFrameViewListener(FrameViewListener)}, which receives routing indications as {@link CemiLDataView} without
+ * per-frame allocations. Received frames are only materialized into cEMI frames if connection listeners of type
+ * {@link KNXListener} are registered.
+ * <p>
  * Multicast considerations:<br>
  * The multicast loopback behavior defines whether multicast datagrams are looped back to the local socket, see
  * {@link MulticastSocket#setOption(SocketOption, Object)} with
@@ -123,6 +125,8 @@ public class KNXnetIPRouting extends ConnectionBase
 {
 	static final int MaxDatagramsPerSecond = 50;
 
+	private static final int HeaderSize = 6;
+
 	/**
 	 * Multicast address assigned by default to KNXnet/IP routers, address {@value
 	 * #DEFAULT_MULTICAST}.
@@ -148,14 +152,18 @@ public class KNXnetIPRouting extends ConnectionBase
 	private DatagramChannel dcSysBcast;
 
 	private volatile boolean loopbackEnabled;
-	// This list is used for multicast packets that are looped back in loopback mode. If loopback
-	// mode is enabled, sent packets are buffered, and subsequently discarded when received again
-	// shortly after (and also removed from this buffer again).
-	// This list holds cEMI frames, but basically only the byte array representations are required.
-	private final List<CEMILData> loopbackFrames = new ArrayList<>();
-	private static final int maxLoopbackQueueSize = 20;
+	// Filter for multicast packets that are looped back in loopback mode. If loopback mode is enabled, sent frames are
+	// recorded, and subsequently discarded when received again within the loopback window (and also removed from the
+	// filter again).
+	private final LoopbackFilter loopbackFrames = new LoopbackFilter(loopbackWindow, maxLoopbackFrames);
+	private static final Duration loopbackWindow = Duration.ofSeconds(2);
+	private static final int maxLoopbackFrames = 1000;
 
 	private volatile BiFunction<KNXnetIPHeader, ByteBuffer, SearchResponse> searchRequestCallback;
+	private SearchResponder searchResponder;
+
+	private final Object viewListenersLock = new Object();
+	private volatile FrameViewListener[] viewListeners = {};
 
 	// KNX IP routing busy flow control
 
@@ -225,18 +233,13 @@ public class KNXnetIPRouting extends ConnectionBase
 		if (frame.getMessageCode() != CEMILData.MC_LDATA_IND)
 			throw new KNXIllegalArgumentException("cEMI frame is not an L-Data.ind");
 		try {
-			if (loopbackEnabled) {
-				synchronized (loopbackFrames) {
-					loopbackFrames.add((CEMILData) frame);
-				}
-				logger.log(TRACE, "add to multicast loopback frame buffer: {0}", frame);
-			}
 			checkLastTx();
 			// filter IP system broadcasts and always send them unsecured
 			if (RoutingSystemBroadcast.validSystemBroadcast(frame)) {
 				final var buf = ByteBuffer.wrap(PacketHelper.toPacket(new RoutingSystemBroadcast(frame)));
 				final InetSocketAddress dst = new InetSocketAddress(systemBroadcast, DEFAULT_PORT);
 				enforceDatagramRateLimit();
+				addLoopbackFrame(frame);
 				logger.log(TRACE, "sending cEMI frame, SBC {0} {1}", NonBlocking, HexFormat.ofDelimiter(" ").formatHex(buf.array()));
 				if (dcSysBcast != null)
 					dcSysBcast.send(buf, dst);
@@ -245,6 +248,7 @@ public class KNXnetIPRouting extends ConnectionBase
 			}
 			else {
 				applyRoutingFlowControl();
+				addLoopbackFrame(frame);
 				super.send(frame, NonBlocking);
 			}
 
@@ -272,6 +276,36 @@ public class KNXnetIPRouting extends ConnectionBase
 		return "KNXnet/IP Routing " + super.name();
 	}
 
+	/**
+	 * Adds the specified frame view listener to receive routing indications as {@link CemiLDataView}. If
+	 * {@code l} was already added as listener, no action is performed.
+	 *
+	 * @param l the listener to add
+	 */
+	public final void addFrameViewListener(final FrameViewListener l)
+	{
+		synchronized (viewListenersLock) {
+			if (Arrays.asList(viewListeners).contains(l))
+				return;
+			final var copy = Arrays.copyOf(viewListeners, viewListeners.length + 1);
+			copy[copy.length - 1] = l;
+			viewListeners = copy;
+		}
+	}
+
+	/**
+	 * Removes the specified frame view listener {@code l}. If {@code l} was not added in the first place, no action
+	 * is performed.
+	 *
+	 * @param l the listener to remove
+	 */
+	public final void removeFrameViewListener(final FrameViewListener l)
+	{
+		synchronized (viewListenersLock) {
+			viewListeners = Arrays.stream(viewListeners).filter(v -> v != l).toArray(FrameViewListener[]::new);
+		}
+	}
+
 	/**
 	 * Sets the default hop count (TTL) used in the IP header of encapsulated cEMI
 	 * messages.
@@ -342,6 +376,21 @@ public class KNXnetIPRouting extends ConnectionBase
 		}
 	}
 
+	/**
+	 * Returns the number of received multicast frames discarded as loopback of a frame sent by this connection.
+	 *
+	 * @return number of suppressed loopback frames
+	 */
+	public final long suppressedLoopbackFrames() { return loopbackFrames.suppressed(); }
+
+	/**
+	 * Returns the number of sent frames recorded for multicast loopback suppression, which expired without being
+	 * received again.
+	 *
+	 * @return number of expired loopback frame entries
+	 */
+	public final long expiredLoopbackFrames() { return loopbackFrames.expired(); }
+
 	/**
 	 * Checks whether the supplied IP address is a valid KNX routing multicast address.
 	 *
@@ -390,6 +439,8 @@ public class KNXnetIPRouting extends ConnectionBase
 				setNetif = Net.defaultNetif();
 
 			logger = LogService.getLogger("io.calimero.knxnetip." + name());
+			searchResponder = new SearchResponder(logger, () -> searchRequestCallback, this::sendSearchResponse,
+					Executor.executor());
 			logger.log(DEBUG, "join multicast group {0} on {1}", multicast.getHostAddress(), setNetif.getName());
 			dc.join(multicast, setNetif);
 			if (dcSysBcast != null)
@@ -430,7 +481,7 @@ public class KNXnetIPRouting extends ConnectionBase
 						else
 							systemBroadcast(h, data, offset + h.getStructLength());
 					}
-					catch (KNXFormatException | IOException | RuntimeException e) {
+					catch (KNXFormatException | RuntimeException e) {
 						logger.log(WARNING, "received invalid frame", e);
 					}
 				}
@@ -452,10 +503,15 @@ public class KNXnetIPRouting extends ConnectionBase
 	}
 
 	private static class ChannelReceiver extends ReceiverLoop {
+		private final KNXnetIPRouting routing;
 		private final DatagramChannel dc;
+		private final CemiLDataView view = new CemiLDataView();
+		// wraps the receive buffer of the looper, which stays the same for all receive calls
+		private ByteBuffer buffer = ByteBuffer.allocate(0);
 
 		ChannelReceiver(final KNXnetIPRouting r, final DatagramChannel dc) {
 			super(r, null, 0x200, 0, 0);
+			routing = r;
 			this.dc = dc;
 		}
 
@@ -464,11 +520,20 @@ public class KNXnetIPRouting extends ConnectionBase
 
 		@Override
 		protected void receive(final byte[] buf) throws IOException {
-			final ByteBuffer buffer = ByteBuffer.wrap(buf);
+			if (buffer.array() != buf)
+				buffer = ByteBuffer.wrap(buf);
+			buffer.clear();
 			final var source = dc.receive(buffer);
 			buffer.flip();
 			onReceive((InetSocketAddress) source, buf, buffer.position(), buffer.remaining());
 		}
+
+		@Override
+		protected void onReceive(final InetSocketAddress source, final byte[] data, final int offset,
+				final int length) throws IOException {
+			if (!routing.plainRoutingIndication(data, offset, length, view))
+				super.onReceive(source, data, offset, length);
+		}
 	}
 
 	protected DatagramChannel channel() { return dc; }
@@ -481,7 +546,12 @@ public class KNXnetIPRouting extends ConnectionBase
 		if (h.getVersion() != KNXNETIP_VERSION_10)
 			close(CloseEvent.INTERNAL, "protocol version changed", ERROR, null);
 		else if (svc == KNXnetIPHeader.ROUTING_IND) {
-			final var ind = new RoutingIndication(data, offset, h.getTotalLength() - h.getStructLength());
+			final int length = h.getTotalLength() - h.getStructLength();
+			if (viewListeners.length > 0 && isLData(data, offset, length)) {
+				routingIndication(data, offset, length, new CemiLDataView());
+				return true;
+			}
+			final var ind = new RoutingIndication(data, offset, length);
 			final CEMI frame = ind.getCEMI();
 			if (discardLoopbackFrame(frame))
 				return true;
@@ -514,27 +584,64 @@ public class KNXnetIPRouting extends ConnectionBase
 		return true;
 	}
 
-	private void searchRequest(final InetSocketAddress source, final KNXnetIPHeader h, final byte[] data,
-			final int offset) throws KNXFormatException, IOException {
-		final var callback = searchRequestCallback;
-		if (callback == null)
-			return;
-		final HPAI endpoint = SearchRequest.from(h, data, offset).getEndpoint();
-		if (endpoint.hostProtocol() != HPAI.IPV4_UDP) {
-			logger.log(WARNING, "KNX IP has protocol support for UDP/IP only");
-			return;
+	// Fast path for plain routing indications with registered frame view listeners, which avoids any parsing of the
+	// datagram besides the cEMI view. Returns false if the datagram is not handled.
+	boolean plainRoutingIndication(final byte[] data, final int offset, final int length, final CemiLDataView view) {
+		if (viewListeners.length == 0 || length < HeaderSize || data[offset] != HeaderSize
+				|| data[offset + 1] != KNXNETIP_VERSION_10 || unsigned16(data, offset + 2) != KNXnetIPHeader.ROUTING_IND)
+			return false;
+		final int total = unsigned16(data, offset + 4);
+		if (total > length || !isLData(data, offset + HeaderSize, total - HeaderSize))
+			return false;
+		try {
+			routingIndication(data, offset + HeaderSize, total - HeaderSize, view);
 		}
-		final var response = callback.apply(h, ByteBuffer.wrap(data).position(offset));
-		if (response != null) {
-			@SuppressWarnings("resource")
-			final var channel = dcSysBcast != null ? dcSysBcast : channel();
-			channel.send(ByteBuffer.wrap(PacketHelper.toPacket(response)), createResponseAddress(endpoint, source));
+		catch (KNXFormatException | RuntimeException e) {
+			logger.log(WARNING, "received invalid frame", e);
 		}
+		return true;
 	}
 
-	private static InetSocketAddress createResponseAddress(final HPAI endpoint, final InetSocketAddress sender) {
-		// NAT: if the data EP is incomplete or left empty, we fall back to the IP address and port of the sender.
-		return endpoint.nat() ? sender : endpoint.endpoint();
+	private void routingIndication(final byte[] data, final int offset, final int length, final CemiLDataView view)
+			throws KNXFormatException {
+		view.wrap(data, offset, length);
+		if (discardLoopbackFrame(data, offset, view.length()))
+			return;
+		for (final var l : viewListeners) {
+			try {
+				l.frameReceived(view);
+			}
+			catch (final RuntimeException e) {
+				logger.log(ERROR, "frame view listener " + l, e);
+			}
+		}
+		// only materialize the cEMI frame if required
+		if (!listeners.isEmpty())
+			fireFrameReceived(view.toCEMI());
+	}
+
+	private static boolean isLData(final byte[] data, final int offset, final int length) {
+		if (length < 1)
+			return false;
+		final int mc = data[offset] & 0xff;
+		return mc == CEMILData.MC_LDATA_IND || mc == CEMILData.MC_LDATA_REQ || mc == CEMILData.MC_LDATA_CON;
+	}
+
+	private static int unsigned16(final byte[] data, final int offset) {
+		return (data[offset] & 0xff) << 8 | data[offset + 1] & 0xff;
+	}
+
+	private void searchRequest(final InetSocketAddress source, final KNXnetIPHeader h, final byte[] data,
+			final int offset) throws KNXFormatException {
+		final var responder = searchResponder;
+		if (responder != null)
+			responder.searchRequest(source, h, data, offset);
+	}
+
+	private void sendSearchResponse(final ByteBuffer packet, final InetSocketAddress dst) throws IOException {
+		@SuppressWarnings("resource")
+		final var channel = dcSysBcast != null ? dcSysBcast : channel();
+		channel.send(packet, dst);
 	}
 
 	@Override
@@ -585,11 +692,23 @@ public class KNXnetIPRouting extends ConnectionBase
 		}
 	}
 
+	@Override
+	boolean writesToBuffer() { return true; }
+
 	@Override
 	protected void send(final byte[] packet, final EndpointAddress dst) throws IOException {
 		channel().send(ByteBuffer.wrap(packet), dst.address());
 	}
 
+	@Override
+	void sendBuffer(final ByteBuffer packet, final EndpointAddress dst) throws IOException {
+		channel().send(packet, dst.address());
+	}
+
+	// the datagram channel sends from a direct buffer without copying
+	@Override
+	ByteBuffer newSendBuffer(final int capacity) { return ByteBuffer.allocateDirect(capacity); }
+
 	private boolean systemBroadcast(final KNXnetIPHeader h, final byte[] data, final int offset)
 			throws KNXFormatException {
 
@@ -633,24 +752,29 @@ public class KNXnetIPRouting extends ConnectionBase
 		});
 	}
 
+	// call immediately before sending the frame, so the loopback window starts with the actual send
+	private void addLoopbackFrame(final CEMI frame) {
+		if (!loopbackEnabled)
+			return;
+		loopbackFrames.add(frame.toByteArray());
+		logger.log(TRACE, "add to multicast loopback frame filter: {0}", frame);
+	}
+
 	private boolean discardLoopbackFrame(final CEMI frame)
 	{
 		if (!loopbackEnabled)
 			return false;
 		final byte[] a = frame.toByteArray();
-		synchronized (loopbackFrames) {
-			for (final Iterator<CEMILData> i = loopbackFrames.iterator(); i.hasNext();) {
-				if (Arrays.equals(a, i.next().toByteArray())) {
-					i.remove();
-					logger.log(TRACE, "discard multicast loopback cEMI frame: {0}", frame);
-					return true;
-				}
-				// remove oldest entry if exceeding max. loopback queue size
-				if (loopbackFrames.size() > maxLoopbackQueueSize)
-					i.remove();
-			}
-		}
-		return false;
+		return discardLoopbackFrame(a, 0, a.length);
+	}
+
+	private boolean discardLoopbackFrame(final byte[] frame, final int offset, final int length)
+	{
+		if (!loopbackEnabled || !loopbackFrames.suppress(frame, offset, length))
+			return false;
+		logger.log(TRACE, "discard multicast loopback cEMI frame: {0}",
+				(Supplier<String>) () -> HexFormat.ofDelimiter(" ").formatHex(frame, offset, offset + length));
+		return true;
 	}
 
 	private void checkLastTx() throws InterruptedException {
@@ -331,6 +331,9 @@ public class KNXnetIPTunnel extends ClientConnection
 		return "KNXnet/IP Tunneling " + super.name();
 	}
 
+	@Override
+	boolean writesToBuffer() { return true; }
+
 	@Override
 	protected boolean handleServiceType(final KNXnetIPHeader h, final byte[] data, final int offset,
 			final EndpointAddress src) throws KNXFormatException, IOException {
@@ -0,0 +1,171 @@
+/*
+    Calimero 3 - A library for KNX network access
+    Copyright (c) 2026 B. Malinowsky
+
+    This program is free software; you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation; either version 2 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program; if not, write to the Free Software
+    Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+
+    Linking this library statically or dynamically with other modules is
+    making a combined work based on this library. Thus, the terms and
+    conditions of the GNU General Public License cover the whole
+    combination.
+
+    As a special exception, the copyright holders of this library give you
+    permission to link this library with independent modules to produce an
+    executable, regardless of the license terms of these independent
+    modules, and to copy and distribute the resulting executable under terms
+    of your choice, provided that you also meet, for each linked independent
+    module, the terms and conditions of the license of that module. An
+    independent module is a module which is not derived from or based on
+    this library. If you modify this library, you may extend this exception
+    to your version of the library, but you are not obligated to do so. If
+    you do not wish to do so, delete this exception statement from your
+    version.
+*/
+
+package io.calimero.knxnetip;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+
+/**
+ * Filter for multicast datagrams looped back to the sender. Sent frames are stored as fingerprint (hash and frame
+ * bytes) in a hash table; a received frame matching a fingerprint is suppressed exactly once. Fingerprints expire after
+ * a time window, or if the maximum number of fingerprints is exceeded.
+ */
+final class LoopbackFilter {
+	private static final class Fingerprint {
+		final int hash;
+		final byte[] frame;
+		final long added;
+		Fingerprint next;
+		boolean removed;
+
+		Fingerprint(final int hash, final byte[] frame, final long added) {
+			this.hash = hash;
+			this.frame = frame;
+			this.added = added;
+		}
+	}
+
+	private final long window;
+	private final int maxEntries;
+
+	private final Fingerprint[] table;
+	// fingerprints in insertion order, for expiry; contains removed fingerprints until they reach the head
+	private final ArrayDeque<Fingerprint> insertionOrder = new ArrayDeque<>();
+	private int size;
+
+	private long suppressed;
+	private long expired;
+
+	LoopbackFilter(final Duration window, final int maxEntries) {
+		this.window = window.toNanos();
+		this.maxEntries = maxEntries;
+		table = new Fingerprint[Math.max(16, Integer.highestOneBit(maxEntries) << 2)];
+	}
+
+	synchronized void add(final byte[] frame) {
+		final long now = System.nanoTime();
+		expire(now);
+		if (size == maxEntries)
+			evictOldest();
+
+		final int hash = hash(frame, 0, frame.length);
+		final var fp = new Fingerprint(hash, frame, now);
+		final int idx = hash & (table.length - 1);
+		fp.next = table[idx];
+		table[idx] = fp;
+		insertionOrder.add(fp);
+		size++;
+	}
+
+	/**
+	 * Returns whether the frame is a loopback of a sent frame; a match removes the fingerprint of the sent frame.
+	 */
+	synchronized boolean suppress(final byte[] data, final int offset, final int length) {
+		expire(System.nanoTime());
+		if (size == 0)
+			return false;
+
+		final int hash = hash(data, offset, length);
+		final int idx = hash & (table.length - 1);
+		Fingerprint prev = null;
+		for (var fp = table[idx]; fp != null; prev = fp, fp = fp.next) {
+			if (fp.hash == hash && fp.frame.length == length
+					&& Arrays.equals(fp.frame, 0, length, data, offset, offset + length)) {
+				unlink(fp, prev, idx);
+				suppressed++;
+				return true;
+			}
+		}
+		return false;
+	}
+
+	synchronized long suppressed() { return suppressed; }
+
+	synchronized long expired() { return expired; }
+
+	synchronized int size() { return size; }
+
+	private void expire(final long now) {
+		for (var fp = insertionOrder.peek(); fp != null; fp = insertionOrder.peek()) {
+			if (!fp.removed && now - fp.added < window)
+				return;
+			insertionOrder.poll();
+			if (!fp.removed) {
+				remove(fp);
+				expired++;
+			}
+		}
+	}
+
+	private void evictOldest() {
+		for (var fp = insertionOrder.poll(); fp != null; fp = insertionOrder.poll()) {
+			if (!fp.removed) {
+				remove(fp);
+				expired++;
+				return;
+			}
+		}
+	}
+
+	private void remove(final Fingerprint fp) {
+		final int idx = fp.hash & (table.length - 1);
+		Fingerprint prev = null;
+		for (var i = table[idx]; i != null; prev = i, i = i.next) {
+			if (i == fp) {
+				unlink(fp, prev, idx);
+				return;
+			}
+		}
+	}
+
+	private void unlink(final Fingerprint fp, final Fingerprint prev, final int idx) {
+		if (prev == null)
+			table[idx] = fp.next;
+		else
+			prev.next = fp.next;
+		fp.removed = true;
+		size--;
+	}
+
+	private static int hash(final byte[] data, final int offset, final int length) {
+		int h = 1;
+		for (int i = offset; i < offset + length; i++)
+			h = 31 * h + data[i];
+		return h ^ (h >>> 16);
+	}
+}
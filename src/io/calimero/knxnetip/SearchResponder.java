@@ -0,0 +1,234 @@
+/*
+    Calimero 3 - A library for KNX network access
+    Copyright (c) 2026 B. Malinowsky
+
+    This program is free software; you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation; either version 2 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program; if not, write to the Free Software
+    Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+
+    Linking this library statically or dynamically with other modules is
+    making a combined work based on this library. Thus, the terms and
+    conditions of the GNU General Public License cover the whole
+    combination.
+
+    As a special exception, the copyright holders of this library give you
+    permission to link this library with independent modules to produce an
+    executable, regardless of the license terms of these independent
+    modules, and to copy and distribute the resulting executable under terms
+    of your choice, provided that you also meet, for each linked independent
+    module, the terms and conditions of the license of that module. An
+    independent module is a module which is not derived from or based on
+    this library. If you modify this library, you may extend this exception
+    to your version of the library, but you are not obligated to do so. If
+    you do not wish to do so, delete this exception statement from your
+    version.
+*/
+
+package io.calimero.knxnetip;
+
+import static java.lang.System.Logger.Level.TRACE;
+import static java.lang.System.Logger.Level.WARNING;
+
+import java.io.IOException;
+import java.lang.System.Logger;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import io.calimero.KNXFormatException;
+import io.calimero.knxnetip.servicetype.KNXnetIPHeader;
+import io.calimero.knxnetip.servicetype.PacketHelper;
+import io.calimero.knxnetip.servicetype.SearchRequest;
+import io.calimero.knxnetip.servicetype.SearchResponse;
+import io.calimero.knxnetip.util.HPAI;
+
+/**
+ * Answers KNXnet/IP search requests received by a routing connection. The receiver thread only parses the request
+ * endpoint; responses are created and sent using an executor. Encoded responses are cached per service type and
+ * requested search parameters, and repeated requests with the same response endpoint are coalesced within a short time
+ * window (e.g., a request received on both the routing and the system broadcast channel). Responses to requests
+ * selecting by programming mode depend on the current device state and are not cached.
+ */
+final class SearchResponder {
+	@FunctionalInterface
+	interface Sender {
+		void send(ByteBuffer packet, InetSocketAddress dst) throws IOException;
+	}
+
+	static final Duration cacheTimeout = Duration.ofSeconds(1);
+	static final Duration coalesceWindow = Duration.ofMillis(500);
+	static final int maxPendingResponses = 20;
+	private static final int maxEntries = 256;
+	// SRP type, see Srp.Type.SelectByProgrammingMode
+	private static final int SelectByProgrammingMode = 0x01;
+
+	// search parameters contains the SRP bytes of extended search requests
+	private record Request(int svcType, ByteBuffer searchParameters) {}
+
+	// packet is null if the callback did not create a response
+	private record CachedResponse(byte[] packet, long created) {}
+
+	private record Recent(InetSocketAddress responseAddress, Request request) {}
+
+	private final Logger logger;
+	private final Supplier<BiFunction<KNXnetIPHeader, ByteBuffer, SearchResponse>> callback;
+	private final Sender sender;
+	private final Executor executor;
+	// time source in nanoseconds
+	private final LongSupplier clock;
+
+	private final Map<Request, CachedResponse> cache = new ConcurrentHashMap<>();
+	private final Map<Recent, Long> recent = new ConcurrentHashMap<>();
+	private final AtomicInteger pending = new AtomicInteger();
+
+	SearchResponder(final Logger logger, final Supplier<BiFunction<KNXnetIPHeader, ByteBuffer, SearchResponse>> callback,
+			final Sender sender, final Executor executor) {
+		this(logger, callback, sender, executor, System::nanoTime);
+	}
+
+	SearchResponder(final Logger logger, final Supplier<BiFunction<KNXnetIPHeader, ByteBuffer, SearchResponse>> callback,
+			final Sender sender, final Executor executor, final LongSupplier clock) {
+		this.logger = logger;
+		this.callback = callback;
+		this.sender = sender;
+		this.executor = executor;
+		this.clock = clock;
+	}
+
+	/**
+	 * Schedules the response to a search request; {@code data} is only accessed during this call.
+	 *
+	 * @param source sender of the search request
+	 * @param h KNXnet/IP header of the search request
+	 * @param data datagram data
+	 * @param offset offset of the search request body in {@code data}
+	 * @return {@code true} if a response got scheduled, {@code false} otherwise
+	 * @throws KNXFormatException on invalid search request
+	 */
+	boolean searchRequest(final InetSocketAddress source, final KNXnetIPHeader h, final byte[] data, final int offset)
+			throws KNXFormatException {
+		if (callback.get() == null)
+			return false;
+		final HPAI endpoint = SearchRequest.from(h, data, offset).getEndpoint();
+		if (endpoint.hostProtocol() != HPAI.IPV4_UDP) {
+			logger.log(WARNING, "KNX IP has protocol support for UDP/IP only");
+			return false;
+		}
+		// NAT: if the data EP is incomplete or left empty, we fall back to the IP address and port of the sender.
+		final var responseAddress = endpoint.nat() ? source : endpoint.endpoint();
+
+		final int bodyEnd = offset + h.getTotalLength() - h.getStructLength();
+		final var srps = ByteBuffer.wrap(Arrays.copyOfRange(data, offset + endpoint.getStructLength(), bodyEnd));
+		final var request = new Request(h.getServiceType(), srps);
+
+		if (pending.incrementAndGet() > maxPendingResponses) {
+			pending.decrementAndGet();
+			logger.log(TRACE, "too many pending search responses, drop request for {0}", responseAddress);
+			return false;
+		}
+
+		// only requests we respond to start a coalesce window, i.e., the window does not slide with each request
+		final long now = clock.getAsLong();
+		expire(now);
+		final var key = new Recent(responseAddress, request);
+		final boolean[] respond = new boolean[1];
+		final long responded = recent.compute(key, (__, last) -> {
+			if (last != null && now - last < coalesceWindow.toNanos())
+				return last;
+			respond[0] = true;
+			return now;
+		});
+		if (!respond[0]) {
+			pending.decrementAndGet();
+			logger.log(TRACE, "coalesce search request for {0}", responseAddress);
+			return false;
+		}
+
+		// the callback expects the buffer positioned at the request body, copy from header start
+		final int start = offset - h.getStructLength();
+		final var copy = ByteBuffer.wrap(Arrays.copyOfRange(data, start, bodyEnd)).position(h.getStructLength());
+		try {
+			executor.execute(() -> respond(request, h, copy, responseAddress));
+			return true;
+		}
+		catch (final RejectedExecutionException e) {
+			recent.remove(key, responded);
+			pending.decrementAndGet();
+			return false;
+		}
+	}
+
+	private void respond(final Request request, final KNXnetIPHeader h, final ByteBuffer data,
+			final InetSocketAddress responseAddress) {
+		try {
+			final byte[] packet = response(request, h, data);
+			if (packet != null)
+				sender.send(ByteBuffer.wrap(packet), responseAddress);
+		}
+		catch (IOException | RuntimeException e) {
+			logger.log(WARNING, "responding to search request from " + responseAddress, e);
+		}
+		finally {
+			pending.decrementAndGet();
+		}
+	}
+
+	private byte[] response(final Request request, final KNXnetIPHeader h, final ByteBuffer data) {
+		final boolean cacheable = !selectsByProgrammingMode(request.searchParameters());
+		final long now = clock.getAsLong();
+		final var cached = cacheable ? cache.get(request) : null;
+		if (cached != null && now - cached.created() < cacheTimeout.toNanos())
+			return cached.packet();
+
+		final var callback = this.callback.get();
+		if (callback == null)
+			return null;
+		final var response = callback.apply(h, data);
+		final byte[] packet = response != null ? PacketHelper.toPacket(response) : null;
+		if (!cacheable)
+			return packet;
+		if (cache.size() >= maxEntries)
+			cache.clear();
+		cache.put(request, new CachedResponse(packet, now));
+		return packet;
+	}
+
+	// SRP: structure length (1) | mandatory flag and type (1) | data
+	private static boolean selectsByProgrammingMode(final ByteBuffer srps) {
+		for (int i = srps.position(); i + 1 < srps.limit(); ) {
+			if ((srps.get(i + 1) & 0x7f) == SelectByProgrammingMode)
+				return true;
+			final int length = srps.get(i) & 0xff;
+			if (length == 0)
+				break;
+			i += length;
+		}
+		return false;
+	}
+
+	private void expire(final long now) {
+		if (recent.size() >= maxEntries)
+			recent.values().removeIf(time -> now - time >= coalesceWindow.toNanos());
+		if (recent.size() >= maxEntries)
+			recent.clear();
+	}
+}
@@ -70,6 +70,10 @@ final class SecureDeviceManagement extends KNXnetIPDevMgmt {
 		// we don't have session assigned yet, connect in ctor
 	}
 
+	// packets are wrapped in send(byte[], EndpointAddress)
+	@Override
+	boolean writesToBuffer() { return false; }
+
 	@Override
 	protected void send(final byte[] packet, final EndpointAddress dst) throws IOException {
 		final byte[] wrapped = SecureConnection.newSecurePacket(session.id(), session.nextSendSeq(),
@@ -70,6 +70,10 @@ final class SecureDeviceManagementUdp extends KNXnetIPDevMgmt {
 	@Override
 	public String name() { return "KNX/IP " + SecureConnection.secureSymbol + " Management " + ctrlEp; }
 
+	// packets are wrapped in send(byte[], EndpointAddress)
+	@Override
+	boolean writesToBuffer() { return false; }
+
 	@Override
 	protected void send(final byte[] packet, final EndpointAddress dst) throws IOException {
 		final byte[] wrapped = udp.newSecurePacket(packet);
@@ -66,6 +66,7 @@ import io.calimero.KNXException;
 import io.calimero.KNXFormatException;
 import io.calimero.KNXIllegalArgumentException;
 import io.calimero.SerialNumber;
+import io.calimero.cemi.CemiLDataView;
 import io.calimero.internal.Executor;
 import io.calimero.knxnetip.servicetype.KNXnetIPHeader;
 import io.calimero.secure.KnxSecureException;
@@ -159,6 +160,10 @@ public final class SecureRouting extends KNXnetIPRouting {
 		return name();
 	}
 
+	// packets are wrapped in send(byte[], EndpointAddress)
+	@Override
+	boolean writesToBuffer() { return false; }
+
 	@Override
 	protected void send(final byte[] packet, final EndpointAddress dst) throws IOException {
 		final int tag = routingCount.getAndIncrement() % 0x10000;
@@ -167,6 +172,12 @@ public final class SecureRouting extends KNXnetIPRouting {
 		scheduleGroupSync(periodicNotifyDelay());
 	}
 
+	// plain routing indications are not accepted in secure routing
+	@Override
+	boolean plainRoutingIndication(final byte[] data, final int offset, final int length, final CemiLDataView view) {
+		return false;
+	}
+
 	@Override
 	protected boolean handleServiceType(final KNXnetIPHeader h, final byte[] data, final int offset,
 		final EndpointAddress src) throws KNXFormatException, IOException {
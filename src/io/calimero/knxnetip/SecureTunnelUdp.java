@@ -74,6 +74,10 @@ final class SecureTunnelUdp extends KNXnetIPTunnel {
 	@Override
 	public String name() { return "KNX/IP " + SecureConnection.secureSymbol + " Tunneling " + ctrlEp; }
 
+	// packets are wrapped in send(byte[], EndpointAddress)
+	@Override
+	boolean writesToBuffer() { return false; }
+
 	@Override
 	protected void send(final byte[] packet, final EndpointAddress dst) throws IOException {
 		final byte[] wrapped = udp.newSecurePacket(packet);
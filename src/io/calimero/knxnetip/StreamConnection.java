@@ -650,6 +650,9 @@ public sealed abstract class StreamConnection implements Closeable
 
 	abstract void send(byte[] data) throws IOException;
 
+	// sends the remaining bytes of data
+	abstract void send(ByteBuffer data) throws IOException;
+
 	void registerConnectRequest(final ClientConnection c) { ongoingConnectRequests.add(c); }
 
 	void unregisterConnectRequest(final ClientConnection c) {
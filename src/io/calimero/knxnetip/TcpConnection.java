@@ -41,6 +41,7 @@ import java.net.InetSocketAddress;
 import java.net.NetworkInterface;
 import java.net.Socket;
 import java.net.SocketException;
+import java.nio.ByteBuffer;
 import java.time.Duration;
 import java.util.Arrays;
 
@@ -159,6 +160,20 @@ public final class TcpConnection extends StreamConnection {
 		os.flush();
 	}
 
+	@Override
+	void send(final ByteBuffer data) throws IOException {
+		if (!data.hasArray()) {
+			final byte[] copy = new byte[data.remaining()];
+			data.get(copy);
+			send(copy);
+			return;
+		}
+		final var os = socket.getOutputStream();
+		os.write(data.array(), data.arrayOffset() + data.position(), data.remaining());
+		os.flush();
+		data.position(data.limit());
+	}
+
 	@Override
 	public synchronized void connect() throws IOException {
 		if (!socket.isConnected()) {
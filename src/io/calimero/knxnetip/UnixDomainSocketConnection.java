@@ -92,6 +92,12 @@ public final class UnixDomainSocketConnection extends StreamConnection {
 	@Override
 	void send(final byte[] data) throws IOException { channel.write(ByteBuffer.wrap(data)); }
 
+	@Override
+	void send(final ByteBuffer data) throws IOException {
+		while (data.hasRemaining())
+			channel.write(data);
+	}
+
 	@Override
 	boolean streamClosed() { return !channel.isOpen(); }
 
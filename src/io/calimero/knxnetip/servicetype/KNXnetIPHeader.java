@@ -36,7 +36,6 @@
 
 package io.calimero.knxnetip.servicetype;
 
-import java.io.ByteArrayOutputStream;
 import java.nio.ByteBuffer;
 
 import io.calimero.KNXFormatException;
@@ -332,14 +331,19 @@ public class KNXnetIPHeader
 	 */
 	public byte[] toByteArray()
 	{
-		final ByteArrayOutputStream os = new ByteArrayOutputStream();
-		os.write(headersize);
-		os.write(version);
-		os.write(service >> 8);
-		os.write(service);
-		os.write(totalsize >> 8);
-		os.write(totalsize);
-		return os.toByteArray();
+		final ByteBuffer buffer = ByteBuffer.allocate(headersize);
+		writeTo(buffer);
+		return buffer.array();
+	}
+
+	/**
+	 * Writes the KNXnet/IP header structure into {@code buffer}, starting at the buffer's current position.
+	 *
+	 * @param buffer buffer to write to, with at least {@link #getStructLength()} bytes remaining
+	 */
+	public void writeTo(final ByteBuffer buffer)
+	{
+		write(buffer, service, version, totalsize);
 	}
 
 	/**
@@ -354,6 +358,11 @@ public class KNXnetIPHeader
 				+ " v" + (version / 0x10) + "." + (version % 0x10) + ") length " + totalsize;
 	}
 
+	static void write(final ByteBuffer buffer, final int service, final int version, final int totalLength)
+	{
+		buffer.put((byte) HEADER_SIZE_10).put((byte) version).putShort((short) service).putShort((short) totalLength);
+	}
+
 	static String getSvcName(final int svcType)
 	{
 		return switch (svcType) {
@@ -393,7 +402,7 @@ public class KNXnetIPHeader
 		};
 	}
 
-	private static int version(final int serviceType) {
+	static int version(final int serviceType) {
 		return serviceType == ObjectServerRequest || serviceType == ObjectServerAck ? 0x20 : KNXNETIP_VERSION_10;
 	}
 }
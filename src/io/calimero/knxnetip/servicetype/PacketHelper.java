@@ -40,6 +40,7 @@ import java.io.ByteArrayOutputStream;
 import java.nio.ByteBuffer;
 
 import io.calimero.KNXIllegalArgumentException;
+import io.calimero.cemi.CEMI;
 import io.calimero.knxnetip.util.HPAI;
 
 /**
@@ -49,6 +50,9 @@ import io.calimero.knxnetip.util.HPAI;
  */
 public final class PacketHelper
 {
+	private static final int HeaderSize = 6;
+	private static final int ConnectionHeaderSize = 4;
+
 	private PacketHelper() {}
 
 	/**
@@ -74,6 +78,56 @@ public final class PacketHelper
 		return type.toByteArray(os);
 	}
 
+	/**
+	 * Writes a packet with a KNXnet/IP message header v1.0, containing the specified service {@code type}, into
+	 * {@code buffer}, starting at the buffer's current position.
+	 *
+	 * @param buffer the buffer to write the packet to
+	 * @param type service type to pack
+	 * @throws java.nio.BufferOverflowException if the buffer has insufficient space remaining
+	 */
+	public static void writePacket(final ByteBuffer buffer, @SuppressWarnings("exports") final ServiceType type)
+	{
+		final int length = type.length();
+		KNXnetIPHeader.write(buffer, type.svcType, KNXnetIPHeader.version(type.svcType), HeaderSize + length);
+		type.writeTo(buffer);
+	}
+
+	/**
+	 * Writes a routing indication packet carrying {@code frame} into {@code buffer}, starting at the buffer's current
+	 * position. In contrast to {@code toPacket(new RoutingIndication(frame))}, the frame is not copied.
+	 *
+	 * @param buffer the buffer to write the packet to
+	 * @param frame cEMI frame to be routed
+	 * @throws java.nio.BufferOverflowException if the buffer has insufficient space remaining
+	 */
+	public static void writeRoutingIndication(final ByteBuffer buffer, final CEMI frame)
+	{
+		KNXnetIPHeader.write(buffer, KNXnetIPHeader.ROUTING_IND, KNXnetIPHeader.KNXNETIP_VERSION_10,
+				HeaderSize + frame.length());
+		frame.writeTo(buffer);
+	}
+
+	/**
+	 * Writes a connection-oriented service request packet into {@code buffer}, starting at the buffer's current
+	 * position. In contrast to {@code toPacket(new ServiceRequest<>(...))}, the service is not copied.
+	 *
+	 * @param buffer the buffer to write the packet to
+	 * @param serviceType service type identifier of the request
+	 * @param channelId communication channel ID
+	 * @param seq sequence number of the request
+	 * @param service the service carried by the request
+	 * @throws java.nio.BufferOverflowException if the buffer has insufficient space remaining
+	 */
+	public static void writeServiceRequest(final ByteBuffer buffer, final int serviceType, final int channelId,
+		final int seq, @SuppressWarnings("exports") final io.calimero.ServiceType service)
+	{
+		KNXnetIPHeader.write(buffer, serviceType, KNXnetIPHeader.KNXNETIP_VERSION_10,
+				HeaderSize + ConnectionHeaderSize + service.length());
+		ServiceRequest.writeConnectionHeader(buffer, channelId, seq, 0);
+		service.writeTo(buffer);
+	}
+
 	private static final int SecureSessionRequest = 0x0951;
 	private static final int keyLength = 32;
 
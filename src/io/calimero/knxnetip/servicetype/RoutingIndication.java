@@ -37,6 +37,7 @@
 package io.calimero.knxnetip.servicetype;
 
 import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 
 import io.calimero.KNXFormatException;
 import io.calimero.cemi.CEMI;
@@ -108,4 +109,10 @@ public class RoutingIndication extends ServiceType
 		os.write(buf, 0, buf.length);
 		return os.toByteArray();
 	}
+
+	@Override
+	public void writeTo(final ByteBuffer buffer)
+	{
+		cemi.writeTo(buffer);
+	}
 }
@@ -37,6 +37,7 @@
 package io.calimero.knxnetip.servicetype;
 
 import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 
 import io.calimero.KNXFormatException;
 import io.calimero.KNXIllegalArgumentException;
@@ -176,4 +177,10 @@ public class ServiceAck extends ServiceType
 		os.write(status);
 		return os.toByteArray();
 	}
+
+	@Override
+	public void writeTo(final ByteBuffer buffer)
+	{
+		ServiceRequest.writeConnectionHeader(buffer, channelid, seq, status);
+	}
 }
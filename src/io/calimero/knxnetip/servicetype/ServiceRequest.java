@@ -225,4 +225,16 @@ public class ServiceRequest<T extends ServiceType> extends io.calimero.knxnetip.
 		os.write(buf, 0, buf.length);
 		return os.toByteArray();
 	}
+
+	@Override
+	public void writeTo(final ByteBuffer buffer)
+	{
+		writeConnectionHeader(buffer, channelid, seq, 0);
+		service().writeTo(buffer);
+	}
+
+	static void writeConnectionHeader(final ByteBuffer buffer, final int channelId, final int seq, final int status)
+	{
+		buffer.put((byte) CONN_HEADER_SIZE).put((byte) channelId).put((byte) seq).put((byte) status);
+	}
 }
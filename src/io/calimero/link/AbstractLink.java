@@ -308,6 +308,14 @@ public abstract class AbstractLink<T extends AutoCloseable> implements KNXNetwor
 		notifier.removeListener(l);
 	}
 
+	/**
+	 * Returns the notifier dispatching the events of this link to its listeners, e.g., to configure the overflow
+	 * policy of the event queue or to query the number of queued and dropped events.
+	 *
+	 * @return the event notifier of this link
+	 */
+	public final EventNotifier<NetworkLinkListener> eventNotifier() { return notifier; }
+
 	@Override
 	public final void setHopCount(final int count)
 	{
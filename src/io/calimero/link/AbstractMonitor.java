@@ -191,6 +191,14 @@ public abstract class AbstractMonitor<T extends AutoCloseable> implements KNXNet
 		notifier.removeListener(l);
 	}
 
+	/**
+	 * Returns the notifier dispatching the events of this monitor to its listeners, e.g., to configure the overflow
+	 * policy of the event queue or to query the number of queued and dropped events.
+	 *
+	 * @return the event notifier of this monitor
+	 */
+	public final EventNotifier<LinkListener> eventNotifier() { return notifier; }
+
 	@Override
 	public final void setDecodeRawFrames(final boolean decode)
 	{
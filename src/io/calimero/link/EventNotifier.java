@@ -36,27 +36,67 @@
 
 package io.calimero.link;
 
+import static java.lang.System.Logger.Level.WARNING;
+
 import java.lang.System.Logger;
+import java.util.ArrayDeque;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
 
 import io.calimero.CloseEvent;
 import io.calimero.FrameEvent;
+import io.calimero.KNXIllegalArgumentException;
 import io.calimero.KNXListener;
 import io.calimero.internal.EventListeners;
 import io.calimero.internal.Executor;
 
 /**
  * Threaded event notifier for network link and monitor.
+ * <p>
+ * Events are queued in a bounded queue and dispatched to the listeners by a single notifier thread, preserving the
+ * order in which events were added (i.e., the order frames were received). The notifier thread is only running while
+ * there are events pending. If the queue is full, the configured {@link OverflowPolicy} applies; close events are
+ * always queued. By default, the oldest queued event is discarded, so that adding an event never blocks the link
+ * receiver.
  *
  * @author B. Malinowsky
  */
 public abstract class EventNotifier<T extends LinkListener> implements KNXListener
 {
+	/**
+	 * Policy for adding an event to an event queue which has reached its capacity.
+	 */
+	public enum OverflowPolicy {
+		/**
+		 * Block the thread adding the event until the queue has space available. The thread adding events is usually
+		 * the receiver of the link, which is then also blocked from handling acknowledgments and confirmations, i.e.,
+		 * listeners must not wait on link responses when using this policy.
+		 */
+		Block,
+		/** Discard the oldest queued event, and add the new event. */
+		DropOldest,
+		/** Discard the new event. */
+		DropNewest
+	}
+
+	/** Default capacity of the event queue. */
+	public static final int DefaultCapacity = 1000;
+
 	final Logger logger;
 	final Object source;
 
 	private final EventListeners<T> listeners = new EventListeners<>(LinkEvent.class);
 
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Condition notFull = lock.newCondition();
+	private final ArrayDeque<Consumer<? super T>> queue = new ArrayDeque<>();
+	private OverflowPolicy policy = OverflowPolicy.DropOldest;
+	private int capacity = DefaultCapacity;
+	private long dropped;
+	// set while notifier thread is dispatching events
+	private Thread notifierThread;
+
 	EventNotifier(final Object source, final Logger logger)
 	{
 		this.logger = logger;
@@ -69,7 +109,66 @@ public abstract class EventNotifier<T extends LinkListener> implements KNXListen
 	@Override
 	public void connectionClosed(final CloseEvent e)
 	{
-		addEvent(l -> l.linkClosed(new CloseEvent(source, e.getInitiator(), e.getReason())));
+		addEvent(l -> l.linkClosed(new CloseEvent(source, e.getInitiator(), e.getReason())), true);
+	}
+
+	/**
+	 * Sets the policy and capacity of the event queue. Reducing the capacity does not remove already queued events.
+	 *
+	 * @param policy policy to apply if the event queue is full
+	 * @param capacity maximum number of queued events, {@code capacity > 0}
+	 */
+	public final void overflowPolicy(final OverflowPolicy policy, final int capacity) {
+		if (capacity <= 0)
+			throw new KNXIllegalArgumentException("event queue capacity " + capacity + " <= 0");
+		lock.lock();
+		try {
+			this.policy = policy;
+			this.capacity = capacity;
+			notFull.signalAll();
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * @return the policy applied if the event queue is full
+	 */
+	public final OverflowPolicy overflowPolicy() {
+		lock.lock();
+		try {
+			return policy;
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * @return number of events currently queued for dispatch
+	 */
+	public final int queuedEvents() {
+		lock.lock();
+		try {
+			return queue.size();
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * @return number of events discarded due to an event queue overflow, since creation of this notifier
+	 */
+	public final long droppedEvents() {
+		lock.lock();
+		try {
+			return dropped;
+		}
+		finally {
+			lock.unlock();
+		}
 	}
 
 	public EventListeners<T> getListeners()
@@ -89,13 +188,69 @@ public abstract class EventNotifier<T extends LinkListener> implements KNXListen
 		addEvent(cec);
 	}
 
-	final void addEvent(final Consumer<? super T> c)
+	final void addEvent(final Consumer<? super T> c) { addEvent(c, false); }
+
+	private void addEvent(final Consumer<? super T> c, final boolean force)
 	{
-		final var name = "Calimero link notifier";
-		if (c instanceof CustomEventConsumer)
-			Executor.execute(() -> fireCustomEvent(c), name);
-		else
-			Executor.execute(() -> fire(c), name);
+		lock.lock();
+		try {
+			// never block the notifier thread itself, a listener might trigger new events
+			final boolean mayBlock = !force && Thread.currentThread() != notifierThread;
+			while (queue.size() >= capacity && mayBlock && policy == OverflowPolicy.Block)
+				notFull.awaitUninterruptibly();
+
+			if (queue.size() >= capacity && !force) {
+				if (policy == OverflowPolicy.DropNewest) {
+					countDropped();
+					return;
+				}
+				if (policy == OverflowPolicy.DropOldest) {
+					queue.poll();
+					countDropped();
+				}
+			}
+			queue.add(c);
+			if (notifierThread == null)
+				notifierThread = Executor.execute(this::dispatchEvents, "Calimero link notifier");
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	// lock is held by caller
+	private void countDropped() {
+		final long total = ++dropped;
+		if (total == 1 || total % 1000 == 0)
+			logger.log(WARNING, "event queue full ({0} events), {1} events dropped so far", capacity, total);
+	}
+
+	private void dispatchEvents() {
+		while (true) {
+			final Consumer<? super T> c;
+			lock.lock();
+			try {
+				c = queue.poll();
+				if (c == null) {
+					notifierThread = null;
+					return;
+				}
+				notFull.signal();
+			}
+			finally {
+				lock.unlock();
+			}
+
+			try {
+				if (c instanceof CustomEventConsumer)
+					fireCustomEvent(c);
+				else
+					fire(c);
+			}
+			catch (final RuntimeException e) {
+				logger.log(WARNING, "dispatching event", e);
+			}
+		}
 	}
 
 	final void addListener(final T l)
@@ -0,0 +1,450 @@
+/*
+    Calimero 3 - A library for KNX network access
+    Copyright (c) 2026 B. Malinowsky
+
+    This program is free software; you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation; either version 2 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program; if not, write to the Free Software
+    Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+
+    Linking this library statically or dynamically with other modules is
+    making a combined work based on this library. Thus, the terms and
+    conditions of the GNU General Public License cover the whole
+    combination.
+
+    As a special exception, the copyright holders of this library give you
+    permission to link this library with independent modules to produce an
+    executable, regardless of the license terms of these independent
+    modules, and to copy and distribute the resulting executable under terms
+    of your choice, provided that you also meet, for each linked independent
+    module, the terms and conditions of the license of that module. An
+    independent module is a module which is not derived from or based on
+    this library. If you modify this library, you may extend this exception
+    to your version of the library, but you are not obligated to do so. If
+    you do not wish to do so, delete this exception statement from your
+    version.
+*/
+
+package io.calimero.link;
+
+import static java.lang.System.Logger.Level.DEBUG;
+import static java.lang.System.Logger.Level.WARNING;
+
+import java.lang.System.Logger;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.calimero.CloseEvent;
+import io.calimero.FrameEvent;
+import io.calimero.IndividualAddress;
+import io.calimero.KNXAddress;
+import io.calimero.KNXException;
+import io.calimero.KNXIllegalArgumentException;
+import io.calimero.KNXTimeoutException;
+import io.calimero.Priority;
+import io.calimero.cemi.CEMILData;
+import io.calimero.internal.EventListeners;
+import io.calimero.knxnetip.StreamConnection;
+import io.calimero.link.Connector.TSupplier;
+import io.calimero.link.medium.KNXMediumSettings;
+import io.calimero.link.medium.PLSettings;
+import io.calimero.link.medium.RFSettings;
+import io.calimero.log.LogService;
+
+/**
+ * Network link distributing KNX messages over a pool of links to the same KNX network, typically several KNXnet/IP
+ * tunnels to the same server.
+ * <p>
+ * A single tunnel delivers at most one frame per tunneling acknowledgment round trip. With a pool, sending to
+ * different destinations proceeds in parallel over the pooled links. All messages to the same destination address
+ * use the same link, preserving their order. If a pooled link gets closed, messages fail over to the next open
+ * link.<br>
+ * Indications are merged: every KNX frame is notified once, even if received on several pooled links. Frames sent
+ * by a link of this pool and received on other pooled links are not notified, same as with a single link.
+ * Confirmations are notified for each sent message.
+ * <p>
+ * Pooled links are not reconnected; to do so, create them using a {@link Connector}. The pool closes when the last
+ * pooled link got closed.
+ *
+ * @author B. Malinowsky
+ */
+public final class KNXNetworkLinkPool implements KNXNetworkLink
+{
+	private static final int MaxLinks = 64;
+	// max. delay of an indication received on one link to the same indication received on another link
+	private static final long DuplicateWindow = 1_000_000_000L; // [ns]
+
+	@FunctionalInterface
+	private interface Send
+	{
+		void send(KNXNetworkLink link) throws KNXTimeoutException, KNXLinkClosedException;
+	}
+
+	private record FrameKey(IndividualAddress src, KNXAddress dst, ByteBuffer tpdu) {}
+
+	// counts frame occurrences per pooled link, the number of distinct occurrences is the max. count of all links
+	private static final class Occurrences
+	{
+		final int[] counts;
+		int notified;
+		long lastSeen;
+
+		Occurrences(final int links) { counts = new int[links]; }
+	}
+
+	private final KNXNetworkLink[] links;
+	private final String name;
+	private final Logger logger;
+	private final EventListeners<NetworkLinkListener> listeners = new EventListeners<>();
+
+	// bit set of pooled links which are open
+	private long open;
+	private final Map<FrameKey, Occurrences> received = new LinkedHashMap<>(64, 0.75f, true);
+
+	private volatile boolean closed;
+
+	/**
+	 * Creates a new pool of KNXnet/IP tunneling links (UDP) to a KNXnet/IP server.
+	 *
+	 * @param tunnels number of tunnels to open, {@code 0 < tunnels <= 64}
+	 * @param localEP the local control endpoint used by every tunnel, with an ephemeral port number if more than one
+	 *        tunnel is requested; supply the wildcard address to use a local IP on the same subnet as {@code remoteEP}
+	 * @param remoteEP the KNXnet/IP server control endpoint
+	 * @param useNat {@code true} to use network address translation (NAT) in tunneling service mode,
+	 *        {@code false} to use the default (non-aware) mode
+	 * @param settings medium settings, each tunnel uses its own copy
+	 * @return the link pool in open state
+	 * @throws KNXException on failure establishing the first tunnel
+	 * @throws InterruptedException on interrupted thread while establishing the tunnels
+	 * @see #newPool(int, TSupplier)
+	 */
+	public static KNXNetworkLinkPool newTunnelingPool(final int tunnels, final InetSocketAddress localEP,
+		final InetSocketAddress remoteEP, final boolean useNat, final KNXMediumSettings settings)
+		throws KNXException, InterruptedException
+	{
+		if (tunnels > 1 && localEP.getPort() != 0)
+			throw new KNXIllegalArgumentException("local endpoint " + localEP + " requires ephemeral port for "
+					+ tunnels + " tunnels");
+		return newPool(tunnels, () -> KNXNetworkLinkIP.newTunnelingLink(localEP, remoteEP, useNat, copy(settings)));
+	}
+
+	/**
+	 * Creates a new pool of KNXnet/IP tunneling links sharing the TCP connection to a KNXnet/IP server. For more than
+	 * one tunnel, use device address 0.0.0 in the medium settings to let the server assign the tunneling addresses.
+	 *
+	 * @param tunnels number of tunnels to open, {@code 0 < tunnels <= 64}
+	 * @param connection the stream connection to the server; closing the pool will not close that connection
+	 * @param settings medium settings, each tunnel uses its own copy
+	 * @return the link pool in open state
+	 * @throws KNXException on failure establishing the first tunnel
+	 * @throws InterruptedException on interrupted thread while establishing the tunnels
+	 * @see #newPool(int, TSupplier)
+	 */
+	public static KNXNetworkLinkPool newTunnelingPool(final int tunnels, final StreamConnection connection,
+		final KNXMediumSettings settings) throws KNXException, InterruptedException
+	{
+		return newPool(tunnels, () -> KNXNetworkLinkIP.newTunnelingLink(connection, copy(settings)));
+	}
+
+	/**
+	 * Creates a new pool of up to {@code size} links, each one supplied by {@code creator}. All links have to access
+	 * the same KNX network. If the server runs out of free connections after the first link was established, the pool
+	 * continues with the links established so far.
+	 *
+	 * @param size number of links to create, {@code 0 < size <= 64}
+	 * @param creator supplies a new link in open state
+	 * @return the link pool in open state
+	 * @throws KNXException on failure creating the first link
+	 * @throws InterruptedException on interrupted thread while creating the links
+	 */
+	public static KNXNetworkLinkPool newPool(final int size, final TSupplier<? extends KNXNetworkLink> creator)
+		throws KNXException, InterruptedException
+	{
+		if (size <= 0 || size > MaxLinks)
+			throw new KNXIllegalArgumentException("pool size " + size + " not in [1, " + MaxLinks + "]");
+		final List<KNXNetworkLink> links = new ArrayList<>(size);
+		try {
+			for (int i = 0; i < size; i++)
+				links.add(creator.get());
+		}
+		catch (final KNXException e) {
+			if (links.isEmpty())
+				throw e;
+			LogService.getLogger("io.calimero.link." + links.get(0).getName())
+					.log(WARNING, "established {0} of {1} pooled links: {2}", links.size(), size, e.getMessage());
+		}
+		catch (InterruptedException | RuntimeException e) {
+			links.forEach(KNXNetworkLink::close);
+			throw e;
+		}
+		return new KNXNetworkLinkPool(links);
+	}
+
+	KNXNetworkLinkPool(final List<? extends KNXNetworkLink> links)
+	{
+		this.links = links.toArray(KNXNetworkLink[]::new);
+		name = "pool " + this.links[0].getName();
+		logger = LogService.getLogger("io.calimero.link." + name);
+		synchronized (received) {
+			open = this.links.length == MaxLinks ? -1 : (1L << this.links.length) - 1;
+		}
+		for (int i = 0; i < this.links.length; i++) {
+			final int index = i;
+			this.links[i].addLinkListener(new NetworkLinkListener() {
+				@Override
+				public void indication(final FrameEvent e) { onIndication(index, e); }
+
+				@Override
+				public void confirmation(final FrameEvent e) { onConfirmation(e); }
+
+				@Override
+				public void linkClosed(final CloseEvent e) { onLinkClosed(index, e); }
+			});
+		}
+	}
+
+	/**
+	 * @return the pooled links, including closed ones
+	 */
+	public List<KNXNetworkLink> links()
+	{
+		return List.of(links);
+	}
+
+	/**
+	 * Returns the medium settings of the first open pooled link; every pooled link uses its own medium settings.
+	 */
+	@Override
+	public KNXMediumSettings getKNXMedium()
+	{
+		for (final var link : links)
+			if (link.isOpen())
+				return link.getKNXMedium();
+		return links[0].getKNXMedium();
+	}
+
+	@Override
+	public void addLinkListener(final NetworkLinkListener l)
+	{
+		listeners.add(l);
+	}
+
+	@Override
+	public void removeLinkListener(final NetworkLinkListener l)
+	{
+		listeners.remove(l);
+	}
+
+	@Override
+	public void setHopCount(final int count)
+	{
+		for (final var link : links)
+			link.setHopCount(count);
+	}
+
+	@Override
+	public int getHopCount()
+	{
+		return links[0].getHopCount();
+	}
+
+	@Override
+	public void sendRequest(final KNXAddress dst, final Priority p, final byte... nsdu)
+		throws KNXTimeoutException, KNXLinkClosedException
+	{
+		send(dst, link -> link.sendRequest(dst, p, nsdu));
+	}
+
+	@Override
+	public void sendRequestWait(final KNXAddress dst, final Priority p, final byte... nsdu)
+		throws KNXTimeoutException, KNXLinkClosedException
+	{
+		send(dst, link -> link.sendRequestWait(dst, p, nsdu));
+	}
+
+	@Override
+	public void send(final CEMILData msg, final boolean waitForCon)
+		throws KNXTimeoutException, KNXLinkClosedException
+	{
+		send(msg.getDestination(), link -> link.send(msg, waitForCon));
+	}
+
+	@Override
+	public String getName()
+	{
+		return name;
+	}
+
+	@Override
+	public boolean isOpen()
+	{
+		return !closed;
+	}
+
+	@Override
+	public void close()
+	{
+		if (closed)
+			return;
+		closed = true;
+		for (final var link : links)
+			link.close();
+		fireClosed(CloseEvent.USER_REQUEST, "user request");
+	}
+
+	@Override
+	public String toString()
+	{
+		return name + " (" + Long.bitCount(openLinks()) + "/" + links.length + " open)";
+	}
+
+	// all messages to the same destination use the same link as long as that link is open
+	private void send(final KNXAddress dst, final Send send) throws KNXTimeoutException, KNXLinkClosedException
+	{
+		if (closed)
+			throw new KNXLinkClosedException("link closed");
+		final int start = Math.floorMod(dst.hashCode(), links.length);
+		KNXLinkClosedException failed = null;
+		for (int i = 0; i < links.length; i++) {
+			final var link = links[(start + i) % links.length];
+			if (!link.isOpen())
+				continue;
+			try {
+				send.send(link);
+				return;
+			}
+			catch (final KNXLinkClosedException e) {
+				logger.log(WARNING, "{0} closed, fail over to next link", link.getName());
+				failed = e;
+			}
+		}
+		if (failed != null)
+			throw failed;
+		throw new KNXLinkClosedException("no open link in " + name);
+	}
+
+	private void onIndication(final int index, final FrameEvent e)
+	{
+		if (closed)
+			return;
+		if (e.getFrame() instanceof final CEMILData ldata) {
+			if (sentByPool(ldata.getSource()) || !firstOccurrence(index, ldata))
+				return;
+			final var event = new FrameEvent(this, ldata, e.systemBroadcast(), e.security().orElse(null));
+			listeners.fire(l -> l.indication(event));
+		}
+		else {
+			final var event = new FrameEvent(this, e.getFrame(), e.systemBroadcast(), e.security().orElse(null));
+			listeners.fire(l -> l.indication(event));
+		}
+	}
+
+	private void onConfirmation(final FrameEvent e)
+	{
+		if (closed)
+			return;
+		final var event = new FrameEvent(this, e.getFrame(), e.systemBroadcast(), e.security().orElse(null));
+		listeners.fire(l -> l.confirmation(event));
+	}
+
+	private void onLinkClosed(final int index, final CloseEvent e)
+	{
+		if (closed)
+			return;
+		final long remaining;
+		synchronized (received) {
+			open &= ~(1L << index);
+			remaining = open;
+		}
+		logger.log(DEBUG, "{0} closed ({1}), {2} of {3} links open", links[index].getName(), e.getReason(),
+				Long.bitCount(remaining), links.length);
+		if (remaining == 0) {
+			closed = true;
+			fireClosed(CloseEvent.INTERNAL, "all pooled links closed");
+		}
+	}
+
+	private void fireClosed(final int initiator, final String reason)
+	{
+		final var event = new CloseEvent(this, initiator, reason);
+		listeners.fire(l -> l.linkClosed(event));
+		listeners.removeAll();
+	}
+
+	private boolean sentByPool(final IndividualAddress src)
+	{
+		for (final var link : links) {
+			final var medium = link.getKNXMedium();
+			if (medium.getDeviceAddress().equals(src) || medium.assignedAddress().map(src::equals).orElse(false))
+				return true;
+		}
+		return false;
+	}
+
+	private boolean firstOccurrence(final int index, final CEMILData ldata)
+	{
+		final var key = new FrameKey(ldata.getSource(), ldata.getDestination(), ByteBuffer.wrap(ldata.getPayload()));
+		final long now = System.nanoTime();
+		synchronized (received) {
+			// map is in access order, stale entries are at the head
+			for (final Iterator<Occurrences> i = received.values().iterator(); i.hasNext();) {
+				if (now - i.next().lastSeen < DuplicateWindow)
+					break;
+				i.remove();
+			}
+
+			final var occurrences = received.computeIfAbsent(key, __ -> new Occurrences(links.length));
+			occurrences.lastSeen = now;
+			final int count = ++occurrences.counts[index];
+			final boolean first = count > occurrences.notified;
+			if (first)
+				occurrences.notified = count;
+			if (allReceived(occurrences))
+				received.remove(key);
+			return first;
+		}
+	}
+
+	private boolean allReceived(final Occurrences occurrences)
+	{
+		for (int i = 0; i < links.length; i++)
+			if ((open & (1L << i)) != 0 && occurrences.counts[i] < occurrences.notified)
+				return false;
+		return true;
+	}
+
+	private long openLinks()
+	{
+		synchronized (received) {
+			return open;
+		}
+	}
+
+	// copies the medium-specific settings, except for an address assigned to the link
+	private static KNXMediumSettings copy(final KNXMediumSettings settings)
+	{
+		final var device = settings.getDeviceAddress();
+		final var copy = switch (settings) {
+			case final PLSettings pl -> new PLSettings(device, pl.getDomainAddress());
+			case final RFSettings rf -> new RFSettings(device, rf.getDomainAddress(), rf.serialNumber(),
+					rf.isUnidirectional());
+			default -> KNXMediumSettings.create(settings.getMedium(), device);
+		};
+		copy.setMaxApduLength(settings.maxApduLength());
+		return copy;
+	}
+}
@@ -0,0 +1,309 @@
+/*
+    Calimero 3 - A library for KNX network access
+    Copyright (c) 2026 B. Malinowsky
+
+    This program is free software; you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation; either version 2 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program; if not, write to the Free Software
+    Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+
+    Linking this library statically or dynamically with other modules is
+    making a combined work based on this library. Thus, the terms and
+    conditions of the GNU General Public License cover the whole
+    combination.
+
+    As a special exception, the copyright holders of this library give you
+    permission to link this library with independent modules to produce an
+    executable, regardless of the license terms of these independent
+    modules, and to copy and distribute the resulting executable under terms
+    of your choice, provided that you also meet, for each linked independent
+    module, the terms and conditions of the license of that module. An
+    independent module is a module which is not derived from or based on
+    this library. If you modify this library, you may extend this exception
+    to your version of the library, but you are not obligated to do so. If
+    you do not wish to do so, delete this exception statement from your
+    version.
+*/
+
+package io.calimero.link;
+
+import static io.calimero.link.MonitorCapture.BlockSize;
+import static io.calimero.link.MonitorCapture.HeaderSize;
+import static io.calimero.link.MonitorCapture.IndexEntrySize;
+import static io.calimero.link.MonitorCapture.RecordHeaderSize;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import io.calimero.CloseEvent;
+import io.calimero.IndividualAddress;
+import io.calimero.KNXFormatException;
+import io.calimero.KNXIllegalArgumentException;
+import io.calimero.cemi.CEMIBusMon;
+import io.calimero.internal.EventListeners;
+import io.calimero.link.medium.KNXMediumSettings;
+import io.calimero.link.medium.RawFrame;
+import io.calimero.link.medium.RawFrameFactory;
+
+/**
+ * Network monitor replaying the busmonitor indications of a capture file created by {@link MonitorCapture}.
+ * Indications are notified as {@link CapturedFrameEvent}s, either at the pace of the original capture or
+ * accelerated.
+ *
+ * @author B. Malinowsky
+ */
+public final class KNXNetworkMonitorReplay implements KNXNetworkMonitor
+{
+	/**
+	 * Monitor frame event of a replayed busmonitor indication, providing the original capture time.
+	 */
+	public static final class CapturedFrameEvent extends MonitorFrameEvent
+	{
+		private final Instant captured;
+
+		CapturedFrameEvent(final KNXNetworkMonitor source, final CEMIBusMon frame, final Instant captured) {
+			super(source, frame);
+			this.captured = captured;
+		}
+
+		CapturedFrameEvent(final KNXNetworkMonitor source, final CEMIBusMon frame,
+				final RawFrame rawFrame, final Instant captured) {
+			super(source, frame, rawFrame);
+			this.captured = captured;
+		}
+
+		CapturedFrameEvent(final KNXNetworkMonitor source, final CEMIBusMon frame,
+				final KNXFormatException decodeError, final Instant captured) {
+			super(source, frame, decodeError);
+			this.captured = captured;
+		}
+
+		/**
+		 * {@return the time the busmonitor indication was captured}
+		 */
+		public Instant captureTime() { return captured; }
+	}
+
+	private final String name;
+	private final FileChannel channel;
+	private final MappedByteBuffer buffer;
+	private final int dataStart;
+	// used blocks in capture order
+	private final int[] blocks;
+	private final KNXMediumSettings medium;
+	private final boolean extBusmon;
+
+	private final EventListeners<LinkListener> listeners = new EventListeners<>();
+	private volatile boolean decodeRawFrames;
+	private volatile boolean closed;
+
+	/**
+	 * Opens a capture file for replay.
+	 *
+	 * @param capture capture file created by {@link MonitorCapture}
+	 * @throws IOException on error mapping the capture file, or if the file is no valid capture file
+	 */
+	public KNXNetworkMonitorReplay(final Path capture) throws IOException
+	{
+		name = "replay " + capture.getFileName();
+		channel = FileChannel.open(capture);
+		try {
+			buffer = channel.map(MapMode.READ_ONLY, 0, channel.size());
+			buffer.order(ByteOrder.BIG_ENDIAN);
+			if (buffer.capacity() < HeaderSize || buffer.getInt(0) != MonitorCapture.Magic
+					|| buffer.getShort(4) != MonitorCapture.Version || buffer.getInt(8) != BlockSize)
+				throw new IOException(capture + " is no monitor capture file");
+			final int count = buffer.getInt(12);
+			extBusmon = (buffer.getShort(6) & MonitorCapture.ExtBusmonFlag) != 0;
+			dataStart = MonitorCapture.dataStart(count);
+			if (count < 0 || buffer.capacity() != dataStart + (long) count * BlockSize)
+				throw new IOException(capture + " has invalid size");
+
+			blocks = IntStream.range(0, count).filter(i -> sequence(i) != 0).boxed()
+					.sorted(Comparator.comparingLong(this::sequence)).mapToInt(Integer::intValue).toArray();
+			final int m = blocks.length > 0 ? buffer.get(dataStart + blocks[0] * BlockSize + 2) & 0xff
+					: KNXMediumSettings.MEDIUM_TP1;
+			medium = KNXMediumSettings.create(m, KNXMediumSettings.BackboneRouter);
+		}
+		catch (IOException | RuntimeException e) {
+			channel.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * {@return the capture time of the first captured indication, or empty if the capture is empty}
+	 */
+	public Optional<Instant> start()
+	{
+		if (blocks.length == 0)
+			return Optional.empty();
+		return Optional.of(instant(buffer.getLong(HeaderSize + blocks[0] * IndexEntrySize + 8)));
+	}
+
+	/**
+	 * Replays the captured indications starting at capture time {@code from}, and returns after the last captured
+	 * indication got notified. The delays between notified indications correspond to their capture times divided by
+	 * {@code speed}.
+	 *
+	 * @param from capture time of the first indication to replay, use {@link Instant#MIN} to replay all
+	 * @param speed replay speed relative to the original pace, {@code speed > 0}; use
+	 *        {@link Double#POSITIVE_INFINITY} to notify indications without delay
+	 * @throws InterruptedException on interrupted thread
+	 */
+	public void replay(final Instant from, final double speed) throws InterruptedException
+	{
+		if (!(speed > 0))
+			throw new KNXIllegalArgumentException("replay speed " + speed + " <= 0");
+		final long fromMicros = from.isBefore(Instant.EPOCH) ? Long.MIN_VALUE
+				: ChronoUnit.MICROS.between(Instant.EPOCH, from);
+		long firstRecord = Long.MIN_VALUE;
+		long replayStart = 0;
+		for (int i = seek(fromMicros); i < blocks.length && !closed; i++) {
+			final int start = dataStart + blocks[i] * BlockSize;
+			for (int pos = 0, length; pos + 2 <= BlockSize && (length = buffer.getShort(start + pos) & 0xffff) != 0;
+					pos += length) {
+				final int offset = start + pos;
+				final long micros = buffer.getLong(offset + 8);
+				if (micros < fromMicros)
+					continue;
+				if (firstRecord == Long.MIN_VALUE) {
+					firstRecord = micros;
+					replayStart = System.nanoTime();
+				}
+				else if (speed != Double.POSITIVE_INFINITY) {
+					final long due = replayStart + (long) ((micros - firstRecord) * 1000 / speed);
+					TimeUnit.NANOSECONDS.sleep(due - System.nanoTime());
+				}
+				if (closed)
+					return;
+				notify(offset, length, micros);
+			}
+		}
+	}
+
+	@Override
+	public void addMonitorListener(final LinkListener l)
+	{
+		listeners.add(l);
+	}
+
+	@Override
+	public void removeMonitorListener(final LinkListener l)
+	{
+		listeners.remove(l);
+	}
+
+	@Override
+	public void setDecodeRawFrames(final boolean decode)
+	{
+		decodeRawFrames = decode;
+	}
+
+	@Override
+	public KNXMediumSettings getKNXMedium()
+	{
+		return medium;
+	}
+
+	@Override
+	public String getName()
+	{
+		return name;
+	}
+
+	@Override
+	public boolean isOpen()
+	{
+		return !closed;
+	}
+
+	@Override
+	public void close()
+	{
+		if (closed)
+			return;
+		closed = true;
+		try {
+			channel.close();
+		}
+		catch (final IOException ignore) {}
+		final var event = new CloseEvent(this, CloseEvent.USER_REQUEST, "user request");
+		listeners.fire(l -> l.linkClosed(event));
+	}
+
+	@Override
+	public String toString()
+	{
+		return name + ", " + blocks.length + " blocks";
+	}
+
+	private void notify(final int offset, final int length, final long micros)
+	{
+		final int m = buffer.get(offset + 2) & 0xff;
+		final int status = buffer.get(offset + 3) & 0xff;
+		final boolean extTimestamp = buffer.get(offset + 4) == CEMIBusMon.TYPEID_TIMESTAMP_EXT;
+		final long timestamp = buffer.getInt(offset + 16) & (extTimestamp ? 0xffffffffL : 0xffff);
+		final byte[] raw = new byte[length - RecordHeaderSize];
+		buffer.get(offset + RecordHeaderSize, raw);
+
+		final var frame = CEMIBusMon.newWithStatus(status, timestamp, extTimestamp, raw);
+		final var captured = instant(micros);
+		CapturedFrameEvent event = new CapturedFrameEvent(this, frame, captured);
+		if (decodeRawFrames) {
+			try {
+				event = new CapturedFrameEvent(this, frame, RawFrameFactory.create(m, raw, 0, extBusmon), captured);
+			}
+			catch (final KNXFormatException e) {
+				event = new CapturedFrameEvent(this, frame, e, captured);
+			}
+		}
+		final var e = event;
+		listeners.fire(l -> l.indication(e));
+	}
+
+	// returns the index into blocks of the last block with its first record captured before the requested time,
+	// all records of earlier blocks are captured before that time
+	private int seek(final long micros)
+	{
+		int low = 0;
+		int high = blocks.length - 1;
+		while (low <= high) {
+			final int mid = (low + high) >>> 1;
+			if (buffer.getLong(HeaderSize + blocks[mid] * IndexEntrySize + 8) < micros)
+				low = mid + 1;
+			else
+				high = mid - 1;
+		}
+		return Math.max(0, high);
+	}
+
+	private long sequence(final int block)
+	{
+		return buffer.getLong(HeaderSize + block * IndexEntrySize);
+	}
+
+	private static Instant instant(final long micros)
+	{
+		return Instant.EPOCH.plus(micros, ChronoUnit.MICROS);
+	}
+}
@@ -0,0 +1,272 @@
+/*
+    Calimero 3 - A library for KNX network access
+    Copyright (c) 2026 B. Malinowsky
+
+    This program is free software; you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation; either version 2 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program; if not, write to the Free Software
+    Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+
+    Linking this library statically or dynamically with other modules is
+    making a combined work based on this library. Thus, the terms and
+    conditions of the GNU General Public License cover the whole
+    combination.
+
+    As a special exception, the copyright holders of this library give you
+    permission to link this library with independent modules to produce an
+    executable, regardless of the license terms of these independent
+    modules, and to copy and distribute the resulting executable under terms
+    of your choice, provided that you also meet, for each linked independent
+    module, the terms and conditions of the license of that module. An
+    independent module is a module which is not derived from or based on
+    this library. If you modify this library, you may extend this exception
+    to your version of the library, but you are not obligated to do so. If
+    you do not wish to do so, delete this exception statement from your
+    version.
+*/
+
+package io.calimero.link;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import io.calimero.FrameEvent;
+import io.calimero.KNXIllegalArgumentException;
+import io.calimero.cemi.CEMIBusMon;
+import io.calimero.link.medium.KNXMediumSettings;
+
+/**
+ * Captures busmonitor indications into a fixed-size, memory-mapped ring file. Once the file is full, the oldest
+ * indications get overwritten. Add the capture as listener to a {@link KNXNetworkMonitor} to capture its monitor
+ * indications; captured files are replayed using {@link KNXNetworkMonitorReplay}.
+ * <p>
+ * The file consists of a header, an index, and the data region divided into blocks of {@value #BlockSize} bytes.
+ * Every index entry holds the sequence number (0 for an unused block) and the capture time of the first record of
+ * its block, which allows to seek by time without reading the whole file. A block contains consecutive records,
+ * terminated by a record length of 0; a record does not span blocks. All values are in big-endian byte order.
+ * <pre>
+ * header:  magic (4) | version (2) | flags (2) | block size (4) | block count (4) | reserved (16)
+ * index:   block count × { sequence number (8) | capture time of first record [µs since epoch] (8) }
+ * record:  record length (2) | medium (1) | status (1) | timestamp type (1) | reserved (3)
+ *          | capture time [µs since epoch] (8) | busmonitor timestamp (4) | raw frame
+ * </pre>
+ * Flag bit 0 is set if the raw frames are in extended busmonitor format (PL110).<br>
+ * A capture reopened on an existing capture file of the same size continues after the last captured record.
+ * Closing a monitor does not close its capture.
+ *
+ * @author B. Malinowsky
+ */
+public final class MonitorCapture implements LinkListener, AutoCloseable
+{
+	static final int Magic = 0x4b4e5842; // "KNXB"
+	static final int Version = 1;
+	static final int BlockSize = 4096;
+	static final int HeaderSize = 32;
+	static final int IndexEntrySize = 16;
+	static final int RecordHeaderSize = 20;
+	static final int ExtBusmonFlag = 0x01;
+
+	private final FileChannel channel;
+	private final MappedByteBuffer buffer;
+	private final int medium;
+	private final int flags;
+	private final int blocks;
+	private final int dataStart;
+
+	private int block;
+	private int position;
+	private long sequence;
+
+	/**
+	 * Opens a capture file of the specified size, creating the file if necessary; an existing file of different
+	 * size or format is overwritten. Raw frames of medium PL110 are assumed to be in extended busmonitor format,
+	 * like for the busmonitors of this library.
+	 *
+	 * @param file capture file
+	 * @param size capture file size in bytes, providing room for at least two blocks
+	 * @param medium KNX medium of captured indications for which the monitor does not provide medium settings, see
+	 *        {@link io.calimero.link.medium.KNXMediumSettings}
+	 * @return the monitor capture
+	 * @throws IOException on error opening or mapping the capture file
+	 */
+	public static MonitorCapture open(final Path file, final long size, final int medium) throws IOException
+	{
+		return open(file, size, medium, medium == KNXMediumSettings.MEDIUM_PL110);
+	}
+
+	/**
+	 * Opens a capture file of the specified size, creating the file if necessary; an existing file of different
+	 * size or format is overwritten.
+	 *
+	 * @param file capture file
+	 * @param size capture file size in bytes, providing room for at least two blocks
+	 * @param medium KNX medium of captured indications for which the monitor does not provide medium settings, see
+	 *        {@link io.calimero.link.medium.KNXMediumSettings}
+	 * @param extBusmon {@code true} if captured raw frames are in extended busmonitor format, {@code false}
+	 *        otherwise
+	 * @return the monitor capture
+	 * @throws IOException on error opening or mapping the capture file
+	 */
+	public static MonitorCapture open(final Path file, final long size, final int medium, final boolean extBusmon)
+		throws IOException
+	{
+		final long blocks = (size - HeaderSize) / (BlockSize + IndexEntrySize);
+		if (blocks < 2 || blocks > Integer.MAX_VALUE / BlockSize - 1)
+			throw new KNXIllegalArgumentException("unsupported capture file size " + size);
+		return new MonitorCapture(file, (int) blocks, medium, extBusmon ? ExtBusmonFlag : 0);
+	}
+
+	private MonitorCapture(final Path file, final int blocks, final int medium, final int flags) throws IOException
+	{
+		this.medium = medium;
+		this.flags = flags;
+		this.blocks = blocks;
+		dataStart = dataStart(blocks);
+		final long size = (long) dataStart + (long) blocks * BlockSize;
+		channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+		final boolean resume = channel.size() == size;
+		// a larger existing file is not shrunk by mapping it
+		if (!resume)
+			channel.truncate(size);
+		buffer = channel.map(MapMode.READ_WRITE, 0, size);
+		buffer.order(ByteOrder.BIG_ENDIAN);
+		if (resume && buffer.getInt(0) == Magic && buffer.getShort(4) == Version && buffer.getShort(6) == flags
+				&& buffer.getInt(8) == BlockSize && buffer.getInt(12) == blocks)
+			resume();
+		else
+			init();
+	}
+
+	/**
+	 * Captures the monitor indication of a busmonitor frame event, other frame events are ignored.
+	 */
+	@Override
+	public void indication(final FrameEvent e)
+	{
+		if (e.getFrame() instanceof final CEMIBusMon frame) {
+			final int m = e.getSource() instanceof final KNXNetworkMonitor monitor
+					? monitor.getKNXMedium().getMedium() : medium;
+			capture(Instant.now(), m, frame);
+		}
+	}
+
+	/**
+	 * Captures a busmonitor indication.
+	 *
+	 * @param time capture time
+	 * @param medium KNX medium on which {@code frame} was received
+	 * @param frame busmonitor indication
+	 */
+	public synchronized void capture(final Instant time, final int medium, final CEMIBusMon frame)
+	{
+		final byte[] raw = frame.getPayload();
+		final int length = RecordHeaderSize + raw.length;
+		if (length > BlockSize - 2)
+			throw new KNXIllegalArgumentException("raw frame length " + raw.length + " exceeds capture block size");
+
+		final long micros = ChronoUnit.MICROS.between(Instant.EPOCH, time);
+		if (sequence == 0 || position + length > BlockSize)
+			nextBlock(micros);
+
+		final int offset = dataStart + block * BlockSize + position;
+		buffer.put(offset + 2, (byte) medium);
+		buffer.put(offset + 3, (byte) status(frame));
+		buffer.put(offset + 4, (byte) frame.getTimestampType());
+		buffer.putLong(offset + 8, micros);
+		buffer.putInt(offset + 16, (int) frame.getTimestamp());
+		buffer.put(offset + RecordHeaderSize, raw);
+		position += length;
+		if (position + 2 <= BlockSize)
+			buffer.putShort(offset + length, (short) 0);
+		// record length is written last, a non-zero length indicates a complete record
+		buffer.putShort(offset, (short) length);
+	}
+
+	/**
+	 * Flushes captured indications to the storage device and closes the capture file.
+	 */
+	@Override
+	public synchronized void close()
+	{
+		try {
+			buffer.force();
+			channel.close();
+		}
+		catch (final IOException ignore) {}
+	}
+
+	@Override
+	public String toString()
+	{
+		return "monitor capture, " + blocks + " blocks, at sequence " + sequence;
+	}
+
+	static int dataStart(final int blocks)
+	{
+		return HeaderSize + blocks * IndexEntrySize;
+	}
+
+	private void init()
+	{
+		for (int i = 0; i < dataStart; i++)
+			buffer.put(i, (byte) 0);
+		buffer.putInt(0, Magic);
+		buffer.putShort(4, (short) Version);
+		buffer.putShort(6, (short) flags);
+		buffer.putInt(8, BlockSize);
+		buffer.putInt(12, blocks);
+	}
+
+	// continue in the block with the highest sequence number
+	private void resume()
+	{
+		for (int i = 0; i < blocks; i++) {
+			final long seq = buffer.getLong(HeaderSize + i * IndexEntrySize);
+			if (seq > sequence) {
+				sequence = seq;
+				block = i;
+			}
+		}
+		if (sequence == 0)
+			return;
+		final int start = dataStart + block * BlockSize;
+		position = 0;
+		for (int length; position + 2 <= BlockSize && (length = buffer.getShort(start + position) & 0xffff) != 0;)
+			position += length;
+	}
+
+	private void nextBlock(final long firstRecord)
+	{
+		block = sequence == 0 ? block : (block + 1) % blocks;
+		sequence++;
+		position = 0;
+		final int entry = HeaderSize + block * IndexEntrySize;
+		// invalidate index entry while the block is reused
+		buffer.putLong(entry, 0);
+		buffer.putShort(dataStart + block * BlockSize, (short) 0);
+		buffer.putLong(entry + 8, firstRecord);
+		buffer.putLong(entry, sequence);
+	}
+
+	private static int status(final CEMIBusMon frame)
+	{
+		return (frame.getFrameError() ? 0x80 : 0) | (frame.getBitError() ? 0x40 : 0)
+				| (frame.getParityError() ? 0x20 : 0) | (frame.getLost() ? 0x08 : 0) | frame.getSequenceNumber();
+	}
+}
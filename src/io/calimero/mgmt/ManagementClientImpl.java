@@ -1212,6 +1212,15 @@ public class ManagementClientImpl implements ManagementClient
 	public void writeMemory(final Destination dst, final int startAddr, final byte[] data)
 		throws KNXDisconnectException, KNXTimeoutException, KNXRemoteException,
 		KNXLinkClosedException, InterruptedException
+	{
+		writeMemoryVerified(dst, startAddr, data);
+	}
+
+	// returns true if the written data got verified by the remote endpoint, either by a CRC over the written data
+	// in the extended memory response, or by the memory response in verify mode
+	boolean writeMemoryVerified(final Destination dst, final int startAddr, final byte[] data)
+		throws KNXDisconnectException, KNXTimeoutException, KNXRemoteException,
+		KNXLinkClosedException, InterruptedException
 	{
 		final boolean extMemoryServices = supportsFeature(dst, SupportedServiceGroup.ExtMemory);
 		final int maxStartAddress = extMemoryServices ? 0xffffff : 0xffff;
@@ -1221,10 +1230,8 @@ public class ManagementClientImpl implements ManagementClient
 		if (data.length == 0 || data.length > maxBytes)
 			throw new KNXIllegalArgumentException(format("data length %d out of range [1..%d]", data.length, maxBytes));
 
-		if (extMemoryServices) {
-			writeMemoryExt(dst, startAddr, data);
-			return;
-		}
+		if (extMemoryServices)
+			return writeMemoryExt(dst, startAddr, data);
 
 		final byte[] asdu = new byte[data.length + 3];
 		asdu[0] = (byte) data.length;
@@ -1242,13 +1249,13 @@ public class ManagementClientImpl implements ManagementClient
 			for (int i = 4; i < apdu.length; ++i)
 				if (apdu[i] != asdu[i - 1])
 					throw new KNXRemoteException("verify failed (erroneous memory data)");
+			return true;
 		}
-		else {
-			send(dst, priority, send);
-		}
+		send(dst, priority, send);
+		return false;
 	}
 
-	private void writeMemoryExt(final Destination dst, final int startAddr, final byte[] data)
+	private boolean writeMemoryExt(final Destination dst, final int startAddr, final byte[] data)
 			throws KNXDisconnectException, KNXTimeoutException, KNXLinkClosedException, InterruptedException,
 			KNXRemoteException {
 		final byte[] addrBytes = { (byte) (startAddr >>> 16), (byte) (startAddr >>> 8), (byte) startAddr};
@@ -1259,14 +1266,14 @@ public class ManagementClientImpl implements ManagementClient
 		if (ret == ReturnCode.Success) {
 			if (apdu.length != 6)
 				throw writeInvalidLengthException(dst, startAddr, apdu);
-			return;
+			return false;
 		}
 		if (ret == ReturnCode.SuccessWithCrc) {
 			if (apdu.length != 8)
 				throw writeInvalidLengthException(dst, startAddr, apdu);
 			final int crc = ((apdu[6] & 0xff) << 8) | (apdu[7] & 0xff);
 			if (crc16Ccitt(asdu) == crc)
-				return;
+				return true;
 			throw new KNXRemoteException(format("write memory to %s 0x%x: data verification failed (CRC mismatch)",
 					dst.getAddress(), startAddr));
 		}
@@ -39,19 +39,29 @@ package io.calimero.mgmt;
 import static java.lang.System.Logger.Level.INFO;
 import static java.lang.System.Logger.Level.WARNING;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.lang.System.Logger;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
@@ -72,8 +82,10 @@ import io.calimero.KNXTimeoutException;
 import io.calimero.Priority;
 import io.calimero.SerialNumber;
 import io.calimero.cemi.CEMILData;
+import io.calimero.internal.Executor;
 import io.calimero.link.KNXLinkClosedException;
 import io.calimero.link.KNXNetworkLink;
+import io.calimero.link.NetworkLinkListener;
 import io.calimero.link.medium.KNXMediumSettings;
 import io.calimero.log.LogService;
 import io.calimero.mgmt.ManagementClient.EraseCode;
@@ -119,25 +131,15 @@ public class ManagementProceduresImpl implements ManagementProcedures
 
 	private static final class TLListener implements TransportListener
 	{
-		private final Set<IndividualAddress> devices;
 		private final Consumer<IndividualAddress> disconnect;
 		private final BiConsumer<IndividualAddress, DD0> dd0;
 		private final boolean routers;
 
-		private TLListener(final Set<IndividualAddress> scanResult, final boolean scanRouters)
-		{
-			devices = scanResult;
-			disconnect = null;
-			dd0 = (__, ___) -> {};
-			routers = scanRouters;
-		}
-
 		private TLListener(final Consumer<IndividualAddress> onDisconnect,
 				final BiConsumer<IndividualAddress, DD0> onDD0, final boolean scanRouters)
 		{
 			disconnect = onDisconnect;
 			dd0 = onDD0;
-			devices = null;
 			routers = scanRouters;
 		}
 
@@ -179,10 +181,7 @@ public class ManagementProceduresImpl implements ManagementProcedures
 
 		private void accept(final IndividualAddress addr)
 		{
-			if (disconnect != null)
-				disconnect.accept(addr);
-			else
-				devices.add(addr);
+			disconnect.accept(addr);
 		}
 
 		@Override
@@ -579,6 +578,82 @@ public class ManagementProceduresImpl implements ManagementProcedures
 		scanAddresses(addresses, false, device, deviceWithDescriptor);
 	}
 
+	/**
+	 * Scans the KNX subnetworks {@code subnetworks} for network devices, using every link in {@code links} to scan
+	 * one subnetwork at a time; subnetworks are scanned in parallel over the supplied links. The scan of each
+	 * subnetwork corresponds to {@link #scanNetworkDevices(int, int, Consumer, BiConsumer)}.<br>
+	 * The links have to provide separate connections to the KNX network, e.g., the tunnels of a
+	 * {@link io.calimero.link.KNXNetworkLinkPool}; links are not closed after the scan. If a link closes during the
+	 * scan, its current subnetwork is scanned again over another link, and devices of that subnetwork might be
+	 * notified more than once.
+	 *
+	 * @param links the KNX network links in open state
+	 * @param subnetworks the subnetwork addresses to scan, a subnetwork address is {@code area << 4 | line} with
+	 *        {@code 0 ≤ area, line ≤ 0x0F}
+	 * @param device consumer called for every device found during the scan, called concurrently by the scanning
+	 *        links
+	 * @param deviceWithDescriptor consumer called for every device which responded with its device descriptor 0 to
+	 *        a device descriptor read, called concurrently by the scanning links
+	 * @throws KNXLinkClosedException if all links got closed before every subnetwork was scanned
+	 * @throws InterruptedException if this thread was interrupted while scanning the network devices
+	 */
+	public static void scanNetworkDevices(final List<? extends KNXNetworkLink> links, final int[] subnetworks,
+			final Consumer<IndividualAddress> device, final BiConsumer<IndividualAddress, DD0> deviceWithDescriptor)
+			throws KNXLinkClosedException, InterruptedException {
+		if (links.isEmpty())
+			throw new KNXIllegalArgumentException("no links to scan subnetworks");
+		final Queue<Integer> remaining = new ConcurrentLinkedQueue<>();
+		for (final int subnetwork : subnetworks) {
+			if (subnetwork < 0 || subnetwork > 0xff)
+				throw new KNXIllegalArgumentException("subnetwork address 0x" + Integer.toHexString(subnetwork)
+						+ " out of range [0..0xff]");
+			remaining.add(subnetwork);
+		}
+
+		final List<Future<Void>> scans = new ArrayList<>();
+		for (final var link : links)
+			scans.add(Executor.executor().submit(() -> scanSubnetworks(link, remaining, device, deviceWithDescriptor)));
+
+		KNXLinkClosedException closed = null;
+		try {
+			for (final var scan : scans) {
+				try {
+					scan.get();
+				}
+				catch (final ExecutionException e) {
+					if (e.getCause() instanceof final KNXLinkClosedException lce)
+						closed = lce;
+					else if (e.getCause() instanceof final RuntimeException rte)
+						throw rte;
+					else
+						throw new IllegalStateException("scanning subnetworks", e.getCause());
+				}
+			}
+		}
+		finally {
+			scans.forEach(scan -> scan.cancel(true));
+		}
+		if (!remaining.isEmpty())
+			throw closed != null ? closed : new KNXLinkClosedException("no open link to scan subnetworks");
+	}
+
+	private static Void scanSubnetworks(final KNXNetworkLink link, final Queue<Integer> subnetworks,
+			final Consumer<IndividualAddress> device, final BiConsumer<IndividualAddress, DD0> deviceWithDescriptor)
+			throws KNXLinkClosedException, InterruptedException {
+		try (var mp = new ManagementProceduresImpl(link)) {
+			for (Integer subnetwork; (subnetwork = subnetworks.poll()) != null;) {
+				try {
+					mp.scanNetworkDevices(subnetwork >> 4, subnetwork & 0xf, device, deviceWithDescriptor);
+				}
+				catch (final KNXLinkClosedException e) {
+					subnetworks.add(subnetwork);
+					throw e;
+				}
+			}
+		}
+		return null;
+	}
+
 	@Override
 	public List<byte[]> scanSerialNumbers(final int medium) throws KNXException, InterruptedException
 	{
@@ -640,13 +715,42 @@ public class ManagementProceduresImpl implements ManagementProcedures
 		mc.writeMemory(d, memAddrProgMode, mem);
 	}
 
+	/**
+	 * Progress of a memory block transfer, notified after each transferred chunk of memory.
+	 */
+	@FunctionalInterface
+	public interface TransferProgress
+	{
+		/**
+		 * @param device the device address
+		 * @param transferred number of bytes transferred so far
+		 * @param total number of bytes of the memory block
+		 */
+		void progress(IndividualAddress device, int transferred, int total);
+	}
+
+	/**
+	 * A block of device memory for transfer, with {@code data} holding the memory block from its position to its
+	 * limit.
+	 *
+	 * @param device the device address
+	 * @param startAddress the memory start address, {@code 0 ≤ startAddress ≤ 0xFFFFFFFF}
+	 * @param data the buffer which receives the memory read, or which provides the memory to write
+	 */
+	public record MemoryBlock(IndividualAddress device, long startAddress, ByteBuffer data) {
+		public MemoryBlock {
+			checkStartAddress(startAddress);
+		}
+	}
+
+	private static final TransferProgress noProgress = (__, ___, ____) -> {};
+
 	@Override
 	public void writeMemory(final IndividualAddress device, final long startAddress,
 		final byte[] data, final boolean verifyWrite, final boolean verifyByServer)
 		throws KNXException, InterruptedException
 	{
-		if (startAddress < 0 || startAddress > 0xffffffffL)
-			throw new KNXIllegalArgumentException("start address is no 32 Bit address");
+		checkStartAddress(startAddress);
 
 		// either verifyWrite or verifyByServer, not both applicable
 		if (verifyWrite && verifyByServer)
@@ -671,46 +775,257 @@ public class ManagementProceduresImpl implements ManagementProcedures
 				1, 1, ctrl);
 		}
 
-		final int apduLength = maxApduLength(d);
-		// write memory in chunks with a maximum length of dataLength
-		final int dataLength = extMemoryServices ? Math.min(249, apduLength - 5) : Math.min(63, apduLength - 3);
-		for (int i = 0; i < data.length; i += dataLength) {
-			final int remainingBytes = data.length - i;
-			final byte[] range = Arrays.copyOfRange(data, i, i + Math.min(dataLength, remainingBytes));
+		writeMemory(d, startAddress, ByteBuffer.wrap(data), verifyWrite, noProgress, RequestBudget.Unlimited);
+	}
+
+	/**
+	 * Writes the memory block provided by {@code data} from its position to its limit to the specified memory
+	 * address of a device, see {@link #writeMemory(IndividualAddress, long, byte[], boolean, boolean)}. On return,
+	 * the position of {@code data} equals its limit.<br>
+	 * If the device confirms written memory with a CRC over the written data, memory is verified using that CRC
+	 * instead of reading it back.
+	 *
+	 * @param device the destination device address
+	 * @param startAddress the memory destination start address, {@code 0 ≤ startAddress ≤ 0xFFFFFFFF}
+	 * @param data the buffer holding the data to be written
+	 * @param verifyWrite {@code true} to verify any written memory, {@code false} otherwise
+	 * @param progress notified after every written chunk of memory
+	 * @throws KNXException on communication error or device access problems
+	 * @throws InterruptedException on interrupted thread
+	 */
+	public void writeMemory(final IndividualAddress device, final long startAddress, final ByteBuffer data,
+		final boolean verifyWrite, final TransferProgress progress) throws KNXException, InterruptedException
+	{
+		checkStartAddress(startAddress);
+		writeMemory(getOrCreateDestination(device), startAddress, data, verifyWrite, progress, RequestBudget.Unlimited);
+	}
+
+	/**
+	 * Writes the memory blocks to the devices, running the transfers to different devices concurrently. Memory
+	 * blocks of the same device are written in list order. All transfers together send at most
+	 * {@code requestsPerSecond} memory service requests per second, to limit the bus load caused by the transfers.
+	 *
+	 * @param blocks the memory blocks to write, the position of every block buffer equals its limit on successful
+	 *        return
+	 * @param verifyWrite {@code true} to verify any written memory, {@code false} otherwise
+	 * @param requestsPerSecond maximum number of memory service requests per second, {@code 0} for no limit
+	 * @param progress notified after every written chunk of memory, called concurrently by the transfers
+	 * @throws KNXException on communication error or device access problems in any of the transfers
+	 * @throws InterruptedException on interrupted thread
+	 * @see #writeMemory(IndividualAddress, long, ByteBuffer, boolean, TransferProgress)
+	 */
+	public void writeMemory(final List<MemoryBlock> blocks, final boolean verifyWrite, final int requestsPerSecond,
+		final TransferProgress progress) throws KNXException, InterruptedException
+	{
+		final var budget = RequestBudget.of(requestsPerSecond);
+		transferConcurrently(blocks, block -> writeMemory(getOrCreateDestination(block.device()),
+				block.startAddress(), block.data(), verifyWrite, progress, budget));
+	}
+
+	@Override
+	public byte[] readMemory(final IndividualAddress device, final long startAddress,
+		final int bytes) throws KNXException, InterruptedException
+	{
+		if (bytes < 0)
+			throw new KNXIllegalArgumentException("bytes to read require a positive number");
+		final byte[] read = new byte[bytes];
+		readMemory(device, startAddress, ByteBuffer.wrap(read), noProgress);
+		return read;
+	}
+
+	/**
+	 * Reads a block of memory from the specified memory address of a device into {@code data}, filling
+	 * {@code data} from its position to its limit, see {@link #readMemory(IndividualAddress, long, int)}.
+	 *
+	 * @param device the destination device address
+	 * @param startAddress the memory source start address, {@code 0 ≤ startAddress ≤ 0xFFFFFFFF}
+	 * @param data the buffer receiving the memory read
+	 * @param progress notified after every read chunk of memory
+	 * @throws KNXException on communication error or device access problems
+	 * @throws InterruptedException on interrupted thread
+	 */
+	public void readMemory(final IndividualAddress device, final long startAddress, final ByteBuffer data,
+		final TransferProgress progress) throws KNXException, InterruptedException
+	{
+		checkStartAddress(startAddress);
+		readMemory(getOrCreateDestination(device), startAddress, data.remaining(), data::put, progress,
+				RequestBudget.Unlimited);
+	}
+
+	/**
+	 * Reads {@code bytes} of memory from the specified memory address of a device, and streams every read chunk of
+	 * memory to {@code channel}.
+	 *
+	 * @param device the destination device address
+	 * @param startAddress the memory source start address, {@code 0 ≤ startAddress ≤ 0xFFFFFFFF}
+	 * @param bytes number of bytes to read, {@code 0 ≤ bytes}
+	 * @param channel the channel to write the memory read to
+	 * @param progress notified after every read chunk of memory
+	 * @throws KNXException on communication error or device access problems
+	 * @throws IOException on error writing to {@code channel}
+	 * @throws InterruptedException on interrupted thread
+	 */
+	public void readMemory(final IndividualAddress device, final long startAddress, final int bytes,
+		final WritableByteChannel channel, final TransferProgress progress)
+		throws KNXException, IOException, InterruptedException
+	{
+		if (bytes < 0)
+			throw new KNXIllegalArgumentException("bytes to read require a positive number");
+		checkStartAddress(startAddress);
+		try {
+			readMemory(getOrCreateDestination(device), startAddress, bytes, chunk -> {
+				final var buffer = ByteBuffer.wrap(chunk);
+				try {
+					while (buffer.hasRemaining())
+						channel.write(buffer);
+				}
+				catch (final IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			}, progress, RequestBudget.Unlimited);
+		}
+		catch (final UncheckedIOException e) {
+			throw e.getCause();
+		}
+	}
+
+	/**
+	 * Reads the memory blocks from the devices, running the transfers to different devices concurrently. Memory
+	 * blocks of the same device are read in list order. All transfers together send at most
+	 * {@code requestsPerSecond} memory service requests per second, to limit the bus load caused by the transfers.
+	 *
+	 * @param blocks the memory blocks to read, every block buffer is filled from its position to its limit
+	 * @param requestsPerSecond maximum number of memory service requests per second, {@code 0} for no limit
+	 * @param progress notified after every read chunk of memory, called concurrently by the transfers
+	 * @throws KNXException on communication error or device access problems in any of the transfers
+	 * @throws InterruptedException on interrupted thread
+	 * @see #readMemory(IndividualAddress, long, ByteBuffer, TransferProgress)
+	 */
+	public void readMemory(final List<MemoryBlock> blocks, final int requestsPerSecond,
+		final TransferProgress progress) throws KNXException, InterruptedException
+	{
+		final var budget = RequestBudget.of(requestsPerSecond);
+		transferConcurrently(blocks, block -> readMemory(getOrCreateDestination(block.device()), block.startAddress(),
+				block.data().remaining(), block.data()::put, progress, budget));
+	}
+
+	private void writeMemory(final Destination d, final long startAddress, final ByteBuffer data,
+		final boolean verifyWrite, final TransferProgress progress, final RequestBudget budget)
+		throws KNXException, InterruptedException
+	{
+		final var mcImpl = (ManagementClientImpl) mc;
+		final int chunkSize = memoryChunkSize(d);
+		final int total = data.remaining();
+		for (int i = 0; i < total; i += chunkSize) {
+			final byte[] range = new byte[Math.min(chunkSize, total - i)];
+			data.get(range);
 
 			// on server verification, our mgmt client will already compare the response value
-			mc.writeMemory(d, (int) startAddress + i, range);
+			budget.acquire();
+			final boolean verified = mcImpl.writeMemoryVerified(d, (int) startAddress + i, range);
 
-			// on manual write verification, we explicitly read back memory
-			if (verifyWrite) {
+			// on manual write verification, we explicitly read back memory not already verified by the server
+			if (verifyWrite && !verified) {
+				budget.acquire();
 				final byte[] read = mc.readMemory(d, (int) startAddress + i, range.length);
 				if (!Arrays.equals(read, range))
 					throw new KNXRemoteException("verify failed (memory data differs)");
 			}
+			progress.progress(d.getAddress(), i + range.length, total);
 		}
 	}
 
-	@Override
-	public byte[] readMemory(final IndividualAddress device, final long startAddress,
-		final int bytes) throws KNXException, InterruptedException
+	private void readMemory(final Destination d, final long startAddress, final int bytes,
+		final Consumer<byte[]> chunks, final TransferProgress progress, final RequestBudget budget)
+		throws KNXException, InterruptedException
+	{
+		final int chunkSize = memoryChunkSize(d);
+		for (int i = 0; i < bytes; i += chunkSize) {
+			final int size = Math.min(chunkSize, bytes - i);
+			budget.acquire();
+			final byte[] range = mc.readMemory(d, (int) startAddress + i, size);
+			chunks.accept(range);
+			progress.progress(d.getAddress(), i + range.length, bytes);
+		}
+	}
+
+	private static void checkStartAddress(final long startAddress)
 	{
 		if (startAddress < 0 || startAddress > 0xffffffffL)
 			throw new KNXIllegalArgumentException("start address is no 32 Bit address");
-		if (bytes < 0)
-			throw new KNXIllegalArgumentException("bytes to read require a positive number");
+	}
 
-		final Destination d = getOrCreateDestination(device);
+	private int memoryChunkSize(final Destination d) throws KNXLinkClosedException, InterruptedException
+	{
 		final boolean extMemoryServices = ((ManagementClientImpl) mc).supportsFeature(d, SupportedServiceGroup.ExtMemory);
-
 		final int apduLength = maxApduLength(d);
-		final int dataLength = extMemoryServices ? Math.min(249, apduLength - 5) : Math.min(63, apduLength - 3);
-		final byte[] read = new byte[bytes];
-		for (int i = 0; i < read.length; i += dataLength) {
-			final int size = i + dataLength <= read.length ? dataLength : read.length - i;
-			final byte[] range = mc.readMemory(d, (int) startAddress + i, size);
-			System.arraycopy(range, 0, read, i, range.length);
+		return extMemoryServices ? Math.min(249, apduLength - 5) : Math.min(63, apduLength - 3);
+	}
+
+	@FunctionalInterface
+	private interface Transfer
+	{
+		void run(MemoryBlock block) throws KNXException, InterruptedException;
+	}
+
+	// one transfer per device, a device only gets one request at a time
+	private static void transferConcurrently(final List<MemoryBlock> blocks, final Transfer transfer)
+		throws KNXException, InterruptedException
+	{
+		final var devices = blocks.stream().collect(Collectors.groupingBy(MemoryBlock::device,
+				LinkedHashMap::new, Collectors.toList()));
+		final List<Future<Void>> transfers = new ArrayList<>();
+		for (final var deviceBlocks : devices.values()) {
+			transfers.add(Executor.executor().submit(() -> {
+				for (final var block : deviceBlocks)
+					transfer.run(block);
+				return null;
+			}));
+		}
+		try {
+			for (final var f : transfers) {
+				try {
+					f.get();
+				}
+				catch (final ExecutionException e) {
+					if (e.getCause() instanceof final KNXException ke)
+						throw ke;
+					if (e.getCause() instanceof final RuntimeException rte)
+						throw rte;
+					throw new IllegalStateException("memory transfer", e.getCause());
+				}
+			}
+		}
+		finally {
+			transfers.forEach(f -> f.cancel(true));
+		}
+	}
+
+	// Spaces the memory service requests of concurrent transfers evenly according to the budget
+	private static final class RequestBudget
+	{
+		static final RequestBudget Unlimited = new RequestBudget(0);
+
+		private final long interval; // [ns]
+		private final AtomicLong next = new AtomicLong(System.nanoTime());
+
+		static RequestBudget of(final int requestsPerSecond)
+		{
+			if (requestsPerSecond < 0)
+				throw new KNXIllegalArgumentException("requests per second " + requestsPerSecond + " < 0");
+			return requestsPerSecond == 0 ? Unlimited : new RequestBudget(1_000_000_000L / requestsPerSecond);
+		}
+
+		private RequestBudget(final long interval) { this.interval = interval; }
+
+		void acquire() throws InterruptedException
+		{
+			if (interval == 0)
+				return;
+			final long now = System.nanoTime();
+			final long slot = Math.max(now, next.getAndAccumulate(now, (reserved, t) -> Math.max(reserved, t) + interval));
+			TimeUnit.NANOSECONDS.sleep(slot - now);
 		}
-		return read;
 	}
 
 	public void assignDomainAndDeviceAddress(final byte[] domainAddress, final IndividualAddress deviceAddress,
@@ -822,47 +1137,29 @@ public class ManagementProceduresImpl implements ManagementProcedures
 		return tl.destination(device).orElseGet(() -> tl.createDestination(device, true, keepAlive, verifyByServer));
 	}
 
-	private IndividualAddress[] scanAddresses(final List<IndividualAddress> addresses,
-		final boolean routers) throws KNXTimeoutException, KNXLinkClosedException,
-		InterruptedException
+	private IndividualAddress[] scanAddresses(final List<IndividualAddress> addresses, final boolean routers)
+		throws KNXLinkClosedException, InterruptedException
 	{
-		final Set<IndividualAddress> devices = new HashSet<>();
-		final TransportListener tll = new TLListener(devices, routers);
-		tl.addTransportListener(tll);
-
-		final List<Destination> destinations = new ArrayList<>();
-		try {
-			for (final IndividualAddress remote : addresses) {
-				final Destination d = getOrCreateDestination(remote, true, false);
-				destinations.add(d);
-				tl.connect(d);
-				// increased from 100 (the default) to minimize chance of overflow over FT1.2
-				waitFor(115);
-			}
-			// we wait in total (115 + 6000 + 1000 + 100) ms for a possible T-disconnect, taking
-			// into account the KNXnet/IP tunneling.req retransmit timeout plus some network delay
-			waitFor(disconnectTimeout + 1100);
-		}
-		finally {
-			tl.removeTransportListener(tll);
-			for (final Destination d : destinations) {
-				tl.destroyDestination(d);
-			}
-		}
-		return devices
-				.toArray(new IndividualAddress[0]);
+		final Set<IndividualAddress> devices = ConcurrentHashMap.newKeySet();
+		scanAddresses(addresses, routers, devices::add, null);
+		return devices.toArray(new IndividualAddress[0]);
 	}
 
+	// deviceWithDescriptor is null if no device descriptors are requested
 	private void scanAddresses(final List<IndividualAddress> addresses, final boolean routers,
 			final Consumer<IndividualAddress> response, final BiConsumer<IndividualAddress, DD0> deviceWithDescriptor)
 			throws KNXLinkClosedException, InterruptedException {
 
+		// every change of the scan state is signaled to the scanning thread
+		final var events = new Semaphore(0);
 		final var connected = new ConcurrentHashMap<IndividualAddress, Destination>();
 		final var disconnectedByRemote = new ConcurrentLinkedQueue<IndividualAddress>();
 		final Consumer<IndividualAddress> onDisconnect = remote -> {
 			if (connected.remove(remote) != null) {
-				disconnectedByRemote.add(remote);
+				if (deviceWithDescriptor != null)
+					disconnectedByRemote.add(remote);
 				response.accept(remote);
+				events.release();
 			}
 		};
 
@@ -872,41 +1169,102 @@ public class ManagementProceduresImpl implements ManagementProcedures
 			if (dst != null) {
 				dst.close();
 				deviceWithDescriptor.accept(remote, dd0);
+				events.release();
+			}
+		};
+
+		// a negative confirmation of a connect tells that no device acknowledged it, hence, there is no device
+		// which will disconnect
+		final NetworkLinkListener confirmations = new NetworkLinkListener() {
+			@Override
+			public void confirmation(final FrameEvent e) {
+				if (e.getFrame() instanceof final CEMILData ldata && !ldata.isPositiveConfirmation()
+						&& ldata.getDestination() instanceof final IndividualAddress remote
+						&& isConnect(ldata.getPayload()) && connected.remove(remote) != null)
+					events.release();
 			}
 		};
+		final var link = tl instanceof final TransportLayerImpl impl ? impl.link() : null;
 
 		final TransportListener tll = new TLListener(onDisconnect, onDD0, routers);
 		tl.addTransportListener(tll);
+		if (link != null)
+			link.addLinkListener(confirmations);
 
+		final List<Destination> destinations = new ArrayList<>();
+		final var pacer = new Pacer();
 		try {
 			for (final var address : addresses) {
 				final var d = getOrCreateDestination(address, true, false);
+				destinations.add(d);
 				connected.put(address, d);
 				try {
 					tl.connect(d);
+					pacer.confirmed();
 				}
 				catch (final KNXTimeoutException e) {
 					logger.log(INFO, "connect timeout during address scan for {0}", d);
+					pacer.timeout();
 				}
-				// increased from 100 (the default) to minimize chance of overflow over FT1.2
-				waitFor(115);
-
-				while (!disconnectedByRemote.isEmpty()) {
-					final var ia = disconnectedByRemote.remove();
-					final Destination dd0Req = getOrCreateDestination(ia);
-					dd0Requests.put(ia, dd0Req);
-					sendDD0Read(dd0Req);
-				}
+				pacer.await();
+				requestDeviceDescriptors(disconnectedByRemote, dd0Requests, destinations);
+			}
+
+			// we wait max. (6000 + 1000 + 100) ms for a possible T-disconnect, taking into account the KNXnet/IP
+			// tunneling.req retransmit timeout plus some network delay; we're done as soon as every address is
+			// either disconnected or negatively confirmed
+			final long disconnectDeadline = System.nanoTime() + (disconnectTimeout + 1100) * 1_000_000L;
+			final long dd0Timeout = mc.responseTimeout().toNanos();
+			long dd0Deadline = 0;
+			while (true) {
+				if (requestDeviceDescriptors(disconnectedByRemote, dd0Requests, destinations))
+					dd0Deadline = System.nanoTime() + dd0Timeout;
+				final long now = System.nanoTime();
+				final long remaining = Math.max(connected.isEmpty() ? 0 : disconnectDeadline - now,
+						dd0Requests.isEmpty() ? 0 : dd0Deadline - now);
+				if (remaining <= 0)
+					break;
+				events.tryAcquire(remaining, TimeUnit.NANOSECONDS);
+				events.drainPermits();
 			}
-			// we wait in total (115 + 6000 + 1000 + 100) ms for a possible T-disconnect, taking
-			// into account the KNXnet/IP tunneling.req retransmit timeout plus some network delay
-			waitFor(disconnectTimeout + 1100);
 		}
 		finally {
+			if (link != null)
+				link.removeLinkListener(confirmations);
 			tl.removeTransportListener(tll);
-			// TODO this is not sufficient in the case getOrCreateDestination throws
-			connected.values().forEach(Destination::destroy);
+			destinations.forEach(Destination::destroy);
+		}
+	}
+
+	private boolean requestDeviceDescriptors(final Queue<IndividualAddress> devices,
+			final Map<IndividualAddress, Destination> dd0Requests, final List<Destination> destinations)
+			throws KNXLinkClosedException {
+		boolean requested = false;
+		for (IndividualAddress device; (device = devices.poll()) != null; requested = true) {
+			final Destination dd0Req = getOrCreateDestination(device);
+			destinations.add(dd0Req);
+			dd0Requests.put(device, dd0Req);
+			sendDD0Read(dd0Req);
 		}
+		return requested;
+	}
+
+	private static boolean isConnect(final byte[] tpdu) { return tpdu.length == 1 && (tpdu[0] & 0xff) == 0x80; }
+
+	// Paces connect requests during address scans: the pause between two connects decreases with every
+	// confirmation, and doubles if a connect did not get confirmed, e.g., because of an overflow in the interface
+	private static final class Pacer
+	{
+		private static final int MinPause = 10; // [ms]
+		private static final int MaxPause = 1000; // [ms]
+		// start with the former fixed pause which minimizes the chance of overflow over FT1.2
+		private int pause = 115;
+
+		void confirmed() { pause = Math.max(MinPause, pause - 15); }
+
+		void timeout() { pause = Math.min(MaxPause, pause * 2); }
+
+		void await() throws InterruptedException { waitFor(pause); }
 	}
 
 	private void sendDD0Read(final Destination dst) throws KNXLinkClosedException {
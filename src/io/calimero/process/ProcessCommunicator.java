@@ -37,6 +37,9 @@
 package io.calimero.process;
 
 import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import io.calimero.GroupAddress;
 import io.calimero.KNXException;
@@ -182,6 +185,51 @@ public interface ProcessCommunicator extends ProcessCommunication
 	 */
 	String read(Datapoint dp) throws KNXException, InterruptedException;
 
+	/**
+	 * Reads from a group destination without blocking the caller. The returned future completes with the group
+	 * read response received for {@code dst}, or exceptionally with a {@link KNXTimeoutException} if no response was
+	 * received within the {@link #responseTimeout()}, or with the exception that occurred during send.
+	 * Concurrent reads of the same group destination complete with the same response.
+	 *
+	 * @param dst group destination to read from
+	 * @return future completing with the group read response
+	 */
+	CompletableFuture<ProcessEvent> readAsync(GroupAddress dst);
+
+	/**
+	 * Reads a datapoint value from a group destination without blocking the caller, see {@link #read(Datapoint)}.
+	 * The returned future completes with the datapoint value in textual representation, or exceptionally with any of
+	 * the exceptions documented for {@link #read(Datapoint)}.
+	 *
+	 * @param dp the datapoint to read
+	 * @return future completing with the read datapoint value (translated using the DPT)
+	 */
+	CompletableFuture<String> readAsync(Datapoint dp);
+
+	/**
+	 * Reads the values of all supplied datapoints, with at most 10 group reads waiting for a response at any time;
+	 * see {@link #readAll(Collection, int)}.
+	 *
+	 * @param datapoints the datapoints to read
+	 * @return map with a future for each datapoint, completing with the read datapoint value
+	 */
+	default Map<Datapoint, CompletableFuture<String>> readAll(final Collection<? extends Datapoint> datapoints) {
+		return readAll(datapoints, 10);
+	}
+
+	/**
+	 * Reads the values of all supplied datapoints without blocking the caller. A group destination shared by several
+	 * datapoints is read only once. Group reads are pipelined, with at most {@code maxPendingReads} reads waiting for
+	 * a response at any time, and paced according to the capacity of the KNX medium. A failed read, e.g., due to a
+	 * response timeout, only completes the futures of the datapoints with that group destination exceptionally.
+	 *
+	 * @param datapoints the datapoints to read
+	 * @param maxPendingReads maximum number of group reads waiting for a response, {@code maxPendingReads > 0}
+	 * @return map (in iteration order of {@code datapoints}) with a future for each datapoint, completing with the
+	 *         read datapoint value as specified by {@link #readAsync(Datapoint)}
+	 */
+	Map<Datapoint, CompletableFuture<String>> readAll(Collection<? extends Datapoint> datapoints, int maxPendingReads);
+
 	/**
 	 * Reads a numeric datapoint value from a group destination.
 	 * <p>
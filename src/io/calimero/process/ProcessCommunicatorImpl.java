@@ -44,11 +44,19 @@ import static java.lang.System.Logger.Level.WARNING;
 
 import java.lang.System.Logger;
 import java.time.Duration;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.function.Consumer;
 
 import io.calimero.CloseEvent;
@@ -64,7 +72,6 @@ import io.calimero.KNXRemoteException;
 import io.calimero.KNXTimeoutException;
 import io.calimero.Priority;
 import io.calimero.ReturnCode;
-import io.calimero.cemi.CEMI;
 import io.calimero.cemi.CEMILData;
 import io.calimero.datapoint.Datapoint;
 import io.calimero.dptxlator.DPT;
@@ -78,9 +85,11 @@ import io.calimero.dptxlator.DPTXlatorString;
 import io.calimero.dptxlator.DptId;
 import io.calimero.dptxlator.TranslatorTypes;
 import io.calimero.internal.EventListeners;
+import io.calimero.internal.Executor;
 import io.calimero.link.KNXLinkClosedException;
 import io.calimero.link.KNXNetworkLink;
 import io.calimero.link.NetworkLinkListener;
+import io.calimero.link.medium.KNXMediumSettings;
 import io.calimero.log.LogService;
 import io.calimero.secure.SecureApplicationLayer;
 import io.calimero.secure.Security;
@@ -107,29 +116,30 @@ public class ProcessCommunicatorImpl implements ProcessCommunicator
 				return;
 			try {
 				final int svc = DataUnitBuilder.getAPDUService(apdu);
-				// Note: even if this is a read response we have waited for,
-				// we nevertheless notify the listeners about it (we do *not* discard it)
-				if (svc == GROUP_RESPONSE) {
-					synchronized (indications) {
-						if (indications.replace((GroupAddress) f.getDestination(), e) != null)
-							indications.notifyAll();
-					}
-				}
-				// notify listeners
 				if (svc == GROUP_READ)
-					fireGroupReadWrite(f, new byte[0], svc, false);
-				else if (svc == GROUP_RESPONSE || svc == GROUP_WRITE)
-					fireGroupReadWrite(f, DataUnitBuilder.extractASDU(apdu), svc, apdu.length == 2);
+					fireGroupReadWrite(processEvent(f, new byte[0], svc, false));
+				else if (svc == GROUP_RESPONSE || svc == GROUP_WRITE) {
+					final var pe = processEvent(f, DataUnitBuilder.extractASDU(apdu), svc, apdu.length == 2);
+					// Note: even if this is a read response we have waited for,
+					// we nevertheless notify the listeners about it (we do *not* discard it)
+					if (svc == GROUP_RESPONSE)
+						completeReads(pe);
+					fireGroupReadWrite(pe);
+				}
 			}
 			catch (final RuntimeException rte) {
 				logger.log(ERROR, "on group indication from {0}", f.getSource(), rte);
 			}
 		}
 
-		private void fireGroupReadWrite(final CEMILData f, final byte[] asdu, final int svc, final boolean optimized)
+		private ProcessEvent processEvent(final CEMILData f, final byte[] asdu, final int svc, final boolean optimized) {
+			return new ProcessEvent(ProcessCommunicatorImpl.this, f.getSource(), (GroupAddress) f.getDestination(),
+					svc, asdu, optimized);
+		}
+
+		private void fireGroupReadWrite(final ProcessEvent e)
 		{
-			final ProcessEvent e = new ProcessEvent(ProcessCommunicatorImpl.this, f.getSource(),
-					(GroupAddress) f.getDestination(), svc, asdu, optimized);
+			final int svc = e.getServiceCode();
 			final Consumer<? super ProcessListener> c;
 			if (svc == GROUP_READ)
 				c = l -> l.groupReadRequest(e);
@@ -158,9 +168,9 @@ public class ProcessCommunicatorImpl implements ProcessCommunicator
 	private final boolean useGoDiagnostics;
 	private final EventListeners<ProcessListener> listeners = new EventListeners<>();
 
-	private final Map<GroupAddress, FrameEvent> indications = new HashMap<>();
-	private static final FrameEvent NoResponse = new FrameEvent(ProcessCommunicatorImpl.class, (CEMI) null);
-	private final Map<GroupAddress, AtomicInteger> readers = new HashMap<>();
+	// correlation of group read responses to the pending reads waiting for a response from that group address;
+	// the value lists are only modified within map compute methods
+	private final Map<GroupAddress, List<CompletableFuture<ProcessEvent>>> pendingReads = new ConcurrentHashMap<>();
 
 	private volatile Priority priority = Priority.LOW;
 	private volatile Duration responseTimeout = Duration.ofSeconds(5);
@@ -257,9 +267,9 @@ public class ProcessCommunicatorImpl implements ProcessCommunicator
 	public boolean readBool(final GroupAddress dst) throws KNXTimeoutException, KNXRemoteException,
 		KNXLinkClosedException, KNXFormatException, InterruptedException
 	{
-		final byte[] apdu = readFromGroup(dst, priority, 0, 0);
+		final var response = readFromGroup(dst, priority, 0, 0);
 		final DPTXlatorBoolean t = new DPTXlatorBoolean(DPTXlatorBoolean.DPT_BOOL);
-		extractGroupASDU(apdu, t);
+		extractGroupASDU(response, t);
 		return t.getValueBoolean();
 	}
 
@@ -279,9 +289,9 @@ public class ProcessCommunicatorImpl implements ProcessCommunicator
 	public int readUnsigned(final GroupAddress dst, final String scale) throws KNXTimeoutException,
 		KNXRemoteException, KNXLinkClosedException, KNXFormatException, InterruptedException
 	{
-		final byte[] apdu = readFromGroup(dst, priority, 1, 1);
+		final var response = readFromGroup(dst, priority, 1, 1);
 		final DPTXlator8BitUnsigned t = new DPTXlator8BitUnsigned(scale);
-		extractGroupASDU(apdu, t);
+		extractGroupASDU(response, t);
 		return t.getValueUnsigned();
 	}
 
@@ -298,10 +308,10 @@ public class ProcessCommunicatorImpl implements ProcessCommunicator
 	public int readControl(final GroupAddress dst) throws KNXTimeoutException, KNXRemoteException,
 		KNXLinkClosedException, KNXFormatException, InterruptedException
 	{
-		final byte[] apdu = readFromGroup(dst, priority, 0, 0);
+		final var response = readFromGroup(dst, priority, 0, 0);
 		final DPTXlator3BitControlled t = new DPTXlator3BitControlled(
 				DPTXlator3BitControlled.DPT_CONTROL_DIMMING);
-		extractGroupASDU(apdu, t);
+		extractGroupASDU(response, t);
 		return t.getValueSigned();
 	}
 
@@ -334,10 +344,11 @@ public class ProcessCommunicatorImpl implements ProcessCommunicator
 	@Override
 	public double readFloat(final GroupAddress dst) throws KNXTimeoutException, KNXRemoteException,
 		KNXLinkClosedException, KNXFormatException, InterruptedException {
-		final byte[] apdu = readFromGroup(dst, priority, 2, 4);
-		final DPTXlator t = apdu.length == 6 ? new DPTXlator4ByteFloat(DPTXlator4ByteFloat.DPT_TEMPERATURE_DIFFERENCE)
+		final var response = readFromGroup(dst, priority, 2, 4);
+		final DPTXlator t = asduLength(response) == 4
+				? new DPTXlator4ByteFloat(DPTXlator4ByteFloat.DPT_TEMPERATURE_DIFFERENCE)
 				: new DPTXlator2ByteFloat(DPTXlator2ByteFloat.DPT_RAIN_AMOUNT);
-		extractGroupASDU(apdu, t);
+		extractGroupASDU(response, t);
 		return t.getNumericValue();
 	}
 
@@ -345,9 +356,9 @@ public class ProcessCommunicatorImpl implements ProcessCommunicator
 	public String readString(final GroupAddress dst) throws KNXTimeoutException, KNXRemoteException,
 		KNXLinkClosedException, KNXFormatException, InterruptedException
 	{
-		final byte[] apdu = readFromGroup(dst, priority, 0, 14);
+		final var response = readFromGroup(dst, priority, 0, 14);
 		final DPTXlatorString t = new DPTXlatorString(DPTXlatorString.DPT_STRING_8859_1);
-		extractGroupASDU(apdu, t);
+		extractGroupASDU(response, t);
 		return t.getValue();
 	}
 
@@ -376,12 +387,97 @@ public class ProcessCommunicatorImpl implements ProcessCommunicator
 	@Override
 	public String read(final Datapoint dp) throws KNXException, InterruptedException
 	{
-		final byte[] apdu = readFromGroup(dp.getMainAddress(), dp.getPriority(), 0, 14);
-		if (dp.dptId().equals(new DptId(0xffff, 0xffff)))
-			return HexFormat.ofDelimiter(" ").formatHex(DataUnitBuilder.extractASDU(apdu));
-		final DPTXlator t = TranslatorTypes.createTranslator(dp.dptId());
-		extractGroupASDU(apdu, t);
-		return t.getValue();
+		return translate(dp, readFromGroup(dp.getMainAddress(), dp.getPriority(), 0, 14));
+	}
+
+	@Override
+	public CompletableFuture<ProcessEvent> readAsync(final GroupAddress dst) {
+		return readAsync(dst, priority);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * If {@code dp} has no {@link DPT} set, the returned future completes with a hexadecimal representation
+	 * of the ASDU.
+	 */
+	@Override
+	public CompletableFuture<String> readAsync(final Datapoint dp) {
+		return readAsync(dp.getMainAddress(), dp.getPriority()).thenApply(response -> translateAsync(dp, response));
+	}
+
+	@Override
+	public Map<Datapoint, CompletableFuture<String>> readAll(final Collection<? extends Datapoint> datapoints,
+			final int maxPendingReads) {
+		if (maxPendingReads <= 0)
+			throw new KNXIllegalArgumentException("max. pending reads " + maxPendingReads + " <= 0");
+		if (detached)
+			throw new IllegalStateException("process communicator detached");
+
+		// each group address is read once, using the priority of its first datapoint
+		final Map<GroupAddress, BatchRead> reads = new LinkedHashMap<>();
+		final Map<Datapoint, CompletableFuture<String>> results = new LinkedHashMap<>();
+		for (final var dp : datapoints) {
+			final var read = reads.computeIfAbsent(dp.getMainAddress(),
+					__ -> new BatchRead(dp.getPriority(), new CompletableFuture<>()));
+			results.put(dp, read.response().thenApply(response -> translateAsync(dp, response)));
+		}
+		logger.log(DEBUG, "read {0} datapoints ({1} group addresses)", results.size(), reads.size());
+		Executor.execute(() -> batchRead(reads, maxPendingReads), "Calimero batch read");
+		return results;
+	}
+
+	private record BatchRead(Priority priority, CompletableFuture<ProcessEvent> response) {}
+
+	// group reads are sent from the batch thread, so that the pacing applies to the actual sends
+	private void batchRead(final Map<GroupAddress, BatchRead> reads, final int maxPendingReads) {
+		final var pending = new Semaphore(maxPendingReads);
+		final long interval = batchReadInterval();
+		long next = System.nanoTime();
+		int dispatched = 0;
+		for (final var entry : reads.entrySet()) {
+			final var dst = entry.getKey();
+			final var read = entry.getValue();
+			try {
+				pending.acquire();
+				final long delay = next - System.nanoTime();
+				if (delay > 0)
+					TimeUnit.NANOSECONDS.sleep(delay);
+				if (detached)
+					throw new IllegalStateException("process communicator detached");
+
+				final var response = newPendingRead(dst);
+				response.whenComplete((event, t) -> {
+					pending.release();
+					if (t != null)
+						read.response().completeExceptionally(t);
+					else
+						read.response().complete(event);
+				});
+				dispatched++;
+				sendRead(dst, read.priority(), response);
+				next = Math.max(next, System.nanoTime()) + interval;
+			}
+			catch (InterruptedException | RuntimeException e) {
+				// fail all reads not yet dispatched
+				reads.values().stream().skip(dispatched).forEach(r -> r.response().completeExceptionally(e));
+				if (e instanceof InterruptedException)
+					Thread.currentThread().interrupt();
+				return;
+			}
+		}
+	}
+
+	// Paces batch reads to use at most half the frame rate of the KNX medium, to leave bus capacity for the read
+	// responses. KNX IP routing enforces its own datagram rate limit.
+	private long batchReadInterval() {
+		final int framesPerSecond = switch (lnk.getKNXMedium().getMedium()) {
+			case KNXMediumSettings.MEDIUM_TP1 -> 50;
+			case KNXMediumSettings.MEDIUM_PL110 -> 5;
+			case KNXMediumSettings.MEDIUM_RF -> 10;
+			default -> 0;
+		};
+		return framesPerSecond == 0 ? 0 : 2 * 1_000_000_000L / framesPerSecond;
 	}
 
 	@Override
@@ -394,19 +490,22 @@ public class ProcessCommunicatorImpl implements ProcessCommunicator
 	@Override
 	public double readNumeric(final Datapoint dp) throws KNXException, InterruptedException
 	{
-		final byte[] apdu = readFromGroup(dp.getMainAddress(), dp.getPriority(), 0, 8);
+		final var response = readFromGroup(dp.getMainAddress(), dp.getPriority(), 0, 8);
 		if (dp.dptId().equals(new DptId(0xffff, 0xffff))) {
-			apdu[1] &= 0x3f;
 			// we're parsing the asdu as signed long
 			long l = 0;
-			final int offset = apdu.length == 2 ? 1 : 2;
-			for (int i = offset; i < apdu.length; i++)
-				l = (l << 8) + (apdu[i] & 0xff);
+			for (final byte b : response.getASDU())
+				l = (l << 8) + (b & 0xff);
 			return l;
 		}
-		final DPTXlator t = TranslatorTypes.createTranslator(dp.dptId());
-		extractGroupASDU(apdu, t);
-		return t.getNumericValue();
+		final DPTXlator t = TranslatorTypes.acquireTranslator(dp.dptId());
+		try {
+			extractGroupASDU(response, t);
+			return t.getNumericValue();
+		}
+		finally {
+			TranslatorTypes.releaseTranslator(t);
+		}
 	}
 
 	@Override
@@ -441,28 +540,80 @@ public class ProcessCommunicatorImpl implements ProcessCommunicator
 		}
 	}
 
-	private byte[] readFromGroup(final GroupAddress dst, final Priority p,
+	private ProcessEvent readFromGroup(final GroupAddress dst, final Priority p,
 		final int minASDULen, final int maxASDULen) throws KNXTimeoutException,
 			KNXInvalidResponseException, KNXLinkClosedException, InterruptedException
 	{
 		if (detached)
 			throw new IllegalStateException("process communicator detached");
+		final var response = new CompletableFuture<ProcessEvent>();
+		addPendingRead(dst, response);
 		try {
-			synchronized (indications) {
-				readers.computeIfAbsent(dst, v -> new AtomicInteger()).incrementAndGet();
-				indications.putIfAbsent(dst, NoResponse);
-			}
 			send(dst, p, GROUP_READ, null);
 			logger.log(TRACE, "sent group read request to {0}", dst);
-			return waitForResponse(dst, minASDULen + 2, maxASDULen + 2);
+			return waitForResponse(dst, response, minASDULen, maxASDULen);
 		}
 		finally {
-			synchronized (indications) {
-				final boolean none = readers.get(dst).decrementAndGet() == 0;
-				readers.compute(dst, (k, v) -> none ? null : v);
-				indications.compute(dst, (k, v) -> none ? null : v);
-			}
+			removePendingRead(dst, response);
+		}
+	}
+
+	private CompletableFuture<ProcessEvent> readAsync(final GroupAddress dst, final Priority p) {
+		if (detached)
+			throw new IllegalStateException("process communicator detached");
+		final var response = newPendingRead(dst);
+		Executor.execute(() -> sendRead(dst, p, response));
+		return response;
+	}
+
+	private CompletableFuture<ProcessEvent> newPendingRead(final GroupAddress dst) {
+		final var response = new CompletableFuture<ProcessEvent>();
+		addPendingRead(dst, response);
+		response.whenComplete((__, ___) -> removePendingRead(dst, response));
+		return response;
+	}
+
+	// sends the group read and starts the response timeout once the request is sent; on error, response is
+	// completed exceptionally
+	private void sendRead(final GroupAddress dst, final Priority p, final CompletableFuture<ProcessEvent> response) {
+		try {
+			send(dst, p, GROUP_READ, null);
+			logger.log(TRACE, "sent group read request to {0}", dst);
+			final var timeout = Executor.scheduledExecutor().schedule(() -> response.completeExceptionally(
+					new KNXTimeoutException("timeout waiting for group read response from " + dst)),
+					responseTimeout.toMillis(), TimeUnit.MILLISECONDS);
+			response.whenComplete((__, ___) -> timeout.cancel(false));
 		}
+		catch (KNXTimeoutException | KNXLinkClosedException | RuntimeException e) {
+			response.completeExceptionally(e);
+		}
+		catch (final InterruptedException e) {
+			response.completeExceptionally(e);
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private void addPendingRead(final GroupAddress dst, final CompletableFuture<ProcessEvent> response) {
+		pendingReads.compute(dst, (__, pending) -> {
+			final var list = pending == null ? new ArrayList<CompletableFuture<ProcessEvent>>(1) : pending;
+			list.add(response);
+			return list;
+		});
+	}
+
+	private void removePendingRead(final GroupAddress dst, final CompletableFuture<ProcessEvent> response) {
+		pendingReads.computeIfPresent(dst, (__, pending) -> {
+			pending.remove(response);
+			return pending.isEmpty() ? null : pending;
+		});
+	}
+
+	// completes all reads waiting for a response from the destination of the response event
+	private void completeReads(final ProcessEvent response) {
+		final var pending = pendingReads.remove(response.getDestination());
+		if (pending != null)
+			for (final var read : pending)
+				read.complete(response);
 	}
 
 	protected void send(final GroupAddress dst, final Priority p, final int service, final DPTXlator t)
@@ -486,32 +637,58 @@ public class ProcessCommunicatorImpl implements ProcessCommunicator
 		}
 	}
 
-	private byte[] waitForResponse(final GroupAddress from, final int minAPDU, final int maxAPDU)
+	private ProcessEvent waitForResponse(final GroupAddress from, final CompletableFuture<ProcessEvent> response,
+		final int minASDU, final int maxASDU)
 		throws KNXInvalidResponseException, KNXTimeoutException, InterruptedException
 	{
-		long remaining = responseTimeout.toMillis();
-		final long end = System.currentTimeMillis() + remaining;
-		synchronized (indications) {
-			while (remaining > 0) {
-				final FrameEvent e = indications.get(from);
-				if (e == NoResponse) {
-					indications.wait(remaining);
-					remaining = end - System.currentTimeMillis();
-				}
-				else {
-					final byte[] d = e.getFrame().getPayload();
-					final int len = d.length;
-					// validate length of response we're waiting for
-					if (len >= minAPDU && len <= maxAPDU)
-						return d;
-
-					final String s = "APDU response length " + len + " bytes, expected " + minAPDU + " to " + maxAPDU;
-					logger.log(ERROR, "received group read response from {0} with {1}", from, s);
-					throw new KNXInvalidResponseException(s);
-				}
-			}
+		final ProcessEvent e;
+		try {
+			e = response.get(responseTimeout.toMillis(), TimeUnit.MILLISECONDS);
+		}
+		catch (final TimeoutException te) {
+			throw new KNXTimeoutException("timeout waiting for group read response from " + from);
+		}
+		catch (final ExecutionException ee) {
+			// we never complete exceptionally
+			throw new IllegalStateException(ee.getCause());
+		}
+		final int len = asduLength(e);
+		// validate length of response we're waiting for
+		if (len >= minASDU && len <= maxASDU)
+			return e;
+
+		final int minApdu = minASDU + 2;
+		final int maxApdu = maxASDU + 2;
+		final String s = "APDU response length " + (len + 2) + " bytes, expected " + minApdu + " to " + maxApdu;
+		logger.log(ERROR, "received group read response from {0} with {1}", from, s);
+		throw new KNXInvalidResponseException(s);
+	}
+
+	private static String translate(final Datapoint dp, final ProcessEvent response) throws KNXException {
+		if (dp.dptId().equals(new DptId(0xffff, 0xffff)))
+			return HexFormat.ofDelimiter(" ").formatHex(response.getASDU());
+		final DPTXlator t = TranslatorTypes.acquireTranslator(dp.dptId());
+		try {
+			extractGroupASDU(response, t);
+			return t.getValue();
+		}
+		finally {
+			TranslatorTypes.releaseTranslator(t);
+		}
+	}
+
+	private static String translateAsync(final Datapoint dp, final ProcessEvent response) {
+		try {
+			return translate(dp, response);
+		}
+		catch (final KNXException e) {
+			throw new CompletionException(e);
 		}
-		throw new KNXTimeoutException("timeout waiting for group read response from " + from);
+	}
+
+	// length of ASDU data following the APCI, i.e., 0 for length-optimized APDUs
+	private static int asduLength(final ProcessEvent e) {
+		return e.isLengthOptimizedAPDU() ? 0 : e.getASDU().length;
 	}
 
 	private void fireDetached()
@@ -553,20 +730,16 @@ public class ProcessCommunicatorImpl implements ProcessCommunicator
 	}
 
 	/**
-	 * Extracts the service data unit of an application layer protocol data unit into a DPT
-	 * translator.
+	 * Extracts the service data unit of a group response into a DPT translator.
 	 * <p>
-	 * The whole service data unit is taken as data for translation. If the length of the supplied
-	 * {@code apdu} is 2, a length-optimized (compact) group APDU format layout is assumed.<br>
+	 * The whole service data unit is taken as data for translation.<br>
 	 * On return of this method, the supplied translator contains the DPT items from the ASDU.
 	 *
-	 * @param apdu application layer protocol data unit, 2 &lt;= apdu.length
+	 * @param response group response containing the ASDU
 	 * @param t the DPT translator to fill with the ASDU
 	 */
-	private static void extractGroupASDU(final byte[] apdu, final DPTXlator t)
+	private static void extractGroupASDU(final ProcessEvent response, final DPTXlator t)
 	{
-		if (apdu.length < 2)
-			throw new KNXIllegalArgumentException("minimum APDU length is 2 bytes");
-		t.setData(apdu, apdu.length == 2 ? 1 : 2);
+		t.setData(response.getASDU());
 	}
 }
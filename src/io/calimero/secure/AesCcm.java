@@ -0,0 +1,255 @@
+/*
+    Calimero 3 - A library for KNX network access
+    Copyright (c) 2026 B. Malinowsky
+
+    This program is free software; you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation; either version 2 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program; if not, write to the Free Software
+    Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+
+    Linking this library statically or dynamically with other modules is
+    making a combined work based on this library. Thus, the terms and
+    conditions of the GNU General Public License cover the whole
+    combination.
+
+    As a special exception, the copyright holders of this library give you
+    permission to link this library with independent modules to produce an
+    executable, regardless of the license terms of these independent
+    modules, and to copy and distribute the resulting executable under terms
+    of your choice, provided that you also meet, for each linked independent
+    module, the terms and conditions of the license of that module. An
+    independent module is a module which is not derived from or based on
+    this library. If you modify this library, you may extend this exception
+    to your version of the library, but you are not obligated to do so. If
+    you do not wish to do so, delete this exception statement from your
+    version.
+*/
+
+package io.calimero.secure;
+
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * AES-128 CCM primitives of KNX Data Secure for a single key. The key schedule is expanded once per pooled cipher
+ * instance, and all operations write into caller-supplied buffers. Instances are thread-safe, concurrent callers
+ * use separate ciphers from the pool. After {@link #destroy()}, the key copy is zeroed and no new ciphers are
+ * created.
+ */
+final class AesCcm {
+	static final int MacSize = 4;
+
+	private static final int BlockSize = 16;
+	private static final int MaxPooledEngines = 4;
+
+	private final byte[] key;
+	private volatile boolean destroyed;
+	private final ArrayBlockingQueue<Engine> engines = new ArrayBlockingQueue<>(MaxPooledEngines);
+
+	// cipher with expanded key and scratch blocks, used by one thread at a time
+	private static final class Engine {
+		final Cipher cipher;
+		final byte[] x = new byte[BlockSize];
+		final byte[] s = new byte[BlockSize];
+		final byte[] ctr = new byte[BlockSize];
+		final byte[] y = new byte[MacSize];
+		int pos;
+
+		Engine(final SecretKeySpec key) throws GeneralSecurityException {
+			cipher = Cipher.getInstance("AES/ECB/NoPadding");
+			cipher.init(Cipher.ENCRYPT_MODE, key);
+		}
+
+		void encryptBlock(final byte[] block) throws GeneralSecurityException {
+			cipher.update(block, 0, BlockSize, block, 0);
+		}
+
+		// CBC-MAC absorbing, with implicit zero padding of the last block
+		void startMac(final byte[] b0) throws GeneralSecurityException {
+			System.arraycopy(b0, 0, x, 0, BlockSize);
+			encryptBlock(x);
+			pos = 0;
+		}
+
+		void absorb(final int b) throws GeneralSecurityException {
+			x[pos++] ^= (byte) b;
+			if (pos == BlockSize) {
+				encryptBlock(x);
+				pos = 0;
+			}
+		}
+
+		void absorb(final byte[] data, final int offset, final int length) throws GeneralSecurityException {
+			for (int i = offset; i < offset + length; i++)
+				absorb(data[i]);
+		}
+
+		void finishMac() throws GeneralSecurityException {
+			if (pos > 0)
+				encryptBlock(x);
+			pos = 0;
+		}
+
+		// encrypts counter block ctr0 + n into s
+		void keystreamBlock(final byte[] ctr0, final int n) throws GeneralSecurityException {
+			System.arraycopy(ctr0, 0, ctr, 0, BlockSize);
+			int carry = n;
+			for (int i = BlockSize - 1; i >= 0 && carry != 0; i--) {
+				final int sum = (ctr[i] & 0xff) + (carry & 0xff);
+				ctr[i] = (byte) sum;
+				carry = (carry >>> 8) + (sum >>> 8);
+			}
+			cipher.update(ctr, 0, BlockSize, s, 0);
+		}
+	}
+
+	AesCcm(final byte[] key) {
+		this.key = key.clone();
+	}
+
+	boolean hasKey(final byte[] key) {
+		return !destroyed && MessageDigest.isEqual(this.key, key);
+	}
+
+	// zeroes the key copy and drops pooled ciphers, operations in progress are not affected
+	void destroy() {
+		destroyed = true;
+		Arrays.fill(key, (byte) 0);
+		engines.clear();
+	}
+
+	/**
+	 * Calculates the MAC for authentication-only security.
+	 *
+	 * @param b0 CCM block B<sub>0</sub>
+	 * @param ctr0 CCM counter block 0
+	 * @param apdu APDU array
+	 * @param offset APDU offset
+	 * @param length APDU length
+	 * @param mac buffer receiving the MAC
+	 * @param macOffset offset into {@code mac}
+	 * @throws GeneralSecurityException on cipher error
+	 */
+	void authMac(final byte[] b0, final byte[] ctr0, final byte[] apdu, final int offset, final int length,
+			final byte[] mac, final int macOffset) throws GeneralSecurityException {
+		final var engine = acquire();
+		try {
+			engine.startMac(b0);
+			engine.absorb(length >> 8);
+			engine.absorb(length);
+			// the MAC is taken from the first cipher block following B0, which is the final block for APDUs of up
+			// to 14 bytes
+			final byte[] y = engine.y;
+			for (int i = 0; i < length; i++) {
+				engine.absorb(apdu[offset + i]);
+				if (i == BlockSize - 3)
+					System.arraycopy(engine.x, 0, y, 0, MacSize);
+			}
+			engine.finishMac();
+			if (length <= BlockSize - 2)
+				System.arraycopy(engine.x, 0, y, 0, MacSize);
+
+			engine.keystreamBlock(ctr0, 0);
+			for (int i = 0; i < MacSize; i++)
+				mac[macOffset + i] = (byte) (y[i] ^ engine.s[i]);
+		}
+		finally {
+			release(engine);
+		}
+	}
+
+	/**
+	 * Calculates the (unencrypted) MAC for authentication and confidentiality security.
+	 *
+	 * @param b0 CCM block B<sub>0</sub>
+	 * @param associatedData associated data, i.e., security control field and optional serial number
+	 * @param apdu plain APDU array
+	 * @param offset APDU offset
+	 * @param length APDU length
+	 * @param mac buffer receiving the MAC
+	 * @param macOffset offset into {@code mac}
+	 * @throws GeneralSecurityException on cipher error
+	 */
+	void confMac(final byte[] b0, final byte[] associatedData, final byte[] apdu, final int offset, final int length,
+			final byte[] mac, final int macOffset) throws GeneralSecurityException {
+		final var engine = acquire();
+		try {
+			engine.startMac(b0);
+			engine.absorb(associatedData.length >> 8);
+			engine.absorb(associatedData.length);
+			engine.absorb(associatedData, 0, associatedData.length);
+			engine.absorb(apdu, offset, length);
+			engine.finishMac();
+			System.arraycopy(engine.x, 0, mac, macOffset, MacSize);
+		}
+		finally {
+			release(engine);
+		}
+	}
+
+	/**
+	 * Applies the CTR mode key stream starting at counter block {@code ctr0} to {@code input}; encryption and
+	 * decryption are the same operation. {@code input} and {@code output} may refer to the same buffer region.
+	 *
+	 * @param ctr0 CCM counter block 0
+	 * @param keystreamOffset offset into the key stream, at which the first byte of input is processed
+	 * @param input input array
+	 * @param inputOffset input offset
+	 * @param output output array
+	 * @param outputOffset output offset
+	 * @param length number of bytes to process
+	 * @throws GeneralSecurityException on cipher error
+	 */
+	void ctr(final byte[] ctr0, final int keystreamOffset, final byte[] input, final int inputOffset,
+			final byte[] output, final int outputOffset, final int length) throws GeneralSecurityException {
+		final var engine = acquire();
+		try {
+			int block = -1;
+			for (int i = 0; i < length; i++) {
+				final int k = keystreamOffset + i;
+				if (k / BlockSize != block) {
+					block = k / BlockSize;
+					engine.keystreamBlock(ctr0, block);
+				}
+				output[outputOffset + i] = (byte) (input[inputOffset + i] ^ engine.s[k % BlockSize]);
+			}
+		}
+		finally {
+			release(engine);
+		}
+	}
+
+	private Engine acquire() throws GeneralSecurityException {
+		final var engine = engines.poll();
+		if (engine != null)
+			return engine;
+		if (destroyed)
+			throw new GeneralSecurityException("AES-CCM key destroyed");
+		final var created = new Engine(new SecretKeySpec(key, "AES"));
+		// a concurrent destroy might have zeroed the key before it was copied
+		if (destroyed)
+			throw new GeneralSecurityException("AES-CCM key destroyed");
+		return created;
+	}
+
+	private void release(final Engine engine) {
+		Arrays.fill(engine.x, (byte) 0);
+		Arrays.fill(engine.s, (byte) 0);
+		if (!destroyed)
+			engines.offer(engine);
+	}
+}
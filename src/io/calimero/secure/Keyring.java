@@ -42,13 +42,16 @@ import static java.lang.System.Logger.Level.WARNING;
 import static java.util.function.Predicate.isEqual;
 import static java.util.function.Predicate.not;
 
-import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.lang.System.Logger;
 import java.lang.invoke.MethodHandles;
 import java.net.InetAddress;
 import java.net.UnknownHostException;
 import java.nio.CharBuffer;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.security.GeneralSecurityException;
 import java.security.InvalidKeyException;
 import java.security.MessageDigest;
@@ -63,6 +66,11 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -165,14 +173,20 @@ public final class Keyring {
 		 * @throws KnxSecureException if password or authentication is not available, or decryption fails
 		 */
 		public DecryptedInterface decrypt(final char[] keyringPwd) {
+			try (var unlocked = keyring.unlockUnverified(keyringPwd)) {
+				return decrypt(unlocked::decryptPassword);
+			}
+		}
+
+		private DecryptedInterface decrypt(final Function<byte[], char[]> decryptPassword) {
 			final var encUserPwd = password()
 					.orElseThrow(() -> new KnxSecureException("no user password set for interface " + addr));
-			final var decUserPwd = keyring.decryptPassword(encUserPwd, keyringPwd);
+			final var decUserPwd = decryptPassword.apply(encUserPwd);
 			final var userKey = SecureConnection.hashUserPassword(decUserPwd);
 
 			final byte[] encDevAuth = authentication()
 					.orElseThrow(() -> new KnxSecureException("no device authentication code set for interface " + addr));
-			final char[] decDevAuth = keyring.decryptPassword(encDevAuth, keyringPwd);
+			final char[] decDevAuth = decryptPassword.apply(encDevAuth);
 			final var deviceAuthCode = SecureConnection.hashDeviceAuthenticationPassword(decDevAuth);
 
 			return new DecryptedInterface(type(), addr, user, userKey, deviceAuthCode);
@@ -242,6 +256,168 @@ public final class Keyring {
 		public String toString() { return type + " interface " + address + ", user " + user; }
 	}
 
+	/**
+	 * An unlocked keyring session, which derives the keyring password hash only once and uses it for all subsequent
+	 * decryptions. The password hash is wiped when the session is closed; a decryption attempted afterward fails with
+	 * {@link IllegalStateException}.
+	 *
+	 * @see Keyring#unlock(char[])
+	 */
+	public static final class Unlocked implements AutoCloseable {
+		// minimum number of keys decrypted by one worker during parallel batch decryption
+		private static final int MinKeysPerWorker = 64;
+
+		private final Keyring keyring;
+		private final byte[] pwdHash;
+		// decryptions hold the read lock, close holds the write lock to wipe the password hash
+		private final ReadWriteLock lock = new ReentrantReadWriteLock();
+		private volatile boolean closed;
+
+		private Unlocked(final Keyring keyring, final byte[] pwdHash) {
+			this.keyring = keyring;
+			this.pwdHash = pwdHash;
+		}
+
+		/**
+		 * {@return the keyring unlocked by this session}
+		 */
+		public Keyring keyring() { return keyring; }
+
+		/**
+		 * Decrypts a backbone key, tool key, or group address key.
+		 *
+		 * @param input encrypted key
+		 * @return decrypted key as byte array
+		 * @throws KnxSecureException for cryptographic setup/algorithm problems
+		 * @throws IllegalStateException if this session is closed
+		 */
+		public byte[] decryptKey(final byte[] input) {
+			final var use = acquire();
+			try {
+				return newCipher().doFinal(input);
+			}
+			catch (KnxSecureException e) { throw e; }
+			catch (GeneralSecurityException | RuntimeException e) {
+				throw new KnxSecureException("decrypting key data", e);
+			}
+			finally {
+				use.unlock();
+			}
+		}
+
+		/**
+		 * Decrypts a user password, device authentication code, or management (commissioning) password.
+		 *
+		 * @param input encrypted password
+		 * @return decrypted password as char array
+		 * @throws KnxSecureException for cryptographic setup/algorithm problems
+		 * @throws IllegalStateException if this session is closed
+		 */
+		public char[] decryptPassword(final byte[] input) {
+			final var use = acquire();
+			try {
+				return toChars(extractPassword(newCipher().doFinal(input)));
+			}
+			catch (KnxSecureException e) { throw e; }
+			catch (GeneralSecurityException | RuntimeException e) {
+				throw new KnxSecureException("decrypting password data", e);
+			}
+			finally {
+				use.unlock();
+			}
+		}
+
+		/**
+		 * Returns an interface with decrypted keys.
+		 *
+		 * @param iface keyring interface
+		 * @return DecryptedInterface with decrypted keys of the interface
+		 * @throws KnxSecureException if password or authentication is not available, or decryption fails
+		 */
+		public DecryptedInterface decrypt(final Interface iface) {
+			return iface.decrypt(this::decryptPassword);
+		}
+
+		/**
+		 * Decrypts a batch of keys, e.g., the {@link Keyring#groups()} keys. For larger batches and
+		 * {@code parallel = true}, the keys are decrypted by multiple workers, each using its own cipher instance.
+		 *
+		 * @param <K> key type of the mapping
+		 * @param encrypted mapping of address to encrypted key
+		 * @param parallel {@code true} to allow decrypting in parallel, {@code false} to decrypt in the calling
+		 *        thread
+		 * @return new mapping of address to decrypted key
+		 * @throws KnxSecureException for cryptographic setup/algorithm problems
+		 * @throws IllegalStateException if this session is closed
+		 */
+		public <K> Map<K, byte[]> decryptKeys(final Map<K, byte[]> encrypted, final boolean parallel) {
+			// workers run while we hold the read lock
+			final var use = acquire();
+			try {
+				return decryptKeys(List.copyOf(encrypted.entrySet()), parallel);
+			}
+			finally {
+				use.unlock();
+			}
+		}
+
+		private <K> Map<K, byte[]> decryptKeys(final List<Map.Entry<K, byte[]>> entries, final boolean parallel) {
+			final int workers = parallel
+					? Math.max(1, Math.min(ForkJoinPool.getCommonPoolParallelism(), entries.size() / MinKeysPerWorker))
+					: 1;
+			final var decrypted = new ConcurrentHashMap<K, byte[]>(entries.size());
+			final var stream = IntStream.range(0, workers);
+			(workers > 1 ? stream.parallel() : stream).forEach(worker -> {
+				try {
+					final var cipher = newCipher();
+					for (int i = worker; i < entries.size(); i += workers) {
+						final var entry = entries.get(i);
+						decrypted.put(entry.getKey(), cipher.doFinal(entry.getValue()));
+					}
+				}
+				catch (KnxSecureException e) { throw e; }
+				catch (GeneralSecurityException | RuntimeException e) {
+					throw new KnxSecureException("decrypting key data", e);
+				}
+			});
+			return decrypted;
+		}
+
+		/**
+		 * Closes this session and wipes the keyring password hash, waiting for ongoing decryptions to finish.
+		 */
+		@Override
+		public void close() {
+			lock.writeLock().lock();
+			try {
+				closed = true;
+				Arrays.fill(pwdHash, (byte) 0);
+			}
+			finally {
+				lock.writeLock().unlock();
+			}
+		}
+
+		@Override
+		public String toString() { return (closed ? "closed" : "unlocked") + " keyring '" + keyring.project + "'"; }
+
+		// returns the locked read lock, the caller has to unlock it after use of the password hash
+		private Lock acquire() {
+			final var use = lock.readLock();
+			use.lock();
+			if (closed) {
+				use.unlock();
+				throw new IllegalStateException("keyring session is closed");
+			}
+			return use;
+		}
+
+		// cipher is reusable, doFinal resets it to the initialized state; requires the read lock
+		private Cipher newCipher() throws GeneralSecurityException {
+			return aes128CbcCipher(pwdHash, keyring.createdHash);
+		}
+	}
+
 	public static final class Device {
 		private final IndividualAddress addr;
 		private final byte[] toolkey;
@@ -355,6 +531,8 @@ public final class Keyring {
 
 	private static final byte[] emptyPwd = new byte[0];
 
+	private static final Pattern AddressList = Pattern.compile("[^\\s]+");
+
 	private static final Logger logger = LogService.getLogger(MethodHandles.lookup().lookupClass());
 
 	private final String keyringUri;
@@ -364,6 +542,8 @@ public final class Keyring {
 	private byte[] createdHash = {};
 
 	private byte[] signature;
+	// digest over the canonical keyring content, excluding the password hash, updated during parsing
+	private MessageDigest contentDigest;
 
 	private volatile String project;
 	private volatile Backbone backbone;
@@ -390,6 +570,44 @@ public final class Keyring {
 		return keyring;
 	}
 
+	/**
+	 * Loads an ETS keyring file. Loading a keyring does not decrypt any encrypted data.
+	 *
+	 * @param keyringFile keyring file path, the file name has to end with ".knxkeys"
+	 * @return new Keyring instance containing the keyring information
+	 * @throws KNXMLException on I/O or XML parsing errors, or keyring elements deviating from the expected or
+	 *         requested format
+	 * @throws KnxSecureException for cryptographic setup/algorithm problems
+	 * @see #verifySignature(char[])
+	 */
+	public static Keyring load(final Path keyringFile) {
+		final var keyring = new Keyring(keyringFile.toString(), new char[0]);
+		try (var stream = Files.newInputStream(keyringFile)) {
+			keyring.read(stream);
+		}
+		catch (final IOException e) {
+			throw new KNXMLException("loading keyring '" + keyringFile + "'", e);
+		}
+		return keyring;
+	}
+
+	/**
+	 * Loads an ETS keyring from the supplied input stream, the stream is read until the end of the keyring document.
+	 * Loading a keyring does not decrypt any encrypted data.
+	 *
+	 * @param keyringStream keyring input stream, the stream is not closed by this method
+	 * @return new Keyring instance containing the keyring information
+	 * @throws KNXMLException on XML parsing errors, or keyring elements deviating from the expected or requested
+	 *         format
+	 * @throws KnxSecureException for cryptographic setup/algorithm problems
+	 * @see #verifySignature(char[])
+	 */
+	public static Keyring load(final InputStream keyringStream) {
+		final var keyring = new Keyring("input stream");
+		keyring.read(keyringStream);
+		return keyring;
+	}
+
 	Keyring(final String keyringUri, final char[] keyringPassword) {
 		if (!keyringUri.endsWith(".knxkeys"))
 			throw new KNXIllegalArgumentException("'" + keyringUri + "' is not a keyring file");
@@ -398,9 +616,27 @@ public final class Keyring {
 		this.keyringPassword = keyringPassword;
 	}
 
+	// keyring from a source without resource name
+	private Keyring(final String source) {
+		keyringUri = source;
+		keyringPassword = new char[0];
+	}
+
 	void load() {
-		int line = 0;
 		try (var reader = XmlInputFactory.newInstance().createXMLReader(keyringUri)) {
+			read(reader);
+		}
+	}
+
+	private void read(final InputStream keyringStream) {
+		// don't close the reader, as this would close the stream
+		read(XmlInputFactory.newInstance().createXMLReader(keyringStream));
+	}
+
+	// parses the keyring in a single pass, digesting its canonical form for signature verification on the way
+	private void read(final XmlReader reader) {
+		int line = 0;
+		try {
 			// call nextTag() to dive straight into first element, so we can check the keyring namespace
 			reader.nextTag();
 
@@ -421,15 +657,8 @@ public final class Keyring {
 
 			signature = decode(reader.getAttributeValue(null, "Signature"));
 
-			if (keyringPassword.length > 0) {
-				if (!verifySignature(passwordHash)) {
-					final String msg = "signature verification failed for keyring '" + keyringUri + "'";
-					final boolean strictVerification = true;
-					if (strictVerification)
-						throw new KnxSecureException(msg);
-					logger.log(WARNING, msg);
-				}
-			}
+			final var digest = MessageDigest.getInstance("SHA-256");
+			appendElement(reader, digest);
 
 			Interface iface = null;
 			boolean inDevices = false;
@@ -441,6 +670,8 @@ public final class Keyring {
 
 			for (reader.next(); reader.getEventType() != XmlReader.END_DOCUMENT; reader.next()) {
 				final var event = reader.getEventType();
+				if (event == XmlReader.END_ELEMENT)
+					digest.update((byte) 2);
 
 				if (event != XmlReader.START_ELEMENT) {
 					if (event == XmlReader.END_ELEMENT && "Interface".equals(reader.getLocalName()) && iface != null) {
@@ -451,6 +682,7 @@ public final class Keyring {
 					continue;
 				}
 
+				appendElement(reader, digest);
 				final var name = reader.getLocalName();
 				line = reader.getLocation().getLineNumber();
 				if ("Backbone".equals(name)) { // [0, 1]
@@ -490,7 +722,7 @@ public final class Keyring {
 					final var senders = reader.getAttributeValue(null, "Senders"); // optional, (empty) list of addresses
 					final var list = new ArrayList<IndividualAddress>();
 					if (senders != null) {
-						final Matcher matcher = Pattern.compile("[^\\s]+").matcher(senders);
+						final Matcher matcher = AddressList.matcher(senders);
 						while (matcher.find())
 							list.add(new IndividualAddress(matcher.group()));
 					}
@@ -526,6 +758,18 @@ public final class Keyring {
 					logger.log(WARNING, "keyring ''{0}'': skip unknown element ''{1}''", keyringUri, name);
 			}
 
+			contentDigest = digest;
+			if (keyringPassword.length > 0) {
+				if (!verifySignature(passwordHash)) {
+					final String msg = "signature verification failed for keyring '" + keyringUri + "'";
+					final boolean strictVerification = true;
+					if (strictVerification)
+						throw new KnxSecureException(msg);
+					logger.log(WARNING, msg);
+				}
+			}
+
+			interfaces.replaceAll((__, list) -> List.copyOf(list));
 			this.interfaces = Map.copyOf(interfaces);
 			this.groups = Map.copyOf(groups);
 			this.devices = Map.copyOf(devices);
@@ -549,18 +793,41 @@ public final class Keyring {
 	 *
 	 * @param keyringPassword keyring password used for keyring encryption
 	 * @return {@code true} if signature is valid, {@code false} otherwise
-	 * @throws KNXMLException on XML parsing errors during signature verification
 	 * @throws KnxSecureException if generating the secret key for the password hash fails
 	 */
 	public boolean verifySignature(final char[] keyringPassword) {
+		final var pwdHash = hashKeyringPwd(keyringPassword);
 		try {
-			return verifySignature(hashKeyringPwd(keyringPassword));
+			return verifySignature(pwdHash);
 		}
-		catch (final GeneralSecurityException e) {
-			return false;
+		finally {
+			Arrays.fill(pwdHash, (byte) 0);
 		}
 	}
 
+	/**
+	 * Unlocks this keyring for decrypting keys and passwords. The keyring password hash is derived only once, and
+	 * used for verifying the keyring signature and all decryptions of the returned session. Close the session to
+	 * wipe the password hash.
+	 *
+	 * @param keyringPassword keyring password used for keyring encryption
+	 * @return unlocked keyring session
+	 * @throws KnxSecureException on signature mismatch (invalid keyring or wrong password), or if generating the
+	 *         secret key for the password hash fails
+	 */
+	public Unlocked unlock(final char[] keyringPassword) {
+		final var unlocked = unlockUnverified(keyringPassword);
+		if (!verifySignature(unlocked.pwdHash)) {
+			unlocked.close();
+			throw new KnxSecureException("keyring signature mismatch (invalid keyring or wrong password)");
+		}
+		return unlocked;
+	}
+
+	private Unlocked unlockUnverified(final char[] keyringPassword) {
+		return new Unlocked(this, hashKeyringPwd(keyringPassword));
+	}
+
 	public Optional<Backbone> backbone() { return Optional.ofNullable(backbone); }
 
 	public Map<IndividualAddress, List<Interface>> interfaces() { return interfaces; }
@@ -569,20 +836,20 @@ public final class Keyring {
 
 	public Map<IndividualAddress, Device> devices() { return devices; }
 
-	private boolean verifySignature(final byte[] passwordHash) throws GeneralSecurityException {
-		final var output = new ByteArrayOutputStream();
-		try (var reader = XmlInputFactory.newInstance().createXMLReader(keyringUri)) {
-			while (reader.next() != XmlReader.END_DOCUMENT) {
-				if (reader.getEventType() == XmlReader.START_ELEMENT)
-					appendElement(reader, output);
-				else if (reader.getEventType() == XmlReader.END_ELEMENT)
-					output.write(2);
+	// completes a copy of the content digest with the password hash, the parsed keyring is not read again
+	private boolean verifySignature(final byte[] passwordHash) {
+		final MessageDigest digest;
+		try {
+			synchronized (contentDigest) {
+				digest = (MessageDigest) contentDigest.clone();
 			}
 		}
+		catch (final CloneNotSupportedException e) {
+			throw new KnxSecureException("keyring signature digest", e);
+		}
+		appendString(Base64.getEncoder().encode(passwordHash), digest);
 
-		appendString(Base64.getEncoder().encode(passwordHash), output);
-
-		final byte[] outputHash = sha256(output.toByteArray());
+		final byte[] outputHash = Arrays.copyOf(digest.digest(), 16);
 		return Arrays.equals(outputHash, signature);
 	}
 
@@ -595,15 +862,8 @@ public final class Keyring {
 	 * @throws KnxSecureException for cryptographic setup/algorithm problems
 	 */
 	public byte[] decryptKey(final byte[] input, final char[] keyringPassword) {
-		final var pwdHash = hashKeyringPwd(keyringPassword);
-		try {
-			return aes128Cbc(input, pwdHash, createdHash);
-		}
-		catch (GeneralSecurityException | RuntimeException e) {
-			throw new KnxSecureException("decrypting key data", e);
-		}
-		finally {
-			Arrays.fill(pwdHash, (byte) 0);
+		try (var unlocked = unlockUnverified(keyringPassword)) {
+			return unlocked.decryptKey(input);
 		}
 	}
 
@@ -617,21 +877,8 @@ public final class Keyring {
 	 * @throws KnxSecureException for cryptographic setup/algorithm problems or invalid keyring password
 	 */
 	public char[] decryptPassword(final byte[] input, final char[] keyringPassword) {
-		final var keyringPwdHash = hashKeyringPwd(keyringPassword);
-		try {
-			final byte[] pwdData = extractPassword(aes128Cbc(input, keyringPwdHash, createdHash));
-			final var chars = new char[pwdData.length];
-			for (int i = 0; i < pwdData.length; i++)
-				chars[i] = (char) (pwdData[i] & 0xff);
-			Arrays.fill(pwdData, (byte) 0);
-			return chars;
-		}
-		catch (KnxSecureException e) { throw e; }
-		catch (GeneralSecurityException | RuntimeException e) {
-			throw new KnxSecureException("decrypting password data", e);
-		}
-		finally {
-			Arrays.fill(keyringPwdHash, (byte) 0);
+		try (var unlocked = unlockUnverified(keyringPassword)) {
+			return unlocked.decryptPassword(input);
 		}
 	}
 
@@ -698,23 +945,23 @@ public final class Keyring {
 		return parser.apply(attr);
 	}
 
-	private static void appendElement(final XmlReader reader, final ByteArrayOutputStream output) {
-		output.write(1);
-		appendString(utf8Bytes(reader.getLocalName()), output);
+	private static void appendElement(final XmlReader reader, final MessageDigest digest) {
+		digest.update((byte) 1);
+		appendString(utf8Bytes(reader.getLocalName()), digest);
 
 		IntStream.range(0, reader.getAttributeCount()).mapToObj(reader::getAttributeLocalName)
 				.filter(not(isEqual("xmlns").or(isEqual("Signature")))).sorted()
-				.forEach(attr -> appendAttribute(attr, reader, output));
+				.forEach(attr -> appendAttribute(attr, reader, digest));
 	}
 
-	private static void appendAttribute(final String attr, final XmlReader reader, final ByteArrayOutputStream output) {
-		appendString(utf8Bytes(attr), output);
-		appendString(utf8Bytes(reader.getAttributeValue(null, attr)), output);
+	private static void appendAttribute(final String attr, final XmlReader reader, final MessageDigest digest) {
+		appendString(utf8Bytes(attr), digest);
+		appendString(utf8Bytes(reader.getAttributeValue(null, attr)), digest);
 	}
 
-	private static void appendString(final byte[] str, final ByteArrayOutputStream output) {
-		output.write(str.length);
-		output.write(str, 0, str.length);
+	private static void appendString(final byte[] str, final MessageDigest digest) {
+		digest.update((byte) str.length);
+		digest.update(str);
 	}
 
 	private static byte[] decode(final String base64) {
@@ -742,15 +989,21 @@ public final class Keyring {
 		}
 	}
 
-	private static byte[] aes128Cbc(final byte[] input, final byte[] key, final byte[] iv)
-		throws GeneralSecurityException {
-
+	private static Cipher aes128CbcCipher(final byte[] key, final byte[] iv) throws GeneralSecurityException {
 		final var cipher = Cipher.getInstance("AES/CBC/NoPadding");
 		final var keySpec = new SecretKeySpec(key, "AES");
 		final var params = new IvParameterSpec(iv);
 
 		cipher.init(Cipher.DECRYPT_MODE, keySpec, params);
-		return cipher.doFinal(input);
+		return cipher;
+	}
+
+	private static char[] toChars(final byte[] pwdData) {
+		final var chars = new char[pwdData.length];
+		for (int i = 0; i < pwdData.length; i++)
+			chars[i] = (char) (pwdData[i] & 0xff);
+		Arrays.fill(pwdData, (byte) 0);
+		return chars;
 	}
 
 	private static byte[] sha256(final byte[] input) throws NoSuchAlgorithmException {
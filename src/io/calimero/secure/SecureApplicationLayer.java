@@ -65,10 +65,6 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.IntUnaryOperator;
 
-import javax.crypto.Cipher;
-import javax.crypto.spec.IvParameterSpec;
-import javax.crypto.spec.SecretKeySpec;
-
 import io.calimero.CloseEvent;
 import io.calimero.DataUnitBuilder;
 import io.calimero.FrameEvent;
@@ -141,6 +137,10 @@ public class SecureApplicationLayer implements AutoCloseable {
 
 	private final Security security;
 
+	// AES-CCM engines with expanded key schedule, keyed by the group or device address the security key belongs to
+	private static final int MaxCcmEngines = 256;
+	private final Map<KNXAddress, AesCcm> ccmEngines = new ConcurrentHashMap<>();
+
 
 	private volatile Instant lastSyncRes = Instant.EPOCH;
 
@@ -453,18 +453,20 @@ public class SecureApplicationLayer implements AutoCloseable {
 		final byte[] iv = block0(seqOrRand, src, dst, extendedFrameFormat, tpci, SecureService, apdu.length);
 		final var ctr0 = blockCtr0(seqOrRand, src, dst);
 
+		final byte[] out = secureApdu.array();
+		final int apduOffset = secureApdu.position();
+		final int macOffset = apduOffset + apdu.length;
+		final KNXAddress keyOwner = toolAccess && dst.getRawAddress() == 0 ? address() : dst;
 		try {
+			final var ccm = ccm(keyOwner, key);
 			if (secCtrl.security() == DataSecurity.AuthConf) {
-				final byte[] mac = confMac(associatedData.array(), apdu, key, iv);
-				final byte[] input = ByteBuffer.allocate(MacSize + apdu.length).put(mac).put(apdu).array();
-				final byte[] encrypted = encrypt(input, key, ctr0);
-				secureApdu.put(encrypted, MacSize, apdu.length);
-				secureApdu.put(encrypted, 0, MacSize);
+				ccm.confMac(iv, associatedData.array(), apdu, 0, apdu.length, out, macOffset);
+				ccm.ctr(ctr0, MacSize, apdu, 0, out, apduOffset, apdu.length);
+				ccm.ctr(ctr0, 0, out, macOffset, out, macOffset, MacSize);
 			}
 			else {
-				secureApdu.put(apdu);
-				final byte[] mac = mac(apdu, key, iv, ctr0);
-				secureApdu.put(mac);
+				System.arraycopy(apdu, 0, out, apduOffset, apdu.length);
+				ccm.authMac(iv, ctr0, apdu, 0, apdu.length, out, macOffset);
 			}
 		}
 		catch (final GeneralSecurityException e) {
@@ -472,7 +474,7 @@ public class SecureApplicationLayer implements AutoCloseable {
 			throw new KnxSecureException(format("securing %s->%s", src, dst), e);
 		}
 
-		return Optional.of(secureApdu.array());
+		return Optional.of(out);
 	}
 
 	public SalService extract(final CEMILData ldata) {
@@ -561,10 +563,11 @@ public class SecureApplicationLayer implements AutoCloseable {
 		final boolean broadcast = dst.equals(GroupAddress.Broadcast);
 		final boolean isGroupDst = dst instanceof GroupAddress && !broadcast;
 
+		final KNXAddress keyOwner = isGroupDst ? dst
+				: toolAccess && src.equals(address()) && !broadcast ? dst : src;
 		if (key == null)
 			// if we have a group service, check group key table first
-			key = isGroupDst ? securityKey(dst) : toolAccess
-					? toolKey(src.equals(address()) && !broadcast ? (IndividualAddress) dst : src) : securityKey(src);
+			key = isGroupDst ? securityKey(dst) : toolAccess ? toolKey((IndividualAddress) keyOwner) : securityKey(src);
 		if (key == null)
 			return new SalService(securityCtrl, new byte[0]);
 
@@ -635,7 +638,8 @@ public class SecureApplicationLayer implements AutoCloseable {
 			plainApdu = apdu;
 
 			try {
-				final byte[] calculated = mac(plainApdu, key, iv, ctr0);
+				final byte[] calculated = new byte[MacSize];
+				ccm(keyOwner, key).authMac(iv, ctr0, plainApdu, 0, plainApdu.length, calculated, 0);
 				verifyMac(mac, calculated, src, dst, receivedSeq);
 			}
 			catch (final GeneralSecurityException e) {
@@ -644,24 +648,24 @@ public class SecureApplicationLayer implements AutoCloseable {
 			}
 		}
 		else { // auth+conf
-			final var input = ByteBuffer.allocate(MacSize + apdu.length).put(mac).put(apdu);
-			final byte[] decrypted;
+			final var ccm = ccm(keyOwner, key);
+			final var decryptedMac = new byte[MacSize];
+			plainApdu = apdu;
 			try {
-				decrypted = decrypt(input.array(), key, ctr0);
+				ccm.ctr(ctr0, 0, mac, 0, decryptedMac, 0, MacSize);
+				ccm.ctr(ctr0, MacSize, apdu, 0, plainApdu, 0, apdu.length);
 			}
 			catch (final GeneralSecurityException e) {
 				securityFailure(CryptoError, src, dst, receivedSeq);
 				throw new KnxSecureException(format("decrypting %s->%s", src, dst), e);
 			}
 
-			final var decryptedMac = Arrays.copyOfRange(decrypted, 0, MacSize);
-			plainApdu = Arrays.copyOfRange(decrypted, MacSize, decrypted.length);
-
 			final var associatedData = ByteBuffer.allocate(syncReq ? 7 : 1).put((byte) scf);
 			if (syncReq)
 				associatedData.put(sno);
 			try {
-				final byte[] calculated = confMac(associatedData.array(), plainApdu, key, iv);
+				final byte[] calculated = new byte[MacSize];
+				ccm.confMac(iv, associatedData.array(), plainApdu, 0, plainApdu.length, calculated, 0);
 				verifyMac(decryptedMac, calculated, src, dst, receivedSeq);
 			}
 			catch (final GeneralSecurityException e) {
@@ -755,13 +759,13 @@ public class SecureApplicationLayer implements AutoCloseable {
 		final AutoCloseable removeableBroadcastKey = () -> {
 			final var broadcastKey = security.broadcastToolKeys().remove(serialNumber);
 			if (broadcastKey != null)
-				Arrays.fill(broadcastKey, (byte) 0);
+				discardKey(broadcastKey);
 		};
 
 		final var future = request.future.whenComplete((__, ex) -> {
 			pendingBcSyncRequests.remove(serialNumber);
 			if (ex != null)
-				Arrays.fill(request.key(), (byte) 0);
+				discardKey(request.key());
 			else
 				security.broadcastToolKeys().put(serialNumber, request.key());
 		}).thenApply(__ -> removeableBroadcastKey);
@@ -773,6 +777,7 @@ public class SecureApplicationLayer implements AutoCloseable {
 	@Override
 	public void close() {
 		link.removeLinkListener(linkListener);
+		clearCcmEngines();
 	}
 
 	public Security security() { return security; }
@@ -799,7 +804,7 @@ public class SecureApplicationLayer implements AutoCloseable {
 
 	protected byte[] securityKey(final KNXAddress addr) {
 		if (addr instanceof final GroupAddress group) {
-			final var key = security.groupKeys().get(group);
+			final var key = security.groupKey(group);
 			if (key == null)
 				throw new KnxSecureException("no group key for " + group);
 			return key;
@@ -838,7 +843,7 @@ public class SecureApplicationLayer implements AutoCloseable {
 	}
 
 	protected int groupObjectSecurity(final GroupAddress group) {
-		if (security.groupKeys().containsKey(group))
+		if (security.hasGroupKey(group))
 			return 3;
 		return 0;
 	}
@@ -1009,37 +1014,55 @@ public class SecureApplicationLayer implements AutoCloseable {
 		return seq;
 	}
 
-	private static byte[] mac(final byte[] apdu, final byte[] key, final byte[] iv, final byte[] ctr0)
-			throws GeneralSecurityException {
-		final ByteBuffer buf = ByteBuffer.allocate(2 + apdu.length);
-		buf.putShort((short) apdu.length);
-		buf.put(apdu);
-		final byte[] y = aesCbc(buf.array(), key, iv);
-		final byte[] msbY = Arrays.copyOfRange(y, 0, MacSize);
-		final byte[] result = encrypt(msbY, key, ctr0);
-		return Arrays.copyOfRange(result, 0, MacSize);
+	// returns the cached engine for the current security key of owner, keys not configured in our security
+	// object for owner (e.g., sync.req broadcast keys) get an uncached engine
+	private AesCcm ccm(final KNXAddress owner, final byte[] key) {
+		final var ccm = ccmEngines.get(owner);
+		if (ccm != null && ccm.hasKey(key))
+			return ccm;
+		// drop engines of keys changed or removed since caching
+		ccmEngines.entrySet().removeIf(entry -> {
+			final var cached = entry.getValue();
+			final var current = configuredKey(entry.getKey());
+			if (current != null && cached.hasKey(current))
+				return false;
+			cached.destroy();
+			return true;
+		});
+		if (!Arrays.equals(configuredKey(owner), key))
+			return new AesCcm(key);
+		if (ccmEngines.size() >= MaxCcmEngines)
+			clearCcmEngines();
+		return ccmEngines.compute(owner, (__, cached) -> {
+			if (cached != null && cached.hasKey(key))
+				return cached;
+			if (cached != null)
+				cached.destroy();
+			return new AesCcm(key);
+		});
 	}
 
-	private static byte[] confMac(final byte[] associatedData, final byte[] apdu, final byte[] key, final byte[] iv)
-			throws GeneralSecurityException {
-		final ByteBuffer buf = ByteBuffer.allocate(2 + associatedData.length + apdu.length);
-		buf.putShort((short) associatedData.length);
-		buf.put(associatedData);
-		buf.put(apdu);
-		final var y = aesCbc(buf.array(), key, iv);
-		return Arrays.copyOfRange(y, y.length - 16, y.length - 16 + MacSize);
+	private byte[] configuredKey(final KNXAddress owner) {
+		if (owner instanceof final GroupAddress group)
+			return security.groupKey(group);
+		return toolKey((IndividualAddress) owner);
 	}
 
-	private static byte[] aesCbc(final byte[] input, final byte[] key, final byte[] iv)
-			throws GeneralSecurityException {
-		final var cipher = Cipher.getInstance("AES/CBC/NoPadding");
-		final var secretKey = new SecretKeySpec(key, "AES");
-		final var params = new IvParameterSpec(new byte[16]);
+	private void clearCcmEngines() {
+		ccmEngines.values().removeIf(ccm -> {
+			ccm.destroy();
+			return true;
+		});
+	}
 
-		cipher.init(Cipher.ENCRYPT_MODE, secretKey, params);
-		cipher.update(iv);
-		final byte[] padded = Arrays.copyOf(input, (input.length + 15) / 16 * 16);
-		return cipher.doFinal(padded);
+	private void discardKey(final byte[] key) {
+		ccmEngines.values().removeIf(ccm -> {
+			if (!ccm.hasKey(key))
+				return false;
+			ccm.destroy();
+			return true;
+		});
+		Arrays.fill(key, (byte) 0);
 	}
 
 	private static byte[] block0(final byte[] seqOrRand, final IndividualAddress src, final KNXAddress dst,
@@ -1074,25 +1097,4 @@ public class SecureApplicationLayer implements AutoCloseable {
 		}
 		return block.array();
 	}
-
-	private static byte[] encrypt(final byte[] input, final byte[] key, final byte[] iv)
-			throws GeneralSecurityException {
-		final var cipher = Cipher.getInstance("AES/CTR/NoPadding");
-		final var secretKey = new SecretKeySpec(key, "AES");
-		final var params = new IvParameterSpec(iv);
-
-		cipher.init(Cipher.ENCRYPT_MODE, secretKey, params);
-		final byte[] padded = Arrays.copyOf(input, (input.length + 15) / 16 * 16);
-		return cipher.doFinal(padded);
-	}
-
-	private static byte[] decrypt(final byte[] input, final byte[] key, final byte[] iv)
-			throws GeneralSecurityException {
-		final var cipher = Cipher.getInstance("AES/CTR/NoPadding");
-		final var secretKey = new SecretKeySpec(key, "AES");
-		final var params = new IvParameterSpec(iv);
-
-		cipher.init(Cipher.DECRYPT_MODE, secretKey, params);
-		return cipher.doFinal(input);
-	}
 }
@@ -36,11 +36,13 @@
 
 package io.calimero.secure;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import io.calimero.GroupAddress;
@@ -57,6 +59,8 @@ public final class Security {
 
 	private final Map<IndividualAddress, byte[]> deviceToolKeys = new ConcurrentHashMap<>();
 	private final Map<GroupAddress, byte[]> groupKeys = new ConcurrentHashMap<>();
+	// encrypted group keys of lazily used keyrings, decrypted on first use of the group address
+	private final Map<GroupAddress, Supplier<byte[]>> pendingGroupKeys = new ConcurrentHashMap<>();
 	private final Map<GroupAddress, Set<IndividualAddress>> groupSenders = new ConcurrentHashMap<>();
 	private final Map<IndividualAddress, Map<GroupAddress, Set<IndividualAddress>>> sendersByInterface = new ConcurrentHashMap<>();
 	private final Map<SerialNumber, byte[]> broadcastToolKeys = new ConcurrentHashMap<>();
@@ -95,20 +99,44 @@ public final class Security {
 	 * @param password keyring password
 	 */
 	public void useKeyring(final Keyring keyring, final char[] password) {
-		if (!keyring.verifySignature(password))
-			throw new KnxSecureException("keyring signature mismatch (invalid keyring or wrong password)");
-
-		final var devices = keyring.devices();
-		devices.forEach((addr, device) -> device.toolKey().ifPresent(
-				toolkey -> deviceToolKeys.put(addr, keyring.decryptKey(toolkey, password))));
-
-		keyring.groups().forEach((addr, key) -> groupKeys.put(addr, keyring.decryptKey(key, password)));
+		try (var unlocked = keyring.unlock(password)) {
+			useKeyring(unlocked, false);
+		}
+	}
 
+	/**
+	 * Adds KNX secure information of the supplied unlocked keyring to this security instance;
+	 * keyring entries will overwrite existing key data.
+	 * With {@code lazy = false}, all keys are decrypted immediately, using parallel batch decryption.
+	 * With {@code lazy = true}, group keys are decrypted on first use of the corresponding group address (or on
+	 * the first call to {@link #groupKeys()}); the keyring session must not be closed before then.
+	 *
+	 * @param keyring unlocked keyring to add
+	 * @param lazy {@code true} to defer group key decryption to the first use of a group address, {@code false}
+	 *        to decrypt all keys immediately
+	 */
+	public void useKeyring(final Keyring.Unlocked keyring, final boolean lazy) {
+		final var devices = keyring.keyring().devices();
+		final var toolKeys = new HashMap<IndividualAddress, byte[]>();
+		devices.forEach((addr, device) -> device.toolKey().ifPresent(toolkey -> toolKeys.put(addr, toolkey)));
+		deviceToolKeys.putAll(keyring.decryptKeys(toolKeys, true));
+
+		final var groups = keyring.keyring().groups();
+		if (lazy) {
+			groups.forEach((addr, key) -> {
+				pendingGroupKeys.put(addr, () -> keyring.decryptKey(key));
+				groupKeys.remove(addr);
+			});
+		}
+		else {
+			groupKeys.putAll(keyring.decryptKeys(groups, true));
+			groups.keySet().forEach(pendingGroupKeys::remove);
+		}
 
-		final var interfaceAddresses = keyring.interfaces().values().stream().flatMap(List::stream)
+		final var interfaceAddresses = keyring.keyring().interfaces().values().stream().flatMap(List::stream)
 				.map(Interface::address).collect(Collectors.toSet());
 
-		for (final var interfaces : keyring.interfaces().values()) {
+		for (final var interfaces : keyring.keyring().interfaces().values()) {
 			for (final var i : interfaces) {
 				for (final var entry : i.groups().entrySet()) {
 					final var senders = groupSenders.computeIfAbsent(entry.getKey(),
@@ -118,7 +146,7 @@ public final class Security {
 			}
 		}
 
-		keyring.interfaces().values().stream().flatMap(List::stream)
+		keyring.keyring().interfaces().values().stream().flatMap(List::stream)
 				.forEach(entry -> sendersByInterface.put(entry.address(), mutableMapOf(entry.groups())));
 	}
 
@@ -150,9 +178,29 @@ public final class Security {
 	 * @return modifiable mapping of group address to group key
 	 */
 	public Map<GroupAddress, byte[]> groupKeys() {
+		pendingGroupKeys.keySet().forEach(this::groupKey);
 		return groupKeys;
 	}
 
+	// returns the group key, decrypting a pending key on first use; null if group is not secured
+	byte[] groupKey(final GroupAddress group) {
+		final var key = groupKeys.get(group);
+		if (key != null || pendingGroupKeys.isEmpty())
+			return key;
+		return groupKeys.computeIfAbsent(group, __ -> {
+			final var pending = pendingGroupKeys.get(group);
+			if (pending == null)
+				return null;
+			final var decrypted = pending.get();
+			pendingGroupKeys.remove(group);
+			return decrypted;
+		});
+	}
+
+	boolean hasGroupKey(final GroupAddress group) {
+		return groupKeys.containsKey(group) || pendingGroupKeys.containsKey(group);
+	}
+
 	/**
 	 * Returns the secure datapoints currently configured for this security object, together with the addresses
 	 * of devices acting as senders for that specific datapoint.
@@ -42,9 +42,7 @@ import static java.lang.System.Logger.Level.INFO;
 import static java.lang.System.Logger.Level.TRACE;
 import static java.lang.System.Logger.Level.WARNING;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.io.InputStream;
 import java.io.OutputStream;
 import java.lang.System.Logger;
 import java.time.Duration;
@@ -55,9 +53,15 @@ import java.util.HashSet;
 import java.util.HexFormat;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -72,6 +76,7 @@ import io.calimero.KNXException;
 import io.calimero.KNXFormatException;
 import io.calimero.KNXIllegalArgumentException;
 import io.calimero.KNXListener;
+import io.calimero.Priority;
 import io.calimero.cemi.CEMI;
 import io.calimero.cemi.CEMIBusMon;
 import io.calimero.cemi.CEMIFactory;
@@ -161,13 +166,22 @@ public class TpuartConnection implements Connection<byte[]>
 
 	private static final int MaxSendAttempts = 4;
 
+	private static final int SendQueueCapacity = 64;
+
 
 	private final String portId;
 	private final SerialCom com;
 	private final OutputStream os;
-	private final InputStream is;
 
 	private final Receiver receiver = new Receiver();
+	private final Writer writer = new Writer();
+
+	// frames waiting for the writer, ordered by priority class, then FIFO
+	private final PriorityBlockingQueue<SendRequest> sendQueue = new PriorityBlockingQueue<>();
+	private final Semaphore sendQueueSlots = new Semaphore(SendQueueCapacity);
+	private final AtomicLong sendSequence = new AtomicLong();
+	private final LongAdder busBusyNanos = new LongAdder();
+	private volatile boolean closed;
 
 	private final ReentrantLock lock = new ReentrantLock();
 	private final Condition con = lock.newCondition();
@@ -177,6 +191,7 @@ public class TpuartConnection implements Connection<byte[]>
 
 	// NYI compare to received frame for .con, or just remove
 	private volatile byte[] req;
+	private volatile boolean positiveCon;
 
 	private volatile boolean busmon;
 	private volatile int busmonSequence;
@@ -200,17 +215,24 @@ public class TpuartConnection implements Connection<byte[]>
 	 * @throws KNXException on error opening the communication port, or initializing the TP-UART controller
 	 */
 	public TpuartConnection(final String portId, final Collection<? extends KNXAddress> acknowledge) throws KNXException
+	{
+		this(SerialConnectionFactory.open(portId, UartBaudRate, Duration.ZERO, Duration.ofMillis(5)), portId,
+				acknowledge);
+	}
+
+	TpuartConnection(final SerialCom com, final String portId, final Collection<? extends KNXAddress> acknowledge)
+		throws KNXException
 	{
 		this.portId = portId;
 		logger = LogService.getAsyncLogger(tpuartPrefix + ":" + portId);
-		com = SerialConnectionFactory.open(portId, UartBaudRate, Duration.ZERO, Duration.ofMillis(5));
+		this.com = com;
 		os = com.outputStream();
-		is = com.inputStream();
 
 		addresses.add(GroupAddress.Broadcast);
 		addresses.addAll(acknowledge);
 
 		Executor.execute(receiver, "Calimero TP-UART receiver");
+		Executor.execute(writer, "Calimero TP-UART writer");
 		try {
 			reset();
 		}
@@ -315,7 +337,9 @@ public class TpuartConnection implements Connection<byte[]>
 	/**
 	 * Sends a cEMI L-Data frame, either waiting for confirmation or non-blocking. Sending is not-permitted in
 	 * busmonitor mode. A cEMI frame for TP1 does not require any additional information, any additional information is
-	 * ignored.
+	 * ignored. Frames are queued and written one at a time, see {@link #sendAsync(byte[])}; if the send queue is full,
+	 * this method waits for a free queue slot. A non-blocking send returns as soon as the frame is queued, i.e., before
+	 * the frame is written to the TP-UART.
 	 *
 	 * @param frame cEMI L-Data msg as byte array
 	 * @param waitForCon wait for L_Data.con (blocking) or not (non-blocking)
@@ -323,59 +347,162 @@ public class TpuartConnection implements Connection<byte[]>
 	 * @throws KNXAckTimeoutException on send/receive timeout (or if no ACK from the bus was received)
 	 * @throws InterruptedException on thread interrupt, a send waiting for L-Data confirmation will be cancelled
 	 */
-	// TODO sync concurrent sends
 	public void send(final byte[] frame, final boolean waitForCon)
 		throws KNXPortClosedException, KNXAckTimeoutException, InterruptedException
 	{
+		final var request = newSendRequest(frame);
+		sendQueueSlots.acquire();
+		enqueue(request);
+		if (!waitForCon)
+			return;
 		try {
-			final byte[] tp1Frame = cEmiToTP1(frame);
-			final byte[] data = toUartServices(tp1Frame);
-			logger.log(TRACE, () -> "create UART services " + HexFormat.ofDelimiter(" ").formatHex(data));
-			req = frame.clone();
-
-			// force cool down period if we got a crispy chip
-			final long coolDownMillis = (receiver.coolDownUntil - System.nanoTime()) / 1_000_000;
-			if (coolDownMillis > 0)
-				Thread.sleep(coolDownMillis);
-
-			final long start = System.nanoTime();
-			final boolean group = (frame[3] & 0x80) == 0x80;
-			if (group)
-				sending.put(new GroupAddress(new byte[] { frame[6], frame[7] }), start);
-
-			final boolean logReadyForSending = !idle;
-			lock.lock();
-			try {
-				if (!idle)
-					enterIdle.await();
-			}
-			finally {
-				lock.unlock();
-			}
-			if (logReadyForSending)
-				logger.log(TRACE, "UART ready for sending after {0} us", (System.nanoTime() - start) / 1000);
-			logger.log(DEBUG, "write UART services, {0}", (waitForCon ? "waiting for .con" : "non-blocking"));
+			request.result.get();
+		}
+		catch (final InterruptedException e) {
+			request.result.cancel(false);
+			throw e;
+		}
+		catch (final ExecutionException e) {
+			final var cause = e.getCause();
+			if (cause instanceof final KNXPortClosedException pce)
+				throw pce;
+			if (cause instanceof final KNXAckTimeoutException ate)
+				throw ate;
+			throw new KNXPortClosedException("error sending frame", portId, cause);
+		}
+	}
 
-			lock.lock();
-			try {
-				os.write(data);
-				if (!waitForCon)
-					return;
-				if (waitForCon(tp1Frame.length))
-					return;
-			}
-			finally {
-				lock.unlock();
-			}
-			throw new KNXAckTimeoutException("no ACK for L-Data.con");
+	/**
+	 * Queues a cEMI L-Data frame for sending, without waiting for the frame to be sent. Queued frames are written by a
+	 * single writer in the order of their KNX priority class as used by TP1 bus arbitration (system, urgent, normal,
+	 * low), and in order of submission within the same priority class. Sending is not-permitted in busmonitor mode.
+	 *
+	 * @param frame cEMI L-Data msg as byte array
+	 * @return future completing with {@code true} on a positive L_Data.con, {@code false} on a negative L_Data.con;
+	 *         the future completes exceptionally with {@link KNXAckTimeoutException} if no L_Data.con was received,
+	 *         with {@link KNXPortClosedException} if the connection got closed, or with {@link KNXException} if the
+	 *         send queue is full. Cancelling the future removes a frame not yet written from the queue, and frees its
+	 *         queue slot.
+	 */
+	public CompletableFuture<Boolean> sendAsync(final byte[] frame)
+	{
+		final var request = newSendRequest(frame);
+		if (!sendQueueSlots.tryAcquire())
+			return CompletableFuture.failedFuture(new KNXException("TP-UART send queue full (" + SendQueueCapacity
+					+ " frames)"));
+		try {
+			enqueue(request);
 		}
-		catch (final IOException e) {
-			close();
-			throw new KNXPortClosedException("I/O error", portId, e);
+		catch (final KNXPortClosedException e) {
+			return CompletableFuture.failedFuture(e);
+		}
+		return request.result;
+	}
+
+	/**
+	 * {@return the number of frames currently waiting in the send queue, not counting cancelled frames}
+	 */
+	public int sendQueueSize()
+	{
+		return (int) sendQueue.stream().filter(request -> !request.result.isDone()).count();
+	}
+
+	/**
+	 * Returns the accumulated time queued frames had to wait for the bus to become idle (or for a TP-UART cool down
+	 * period to end), before they could be written.
+	 *
+	 * @return total bus busy time of this connection
+	 */
+	public Duration busBusyTime()
+	{
+		return Duration.ofNanos(busBusyNanos.sum());
+	}
+
+	private SendRequest newSendRequest(final byte[] frame)
+	{
+		final byte[] tp1Frame = cEmiToTP1(frame);
+		// TP1 arbitration: system, urgent, normal, low
+		final var priority = Priority.get((tp1Frame[0] >> 2) & 0x03);
+		final int rank = switch (priority) {
+			case SYSTEM -> 0;
+			case URGENT -> 1;
+			case NORMAL -> 2;
+			case LOW -> 3;
+		};
+		return new SendRequest(rank, sendSequence.getAndIncrement(), frame.clone(), tp1Frame, new CompletableFuture<>());
+	}
+
+	private void enqueue(final SendRequest request) throws KNXPortClosedException
+	{
+		if (closed) {
+			sendQueueSlots.release();
+			throw new KNXPortClosedException("TP-UART connection closed", portId);
+		}
+		sendQueue.add(request);
+		// whoever removes a request from the queue releases its slot
+		request.result.whenComplete((__, ___) -> {
+			if (request.result.isCancelled() && sendQueue.remove(request))
+				sendQueueSlots.release();
+		});
+		// we might have raced with close
+		if (closed)
+			failQueuedRequests();
+	}
+
+	private void failQueuedRequests()
+	{
+		for (var request = sendQueue.poll(); request != null; request = sendQueue.poll()) {
+			sendQueueSlots.release();
+			request.result.completeExceptionally(new KNXPortClosedException("TP-UART connection closed", portId));
+		}
+	}
+
+	// write the UART services of one frame and wait for its confirmation
+	private boolean write(final SendRequest request, final byte[] uartServices)
+		throws IOException, InterruptedException, KNXAckTimeoutException
+	{
+		final byte[] tp1Frame = request.tp1Frame;
+		final int length = toUartServices(tp1Frame, uartServices);
+		logger.log(TRACE, () -> "create UART services " + HexFormat.ofDelimiter(" ").formatHex(uartServices, 0, length));
+		final byte[] frame = request.frame;
+
+		final long start = System.nanoTime();
+		// force cool down period if we got a crispy chip
+		final long coolDownMillis = (receiver.coolDownUntil - start) / 1_000_000;
+		if (coolDownMillis > 0)
+			Thread.sleep(coolDownMillis);
+
+		final boolean group = (frame[3] & 0x80) == 0x80;
+		if (group)
+			sending.put(new GroupAddress(new byte[] { frame[6], frame[7] }), start);
+
+		final boolean logReadyForSending = !idle;
+		lock.lock();
+		try {
+			if (!idle)
+				enterIdle.await();
+		}
+		finally {
+			lock.unlock();
+		}
+		final long busy = System.nanoTime() - start;
+		busBusyNanos.add(busy);
+		if (logReadyForSending)
+			logger.log(TRACE, "UART ready for sending after {0} us", busy / 1000);
+		logger.log(DEBUG, "write UART services, {0} frames queued", sendQueue.size());
+
+		req = frame;
+		lock.lock();
+		try {
+			os.write(uartServices, 0, length);
+			if (waitForCon(tp1Frame.length))
+				return positiveCon;
 		}
 		finally {
 			req = null;
+			lock.unlock();
 		}
+		throw new KNXAckTimeoutException("no ACK for L-Data.con");
 	}
 
 	@Override
@@ -396,6 +523,9 @@ public class TpuartConnection implements Connection<byte[]>
 	}
 
 	private void closeResources() {
+		closed = true;
+		writer.quit();
+		failQueuedRequests();
 		receiver.quit();
 		com.close();
 	}
@@ -466,18 +596,18 @@ public class TpuartConnection implements Connection<byte[]>
 		return tp1;
 	}
 
-	private static byte[] toUartServices(final byte[] tp1)
+	// encodes the UART services into buffer, returns the number of bytes used
+	private static int toUartServices(final byte[] tp1, final byte[] buffer)
 	{
-		final ByteArrayOutputStream data = new ByteArrayOutputStream(tp1.length * 2);
-		for (int i = 0; i < tp1.length - 1; i++) {
-			data.write(LDataStart | i);
-			data.write(tp1[i]);
+		int i = 0;
+		for (; i < tp1.length - 1; i++) {
+			buffer[2 * i] = (byte) (LDataStart | i);
+			buffer[2 * i + 1] = tp1[i];
 		}
 		// write end data with frame checksum
-		data.write(LDataEnd | tp1.length - 1);
-		data.write(tp1[tp1.length - 1]);
-
-		return data.toByteArray();
+		buffer[2 * i] = (byte) (LDataEnd | tp1.length - 1);
+		buffer[2 * i + 1] = tp1[tp1.length - 1];
+		return 2 * tp1.length;
 	}
 
 	private boolean waitForCon(final int frameLen) throws InterruptedException
@@ -535,13 +665,83 @@ public class TpuartConnection implements Connection<byte[]>
 		}
 	}
 
+	private record SendRequest(int rank, long sequence, byte[] frame, byte[] tp1Frame,
+		CompletableFuture<Boolean> result) implements Comparable<SendRequest> {
+		@Override
+		public int compareTo(final SendRequest other) {
+			final int cmp = Integer.compare(rank, other.rank);
+			return cmp != 0 ? cmp : Long.compare(sequence, other.sequence);
+		}
+	}
+
+	// single writer stage, serializes sending of queued frames
+	private final class Writer implements Runnable
+	{
+		// max. TP1 frame length of 64 bytes, two bytes per UART service
+		private final byte[] uartServices = new byte[2 * 64];
+
+		private volatile boolean quit;
+		private volatile Thread thread;
+
+		@Override
+		public void run()
+		{
+			thread = Thread.currentThread();
+			while (!quit) {
+				final SendRequest request;
+				try {
+					request = sendQueue.take();
+				}
+				catch (final InterruptedException e) {
+					continue;
+				}
+				sendQueueSlots.release();
+				// skip cancelled requests
+				if (request.result.isDone())
+					continue;
+
+				try {
+					request.result.complete(write(request, uartServices));
+				}
+				catch (final KNXAckTimeoutException e) {
+					request.result.completeExceptionally(e);
+				}
+				catch (final InterruptedException e) {
+					request.result.completeExceptionally(new KNXPortClosedException("TP-UART connection closed", portId));
+				}
+				catch (final IOException e) {
+					request.result.completeExceptionally(new KNXPortClosedException("I/O error", portId, e));
+					close(CloseEvent.INTERNAL, "writer communication failure, " + e);
+				}
+				catch (final RuntimeException e) {
+					request.result.completeExceptionally(e);
+					logger.log(WARNING, "continue after internal error in writer loop", e);
+				}
+			}
+		}
+
+		void quit()
+		{
+			quit = true;
+			final var t = thread;
+			if (t != null && t != Thread.currentThread())
+				t.interrupt();
+		}
+	}
+
 	private final class Receiver implements Runnable
 	{
+		// max. TP1 frame length: extended frame with 8 bytes header, 63 bytes max. length, 1 byte checksum
+		private static final int MaxFrameLength = 8 + 0x3f + 1;
+
 		private volatile boolean quit;
 		private volatile Thread thread;
 
-		private final ByteArrayOutputStream in = new ByteArrayOutputStream();
-		private long lastRead;
+		// reusable buffers for bulk reads and incremental frame assembly
+		private final byte[] rcvBuffer = new byte[MaxFrameLength];
+		private final byte[] frame = new byte[MaxFrameLength];
+		private int frameLength;
+		private long lastRead; // [us]
 		private boolean extFrame;
 		private boolean frameAcked;
 
@@ -564,8 +764,8 @@ public class TpuartConnection implements Connection<byte[]>
 			// most likely, flushes out the reset.ind corresponding to our init reset, but that's ok
 			int drained = 0;
 			try {
-				while (is.read() != -1)
-					drained++;
+				for (int read; (read = com.read(rcvBuffer, 0, rcvBuffer.length)) > 0; )
+					drained += read;
 			}
 			catch (final IOException ignore) {}
 			logger.log(TRACE, "drained rx queue ({0} bytes)", drained);
@@ -574,20 +774,18 @@ public class TpuartConnection implements Connection<byte[]>
 			while (!quit) {
 				try {
 					final long start = System.nanoTime();
-					final int c = is.read();
+					// waits for input up to the receive timeout, and reads everything available in one go
+					final int read = com.read(rcvBuffer, 0, rcvBuffer.length);
 
-					if (c == -1) {
+					if (read == 0) {
 						checkUartState();
 
 						// we transition to idle state after some time of inactivity, and notify a waiting sender
 						final long inactivity = 10_000; // [us]
 						if (enterIdleTimestamp == 0)
 							enterIdleTimestamp = start;
-						else if (coolDownUntil > start) {
-							// we received a temperature warning and are in cool down mode (no sending allowed)
-							// throttle busy wait on input stream
-							Thread.sleep(1);
-						}
+						else if (coolDownUntil > start)
+							; // we received a temperature warning and are in cool down mode (no sending allowed)
 						else if ((start - enterIdleTimestamp) / 1000 > inactivity) {
 							lock.lock();
 							try {
@@ -607,20 +805,24 @@ public class TpuartConnection implements Connection<byte[]>
 					idle = false;
 					enterIdleTimestamp = 0;
 
-					if (parseFrame(c) || isLDataCon(c) || isUartStateInd(c))
-						; // nothing to do
-					else if (c == Reset_ind) {
-						uartStatePending = false;
-						logger.log(DEBUG, "TP-UART reset.ind");
+					// all bytes of one read share the same timestamp for inter-byte timing
+					final long timestamp = System.nanoTime() / 1000;
+					for (int i = 0; i < read; i++) {
+						final int c = rcvBuffer[i] & 0xff;
+						if (parseFrame(c, timestamp) || isLDataCon(c) || isUartStateInd(c))
+							; // nothing to do
+						else if (c == Reset_ind) {
+							uartStatePending = false;
+							logger.log(DEBUG, "TP-UART reset.ind");
+						}
 					}
 
 					final long loop = System.nanoTime() - start;
-					logger.log(TRACE, "loop time = {0} us", loop / 1000);
+					logger.log(TRACE, "loop time = {0} us ({1} bytes)", loop / 1000, read);
 				}
 				catch (final RuntimeException e) {
 					logger.log(WARNING, "continue after internal error in receiver loop", e);
 				}
-				catch (final InterruptedException e) {}
 				catch (final IOException e) {
 					if (!quit)
 						close(CloseEvent.INTERNAL, "receiver communication failure, " + e);
@@ -658,31 +860,25 @@ public class TpuartConnection implements Connection<byte[]>
 			return maxDelay;
 		}
 
-		private boolean parseFrame(final int c) throws IOException
+		// timestamp in [us]
+		private boolean parseFrame(final int c, final long timestamp) throws IOException
 		{
-			final long now = System.nanoTime() / 1000;
-			int size = in.size();
-			if (size > 0) {
+			if (frameLength > 0) {
 				// empty current buffer if we didn't receive data for some time
 				final int minLength = extFrame ? 7 : 6;
-				final long diff = now - lastRead;
-				if (size < minLength && diff > maxInterByteDelay()) {
+				final long diff = timestamp - lastRead;
+				if (frameLength < minLength && diff > maxInterByteDelay())
 					resetReceiveBuffer(c, diff);
-					size = 0;
-				}
-				else if (size >= minLength && diff > 4L * maxInterByteDelay()) {
+				else if (frameLength >= minLength && diff > 4L * maxInterByteDelay())
 					resetReceiveBuffer(c, diff);
-					size = 0;
-				}
 			}
 
-			if (size > 0) {
-				in.write(c);
-				lastRead = now;
+			if (frameLength > 0) {
+				frame[frameLength++] = (byte) c;
+				lastRead = timestamp;
 				final int minLength = extFrame ? 7 : 6;
-				if (size + 1 >= minLength) {
-					final byte[] frame = in.toByteArray();
-					ack(frame);
+				if (frameLength >= minLength) {
+					ack();
 
 					// check if we got the expected frame size
 					final int total;
@@ -691,10 +887,11 @@ public class TpuartConnection implements Connection<byte[]>
 					else
 						total = 7 + (frame[5] & 0x0f) + 1;
 
-					if (frame.length >= total) {
+					if (frameLength >= total) {
+						final byte[] data = Arrays.copyOf(frame, frameLength);
+						frameLength = 0;
 						try {
-							final byte[] data = in.toByteArray();
-							logger.log(DEBUG, "received TP1 L-Data (length {0}): {1}", frame.length,
+							logger.log(DEBUG, "received TP1 L-Data (length {0}): {1}", data.length,
 									HexFormat.ofDelimiter(" ").formatHex(data));
 							consecutiveFrameDrops = -1;
 							if (busmon) {
@@ -704,7 +901,7 @@ public class TpuartConnection implements Connection<byte[]>
 								// check repetition of a directly preceding correctly received frame
 								final boolean repeated = (data[0] & RepeatFlag) == 0;
 								if (repeated && lastReceived.length > 2 &&
-										Arrays.equals(lastReceived, 0, lastReceived.length - 2, frame, 0, data.length - 2)) {
+										Arrays.equals(lastReceived, 0, lastReceived.length - 2, data, 0, data.length - 2)) {
 									logger.log(DEBUG, "ignore repetition of directly preceding correctly received frame");
 								}
 								else {
@@ -717,29 +914,17 @@ public class TpuartConnection implements Connection<byte[]>
 						}
 						catch (final Exception e) {
 							logger.log(ERROR, "error creating {0} from TP1 data (length {1}): {2}",
-									busmon ? "Busmon.ind" : "L-Data", frame.length, HexFormat.ofDelimiter(" ").formatHex(frame),
+									busmon ? "Busmon.ind" : "L-Data", data.length, HexFormat.ofDelimiter(" ").formatHex(data),
 									e);
 						}
-						finally {
-							in.reset();
-						}
 					}
 				}
 			}
 			else if (isLDataStart(c)) {
-				lastRead = now;
-				in.reset();
-				in.write(c);
+				lastRead = timestamp;
+				frame[0] = (byte) c;
+				frameLength = 1;
 				frameAcked = false;
-				final byte[] minBytes = new byte[extFrame ? 6 : 5];
-				final int read = is.read(minBytes);
-				final long initialMinBytes = (System.nanoTime() / 1000 - lastRead);
-				if (read > 0) {
-					in.write(minBytes, 0, read - 1);
-					lastRead = System.nanoTime() / 1000;
-					parseFrame(minBytes[read - 1]);
-				}
-				logger.log(TRACE, "finished reading {0} bytes after {1} us", read, initialMinBytes);
 			}
 			// busmon mode only: short acks
 			else if (c == Ack || c == Nak || c == Busy)
@@ -750,10 +935,10 @@ public class TpuartConnection implements Connection<byte[]>
 		}
 
 		private void resetReceiveBuffer(final int c, final long diff) {
-			final byte[] buf = in.toByteArray();
-			in.reset();
 			logger.log(DEBUG, "reset receive buffer after {0} us, char 0x{1}, discard partial frame (length {2}) {3}",
-					diff, Integer.toHexString(c), buf.length, HexFormat.ofDelimiter(" ").formatHex(buf));
+					diff, Integer.toHexString(c), frameLength,
+					HexFormat.ofDelimiter(" ").formatHex(frame, 0, frameLength));
+			frameLength = 0;
 			consecutiveFrameDrops++;
 		}
 
@@ -834,7 +1019,7 @@ public class TpuartConnection implements Connection<byte[]>
 		// pre: we have a new .ind frame, length > 5
 		// The ack service has to be sent at the latest 1.7 ms after receiving the
 		// address-type bit of the L-Data.ind
-		private void ack(final byte[] frame) throws IOException
+		private void ack() throws IOException
 		{
 			if (busmon || frameAcked)
 				return;
@@ -873,6 +1058,7 @@ public class TpuartConnection implements Connection<byte[]>
 			if (frame == null)
 				return;
 			frame[0] = CEMILData.MC_LDATA_CON;
+			positiveCon = pos;
 			if (pos) {
 				// set confirm bit to no error
 				frame[2] &= (byte) 0xfe;
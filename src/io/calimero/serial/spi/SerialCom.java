@@ -65,6 +65,30 @@ public interface SerialCom extends AutoCloseable {
 
 	OutputStream outputStream();
 
+	/**
+	 * Reads input data into {@code buffer}, waiting at most the receive timeout of this connection for the first
+	 * byte to arrive. Any further bytes are only read if already available, i.e., this method returns as soon as
+	 * no more input is pending, without waiting for the buffer to fill up. Implementations with native support for
+	 * such reads might override this method.
+	 *
+	 * @param buffer the buffer to read data into
+	 * @param offset start offset in {@code buffer}
+	 * @param length max. number of bytes to read, {@code length > 0}
+	 * @return number of bytes read, {@code 0} if no data was received within the receive timeout
+	 * @throws IOException on I/O error
+	 */
+	default int read(final byte[] buffer, final int offset, final int length) throws IOException {
+		final var is = inputStream();
+		final int c = is.read();
+		if (c == -1)
+			return 0;
+		buffer[offset] = (byte) c;
+		final int available = Math.min(is.available(), length - 1);
+		if (available <= 0)
+			return 1;
+		return 1 + Math.max(0, is.read(buffer, offset + 1, available));
+	}
+
 	@Override
 	void close();
 }
@@ -96,6 +96,21 @@ public final class XmlInputFactory // extends XMLInputFactory
 		return create(is);
 	}
 
+	/**
+	 * Creates a {@link XmlReader} to read the XML resource provided by the specified input stream; the character
+	 * encoding is deduced from the stream content (byte order mark, XML declaration).
+	 * <p>
+	 * On closing the created XML reader, the input stream will get closed as well.
+	 *
+	 * @param stream input stream of the XML resource
+	 * @return XML reader
+	 * @throws KNXMLException if creation of the reader failed
+	 */
+	public XmlReader createXMLReader(final InputStream stream) throws KNXMLException
+	{
+		return create(stream);
+	}
+
 	private static XmlReader create(final InputStream is)
 	{
 		if (jvm) {
@@ -39,6 +39,9 @@ package io.calimero.buffer.cache;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -308,4 +311,103 @@ class LFUCacheTest
 		assertEquals(2.0 / 3, var.statistic().hitRatio(), 0.000001);
 	}
 
+	@Test
+	void evictLeastRecentlyUsedOfEqualUsage()
+	{
+		fix.put(o1);
+		fix.put(o2);
+		fix.put(o3);
+		fix.put(o4);
+		fix.put(o5);
+		fix.get("1");
+		fix.get("3");
+		fix.get("2");
+		fix.get("4");
+		fix.get("5");
+		// all have usage 1, o1 is least recently used
+		fix.put(o6);
+		assertNull(fix.get("1"));
+		assertEquals(o3, fix.get("3"));
+		assertEquals(o6, fix.get("6"));
+		// o2 is least recently used with usage 1
+		fix.put(co);
+		assertNull(fix.get("2"));
+		assertEquals(o4, fix.get("4"));
+		assertEquals(o5, fix.get("5"));
+		assertEquals(o6, fix.get("6"));
+		assertEquals(co, fix.get(co.getKey()));
+	}
+
+	@Test
+	void admission()
+	{
+		final Cache admit = new LFUCache(2, 0, true);
+		admit.put(o1);
+		admit.put(o2);
+		admit.get("1");
+		admit.get("2");
+		admit.get("2");
+
+		// key "3" is less frequent than "1"
+		admit.put(o3);
+		assertNull(admit.get("3"));
+		assertEquals(o1, admit.get("1"));
+		assertEquals(o2, admit.get("2"));
+
+		// requests for missing keys count as well, until "3" outweighs "1"
+		for (int i = 0; i < 4; i++)
+			admit.get("3");
+		admit.put(o3);
+		assertEquals(o3, admit.get("3"));
+		assertNull(admit.get("1"));
+		assertEquals(o2, admit.get("2"));
+
+		// updating existing keys is always admitted
+		final CacheObject update = new CacheObject("3", "new value 3");
+		admit.put(update);
+		assertEquals("new value 3", admit.get("3").getValue());
+		admit.clear();
+	}
+
+	@Test
+	void concurrentGets() throws InterruptedException
+	{
+		final int keys = 100;
+		for (int i = 0; i < keys; i++)
+			var.put(new CacheObject(i, "value " + i));
+
+		final int threads = 8;
+		final int gets = 10_000;
+		final var readers = new Thread[threads];
+		for (int t = 0; t < threads; t++) {
+			readers[t] = Thread.ofPlatform().start(() -> {
+				for (int i = 0; i < gets; i++)
+					assertEquals("value " + i % keys, var.get(i % keys).getValue());
+			});
+		}
+		for (final var reader : readers)
+			reader.join();
+
+		assertEquals(threads * gets, var.statistic().hits());
+		for (int i = 0; i < keys; i++)
+			assertEquals(threads * gets / keys, var.get(i).getCount() - 1);
+	}
+
+	@Test
+	void timeToExpirePerCacheObject() throws InterruptedException
+	{
+		final var removed = new CopyOnWriteArrayList<CacheObject>();
+		final var cache = new LFUCache(0, 0) {
+			@Override
+			protected void notifyRemoved(final CacheObject obj) { removed.add(obj); }
+		};
+		cache.setTimeToExpire(o -> o.getKey().equals("1") ? 1 : 0);
+		cache.put(o1);
+		cache.put(o2);
+		Thread.sleep(1300);
+		assertEquals(List.of(o1), removed);
+		assertNull(cache.get("1"));
+		assertEquals(o2, cache.get("2"));
+		cache.clear();
+	}
 }
@@ -47,7 +47,7 @@ class LFUObjectCompareTest
 {
 	final Cache lfu = new LFUCache(0, 0);
 
-	// !! This is a copy of the private LFUObjectCompare class in LFUCache !!
+	// LFU order of cache objects, as used for eviction in LFUCache
 	private static class LFUObjectCompare implements Comparator<CacheObject>
 	{
 		@Override
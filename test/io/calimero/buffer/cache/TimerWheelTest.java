@@ -0,0 +1,130 @@
+/*
+    Calimero 3 - A library for KNX network access
+    Copyright (c) 2026 B. Malinowsky
+
+    This program is free software; you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation; either version 2 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program; if not, write to the Free Software
+    Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+
+    Linking this library statically or dynamically with other modules is
+    making a combined work based on this library. Thus, the terms and
+    conditions of the GNU General Public License cover the whole
+    combination.
+
+    As a special exception, the copyright holders of this library give you
+    permission to link this library with independent modules to produce an
+    executable, regardless of the license terms of these independent
+    modules, and to copy and distribute the resulting executable under terms
+    of your choice, provided that you also meet, for each linked independent
+    module, the terms and conditions of the license of that module. An
+    independent module is a module which is not derived from or based on
+    this library. If you modify this library, you may extend this exception
+    to your version of the library, but you are not obligated to do so. If
+    you do not wish to do so, delete this exception statement from your
+    version.
+*/
+
+package io.calimero.buffer.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class TimerWheelTest {
+	// use a resolution of 1 ms, so time equals ticks
+	private final TimerWheel wheel = new TimerWheel(1, 0);
+
+	@Test
+	void emptyWheel() {
+		assertEquals(Long.MAX_VALUE, wheel.nextDeadline());
+		assertTrue(wheel.advance(1_000_000).isEmpty());
+		assertEquals(0, wheel.size());
+	}
+
+	@Test
+	void expireInDeadlineOrder() {
+		wheel.schedule("3", 30);
+		wheel.schedule("1", 10);
+		wheel.schedule("2", 20);
+		assertEquals(3, wheel.size());
+		assertEquals(10, wheel.nextDeadline());
+
+		assertTrue(wheel.advance(9).isEmpty());
+		assertEquals(List.of("1"), wheel.advance(10));
+		assertEquals(20, wheel.nextDeadline());
+		assertEquals(List.of("2", "3"), wheel.advance(35));
+		assertEquals(0, wheel.size());
+	}
+
+	@Test
+	void cascadeHigherLevels() {
+		wheel.schedule("level 1", 100);
+		wheel.schedule("level 2", 5000);
+		wheel.schedule("level 3", 300_000);
+
+		// next deadline is the start of the higher level slot, when timers get cascaded
+		assertEquals(64, wheel.nextDeadline());
+		assertTrue(wheel.advance(99).isEmpty());
+		assertEquals(100, wheel.nextDeadline());
+		assertEquals(List.of("level 1"), wheel.advance(100));
+		assertTrue(wheel.advance(4999).isEmpty());
+		assertEquals(List.of("level 2"), wheel.advance(5000));
+		assertTrue(wheel.advance(299_999).isEmpty());
+		assertEquals(List.of("level 3"), wheel.advance(300_000));
+	}
+
+	@Test
+	void deadlineBeyondWheelSpan() {
+		final long deadline = 1L << 26;
+		wheel.schedule("far", deadline);
+		assertTrue(wheel.advance(deadline - 1).isEmpty());
+		assertEquals(1, wheel.size());
+		assertEquals(List.of("far"), wheel.advance(deadline));
+	}
+
+	@Test
+	void reschedule() {
+		wheel.schedule("key", 10);
+		wheel.schedule("key", 200);
+		assertEquals(1, wheel.size());
+		assertTrue(wheel.advance(100).isEmpty());
+		assertEquals(List.of("key"), wheel.advance(200));
+	}
+
+	@Test
+	void cancel() {
+		wheel.schedule("key", 10);
+		wheel.cancel("key");
+		assertEquals(0, wheel.size());
+		assertEquals(Long.MAX_VALUE, wheel.nextDeadline());
+		assertTrue(wheel.advance(10).isEmpty());
+	}
+
+	@Test
+	void advanceLate() {
+		for (int i = 1; i <= 1000; i++)
+			wheel.schedule(i, i * 7L);
+		assertEquals(1000, wheel.advance(10_000).size());
+		assertEquals(0, wheel.size());
+	}
+
+	@Test
+	void pastDeadline() {
+		wheel.advance(100);
+		wheel.schedule("past", 50);
+		assertEquals(List.of("past"), wheel.advance(101));
+	}
+}
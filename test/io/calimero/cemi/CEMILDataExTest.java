@@ -45,11 +45,16 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import io.calimero.GroupAddress;
 import io.calimero.IndividualAddress;
+import io.calimero.KNXFormatException;
 import io.calimero.KNXIllegalArgumentException;
 import io.calimero.Priority;
 
@@ -154,4 +159,22 @@ class CEMILDataExTest
 			assertNotSame(l.get(i).info(), l2.get(i).info());
 		}
 	}
+
+	@Test
+	void writeTo() throws KNXFormatException
+	{
+		final ByteBuffer buffer = ByteBuffer.allocate(100).position(3);
+		f.writeTo(buffer);
+		assertEquals(3 + f.getStructLength(), buffer.position());
+		assertArrayEquals(f.toByteArray(), Arrays.copyOfRange(buffer.array(), 3, buffer.position()));
+
+		final var parsed = CEMIFactory.create(buffer.array(), 3, f.getStructLength());
+		assertArrayEquals(f.toByteArray(), parsed.toByteArray());
+	}
+
+	@Test
+	void writeToBufferWithInsufficientSpace()
+	{
+		assertThrows(BufferOverflowException.class, () -> f.writeTo(ByteBuffer.allocate(f.getStructLength() - 1)));
+	}
 }
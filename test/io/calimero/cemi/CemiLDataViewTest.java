@@ -0,0 +1,124 @@
+/*
+    Calimero 3 - A library for KNX network access
+    Copyright (c) 2026 B. Malinowsky
+
+    This program is free software; you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation; either version 2 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program; if not, write to the Free Software
+    Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+
+    Linking this library statically or dynamically with other modules is
+    making a combined work based on this library. Thus, the terms and
+    conditions of the GNU General Public License cover the whole
+    combination.
+
+    As a special exception, the copyright holders of this library give you
+    permission to link this library with independent modules to produce an
+    executable, regardless of the license terms of these independent
+    modules, and to copy and distribute the resulting executable under terms
+    of your choice, provided that you also meet, for each linked independent
+    module, the terms and conditions of the license of that module. An
+    independent module is a module which is not derived from or based on
+    this library. If you modify this library, you may extend this exception
+    to your version of the library, but you are not obligated to do so. If
+    you do not wish to do so, delete this exception statement from your
+    version.
+*/
+
+package io.calimero.cemi;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import io.calimero.GroupAddress;
+import io.calimero.IndividualAddress;
+import io.calimero.KNXFormatException;
+import io.calimero.Priority;
+
+class CemiLDataViewTest {
+	private final IndividualAddress src = new IndividualAddress(1, 2, 3);
+	private final GroupAddress dst = new GroupAddress(1, 2, 100);
+	// group value write, 2 byte data
+	private final byte[] tpdu = { 0x00, (byte) 0x80, 0x0c, 0x1a };
+
+	private final CemiLDataView view = new CemiLDataView();
+
+	@Test
+	void wrapLData() throws KNXFormatException {
+		final var ldata = new CEMILData(CEMILData.MC_LDATA_IND, src, dst, tpdu, Priority.LOW, false, 5);
+		final byte[] frame = ldata.toByteArray();
+		view.wrap(frame, 0, frame.length);
+
+		assertEquals(CEMILData.MC_LDATA_IND, view.messageCode());
+		assertEquals(frame.length, view.length());
+		assertEquals(0, view.additionalInfoLength());
+		assertEquals(Priority.LOW, view.priority());
+		assertEquals(src.getRawAddress(), view.sourceRaw());
+		assertEquals(dst.getRawAddress(), view.destinationRaw());
+		assertTrue(view.isGroupDestination());
+		assertEquals(src, view.source());
+		assertEquals(dst, view.destination());
+		assertEquals(5, view.hopCount());
+		assertEquals(tpdu.length, view.tpduLength());
+		assertEquals(0x80, view.apci());
+		assertEquals(2, view.dataLength());
+		assertEquals(0x1a, view.tpdu(3));
+
+		final byte[] copy = new byte[tpdu.length];
+		assertEquals(tpdu.length, view.copyTpdu(copy, 0));
+		assertArrayEquals(tpdu, copy);
+
+		assertArrayEquals(frame, view.toCEMI().toByteArray());
+	}
+
+	@Test
+	void wrapLDataWithOffset() throws KNXFormatException {
+		final var ldata = new CEMILData(CEMILData.MC_LDATA_IND, src, dst, new byte[] { 0, (byte) 0x81 }, Priority.NORMAL);
+		final byte[] frame = ldata.toByteArray();
+		final byte[] buf = new byte[frame.length + 10];
+		System.arraycopy(frame, 0, buf, 6, frame.length);
+		view.wrap(buf, 6, frame.length);
+
+		assertEquals(Priority.NORMAL, view.priority());
+		assertEquals(0x80, view.apci());
+		assertEquals(0, view.dataLength());
+		assertArrayEquals(frame, view.toCEMI().toByteArray());
+	}
+
+	@Test
+	void wrapLDataEx() throws KNXFormatException {
+		final var ldata = new CEMILDataEx(CEMILData.MC_LDATA_IND, src, new IndividualAddress(4, 5, 6), tpdu,
+				Priority.SYSTEM);
+		ldata.additionalInfo().add(AdditionalInfo.of(AdditionalInfo.PlMedium, new byte[] { 1, 2 }));
+		final byte[] frame = ldata.toByteArray();
+		view.wrap(frame, 0, frame.length);
+
+		assertEquals(4, view.additionalInfoLength());
+		assertFalse(view.isGroupDestination());
+		assertEquals(new IndividualAddress(4, 5, 6), view.destination());
+		assertEquals(Priority.SYSTEM, view.priority());
+		assertEquals(0x1a, view.tpdu(3));
+	}
+
+	@Test
+	void wrapInvalidFrame() {
+		final byte[] frame = new CEMILData(CEMILData.MC_LDATA_IND, src, dst, tpdu, Priority.LOW).toByteArray();
+		assertThrows(KNXFormatException.class, () -> view.wrap(frame, 0, frame.length - 1));
+		frame[0] = (byte) CEMIBusMon.MC_BUSMON_IND;
+		assertThrows(KNXFormatException.class, () -> view.wrap(frame, 0, frame.length));
+	}
+}
@@ -229,4 +229,100 @@ class DatapointMapTest
 		m.save(w2);
 		w2.close();
 	}
+
+	@Test
+	void datapointsByMainNumber()
+	{
+		final var map = (DatapointMap<Datapoint>) m;
+		final Datapoint temp = new StateDP(new GroupAddress(4, 4, 4), "temp", 0, "9.001");
+		m.add(dp1);
+		m.add(temp);
+		assertEquals(List.of(temp), new ArrayList<>(map.datapoints(9)));
+		assertTrue(map.datapoints(5).isEmpty());
+		m.remove(temp);
+		assertTrue(map.datapoints(9).isEmpty());
+	}
+
+	@Test
+	void datapointsByName()
+	{
+		final var map = (DatapointMap<Datapoint>) m;
+		final Datapoint other = new CommandDP(new GroupAddress(4, 4, 4), "other");
+		m.add(dp3);
+		m.add(dp1);
+		m.add(other);
+		assertEquals(List.of(dp1, dp3), map.datapointsByName("test"));
+		assertEquals(List.of(dp1), map.datapointsByName("test1"));
+		assertEquals(List.of(other), map.datapointsByName("o"));
+		assertEquals(3, map.datapointsByName("").size());
+		assertTrue(map.datapointsByName("x").isEmpty());
+
+		// renamed datapoint
+		dp1.setName("renamed");
+		m.remove(dp1);
+		assertEquals(List.of(dp3), map.datapointsByName("test"));
+		assertTrue(map.datapointsByName("renamed").isEmpty());
+	}
+
+	@Test
+	void updatingAndInvalidatingAddresses()
+	{
+		final var map = (DatapointMap<Datapoint>) m;
+		final GroupAddress upd = new GroupAddress(5, 5, 5);
+		final GroupAddress inv = new GroupAddress(6, 6, 6);
+		final StateDP state = (StateDP) dp1;
+		state.addUpdatingAddress(upd);
+		state.addInvalidatingAddress(inv);
+		final StateDP state3 = (StateDP) dp3;
+		state3.addUpdatingAddress(upd);
+
+		m.add(dp1);
+		m.add(dp2);
+		m.add(dp3);
+		assertEquals(List.of(state, state3), map.updatedBy(upd));
+		assertEquals(List.of(state), map.invalidatedBy(inv));
+		assertTrue(map.updatedBy(inv).isEmpty());
+		assertTrue(map.invalidatedBy(upd).isEmpty());
+
+		m.remove(dp1);
+		assertEquals(List.of(state3), map.updatedBy(upd));
+		assertTrue(map.invalidatedBy(inv).isEmpty());
+		m.removeAll();
+		assertTrue(map.updatedBy(upd).isEmpty());
+	}
+
+	@Test
+	void removeAfterAddressesChanged()
+	{
+		final var map = (DatapointMap<Datapoint>) m;
+		final GroupAddress upd = new GroupAddress(5, 5, 5);
+		final GroupAddress other = new GroupAddress(5, 5, 6);
+		final StateDP state = (StateDP) dp1;
+		state.addUpdatingAddress(upd);
+		m.add(dp1);
+
+		state.removeAddress(upd);
+		state.addUpdatingAddress(other);
+		state.addInvalidatingAddress(upd);
+		m.remove(dp1);
+		assertTrue(map.updatedBy(upd).isEmpty());
+		assertTrue(map.updatedBy(other).isEmpty());
+		assertTrue(map.invalidatedBy(upd).isEmpty());
+		assertTrue(map.datapointsByName("").isEmpty());
+	}
+
+	@Test
+	void iterateWhileModifying()
+	{
+		final var map = (DatapointMap<Datapoint>) m;
+		for (int i = 1; i < 100; i++)
+			m.add(new StateDP(new GroupAddress(1, 0, i), "dp " + i));
+		int count = 0;
+		for (final Datapoint dp : map.getDatapoints()) {
+			m.remove(dp);
+			count++;
+		}
+		assertEquals(99, count);
+		assertEquals(0, map.getDatapoints().size());
+	}
 }
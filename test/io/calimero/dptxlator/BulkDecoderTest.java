@@ -0,0 +1,151 @@
+/*
+    Calimero 3 - A library for KNX network access
+    Copyright (c) 2026 B. Malinowsky
+
+    This program is free software; you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation; either version 2 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program; if not, write to the Free Software
+    Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+
+    Linking this library statically or dynamically with other modules is
+    making a combined work based on this library. Thus, the terms and
+    conditions of the GNU General Public License cover the whole
+    combination.
+
+    As a special exception, the copyright holders of this library give you
+    permission to link this library with independent modules to produce an
+    executable, regardless of the license terms of these independent
+    modules, and to copy and distribute the resulting executable under terms
+    of your choice, provided that you also meet, for each linked independent
+    module, the terms and conditions of the license of that module. An
+    independent module is a module which is not derived from or based on
+    this library. If you modify this library, you may extend this exception
+    to your version of the library, but you are not obligated to do so. If
+    you do not wish to do so, delete this exception statement from your
+    version.
+*/
+
+package io.calimero.dptxlator;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import io.calimero.KNXIllegalArgumentException;
+
+class BulkDecoderTest {
+	private static final DptId[] dpts = { new DptId(1, 1), new DptId(5, 1), new DptId(7, 3), new DptId(8, 10),
+		new DptId(9, 1), new DptId(12, 1), new DptId(13, 10), new DptId(14, 56), new DptId(29, 10) };
+
+	private final Random rnd = new Random(3);
+
+	@Test
+	void decodeContiguous() {
+		for (final boolean parallel : new boolean[] { false, true }) {
+			for (final var dptId : dpts) {
+				final int size = DptCodec.typeSize(dptId);
+				final int count = 50_000;
+				final byte[] data = new byte[3 + count * size];
+				rnd.nextBytes(data);
+
+				final double[] values = new double[count];
+				BulkDecoder.decodeDouble(dptId, data, 3, count, values, parallel);
+				for (int i = 0; i < count; i++)
+					assertEquals(DptCodec.decodeDouble(dptId, data, 3 + i * size), values[i], dptId + " item " + i);
+			}
+		}
+	}
+
+	@Test
+	void decodeLongWithOffsets() {
+		final var dptId = new DptId(13, 1);
+		final int count = 40_000;
+		final byte[] data = new byte[count * 5];
+		rnd.nextBytes(data);
+		final int[] offsets = new int[count];
+		for (int i = 0; i < count; i++)
+			offsets[i] = i * 5 + (i % 2);
+
+		final long[] expected = new long[count];
+		for (int i = 0; i < count; i++)
+			expected[i] = DptCodec.decodeLong(dptId, data, offsets[i]);
+
+		final long[] values = new long[count];
+		BulkDecoder.decodeLong(dptId, data, offsets, values, false);
+		assertArrayEquals(expected, values);
+		final long[] parallel = new long[count];
+		BulkDecoder.decodeLong(dptId, data, offsets, parallel, true);
+		assertArrayEquals(expected, parallel);
+	}
+
+	@Test
+	void decodeMixedBatch() {
+		final int count = 30_000;
+		final DptId[] dptIds = new DptId[count];
+		final int[] offsets = new int[count];
+		final byte[] data = new byte[count * 8];
+		rnd.nextBytes(data);
+		int offset = 0;
+		for (int i = 0; i < count; i++) {
+			dptIds[i] = dpts[rnd.nextInt(dpts.length)];
+			offsets[i] = offset;
+			offset += DptCodec.typeSize(dptIds[i]);
+		}
+
+		final double[] expected = new double[count];
+		for (int i = 0; i < count; i++)
+			expected[i] = DptCodec.decodeDouble(dptIds[i], data, offsets[i]);
+
+		for (final boolean parallel : new boolean[] { false, true }) {
+			final double[] values = new double[count];
+			BulkDecoder.decodeDouble(dptIds, data, offsets, values, parallel);
+			assertArrayEquals(expected, values);
+		}
+	}
+
+	@Test
+	void invalidArguments() {
+		final var dptId = new DptId(9, 1);
+		assertThrows(KNXIllegalArgumentException.class,
+				() -> BulkDecoder.decodeDouble(dptId, new byte[10], 0, 6, new double[6], false));
+		assertThrows(KNXIllegalArgumentException.class,
+				() -> BulkDecoder.decodeDouble(dptId, new byte[10], 0, 5, new double[4], false));
+		assertThrows(KNXIllegalArgumentException.class,
+				() -> BulkDecoder.decodeLong(dptId, new byte[10], new int[] { 0 }, new long[1], false));
+		assertThrows(KNXIllegalArgumentException.class,
+				() -> BulkDecoder.decodeDouble(new DptId(16, 0), new byte[14], 0, 1, new double[1], false));
+	}
+
+	@Test
+	void unsupportedTypeInMixedBatch() {
+		final byte[] data = new byte[32];
+		final int[] offsets = { 0, 8, 16, 24 };
+		final var dateTime = new DptId(19, 1);
+		final DptId[] withDateTime = { new DptId(5, 1), new DptId(13, 1), dateTime, new DptId(7, 1) };
+		final double[] values = { -1, -1, -1, -1 };
+		assertThrows(KNXIllegalArgumentException.class,
+				() -> BulkDecoder.decodeDouble(withDateTime, data, offsets, values, false));
+		assertArrayEquals(new double[] { -1, -1, -1, -1 }, values);
+
+		final DptId[] withFloat = { new DptId(5, 1), new DptId(9, 1), new DptId(13, 1), new DptId(14, 56) };
+		final long[] longs = { -1, -1, -1, -1 };
+		assertThrows(KNXIllegalArgumentException.class,
+				() -> BulkDecoder.decodeLong(withFloat, data, offsets, longs, false));
+		assertArrayEquals(new long[] { -1, -1, -1, -1 }, longs);
+		assertThrows(KNXIllegalArgumentException.class,
+				() -> BulkDecoder.decodeLong(dateTime, data, offsets, longs, false));
+	}
+}
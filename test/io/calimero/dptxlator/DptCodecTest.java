@@ -0,0 +1,208 @@
+/*
+    Calimero 3 - A library for KNX network access
+    Copyright (c) 2026 B. Malinowsky
+
+    This program is free software; you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation; either version 2 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program; if not, write to the Free Software
+    Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+
+    Linking this library statically or dynamically with other modules is
+    making a combined work based on this library. Thus, the terms and
+    conditions of the GNU General Public License cover the whole
+    combination.
+
+    As a special exception, the copyright holders of this library give you
+    permission to link this library with independent modules to produce an
+    executable, regardless of the license terms of these independent
+    modules, and to copy and distribute the resulting executable under terms
+    of your choice, provided that you also meet, for each linked independent
+    module, the terms and conditions of the license of that module. An
+    independent module is a module which is not derived from or based on
+    this library. If you modify this library, you may extend this exception
+    to your version of the library, but you are not obligated to do so. If
+    you do not wish to do so, delete this exception statement from your
+    version.
+*/
+
+package io.calimero.dptxlator;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import io.calimero.KNXException;
+import io.calimero.KNXFormatException;
+import io.calimero.KNXIllegalArgumentException;
+
+class DptCodecTest {
+	private static final int[] mainNumbers = { 1, 5, 7, 8, 9, 12, 13, 14, 29 };
+
+	private final Random rnd = new Random(7);
+
+	@Test
+	void decodeMatchesTranslators() throws KNXException {
+		for (final int main : mainNumbers) {
+			for (final var dpt : TranslatorTypes.getMainType(main).getSubTypes().values()) {
+				final var dptId = dpt.dptId();
+				final DPTXlator t = TranslatorTypes.createTranslator(dptId);
+				final int size = DptCodec.typeSize(dptId);
+				for (int i = 0; i < 200; i++) {
+					final byte[] data = new byte[size + 1];
+					rnd.nextBytes(data);
+					t.setData(data, 1);
+					assertEquals(t.getNumericValue(), DptCodec.decodeDouble(dptId, data, 1), dptId.toString());
+				}
+			}
+		}
+	}
+
+	@Test
+	void encodeMatchesTranslators() throws KNXException {
+		for (final int main : mainNumbers) {
+			for (final var dpt : TranslatorTypes.getMainType(main).getSubTypes().values()) {
+				final var dptId = dpt.dptId();
+				final DPTXlator t = TranslatorTypes.createTranslator(dptId);
+				final int size = DptCodec.typeSize(dptId);
+				for (int i = 0; i < 200; i++) {
+					final byte[] data = new byte[size];
+					rnd.nextBytes(data);
+					t.setData(data);
+					final double value = main == 1 ? i % 2 : t.getNumericValue() * (0.5 + rnd.nextDouble());
+					final byte[] expected;
+					try {
+						t.setValue(value);
+						expected = t.getData();
+					}
+					catch (final KNXFormatException | KNXIllegalArgumentException e) {
+						continue;
+					}
+					final byte[] encoded = new byte[size + 2];
+					// translators saturate signed values, the codec rejects them
+					if (main == 13 && (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE)) {
+						assertThrows(KNXFormatException.class, () -> DptCodec.encode(dptId, value, encoded, 2));
+						continue;
+					}
+					assertEquals(Math.max(1, size), DptCodec.encode(dptId, value, encoded, 2));
+					assertArrayEquals(expected, Arrays.copyOfRange(encoded, 2, encoded.length), dptId + " " + value);
+				}
+			}
+		}
+	}
+
+	@Test
+	void decodeLong() {
+		final byte[] data = { (byte) 0xff, (byte) 0xfe, 0, 0, 0, 0, 0, 1 };
+		assertEquals(1, DptCodec.decodeLong(DPTXlatorBoolean.DPT_SWITCH.dptId(), data, 0));
+		assertEquals(255, DptCodec.decodeLong(DPTXlator8BitUnsigned.DPT_SCALING.dptId(), data, 0));
+		assertEquals(0xfffe, DptCodec.decodeLong(DPTXlator2ByteUnsigned.DPT_TIMEPERIOD_10.dptId(), data, 0));
+		assertEquals(-2, DptCodec.decodeLong(new DptId(8, 1), data, 0));
+		assertEquals(0xfffe0000L, DptCodec.decodeLong(new DptId(12, 1), data, 0));
+		assertEquals(0xfffe0000, DptCodec.decodeLong(new DptId(13, 1), data, 0));
+		assertEquals(0xfffe000000000001L, DptCodec.decodeLong(new DptId(29, 10), data, 0));
+		assertThrows(KNXIllegalArgumentException.class, () -> DptCodec.decodeLong(new DptId(9, 1), data, 0));
+	}
+
+	@Test
+	void booleanValues() {
+		final var dptId = DPTXlatorBoolean.DPT_SWITCH.dptId();
+		final byte[] data = { (byte) 0x80 };
+		assertFalse(DptCodec.decodeBoolean(dptId, data, 0));
+		DptCodec.encode(dptId, true, data, 0);
+		assertEquals((byte) 0x81, data[0]);
+		assertTrue(DptCodec.decodeBoolean(dptId, data, 0));
+		DptCodec.encode(dptId, false, data, 0);
+		assertEquals((byte) 0x80, data[0]);
+		assertThrows(KNXIllegalArgumentException.class, () -> DptCodec.decodeBoolean(new DptId(5, 1), data, 0));
+	}
+
+	@Test
+	void encodeOutOfRange() {
+		final byte[] dst = new byte[4];
+		final var scaling = DPTXlator8BitUnsigned.DPT_SCALING.dptId();
+		assertThrows(KNXFormatException.class, () -> DptCodec.encode(scaling, 101, dst, 0));
+		assertThrows(KNXFormatException.class, () -> DptCodec.encode(new DptId(7, 1), -1, dst, 0));
+		assertThrows(KNXFormatException.class, () -> DptCodec.encode(new DptId(9, 1), 1e7, dst, 0));
+		assertThrows(KNXFormatException.class, () -> DptCodec.encode(new DptId(12, 1), -1, dst, 0));
+		assertThrows(KNXFormatException.class, () -> DptCodec.encode(new DptId(12, 1), Double.NaN, dst, 0));
+		assertThrows(KNXFormatException.class, () -> DptCodec.encode(new DptId(13, 1), Double.NaN, dst, 0));
+		assertThrows(KNXFormatException.class, () -> DptCodec.encode(new DptId(29, 10), Double.NaN, dst, 0));
+	}
+
+	@Test
+	void encodeSigned32BoundsMatchTranslator() throws KNXException {
+		final var dptId = DPTXlator4ByteSigned.DPT_COUNT.dptId();
+		final var t = new DPTXlator4ByteSigned(DPTXlator4ByteSigned.DPT_COUNT);
+		final byte[] dst = new byte[4];
+		for (final long bound : new long[] { Integer.MIN_VALUE, Integer.MAX_VALUE }) {
+			t.setValue(Long.toString(bound));
+			DptCodec.encode(dptId, bound, dst, 0);
+			assertArrayEquals(t.getData(), dst);
+		}
+		for (final long outside : new long[] { Integer.MIN_VALUE - 1L, Integer.MAX_VALUE + 1L }) {
+			assertThrows(KNXFormatException.class, () -> t.setValue(Long.toString(outside)));
+			assertThrows(KNXFormatException.class, () -> DptCodec.encode(dptId, outside, dst, 0));
+		}
+	}
+
+	@Test
+	void encodeSigned64BoundsMatchTranslator() throws KNXException {
+		final var dptId = DPTXlator64BitSigned.DPT_ACTIVE_ENERGY.dptId();
+		final var t = new DPTXlator64BitSigned(DPTXlator64BitSigned.DPT_ACTIVE_ENERGY);
+		final byte[] dst = new byte[8];
+		// largest double values within the range of long
+		for (final double bound : new double[] { Long.MIN_VALUE, Math.nextDown(0x1p63) }) {
+			t.setValue(new BigDecimal(bound).toPlainString());
+			DptCodec.encode(dptId, bound, dst, 0);
+			assertArrayEquals(t.getData(), dst);
+		}
+		for (final double outside : new double[] { Math.nextDown(-0x1p63), 0x1p63 }) {
+			assertThrows(KNXFormatException.class, () -> t.setValue(new BigDecimal(outside).toPlainString()));
+			assertThrows(KNXFormatException.class, () -> DptCodec.encode(dptId, outside, dst, 0));
+		}
+	}
+
+	@Test
+	void unsupportedDpt() {
+		final var dptId = new DptId(16, 0);
+		assertFalse(DptCodec.supports(dptId));
+		assertThrows(KNXIllegalArgumentException.class, () -> DptCodec.decodeDouble(dptId, new byte[14], 0));
+		assertThrows(KNXIllegalArgumentException.class, () -> DptCodec.encode(dptId, 0, new byte[14], 0));
+	}
+
+	@Test
+	void decodeInstant() throws KNXException {
+		final var t = new DPTXlatorDateTime(DPTXlatorDateTime.DPT_DATE_TIME);
+		final var dateTime = LocalDateTime.of(2024, 2, 29, 13, 45, 10);
+		t.setValue(dateTime);
+		final byte[] data = t.getData();
+		final var zone = ZoneId.of("Europe/Vienna");
+		final var dptId = DPTXlatorDateTime.DPT_DATE_TIME.dptId();
+		assertEquals(dateTime.atZone(zone).toInstant(), DptCodec.decodeInstant(dptId, data, 0, zone));
+		assertEquals(t.localDateTime().toInstant(ZoneOffset.UTC),
+				DptCodec.decodeInstant(dptId, data, 0, ZoneOffset.UTC));
+
+		t.setFaultyClock(true);
+		assertThrows(KNXFormatException.class, () -> DptCodec.decodeInstant(dptId, t.getData(), 0, zone));
+	}
+}
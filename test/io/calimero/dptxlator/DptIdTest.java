@@ -74,6 +74,9 @@ class DptIdTest {
 	void testToString() {
 		assertEquals("1.005", dptid.toString());
 		assertEquals("1.000", new DptId(1, 0).toString());
+		assertEquals("9.020", new DptId(9, 20).toString());
+		assertEquals("232.600", new DptId(232, 600).toString());
+		assertEquals("237.1000", new DptId(237, 1000).toString());
 		assertEquals("65535.65535", new DptId(65535, 65535).toString());
 	}
 
@@ -39,8 +39,12 @@ package io.calimero.dptxlator;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -53,6 +57,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.parallel.Isolated;
 
 import io.calimero.KNXException;
+import io.calimero.KNXFormatException;
 import io.calimero.KNXIllegalArgumentException;
 import io.calimero.dptxlator.TranslatorTypes.MainType;
 
@@ -252,4 +257,59 @@ class TranslatorTypesTest
 		var t = TranslatorTypes.createTranslator(DPTXlator2ByteFloat.DPT_ELECTRICAL_CURRENT.dptId(), value);
 		assertEquals(value, t.getValue());
 	}
+
+	@Test
+	void acquireReleaseTranslator() throws KNXException
+	{
+		final var dptId = DPTXlator2ByteFloat.DPT_TEMPERATURE.dptId();
+		final DPTXlator t = TranslatorTypes.acquireTranslator(dptId);
+		assertEquals(DPTXlator2ByteFloat.DPT_TEMPERATURE, t.getType());
+		final DPTXlator other = TranslatorTypes.acquireTranslator(dptId);
+		assertNotSame(t, other);
+
+		TranslatorTypes.releaseTranslator(t);
+		final DPTXlator reused = TranslatorTypes.acquireTranslator(dptId);
+		assertSame(t, reused);
+		assertEquals(DPTXlator2ByteFloat.DPT_TEMPERATURE, reused.getType());
+	}
+
+	@Test
+	void createKeepsCauseOfTranslatorFailure()
+	{
+		final var mt = new MainType(2002, FailingTranslator.class, "failing translator");
+		final var e = assertThrows(KNXFormatException.class, () -> mt.createTranslator(DPTXlatorBoolean.DPT_SWITCH));
+		assertInstanceOf(IllegalStateException.class, e.getCause());
+	}
+
+	public static class FailingTranslator extends DPTXlatorBoolean
+	{
+		public FailingTranslator(final String dptId) throws KNXFormatException
+		{
+			super(dptId);
+			throw new IllegalStateException("translator failure");
+		}
+	}
+
+	public static class CustomBoolean extends DPTXlatorBoolean
+	{
+		public CustomBoolean(final String dptId) throws KNXFormatException
+		{
+			super(dptId);
+		}
+	}
+
+	@Test
+	void createUserSuppliedTranslator() throws KNXException
+	{
+		final var mt = new MainType(2001, CustomBoolean.class, "custom boolean");
+		final var m = TranslatorTypes.getAllMainTypes();
+		m.put(2001, mt);
+		try {
+			assertEquals(CustomBoolean.class, mt.createTranslator(DPTXlatorBoolean.DPT_SWITCH).getClass());
+			assertThrows(KNXFormatException.class, () -> mt.createTranslator(new DptId(1, 999)));
+		}
+		finally {
+			m.remove(2001);
+		}
+	}
 }
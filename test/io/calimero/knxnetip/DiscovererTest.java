@@ -54,7 +54,9 @@ import java.util.Objects;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Flow;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
@@ -411,4 +413,48 @@ class DiscovererTest
 				withService(ServiceFamily.Core, 2));
 		assertThrows(ExecutionException.class, search::get);
 	}
+
+	@Test
+	void searchStream() throws InterruptedException, ExecutionException, TimeoutException {
+		final var results = collect(ddef.timeout(Duration.ofSeconds(timeout)).searchStream(0))
+				.get(timeout + 1, TimeUnit.SECONDS);
+		assertFalse(results.isEmpty());
+		final long distinct = results.stream().map(r -> r.response().getDevice().serialNumber()).distinct().count();
+		assertEquals(results.size(), distinct);
+	}
+
+	@Test
+	void searchStreamCompletesEarly() throws InterruptedException, ExecutionException, TimeoutException {
+		final long start = System.nanoTime();
+		final var results = collect(ddef.timeout(Duration.ofSeconds(10)).searchStream(1)).get(5, TimeUnit.SECONDS);
+		assertEquals(1, results.size());
+		assertTrue(Duration.ofNanos(System.nanoTime() - start).toSeconds() < 5);
+	}
+
+	@Test
+	void describeStream() throws InterruptedException, ExecutionException, TimeoutException {
+		final var results = collect(ddef.timeout(Duration.ofSeconds(timeout)).describeStream(1))
+				.get(2 * timeout, TimeUnit.SECONDS);
+		assertEquals(1, results.size());
+		assertNotNull(results.getFirst().response().getDevice());
+	}
+
+	private static <T> CompletableFuture<List<T>> collect(final Flow.Publisher<T> publisher) {
+		final var collected = new CompletableFuture<List<T>>();
+		final List<T> items = new CopyOnWriteArrayList<>();
+		publisher.subscribe(new Flow.Subscriber<T>() {
+			@Override
+			public void onSubscribe(final Flow.Subscription subscription) { subscription.request(Long.MAX_VALUE); }
+
+			@Override
+			public void onNext(final T item) { items.add(item); }
+
+			@Override
+			public void onError(final Throwable throwable) { collected.completeExceptionally(throwable); }
+
+			@Override
+			public void onComplete() { collected.complete(List.copyOf(items)); }
+		});
+		return collected;
+	}
 }
@@ -0,0 +1,113 @@
+/*
+    Calimero 3 - A library for KNX network access
+    Copyright (c) 2026 B. Malinowsky
+
+    This program is free software; you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation; either version 2 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program; if not, write to the Free Software
+    Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+
+    Linking this library statically or dynamically with other modules is
+    making a combined work based on this library. Thus, the terms and
+    conditions of the GNU General Public License cover the whole
+    combination.
+
+    As a special exception, the copyright holders of this library give you
+    permission to link this library with independent modules to produce an
+    executable, regardless of the license terms of these independent
+    modules, and to copy and distribute the resulting executable under terms
+    of your choice, provided that you also meet, for each linked independent
+    module, the terms and conditions of the license of that module. An
+    independent module is a module which is not derived from or based on
+    this library. If you modify this library, you may extend this exception
+    to your version of the library, but you are not obligated to do so. If
+    you do not wish to do so, delete this exception statement from your
+    version.
+*/
+
+package io.calimero.knxnetip;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+class LoopbackFilterTest {
+	private final byte[] frame = { 0x29, 0, (byte) 0xbc, (byte) 0xe0, 0x11, 0x01, 0x0a, 0x03, 0x01, 0x00, (byte) 0x81 };
+
+	@Test
+	void suppressOnce() {
+		final var filter = new LoopbackFilter(Duration.ofSeconds(10), 10);
+		filter.add(frame.clone());
+		final byte[] buf = new byte[frame.length + 6];
+		System.arraycopy(frame, 0, buf, 6, frame.length);
+		assertTrue(filter.suppress(buf, 6, frame.length));
+		assertFalse(filter.suppress(buf, 6, frame.length));
+		assertEquals(1, filter.suppressed());
+		assertEquals(0, filter.size());
+	}
+
+	@Test
+	void burstLargerThanPreviousQueueSize() {
+		final var filter = new LoopbackFilter(Duration.ofSeconds(10), 1000);
+		for (int i = 0; i < 100; i++) {
+			final byte[] sent = frame.clone();
+			sent[sent.length - 1] = (byte) i;
+			filter.add(sent);
+		}
+		for (int i = 0; i < 100; i++) {
+			final byte[] received = frame.clone();
+			received[received.length - 1] = (byte) i;
+			assertTrue(filter.suppress(received, 0, received.length));
+		}
+		assertEquals(100, filter.suppressed());
+		assertEquals(0, filter.expired());
+	}
+
+	@Test
+	void identicalFrames() {
+		final var filter = new LoopbackFilter(Duration.ofSeconds(10), 10);
+		filter.add(frame.clone());
+		filter.add(frame.clone());
+		assertTrue(filter.suppress(frame, 0, frame.length));
+		assertTrue(filter.suppress(frame, 0, frame.length));
+		assertFalse(filter.suppress(frame, 0, frame.length));
+	}
+
+	@Test
+	void expireByAge() throws InterruptedException {
+		final var filter = new LoopbackFilter(Duration.ofMillis(50), 10);
+		filter.add(frame.clone());
+		Thread.sleep(100);
+		assertFalse(filter.suppress(frame, 0, frame.length));
+		assertEquals(1, filter.expired());
+		assertEquals(0, filter.size());
+	}
+
+	@Test
+	void evictOldestIfFull() {
+		final var filter = new LoopbackFilter(Duration.ofSeconds(10), 2);
+		for (int i = 0; i < 3; i++) {
+			final byte[] sent = frame.clone();
+			sent[sent.length - 1] = (byte) i;
+			filter.add(sent);
+		}
+		assertEquals(2, filter.size());
+		assertEquals(1, filter.expired());
+		final byte[] oldest = frame.clone();
+		oldest[oldest.length - 1] = 0;
+		assertFalse(filter.suppress(oldest, 0, oldest.length));
+	}
+}
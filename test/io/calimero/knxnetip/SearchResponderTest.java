@@ -0,0 +1,232 @@
+/*
+    Calimero 3 - A library for KNX network access
+    Copyright (c) 2026 B. Malinowsky
+
+    This program is free software; you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation; either version 2 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program; if not, write to the Free Software
+    Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+
+    Linking this library statically or dynamically with other modules is
+    making a combined work based on this library. Thus, the terms and
+    conditions of the GNU General Public License cover the whole
+    combination.
+
+    As a special exception, the copyright holders of this library give you
+    permission to link this library with independent modules to produce an
+    executable, regardless of the license terms of these independent
+    modules, and to copy and distribute the resulting executable under terms
+    of your choice, provided that you also meet, for each linked independent
+    module, the terms and conditions of the license of that module. An
+    independent module is a module which is not derived from or based on
+    this library. If you modify this library, you may extend this exception
+    to your version of the library, but you are not obligated to do so. If
+    you do not wish to do so, delete this exception statement from your
+    version.
+*/
+
+package io.calimero.knxnetip;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.UnknownHostException;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.calimero.IndividualAddress;
+import io.calimero.KNXFormatException;
+import io.calimero.SerialNumber;
+import io.calimero.knxnetip.servicetype.KNXnetIPHeader;
+import io.calimero.knxnetip.servicetype.PacketHelper;
+import io.calimero.knxnetip.servicetype.SearchRequest;
+import io.calimero.knxnetip.servicetype.SearchResponse;
+import io.calimero.knxnetip.util.DeviceDIB;
+import io.calimero.knxnetip.util.HPAI;
+import io.calimero.knxnetip.util.ServiceFamiliesDIB;
+import io.calimero.knxnetip.util.ServiceFamiliesDIB.ServiceFamily;
+import io.calimero.knxnetip.util.Srp;
+import io.calimero.log.LogService;
+
+class SearchResponderTest {
+	private record Sent(byte[] packet, InetSocketAddress dst) {}
+
+	private final InetSocketAddress source = new InetSocketAddress("192.168.1.50", 50000);
+	private final List<Runnable> tasks = new ArrayList<>();
+	private final List<Sent> sent = new ArrayList<>();
+	private final AtomicInteger callbackInvocations = new AtomicInteger();
+
+	private long now;
+	private SearchResponse response;
+	private volatile BiFunction<KNXnetIPHeader, ByteBuffer, SearchResponse> callback = (h, buffer) -> {
+		callbackInvocations.incrementAndGet();
+		return response;
+	};
+	private SearchResponder responder;
+
+	@BeforeEach
+	void init() throws UnknownHostException {
+		final var device = new DeviceDIB("test", 0, 0, DeviceDIB.MEDIUM_TP1, new IndividualAddress(1, 1, 0),
+				SerialNumber.Zero, InetAddress.getByName(KNXnetIPRouting.DEFAULT_MULTICAST), new byte[6]);
+		response = new SearchResponse(new HPAI(HPAI.IPV4_UDP, new InetSocketAddress("192.168.1.10", 3671)), device,
+				new ServiceFamiliesDIB(Map.of(ServiceFamily.Core, 2, ServiceFamily.Routing, 2)));
+		responder = new SearchResponder(LogService.getLogger("test"), () -> callback,
+				(packet, dst) -> sent.add(new Sent(remaining(packet), dst)), tasks::add, () -> now);
+	}
+
+	@Test
+	void respondUsingExecutor() throws KNXFormatException {
+		final var responseAddress = new InetSocketAddress("192.168.1.51", 3671);
+		assertTrue(receive(new SearchRequest(responseAddress)));
+		assertEquals(0, callbackInvocations.get());
+		assertTrue(sent.isEmpty());
+
+		runTasks();
+		assertEquals(1, callbackInvocations.get());
+		assertEquals(1, sent.size());
+		assertEquals(responseAddress, sent.getFirst().dst());
+		assertArrayEquals(PacketHelper.toPacket(response), sent.getFirst().packet());
+	}
+
+	@Test
+	void respondToNatSender() throws KNXFormatException {
+		receive(new SearchRequest(0));
+		runTasks();
+		assertEquals(source, sent.getFirst().dst());
+	}
+
+	@Test
+	void noCallback() throws KNXFormatException {
+		callback = null;
+		assertFalse(receive(new SearchRequest(source)));
+		assertTrue(tasks.isEmpty());
+	}
+
+	@Test
+	void cacheResponse() throws KNXFormatException {
+		receive(new SearchRequest(new InetSocketAddress("192.168.1.51", 3671)));
+		receive(new SearchRequest(new InetSocketAddress("192.168.1.52", 3671)));
+		runTasks();
+		assertEquals(1, callbackInvocations.get());
+		assertEquals(2, sent.size());
+		assertArrayEquals(sent.get(0).packet(), sent.get(1).packet());
+	}
+
+	@Test
+	void cacheResponsePerSearchParameters() throws KNXFormatException {
+		receive(new SearchRequest(source, Srp.withMacAddress(new byte[6])));
+		receive(new SearchRequest(source, Srp.withService(ServiceFamily.Routing, 2)));
+		receive(new SearchRequest(new InetSocketAddress("192.168.1.51", 3671), Srp.withMacAddress(new byte[6])));
+		receive(new SearchRequest(source));
+		runTasks();
+		assertEquals(3, callbackInvocations.get());
+		assertEquals(4, sent.size());
+	}
+
+	@Test
+	void noCacheForProgrammingModeSelection() throws KNXFormatException {
+		receive(new SearchRequest(new InetSocketAddress("192.168.1.51", 3671), Srp.withProgrammingMode()));
+		receive(new SearchRequest(new InetSocketAddress("192.168.1.52", 3671), Srp.withService(ServiceFamily.Routing, 2),
+				Srp.withProgrammingMode()));
+		receive(new SearchRequest(new InetSocketAddress("192.168.1.53", 3671), Srp.withProgrammingMode()));
+		runTasks();
+		assertEquals(3, callbackInvocations.get());
+		assertEquals(3, sent.size());
+	}
+
+	@Test
+	void cacheExpires() throws KNXFormatException {
+		receive(new SearchRequest(new InetSocketAddress("192.168.1.51", 3671)));
+		runTasks();
+		now += SearchResponder.cacheTimeout.toNanos();
+		receive(new SearchRequest(new InetSocketAddress("192.168.1.52", 3671)));
+		runTasks();
+		assertEquals(2, callbackInvocations.get());
+	}
+
+	@Test
+	void cacheEmptyResponse() throws KNXFormatException {
+		response = null;
+		receive(new SearchRequest(new InetSocketAddress("192.168.1.51", 3671)));
+		receive(new SearchRequest(new InetSocketAddress("192.168.1.52", 3671)));
+		runTasks();
+		assertEquals(1, callbackInvocations.get());
+		assertTrue(sent.isEmpty());
+	}
+
+	@Test
+	void coalesceDuplicateRequests() throws KNXFormatException {
+		assertTrue(receive(new SearchRequest(source)));
+		assertFalse(receive(new SearchRequest(source)));
+		runTasks();
+		assertEquals(1, sent.size());
+	}
+
+	@Test
+	void coalesceWindowDoesNotSlide() throws KNXFormatException {
+		// requests at 400 ms intervals, each response starts a new coalesce window
+		final List<Boolean> scheduled = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			scheduled.add(receive(new SearchRequest(source)));
+			now += Duration.ofMillis(400).toNanos();
+		}
+		assertEquals(List.of(true, false, true, false, true), scheduled);
+		runTasks();
+		assertEquals(3, sent.size());
+	}
+
+	@Test
+	void limitPendingResponses() throws KNXFormatException {
+		int scheduled = 0;
+		for (int i = 0; i < 2 * SearchResponder.maxPendingResponses; i++)
+			if (receive(new SearchRequest(new InetSocketAddress("192.168.1." + (100 + i), 3671))))
+				scheduled++;
+		assertEquals(SearchResponder.maxPendingResponses, scheduled);
+
+		runTasks();
+		assertTrue(receive(new SearchRequest(new InetSocketAddress("192.168.1.99", 3671))));
+		// a retry of a dropped request is not coalesced
+		final int dropped = 100 + 2 * SearchResponder.maxPendingResponses - 1;
+		assertTrue(receive(new SearchRequest(new InetSocketAddress("192.168.1." + dropped, 3671))));
+	}
+
+	private boolean receive(final SearchRequest req) throws KNXFormatException {
+		final byte[] packet = PacketHelper.toPacket(req);
+		final byte[] datagram = new byte[packet.length + 5];
+		System.arraycopy(packet, 0, datagram, 5, packet.length);
+		final var h = new KNXnetIPHeader(datagram, 5);
+		return responder.searchRequest(source, h, datagram, 5 + h.getStructLength());
+	}
+
+	private void runTasks() {
+		tasks.forEach(Runnable::run);
+		tasks.clear();
+	}
+
+	private static byte[] remaining(final ByteBuffer buffer) {
+		final byte[] data = new byte[buffer.remaining()];
+		buffer.get(data);
+		return data;
+	}
+}
@@ -0,0 +1,114 @@
+/*
+    Calimero 3 - A library for KNX network access
+    Copyright (c) 2026 B. Malinowsky
+
+    This program is free software; you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation; either version 2 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program; if not, write to the Free Software
+    Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+
+    Linking this library statically or dynamically with other modules is
+    making a combined work based on this library. Thus, the terms and
+    conditions of the GNU General Public License cover the whole
+    combination.
+
+    As a special exception, the copyright holders of this library give you
+    permission to link this library with independent modules to produce an
+    executable, regardless of the license terms of these independent
+    modules, and to copy and distribute the resulting executable under terms
+    of your choice, provided that you also meet, for each linked independent
+    module, the terms and conditions of the license of that module. An
+    independent module is a module which is not derived from or based on
+    this library. If you modify this library, you may extend this exception
+    to your version of the library, but you are not obligated to do so. If
+    you do not wish to do so, delete this exception statement from your
+    version.
+*/
+
+package io.calimero.knxnetip.servicetype;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import io.calimero.GroupAddress;
+import io.calimero.IndividualAddress;
+import io.calimero.KNXFormatException;
+import io.calimero.Priority;
+import io.calimero.cemi.CEMILData;
+
+class PacketHelperTest {
+	private final CEMILData frame = new CEMILData(CEMILData.MC_LDATA_REQ, new IndividualAddress(1, 1, 5),
+			new GroupAddress(1, 2, 3), new byte[] { 0, (byte) 0x81 }, Priority.NORMAL);
+
+	private final ByteBuffer buffer = ByteBuffer.allocateDirect(100);
+
+	@Test
+	void writePacket() {
+		final var req = new ServiceRequest<>(KNXnetIPHeader.TUNNELING_REQ, 3, 7, frame);
+		PacketHelper.writePacket(buffer, req);
+		assertArrayEquals(PacketHelper.toPacket(req), written());
+	}
+
+	@Test
+	void writeServiceAck() {
+		final var ack = new ServiceAck(KNXnetIPHeader.TUNNELING_ACK, 3, 7, ErrorCodes.NO_ERROR);
+		PacketHelper.writePacket(buffer, ack);
+		assertArrayEquals(PacketHelper.toPacket(ack), written());
+	}
+
+	@Test
+	void writeRoutingIndication() {
+		PacketHelper.writeRoutingIndication(buffer, frame);
+		assertArrayEquals(PacketHelper.toPacket(new RoutingIndication(frame)), written());
+	}
+
+	@Test
+	void writeServiceRequest() throws KNXFormatException {
+		PacketHelper.writeServiceRequest(buffer, KNXnetIPHeader.TUNNELING_REQ, 3, 7, frame);
+		final byte[] packet = written();
+		assertArrayEquals(PacketHelper.toPacket(new ServiceRequest<>(KNXnetIPHeader.TUNNELING_REQ, 3, 7, frame)), packet);
+
+		final var header = new KNXnetIPHeader(packet, 0);
+		assertEquals(packet.length, header.getTotalLength());
+		final var req = ServiceRequest.from(header, packet, header.getStructLength());
+		assertEquals(7, req.getSequenceNumber());
+		assertArrayEquals(frame.toByteArray(), req.service().toByteArray());
+	}
+
+	@Test
+	void writeHeader() {
+		final var header = new KNXnetIPHeader(KNXnetIPHeader.ROUTING_IND, 20);
+		header.writeTo(buffer);
+		assertArrayEquals(header.toByteArray(), written());
+	}
+
+	@Test
+	void writeReusedBuffer() {
+		PacketHelper.writeRoutingIndication(buffer, frame);
+		buffer.clear();
+		final var ack = new ServiceAck(KNXnetIPHeader.TUNNELING_ACK, 1, 2, ErrorCodes.NO_ERROR);
+		PacketHelper.writePacket(buffer, ack);
+		assertEquals(10, buffer.position());
+		assertArrayEquals(PacketHelper.toPacket(ack), Arrays.copyOf(written(), 10));
+	}
+
+	private byte[] written() {
+		final byte[] packet = new byte[buffer.flip().remaining()];
+		buffer.get(packet);
+		return packet;
+	}
+}
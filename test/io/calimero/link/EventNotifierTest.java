@@ -0,0 +1,170 @@
+/*
+    Calimero 3 - A library for KNX network access
+    Copyright (c) 2026 B. Malinowsky
+
+    This program is free software; you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation; either version 2 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program; if not, write to the Free Software
+    Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+
+    Linking this library statically or dynamically with other modules is
+    making a combined work based on this library. Thus, the terms and
+    conditions of the GNU General Public License cover the whole
+    combination.
+
+    As a special exception, the copyright holders of this library give you
+    permission to link this library with independent modules to produce an
+    executable, regardless of the license terms of these independent
+    modules, and to copy and distribute the resulting executable under terms
+    of your choice, provided that you also meet, for each linked independent
+    module, the terms and conditions of the license of that module. An
+    independent module is a module which is not derived from or based on
+    this library. If you modify this library, you may extend this exception
+    to your version of the library, but you are not obligated to do so. If
+    you do not wish to do so, delete this exception statement from your
+    version.
+*/
+
+package io.calimero.link;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import io.calimero.CloseEvent;
+import io.calimero.FrameEvent;
+import io.calimero.link.EventNotifier.OverflowPolicy;
+import io.calimero.log.LogService;
+
+class EventNotifierTest {
+	private final EventNotifier<LinkListener> notifier = new EventNotifier<>(this,
+			LogService.getLogger(EventNotifierTest.class)) {
+		@Override
+		public void frameReceived(final FrameEvent e) { addEvent(l -> l.indication(e)); }
+	};
+
+	private final List<Integer> received = new ArrayList<>();
+	private final CountDownLatch closed = new CountDownLatch(1);
+
+	private final LinkListener listener = new LinkListener() {
+		@Override
+		public void indication(final FrameEvent e) { received.add(e.getFrameBytes()[0] & 0xff); }
+
+		@Override
+		public void linkClosed(final CloseEvent e) { closed.countDown(); }
+	};
+
+	@Test
+	void eventsAreDispatchedInOrder() throws InterruptedException {
+		notifier.addListener(listener);
+		for (int i = 0; i < 200; i++)
+			notifier.frameReceived(new FrameEvent(this, new byte[] { (byte) i }));
+		notifier.connectionClosed(new CloseEvent(this, CloseEvent.USER_REQUEST, "test"));
+
+		assertTrue(closed.await(5, TimeUnit.SECONDS));
+		assertEquals(200, received.size());
+		for (int i = 0; i < received.size(); i++)
+			assertEquals(i, received.get(i));
+		assertEquals(0, notifier.queuedEvents());
+		assertEquals(0, notifier.droppedEvents());
+	}
+
+	@Test
+	void defaultPolicyDoesNotBlock() throws InterruptedException {
+		final var blocked = new CountDownLatch(1);
+		final var release = new CountDownLatch(1);
+		notifier.addListener(new LinkListener() {
+			@Override
+			public void indication(final FrameEvent e) {
+				blocked.countDown();
+				try {
+					release.await();
+				}
+				catch (final InterruptedException ignore) {}
+			}
+		});
+		assertEquals(OverflowPolicy.DropOldest, notifier.overflowPolicy());
+
+		notifier.frameReceived(new FrameEvent(this, new byte[] { 0 }));
+		assertTrue(blocked.await(5, TimeUnit.SECONDS));
+		for (int i = 0; i < EventNotifier.DefaultCapacity + 10; i++)
+			notifier.frameReceived(new FrameEvent(this, new byte[] { (byte) i }));
+		assertEquals(EventNotifier.DefaultCapacity, notifier.queuedEvents());
+		assertEquals(10, notifier.droppedEvents());
+		release.countDown();
+	}
+
+	@Test
+	void dropNewest() throws InterruptedException {
+		final var blocked = new CountDownLatch(1);
+		final var release = new CountDownLatch(1);
+		notifier.addListener(new LinkListener() {
+			@Override
+			public void indication(final FrameEvent e) {
+				blocked.countDown();
+				try {
+					release.await();
+				}
+				catch (final InterruptedException ignore) {}
+			}
+		});
+		notifier.addListener(listener);
+		notifier.overflowPolicy(OverflowPolicy.DropNewest, 5);
+
+		notifier.frameReceived(new FrameEvent(this, new byte[] { 0 }));
+		assertTrue(blocked.await(5, TimeUnit.SECONDS));
+		for (int i = 1; i < 10; i++)
+			notifier.frameReceived(new FrameEvent(this, new byte[] { (byte) i }));
+		assertEquals(5, notifier.queuedEvents());
+		assertEquals(4, notifier.droppedEvents());
+
+		notifier.connectionClosed(new CloseEvent(this, CloseEvent.USER_REQUEST, "test"));
+		release.countDown();
+		assertTrue(closed.await(5, TimeUnit.SECONDS));
+		assertEquals(List.of(0, 1, 2, 3, 4, 5), received);
+	}
+
+	@Test
+	void dropOldest() throws InterruptedException {
+		final var blocked = new CountDownLatch(1);
+		final var release = new CountDownLatch(1);
+		notifier.addListener(new LinkListener() {
+			@Override
+			public void indication(final FrameEvent e) {
+				blocked.countDown();
+				try {
+					release.await();
+				}
+				catch (final InterruptedException ignore) {}
+			}
+		});
+		notifier.addListener(listener);
+		notifier.overflowPolicy(OverflowPolicy.DropOldest, 5);
+
+		notifier.frameReceived(new FrameEvent(this, new byte[] { 0 }));
+		assertTrue(blocked.await(5, TimeUnit.SECONDS));
+		for (int i = 1; i < 10; i++)
+			notifier.frameReceived(new FrameEvent(this, new byte[] { (byte) i }));
+		assertEquals(4, notifier.droppedEvents());
+
+		notifier.connectionClosed(new CloseEvent(this, CloseEvent.USER_REQUEST, "test"));
+		release.countDown();
+		assertTrue(closed.await(5, TimeUnit.SECONDS));
+		assertEquals(List.of(0, 5, 6, 7, 8, 9), received);
+	}
+}
@@ -0,0 +1,241 @@
+/*
+    Calimero 3 - A library for KNX network access
+    Copyright (c) 2026 B. Malinowsky
+
+    This program is free software; you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation; either version 2 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program; if not, write to the Free Software
+    Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+
+    Linking this library statically or dynamically with other modules is
+    making a combined work based on this library. Thus, the terms and
+    conditions of the GNU General Public License cover the whole
+    combination.
+
+    As a special exception, the copyright holders of this library give you
+    permission to link this library with independent modules to produce an
+    executable, regardless of the license terms of these independent
+    modules, and to copy and distribute the resulting executable under terms
+    of your choice, provided that you also meet, for each linked independent
+    module, the terms and conditions of the license of that module. An
+    independent module is a module which is not derived from or based on
+    this library. If you modify this library, you may extend this exception
+    to your version of the library, but you are not obligated to do so. If
+    you do not wish to do so, delete this exception statement from your
+    version.
+*/
+
+package io.calimero.link;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.calimero.CloseEvent;
+import io.calimero.FrameEvent;
+import io.calimero.GroupAddress;
+import io.calimero.IndividualAddress;
+import io.calimero.KNXAddress;
+import io.calimero.KNXIllegalArgumentException;
+import io.calimero.Priority;
+import io.calimero.cemi.CEMILData;
+import io.calimero.link.medium.KNXMediumSettings;
+import io.calimero.link.medium.TPSettings;
+
+class KNXNetworkLinkPoolTest {
+	private static final class TestLink implements KNXNetworkLink {
+		final List<NetworkLinkListener> listeners = new CopyOnWriteArrayList<>();
+		final List<KNXAddress> sent = new CopyOnWriteArrayList<>();
+		final KNXMediumSettings settings;
+		volatile boolean open = true;
+
+		TestLink(final int device) { settings = new TPSettings(new IndividualAddress(1, 1, device)); }
+
+		@Override
+		public KNXMediumSettings getKNXMedium() { return settings; }
+
+		@Override
+		public void addLinkListener(final NetworkLinkListener l) { listeners.add(l); }
+
+		@Override
+		public void removeLinkListener(final NetworkLinkListener l) { listeners.remove(l); }
+
+		@Override
+		public void setHopCount(final int count) {}
+
+		@Override
+		public int getHopCount() { return 6; }
+
+		@Override
+		public void sendRequest(final KNXAddress dst, final Priority p, final byte... nsdu)
+				throws KNXLinkClosedException {
+			if (!open)
+				throw new KNXLinkClosedException("closed");
+			sent.add(dst);
+		}
+
+		@Override
+		public void sendRequestWait(final KNXAddress dst, final Priority p, final byte... nsdu)
+				throws KNXLinkClosedException {
+			sendRequest(dst, p, nsdu);
+		}
+
+		@Override
+		public void send(final CEMILData msg, final boolean waitForCon) throws KNXLinkClosedException {
+			sendRequest(msg.getDestination(), msg.getPriority(), msg.getPayload());
+		}
+
+		@Override
+		public String getName() { return "test " + settings.getDeviceAddress(); }
+
+		@Override
+		public boolean isOpen() { return open; }
+
+		@Override
+		public void close() {
+			if (!open)
+				return;
+			open = false;
+			final var e = new CloseEvent(this, CloseEvent.USER_REQUEST, "close");
+			listeners.forEach(l -> l.linkClosed(e));
+		}
+
+		void receive(final CEMILData frame) {
+			final var e = new FrameEvent(this, frame);
+			listeners.forEach(l -> l.indication(e));
+		}
+	}
+
+	private final List<TestLink> links = new ArrayList<>();
+	private KNXNetworkLinkPool pool;
+	private final List<CEMILData> indications = new CopyOnWriteArrayList<>();
+	private volatile CloseEvent closed;
+
+	@BeforeEach
+	void init() {
+		for (int i = 1; i <= 4; i++)
+			links.add(new TestLink(200 + i));
+		pool = new KNXNetworkLinkPool(links);
+		pool.addLinkListener(new NetworkLinkListener() {
+			@Override
+			public void indication(final FrameEvent e) { indications.add((CEMILData) e.getFrame()); }
+
+			@Override
+			public void linkClosed(final CloseEvent e) { closed = e; }
+		});
+	}
+
+	@Test
+	void invalidPoolSize() {
+		assertThrows(KNXIllegalArgumentException.class, () -> KNXNetworkLinkPool.newPool(0, () -> links.get(0)));
+		assertThrows(KNXIllegalArgumentException.class, () -> KNXNetworkLinkPool.newPool(65, () -> links.get(0)));
+	}
+
+	@Test
+	void sameDestinationUsesSameLink() throws Exception {
+		final var dst = new GroupAddress(1, 2, 3);
+		for (int i = 0; i < 10; i++)
+			pool.sendRequest(dst, Priority.LOW, (byte) 0, (byte) 0x81);
+		assertEquals(1, links.stream().filter(l -> !l.sent.isEmpty()).count());
+	}
+
+	@Test
+	void destinationsAreDistributed() throws Exception {
+		for (int i = 0; i < 100; i++)
+			pool.sendRequest(new GroupAddress(1, 2, i), Priority.LOW, (byte) 0, (byte) 0x81);
+		for (final var link : links)
+			assertFalse(link.sent.isEmpty());
+	}
+
+	@Test
+	void failOverToOpenLink() throws Exception {
+		final var dst = new GroupAddress(1, 2, 3);
+		pool.sendRequest(dst, Priority.LOW, (byte) 0, (byte) 0x81);
+		final var used = links.stream().filter(l -> !l.sent.isEmpty()).findFirst().orElseThrow();
+		used.open = false;
+
+		pool.sendRequestWait(dst, Priority.LOW, (byte) 0, (byte) 0x80);
+		final var failover = links.stream().filter(l -> l != used && !l.sent.isEmpty()).findFirst().orElseThrow();
+		assertNotEquals(used, failover);
+		assertEquals(1, failover.sent.size());
+	}
+
+	@Test
+	void noOpenLink() {
+		links.forEach(l -> l.open = false);
+		assertThrows(KNXLinkClosedException.class, () -> pool.sendRequest(new GroupAddress(1), Priority.LOW, (byte) 0, (byte) 0x81));
+	}
+
+	@Test
+	void duplicateIndicationsAreMerged() {
+		final var frame = indication(5, new byte[] { 0, (byte) 0x81 });
+		links.forEach(l -> l.receive(frame));
+		assertEquals(1, indications.size());
+	}
+
+	@Test
+	void repeatedIndicationIsNotified() {
+		final var frame = indication(5, new byte[] { 0, (byte) 0x81 });
+		links.get(0).receive(frame);
+		links.get(0).receive(frame);
+		links.get(1).receive(frame);
+		links.get(2).receive(frame);
+		links.get(2).receive(frame);
+		links.get(1).receive(frame);
+		assertEquals(2, indications.size());
+	}
+
+	@Test
+	void differentIndicationsAreNotified() {
+		links.get(0).receive(indication(5, new byte[] { 0, (byte) 0x81 }));
+		links.get(1).receive(indication(5, new byte[] { 0, (byte) 0x80 }));
+		assertEquals(2, indications.size());
+	}
+
+	@Test
+	void ownFramesAreNotNotified() {
+		links.get(1).receive(indication(201, new byte[] { 0, (byte) 0x81 }));
+		assertTrue(indications.isEmpty());
+	}
+
+	@Test
+	void poolClosesAfterLastLink() {
+		for (int i = 0; i < links.size() - 1; i++)
+			links.get(i).close();
+		assertTrue(pool.isOpen());
+		links.get(links.size() - 1).close();
+		assertFalse(pool.isOpen());
+		assertEquals(CloseEvent.INTERNAL, closed.getInitiator());
+	}
+
+	@Test
+	void closeClosesAllLinks() {
+		pool.close();
+		assertFalse(pool.isOpen());
+		links.forEach(l -> assertFalse(l.isOpen()));
+		assertEquals(CloseEvent.USER_REQUEST, closed.getInitiator());
+	}
+
+	private static CEMILData indication(final int src, final byte[] tpdu) {
+		return new CEMILData(CEMILData.MC_LDATA_IND, new IndividualAddress(1, 1, src), new GroupAddress(1, 0, 1), tpdu,
+				Priority.LOW);
+	}
+}
@@ -0,0 +1,241 @@
+/*
+    Calimero 3 - A library for KNX network access
+    Copyright (c) 2026 B. Malinowsky
+
+    This program is free software; you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation; either version 2 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program; if not, write to the Free Software
+    Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+
+    Linking this library statically or dynamically with other modules is
+    making a combined work based on this library. Thus, the terms and
+    conditions of the GNU General Public License cover the whole
+    combination.
+
+    As a special exception, the copyright holders of this library give you
+    permission to link this library with independent modules to produce an
+    executable, regardless of the license terms of these independent
+    modules, and to copy and distribute the resulting executable under terms
+    of your choice, provided that you also meet, for each linked independent
+    module, the terms and conditions of the license of that module. An
+    independent module is a module which is not derived from or based on
+    this library. If you modify this library, you may extend this exception
+    to your version of the library, but you are not obligated to do so. If
+    you do not wish to do so, delete this exception statement from your
+    version.
+*/
+
+package io.calimero.link;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.calimero.FrameEvent;
+import io.calimero.cemi.CEMIBusMon;
+import io.calimero.link.KNXNetworkMonitorReplay.CapturedFrameEvent;
+import io.calimero.link.medium.KNXMediumSettings;
+import io.calimero.link.medium.TP1LData;
+
+class MonitorCaptureTest {
+	private static final int TP1 = KNXMediumSettings.MEDIUM_TP1;
+	private static final Instant start = Instant.parse("2026-03-01T10:15:30.000001Z");
+
+	@TempDir
+	private Path tempDir;
+	private Path file;
+	private final List<CapturedFrameEvent> replayed = new ArrayList<>();
+
+	@BeforeEach
+	void init() throws IOException {
+		file = Files.createTempFile(tempDir, "capture", ".bin");
+	}
+
+	@Test
+	void captureAndReplay() throws IOException, InterruptedException {
+		try (var capture = MonitorCapture.open(file, 64 * 1024, TP1)) {
+			capture.capture(start, TP1, CEMIBusMon.newWithStatus(0x81, 0x1234, false, frame(1)));
+			capture.capture(start.plusMillis(10), TP1, CEMIBusMon.newWithStatus(0x08, 0x12345678L, true, frame(2)));
+		}
+
+		replayAll(Instant.MIN);
+		assertEquals(2, replayed.size());
+
+		final var first = replayed.get(0);
+		assertEquals(start, first.captureTime());
+		final var mon = (CEMIBusMon) first.getFrame();
+		assertTrue(mon.getFrameError());
+		assertEquals(1, mon.getSequenceNumber());
+		assertEquals(0x1234, mon.getTimestamp());
+		assertEquals(CEMIBusMon.TYPEID_TIMESTAMP, mon.getTimestampType());
+		assertArrayEquals(frame(1), mon.getPayload());
+
+		final var second = (CEMIBusMon) replayed.get(1).getFrame();
+		assertTrue(second.getLost());
+		assertEquals(0x12345678L, second.getTimestamp());
+		assertEquals(CEMIBusMon.TYPEID_TIMESTAMP_EXT, second.getTimestampType());
+	}
+
+	@Test
+	void captureMonitorIndication() throws IOException, InterruptedException {
+		try (var capture = MonitorCapture.open(file, 64 * 1024, TP1)) {
+			capture.indication(new FrameEvent(this, CEMIBusMon.newWithSequenceNumber(3, 100, false, frame(7))));
+		}
+		replayAll(Instant.MIN);
+		assertEquals(1, replayed.size());
+		assertEquals(3, ((CEMIBusMon) replayed.get(0).getFrame()).getSequenceNumber());
+	}
+
+	@Test
+	void ringOverwritesOldestBlock() throws IOException, InterruptedException {
+		final int frames = 1000;
+		try (var capture = MonitorCapture.open(file, 3 * 4096, TP1)) {
+			for (int i = 0; i < frames; i++)
+				capture.capture(start.plusMillis(i), TP1, CEMIBusMon.newWithStatus(0, i, false, frame(i)));
+		}
+		replayAll(Instant.MIN);
+		assertFalse(replayed.isEmpty());
+		assertTrue(replayed.size() < frames);
+		assertEquals(start.plusMillis(frames - 1), replayed.getLast().captureTime());
+		for (int i = 1; i < replayed.size(); i++)
+			assertEquals(replayed.get(i - 1).captureTime().plusMillis(1), replayed.get(i).captureTime());
+	}
+
+	@Test
+	void seekByCaptureTime() throws IOException, InterruptedException {
+		try (var capture = MonitorCapture.open(file, 256 * 1024, TP1)) {
+			for (int i = 0; i < 2000; i++)
+				capture.capture(start.plusMillis(i), TP1, CEMIBusMon.newWithStatus(0, i, false, frame(i)));
+		}
+		replayAll(start.plusMillis(1234));
+		assertEquals(2000 - 1234, replayed.size());
+		assertEquals(start.plusMillis(1234), replayed.getFirst().captureTime());
+	}
+
+	@Test
+	void reopenedCaptureContinues() throws IOException, InterruptedException {
+		try (var capture = MonitorCapture.open(file, 64 * 1024, TP1)) {
+			capture.capture(start, TP1, CEMIBusMon.newWithStatus(0, 1, false, frame(1)));
+		}
+		try (var capture = MonitorCapture.open(file, 64 * 1024, TP1)) {
+			capture.capture(start.plusSeconds(1), TP1, CEMIBusMon.newWithStatus(0, 2, false, frame(2)));
+		}
+		replayAll(Instant.MIN);
+		assertEquals(2, replayed.size());
+		assertEquals(start.plusSeconds(1), replayed.get(1).captureTime());
+	}
+
+	@Test
+	void recaptureOverLargerFile() throws IOException, InterruptedException {
+		try (var capture = MonitorCapture.open(file, 256 * 1024, TP1)) {
+			capture.capture(start, TP1, CEMIBusMon.newWithStatus(0, 1, false, frame(1)));
+		}
+		try (var capture = MonitorCapture.open(file, 64 * 1024, TP1)) {
+			capture.capture(start.plusSeconds(1), TP1, CEMIBusMon.newWithStatus(0, 2, false, frame(2)));
+		}
+		assertTrue(Files.size(file) < 256 * 1024);
+		replayAll(Instant.MIN);
+		assertEquals(1, replayed.size());
+		assertEquals(start.plusSeconds(1), replayed.get(0).captureTime());
+	}
+
+	@Test
+	void storesBusmonitorFormat() throws IOException {
+		try (var capture = MonitorCapture.open(file, 64 * 1024, TP1, true)) {
+			capture.capture(start, TP1, CEMIBusMon.newWithStatus(0, 1, false, frame(1)));
+		}
+		final byte[] header = Files.readAllBytes(file);
+		assertEquals(MonitorCapture.ExtBusmonFlag, header[7] & MonitorCapture.ExtBusmonFlag);
+
+		try (var capture = MonitorCapture.open(file, 64 * 1024, TP1)) {
+			capture.capture(start, TP1, CEMIBusMon.newWithStatus(0, 1, false, frame(1)));
+		}
+		assertEquals(0, Files.readAllBytes(file)[7]);
+	}
+
+	@Test
+	void acceleratedReplay() throws IOException, InterruptedException {
+		try (var capture = MonitorCapture.open(file, 64 * 1024, TP1)) {
+			capture.capture(start, TP1, CEMIBusMon.newWithStatus(0, 1, false, frame(1)));
+			capture.capture(start.plusMillis(500), TP1, CEMIBusMon.newWithStatus(0, 2, false, frame(2)));
+		}
+		try (var replay = new KNXNetworkMonitorReplay(file)) {
+			replay.addMonitorListener(listener());
+			final long begin = System.nanoTime();
+			replay.replay(Instant.MIN, 10);
+			assertTrue(Duration.ofNanos(System.nanoTime() - begin).toMillis() >= 45);
+		}
+		assertEquals(2, replayed.size());
+	}
+
+	@Test
+	void decodeRawFrames() throws IOException, InterruptedException {
+		try (var capture = MonitorCapture.open(file, 64 * 1024, TP1)) {
+			capture.capture(start, TP1, CEMIBusMon.newWithStatus(0, 1, false, frame(1)));
+		}
+		try (var replay = new KNXNetworkMonitorReplay(file)) {
+			assertEquals(TP1, replay.getKNXMedium().getMedium());
+			assertEquals(start, replay.start().orElseThrow());
+			replay.setDecodeRawFrames(true);
+			replay.addMonitorListener(listener());
+			replay.replay(Instant.MIN, Double.POSITIVE_INFINITY);
+		}
+		assertNotNull(replayed.getFirst().getRawFrame());
+		assertInstanceOf(TP1LData.class, replayed.getFirst().getRawFrame());
+	}
+
+	@Test
+	void noCaptureFile() throws IOException {
+		Files.write(file, new byte[100]);
+		assertThrows(IOException.class, () -> new KNXNetworkMonitorReplay(file));
+	}
+
+	private void replayAll(final Instant from) throws IOException, InterruptedException {
+		try (var replay = new KNXNetworkMonitorReplay(file)) {
+			replay.addMonitorListener(listener());
+			replay.replay(from, Double.POSITIVE_INFINITY);
+		}
+	}
+
+	private LinkListener listener() {
+		return new LinkListener() {
+			@Override
+			public void indication(final FrameEvent e) { replayed.add((CapturedFrameEvent) e); }
+		};
+	}
+
+	// TP1 standard frame, group write of value to 1/1/1
+	private static byte[] frame(final int value) {
+		final byte[] frame = { (byte) 0xbc, 0x11, 0x01, 0x09, 0x01, (byte) 0xe1, 0x00, (byte) (0x80 | value & 0x3f), 0 };
+		int checksum = 0;
+		for (int i = 0; i < frame.length - 1; i++)
+			checksum ^= frame[i];
+		frame[frame.length - 1] = (byte) ~checksum;
+		return frame;
+	}
+}
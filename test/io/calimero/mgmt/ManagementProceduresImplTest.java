@@ -36,11 +36,18 @@
 
 package io.calimero.mgmt;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -55,7 +62,9 @@ import io.calimero.Util;
 import io.calimero.link.KNXLinkClosedException;
 import io.calimero.link.KNXNetworkLink;
 import io.calimero.link.KNXNetworkLinkIP;
+import io.calimero.link.KNXNetworkLinkPool;
 import io.calimero.link.medium.TPSettings;
+import io.calimero.mgmt.ManagementProceduresImpl.MemoryBlock;
 import tag.KnxnetIP;
 import tag.Slow;
 
@@ -198,6 +207,20 @@ class ManagementProceduresImplTest
 		assertEquals(0, list2.length);
 	}
 
+	@Test
+	@Slow
+	void scanNetworkDevicesInParallel() throws KNXException, InterruptedException
+	{
+		final Set<IndividualAddress> devices = ConcurrentHashMap.newKeySet();
+		try (var pool = KNXNetworkLinkPool.newTunnelingPool(2, Util.getLocalHost(), Util.getServer(), false,
+				new TPSettings())) {
+			ManagementProceduresImpl.scanNetworkDevices(pool.links(), new int[] { 0x11, 0x00 }, devices::add,
+					(__, ___) -> {});
+		}
+		assertFalse(devices.isEmpty());
+		assertTrue(devices.stream().allMatch(device -> device.getArea() == 1 && device.getLine() == 1));
+	}
+
 	@Test
 	void scanExistingGroupAddresses() throws KNXException, InterruptedException {
 		final ManagementProceduresImpl impl = (ManagementProceduresImpl) mp;
@@ -270,4 +293,33 @@ class ManagementProceduresImplTest
 		final int startAddress = 0x10000;
 		mp.readMemory(Util.getRouterAddress(), startAddress, 2 * 249 + 10);
 	}
+
+	@Test
+	void readMemoryIntoBuffer() throws KNXException, InterruptedException {
+		final ManagementProceduresImpl impl = (ManagementProceduresImpl) mp;
+		final var data = ByteBuffer.allocate(2 * 63 + 10);
+		final var progress = new ArrayList<Integer>();
+		impl.readMemory(deviceNoExtMem, 0x20, data, (__, transferred, ___) -> progress.add(transferred));
+		assertFalse(data.hasRemaining());
+		assertEquals(data.capacity(), progress.getLast());
+		assertArrayEquals(mp.readMemory(deviceNoExtMem, 0x20, data.capacity()), data.array());
+	}
+
+	@Test
+	void readMemoryOfDevicesConcurrently() throws KNXException, InterruptedException {
+		final ManagementProceduresImpl impl = (ManagementProceduresImpl) mp;
+		final var blocks = List.of(new MemoryBlock(deviceNoExtMem, 0x20, ByteBuffer.allocate(100)),
+				new MemoryBlock(Util.getRouterAddress(), 0x10000, ByteBuffer.allocate(300)));
+		impl.readMemory(blocks, 20, (__, ___, ____) -> {});
+		blocks.forEach(block -> assertFalse(block.data().hasRemaining()));
+	}
+
+	@Test
+	void writeMemoryOfDevicesConcurrently() throws KNXException, InterruptedException {
+		final ManagementProceduresImpl impl = (ManagementProceduresImpl) mp;
+		final var blocks = List.of(new MemoryBlock(deviceNoExtMem, 0x1000, ByteBuffer.allocate(2 * 63 + 10)),
+				new MemoryBlock(Util.getRouterAddress(), 0x10000, ByteBuffer.allocate(2 * 149 + 10)));
+		impl.writeMemory(blocks, true, 20, (__, ___, ____) -> {});
+		blocks.forEach(block -> assertFalse(block.data().hasRemaining()));
+	}
 }
@@ -48,6 +48,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 
 import org.junit.jupiter.api.AfterEach;
@@ -360,6 +361,41 @@ class ProcessCommunicatorTest {
 		assertTrue(now.isBefore(start.plus(timeout).plusSeconds(2)));
 	}
 
+	@Test
+	void readAsync() throws InterruptedException, ExecutionException {
+		final Datapoint dp = new StateDP(dpString, "test datapoint", DPTXlatorString.DPT_STRING_8859_1.dptId());
+		final var futures = new ArrayList<CompletableFuture<String>>();
+		for (int i = 0; i < 10; i++)
+			futures.add(pc2.readAsync(dp));
+		for (final var f : futures)
+			assertEquals(dpStringValue, f.get());
+
+		final var response = pc2.readAsync(dpBool).get();
+		assertEquals(dpBool, response.getDestination());
+		assertTrue(response.isLengthOptimizedAPDU());
+	}
+
+	@Test
+	void readAsyncNonExistingDestination() {
+		final var f = pc2.readAsync(new GroupAddress(7, 7, 7));
+		final var t = assertThrows(ExecutionException.class, f::get);
+		assertEquals(KNXTimeoutException.class, t.getCause().getClass());
+	}
+
+	@Test
+	void readAll() throws InterruptedException, ExecutionException {
+		final var string = new StateDP(dpString, "string", DPTXlatorString.DPT_STRING_8859_1.dptId());
+		final var string2 = new StateDP(dpString, "same address", DPTXlatorString.DPT_STRING_8859_1.dptId());
+		final var none = new StateDP(new GroupAddress(7, 7, 7), "non-existing", DPTXlator8BitUnsigned.DPT_PERCENT_U8.dptId());
+		final var results = pc2.readAll(List.of(string, string2, none), 2);
+
+		assertEquals(3, results.size());
+		assertEquals(dpStringValue, results.get(string).get());
+		assertEquals(dpStringValue, results.get(string2).get());
+		final var t = assertThrows(ExecutionException.class, results.get(none)::get);
+		assertEquals(KNXTimeoutException.class, t.getCause().getClass());
+	}
+
 	@Test
 	void writeDatapointString() throws KNXException {
 		final Datapoint dp = new StateDP(dpUnsigned1, "test datapoint", DPTXlator8BitUnsigned.DPT_PERCENT_U8.dptId());
@@ -0,0 +1,146 @@
+/*
+    Calimero 3 - A library for KNX network access
+    Copyright (c) 2026 B. Malinowsky
+
+    This program is free software; you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation; either version 2 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program; if not, write to the Free Software
+    Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+
+    Linking this library statically or dynamically with other modules is
+    making a combined work based on this library. Thus, the terms and
+    conditions of the GNU General Public License cover the whole
+    combination.
+
+    As a special exception, the copyright holders of this library give you
+    permission to link this library with independent modules to produce an
+    executable, regardless of the license terms of these independent
+    modules, and to copy and distribute the resulting executable under terms
+    of your choice, provided that you also meet, for each linked independent
+    module, the terms and conditions of the license of that module. An
+    independent module is a module which is not derived from or based on
+    this library. If you modify this library, you may extend this exception
+    to your version of the library, but you are not obligated to do so. If
+    you do not wish to do so, delete this exception statement from your
+    version.
+*/
+
+package io.calimero.secure;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
+import java.util.Arrays;
+import java.util.Random;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.IvParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.junit.jupiter.api.Test;
+
+class AesCcmTest {
+	private static final int MacSize = AesCcm.MacSize;
+
+	private final Random rnd = new Random(42);
+	private final byte[] key = bytes(16);
+	private final AesCcm ccm = new AesCcm(key);
+
+	@Test
+	void confMacMatchesAesCbc() throws GeneralSecurityException {
+		for (int length = 0; length < 60; length++) {
+			final byte[] b0 = bytes(16);
+			final byte[] associatedData = bytes(length % 2 == 0 ? 1 : 7);
+			final byte[] apdu = bytes(length);
+
+			final byte[] mac = new byte[MacSize + 2];
+			ccm.confMac(b0, associatedData, apdu, 0, apdu.length, mac, 1);
+
+			final byte[] data = ByteBuffer.allocate(2 + associatedData.length + length)
+					.putShort((short) associatedData.length).put(associatedData).put(apdu).array();
+			final byte[] y = aesCbc(b0, data);
+			assertArrayEquals(Arrays.copyOfRange(y, y.length - 16, y.length - 16 + MacSize),
+					Arrays.copyOfRange(mac, 1, 1 + MacSize));
+		}
+	}
+
+	@Test
+	void authMacMatchesAesCbc() throws GeneralSecurityException {
+		for (int length = 0; length < 60; length++) {
+			final byte[] b0 = bytes(16);
+			final byte[] ctr0 = bytes(16);
+			final byte[] apdu = bytes(length);
+
+			final byte[] mac = new byte[MacSize];
+			ccm.authMac(b0, ctr0, apdu, 0, apdu.length, mac, 0);
+
+			final byte[] data = ByteBuffer.allocate(2 + length).putShort((short) length).put(apdu).array();
+			final byte[] y = aesCbc(b0, data);
+			final byte[] expected = aesCtr(ctr0, Arrays.copyOf(y, MacSize));
+			assertArrayEquals(expected, mac);
+		}
+	}
+
+	@Test
+	void ctrMatchesAesCtr() throws GeneralSecurityException {
+		for (int length = 0; length < 60; length++) {
+			final byte[] ctr0 = bytes(16);
+			// force a carry across the low counter bytes
+			ctr0[15] = (byte) 0xff;
+			ctr0[14] = (byte) 0xff;
+			final byte[] input = bytes(MacSize + length);
+			final byte[] expected = aesCtr(ctr0, input);
+
+			final byte[] output = new byte[input.length];
+			ccm.ctr(ctr0, 0, input, 0, output, 0, MacSize);
+			ccm.ctr(ctr0, MacSize, input, MacSize, output, MacSize, length);
+			assertArrayEquals(expected, output);
+
+			// in place
+			ccm.ctr(ctr0, 0, input, 0, input, 0, input.length);
+			assertArrayEquals(expected, input);
+		}
+	}
+
+	@Test
+	void destroy() {
+		assertTrue(ccm.hasKey(key));
+		ccm.destroy();
+		assertFalse(ccm.hasKey(key));
+		assertFalse(ccm.hasKey(new byte[16]));
+		final byte[] block = new byte[16];
+		assertThrows(GeneralSecurityException.class, () -> ccm.ctr(block, 0, block, 0, block, 0, 16));
+	}
+
+	private byte[] aesCbc(final byte[] b0, final byte[] data) throws GeneralSecurityException {
+		final var cipher = Cipher.getInstance("AES/CBC/NoPadding");
+		cipher.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(key, "AES"), new IvParameterSpec(new byte[16]));
+		cipher.update(b0);
+		return cipher.doFinal(Arrays.copyOf(data, (data.length + 15) / 16 * 16));
+	}
+
+	private byte[] aesCtr(final byte[] ctr0, final byte[] input) throws GeneralSecurityException {
+		final var cipher = Cipher.getInstance("AES/CTR/NoPadding");
+		cipher.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(key, "AES"), new IvParameterSpec(ctr0));
+		return cipher.doFinal(input);
+	}
+
+	private byte[] bytes(final int length) {
+		final byte[] b = new byte[length];
+		rnd.nextBytes(b);
+		return b;
+	}
+}
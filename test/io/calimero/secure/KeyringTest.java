@@ -44,8 +44,11 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.io.IOException;
 import java.net.InetAddress;
 import java.net.UnknownHostException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.util.Arrays;
 import java.util.HexFormat;
@@ -278,4 +281,99 @@ class KeyringTest {
 		assertEquals(16, tunnelInterface.userKey().length);
 		assertEquals(16, tunnelInterface.deviceAuthCode().length);
 	}
+
+	@Test
+	void unlockDecryptsKeysAndPasswords() {
+		final var keyring = Keyring.load(keyringUri);
+		try (var unlocked = keyring.unlock(keyringPwd)) {
+			final byte[] groupAddrKey = HexFormat.of().parseHex("E14343050F4377E3159B90AFE0228216");
+			assertArrayEquals(groupAddrKey, unlocked.decryptKey(keyring.groups().get(new GroupAddress(1, 1, 1))));
+
+			final var device = keyring.devices().get(host);
+			assertArrayEquals("router1".toCharArray(), unlocked.decryptPassword(device.password().get()));
+
+			final var tunnelInterface = unlocked.decrypt(keyring.interfaces().get(host).getFirst());
+			assertEquals(Type.Tunneling, tunnelInterface.type());
+			assertEquals(16, tunnelInterface.userKey().length);
+		}
+	}
+
+	@Test
+	void unlockWithWrongPassword() {
+		final var keyring = Keyring.load(keyringUri);
+		assertThrows(KnxSecureException.class, () -> keyring.unlock("wrong".toCharArray()));
+	}
+
+	@Test
+	void decryptKeysBatch() {
+		final var keyring = Keyring.load(keyringUri);
+		try (var unlocked = keyring.unlock(keyringPwd)) {
+			final var groups = keyring.groups();
+			for (final boolean parallel : new boolean[] { false, true }) {
+				final var decrypted = unlocked.decryptKeys(groups, parallel);
+				assertEquals(groups.keySet(), decrypted.keySet());
+				groups.forEach((addr, key) -> assertArrayEquals(keyring.decryptKey(key, keyringPwd), decrypted.get(addr)));
+			}
+		}
+	}
+
+	@Test
+	void closedSessionFailsDecryption() {
+		final var keyring = Keyring.load(keyringUri);
+		final var unlocked = keyring.unlock(keyringPwd);
+		final var key = keyring.groups().get(new GroupAddress(1, 1, 1));
+		unlocked.decryptKey(key);
+		unlocked.close();
+		assertThrows(IllegalStateException.class, () -> unlocked.decryptKey(key));
+		assertThrows(IllegalStateException.class, () -> unlocked.decryptKeys(keyring.groups(), false));
+	}
+
+	@Test
+	void useKeyringLazily() {
+		final var keyring = Keyring.load(keyringUri);
+		final var group = new GroupAddress(1, 1, 1);
+		final byte[] groupAddrKey = HexFormat.of().parseHex("E14343050F4377E3159B90AFE0228216");
+
+		final var security = Security.newSecurity();
+		try (var unlocked = keyring.unlock(keyringPwd)) {
+			security.useKeyring(unlocked, true);
+			assertTrue(security.hasGroupKey(group));
+			assertArrayEquals(groupAddrKey, security.groupKey(group));
+			assertEquals(keyring.groups().keySet(), security.groupKeys().keySet());
+		}
+		// keys decrypted before closing the session remain available
+		assertArrayEquals(groupAddrKey, security.groupKey(group));
+	}
+
+	@Test
+	void loadFromPath() {
+		final var keyring = Keyring.load(Path.of(keyringUri));
+		assertEquals(Keyring.load(keyringUri), keyring);
+		assertTrue(keyring.verifySignature(keyringPwd));
+	}
+
+	@Test
+	void loadFromInputStream() throws IOException {
+		try (var stream = Files.newInputStream(Path.of(keyringUri))) {
+			final var keyring = Keyring.load(stream);
+			assertEquals(8, keyring.interfaces().get(host).size());
+			assertTrue(keyring.verifySignature(keyringPwd));
+			assertFalse(keyring.verifySignature("wrong".toCharArray()));
+		}
+	}
+
+	@Test
+	void loadFromInputStreamWithWrongSignature() throws IOException {
+		try (var stream = Files.newInputStream(Path.of("test/resources/WrongSignature.knxkeys"))) {
+			assertFalse(Keyring.load(stream).verifySignature(keyringPwd));
+		}
+	}
+
+	@Test
+	void loadedKeyringIsImmutable() {
+		final var keyring = Keyring.load(keyringUri);
+		final var interfaces = keyring.interfaces().get(host);
+		assertThrows(UnsupportedOperationException.class, () -> interfaces.add(interfaces.getFirst()));
+		assertThrows(UnsupportedOperationException.class, () -> keyring.groups().clear());
+	}
 }
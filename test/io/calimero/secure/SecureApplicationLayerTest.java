@@ -39,9 +39,11 @@ package io.calimero.secure;
 import static io.calimero.DataUnitBuilder.fromHex;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.HexFormat;
 import java.util.Map;
 import java.util.concurrent.ExecutionException;
@@ -192,6 +194,26 @@ class SecureApplicationLayerTest {
 		assertArrayEquals(expected, plainAsdu);
 	}
 
+	@Test
+	void changedToolKeyIsUsed() {
+		final var device = new IndividualAddress(15, 15, 1);
+		final byte[] apdu = DataUnitBuilder.createAPDU(PropertyWrite, propertyAsdu());
+		sequenceNumberToolAccess = 4;
+		final var toolKeys = sal.security().deviceToolKeys();
+
+		toolKeys.put(device, toolKey.clone());
+		final byte[] secured = secure(SecureApplicationLayer.SecureDataPdu, local, device, apdu);
+
+		final byte[] otherKey = toolKey.clone();
+		otherKey[0] = 0x10;
+		toolKeys.put(device, otherKey);
+		final byte[] securedOtherKey = secure(SecureApplicationLayer.SecureDataPdu, local, device, apdu);
+		assertFalse(Arrays.equals(secured, securedOtherKey));
+
+		toolKeys.put(device, toolKey.clone());
+		assertArrayEquals(secured, secure(SecureApplicationLayer.SecureDataPdu, local, device, apdu));
+	}
+
 	@Test
 	void encryptPropertyResponse() {
 		final byte[] asdu = propertyAsdu();
@@ -0,0 +1,554 @@
+/*
+    Calimero 3 - A library for KNX network access
+    Copyright (c) 2026 B. Malinowsky
+
+    This program is free software; you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation; either version 2 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program; if not, write to the Free Software
+    Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+
+    Linking this library statically or dynamically with other modules is
+    making a combined work based on this library. Thus, the terms and
+    conditions of the GNU General Public License cover the whole
+    combination.
+
+    As a special exception, the copyright holders of this library give you
+    permission to link this library with independent modules to produce an
+    executable, regardless of the license terms of these independent
+    modules, and to copy and distribute the resulting executable under terms
+    of your choice, provided that you also meet, for each linked independent
+    module, the terms and conditions of the license of that module. An
+    independent module is a module which is not derived from or based on
+    this library. If you modify this library, you may extend this exception
+    to your version of the library, but you are not obligated to do so. If
+    you do not wish to do so, delete this exception statement from your
+    version.
+*/
+
+package io.calimero.serial;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+import io.calimero.GroupAddress;
+import io.calimero.IndividualAddress;
+import io.calimero.KNXAddress;
+import io.calimero.serial.spi.SerialCom;
+import io.calimero.serial.spi.SerialConnectionProvider;
+
+/**
+ * In-process TP1 bus simulator for measuring latency, throughput, and frame loss of serial links without KNX hardware.
+ * The bus runs in real time at 9600 Bd, and models inter-frame gaps, acknowledge slots, frame repetitions, and
+ * collisions resolved by priority arbitration. Attached TP-UART ports emulate a TP-UART controller, and are available
+ * via {@link Provider} using the port identifier returned by {@link #portId()}. Background bus load, frame corruption,
+ * and arbitration are deterministic for a given seed.
+ */
+public final class Tp1BusSimulator implements AutoCloseable {
+	static final String PortPrefix = "tp1sim:";
+
+	// TP1 timing in bit times at 9600 Bd
+	private static final double BitTime = 1_000_000_000d / 9600; // [ns]
+	private static final int CharBits = 13; // 11 bit character plus 2 bit inter-character gap
+	private static final int InterFrameBits = 50;
+	private static final int AckSlotBits = 15;
+	private static final int MaxRepetitions = 3;
+
+	private static final int RepeatFlag = 0x20;
+
+	private static final Map<String, Tp1BusSimulator> buses = new ConcurrentHashMap<>();
+
+	/**
+	 * Serial connection provider for simulated TP-UART ports.
+	 */
+	public static final class Provider implements SerialConnectionProvider {
+		public Provider() {}
+
+		@Override
+		public SerialCom open(final Settings settings) throws IOException {
+			final var portId = settings.portId();
+			final var bus = portId.startsWith(PortPrefix) ? buses.get(portId.substring(PortPrefix.length())) : null;
+			if (bus == null)
+				throw new IOException("no simulated TP1 bus for port " + portId);
+			return bus.attach(settings.receiveTimeout());
+		}
+
+		@Override
+		public Set<String> portIdentifiers() {
+			return buses.keySet().stream().map(PortPrefix::concat).collect(Collectors.toSet());
+		}
+
+		@Override
+		public String toString() { return "TP1 bus simulator"; }
+	}
+
+	/**
+	 * Bus statistics.
+	 *
+	 * @param frames number of transmitted frames, including repetitions
+	 * @param repetitions number of frame repetitions
+	 * @param collisions number of lost arbitrations
+	 * @param unacknowledged number of frames not acknowledged after all repetitions
+	 * @param corrupted number of corrupted frames
+	 * @param busy bus busy time
+	 * @param elapsed time since bus start
+	 */
+	public record Statistics(long frames, long repetitions, long collisions, long unacknowledged, long corrupted,
+		Duration busy, Duration elapsed) {
+
+		public double busLoad() { return elapsed.isZero() ? 0 : (double) busy.toNanos() / elapsed.toNanos(); }
+	}
+
+	private final String name;
+	private final Random random;
+	private final long started = System.nanoTime();
+
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Condition submitted = lock.newCondition();
+	private final List<Transmission> pending = new ArrayList<>();
+	private final List<TpuartPort> ports = new CopyOnWriteArrayList<>();
+	private final Map<KNXAddress, IndividualAddress> acknowledgedBy = new ConcurrentHashMap<>();
+
+	private final Thread thread;
+	private volatile boolean closed;
+
+	private volatile double busLoad;
+	private volatile double corruptionRate;
+	private volatile long ackSlack = Duration.ofMillis(2).toNanos();
+	private long nextLoadFrame = Long.MAX_VALUE;
+
+	private long frames;
+	private long repetitions;
+	private long collisions;
+	private long unacknowledged;
+	private long corrupted;
+	private long busyNanos;
+
+	/**
+	 * Creates and starts a new simulated TP1 bus.
+	 *
+	 * @param name bus name, unique among all running simulators
+	 * @param seed seed for background bus load, frame corruption, and arbitration ties
+	 */
+	public Tp1BusSimulator(final String name, final long seed) {
+		if (buses.putIfAbsent(name, this) != null)
+			throw new IllegalStateException("simulated TP1 bus " + name + " already exists");
+		this.name = name;
+		random = new Random(seed);
+		thread = Thread.ofPlatform().name("TP1 bus simulator " + name).daemon().start(this::run);
+	}
+
+	/**
+	 * {@return the identifier for attaching a TP-UART port to this bus, e.g., with a {@link TpuartConnection}}
+	 */
+	public String portId() { return PortPrefix + name; }
+
+	/**
+	 * Sets the generated background bus load, i.e., the fraction of time the bus is busy with frames of simulated
+	 * devices.
+	 *
+	 * @param load bus load, {@code 0 ≤ load < 1}
+	 */
+	public void busLoad(final double load) {
+		if (load < 0 || load >= 1)
+			throw new IllegalArgumentException("bus load " + load + " not in [0, 1)");
+		lock.lock();
+		try {
+			busLoad = load;
+			nextLoadFrame = load > 0 ? System.nanoTime() : Long.MAX_VALUE;
+			submitted.signal();
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Sets the probability a transmitted frame gets corrupted on the bus; corrupted frames are not acknowledged.
+	 *
+	 * @param rate corruption probability, {@code 0 ≤ rate ≤ 1}
+	 */
+	public void corruptionRate(final double rate) { corruptionRate = rate; }
+
+	/**
+	 * Sets the real-time slack added to the acknowledge slot to wait for attached ports to acknowledge a frame.
+	 *
+	 * @param slack additional time to wait for an acknowledge of an attached port
+	 */
+	public void ackSlack(final Duration slack) { ackSlack = slack.toNanos(); }
+
+	/**
+	 * Adds a simulated device, which acknowledges frames sent to its individual address or any of the supplied group
+	 * addresses.
+	 *
+	 * @param device individual address of the device
+	 * @param groups group addresses acknowledged by the device
+	 */
+	public void addDevice(final IndividualAddress device, final GroupAddress... groups) {
+		acknowledgedBy.put(device, device);
+		for (final var group : groups)
+			acknowledgedBy.put(group, device);
+	}
+
+	/**
+	 * {@return a snapshot of the bus statistics}
+	 */
+	public Statistics statistics() {
+		lock.lock();
+		try {
+			return new Statistics(frames, repetitions, collisions, unacknowledged, corrupted, Duration.ofNanos(busyNanos),
+					Duration.ofNanos(System.nanoTime() - started));
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public void close() {
+		closed = true;
+		buses.remove(name, this);
+		thread.interrupt();
+	}
+
+	@Override
+	public String toString() { return "simulated TP1 bus " + name + " (" + ports.size() + " ports)"; }
+
+	TpuartPort attach(final Duration receiveTimeout) {
+		final var port = new TpuartPort(receiveTimeout);
+		ports.add(port);
+		return port;
+	}
+
+	private void submit(final Transmission tx) {
+		lock.lock();
+		try {
+			pending.add(tx);
+			submitted.signal();
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	private void run() {
+		long busFree = System.nanoTime();
+		while (!closed) {
+			try {
+				final long start = awaitNextStart(busFree);
+				sleepUntil(start);
+				final var tx = arbitrate(start);
+				if (tx != null)
+					busFree = transmit(tx, start);
+			}
+			catch (final InterruptedException e) {
+				// closed
+			}
+		}
+	}
+
+	// returns the start time of the next frame
+	private long awaitNextStart(final long busFree) throws InterruptedException {
+		lock.lock();
+		try {
+			while (pending.isEmpty()) {
+				final long wait = nextLoadFrame - System.nanoTime();
+				if (wait <= 0)
+					generateLoad(nextLoadFrame);
+				else
+					submitted.awaitNanos(wait);
+			}
+			final long earliest = pending.stream().mapToLong(Transmission::submitted).min().getAsLong();
+			return Math.max(busFree + bitTimes(InterFrameBits), earliest);
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	// all frames pending at start compete, a dominant 0 bit wins: priority first, then remaining frame bits
+	private Transmission arbitrate(final long start) {
+		lock.lock();
+		try {
+			generateLoad(start);
+			final var competitors = pending.stream().filter(tx -> tx.submitted <= start).toList();
+			if (competitors.isEmpty())
+				return null;
+			final var winner = competitors.stream().min(Comparator.comparingInt(Transmission::rank)
+					.thenComparing(Transmission::frame, Arrays::compareUnsigned)).get();
+			pending.remove(winner);
+			collisions += competitors.size() - 1;
+			return winner;
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	// returns the time the bus is free again
+	private long transmit(final Transmission tx, final long start) throws InterruptedException {
+		final byte[] frame = tx.frame;
+		final long end = start + bitTimes(frame.length * CharBits);
+		sleepUntil(end);
+
+		final boolean corrupt;
+		lock.lock();
+		try {
+			corrupt = corruptionRate > 0 && random.nextDouble() < corruptionRate;
+		}
+		finally {
+			lock.unlock();
+		}
+		final byte[] delivered = corrupt ? corrupt(frame) : frame;
+		for (final var port : ports) {
+			port.acked = false;
+			if (port != tx.sender)
+				port.receive(delivered);
+		}
+
+		final long ackSlot = end + bitTimes(AckSlotBits);
+		final boolean deviceAck = tx.sender == null || acknowledgedBy.containsKey(destination(frame));
+		sleepUntil(corrupt || deviceAck ? ackSlot : ackSlot + ackSlack);
+		final boolean acked = !corrupt
+				&& (deviceAck || ports.stream().anyMatch(port -> port != tx.sender && port.acked));
+
+		final long busFree = Math.max(System.nanoTime(), ackSlot + bitTimes(CharBits));
+		lock.lock();
+		try {
+			frames++;
+			busyNanos += bitTimes(frame.length * CharBits + AckSlotBits + CharBits);
+			if (corrupt)
+				corrupted++;
+			if (!acked && tx.repetitions < MaxRepetitions) {
+				tx.repeat();
+				repetitions++;
+				pending.add(tx);
+				return busFree;
+			}
+			if (!acked)
+				unacknowledged++;
+		}
+		finally {
+			lock.unlock();
+		}
+		if (tx.sender != null)
+			tx.sender.confirm(acked);
+		return busFree;
+	}
+
+	// pre: lock held
+	private void generateLoad(final long until) {
+		final double load = busLoad;
+		while (load > 0 && nextLoadFrame <= until) {
+			// std frame group value write with 1 to 4 bytes of data
+			final int data = 1 + random.nextInt(4);
+			final byte[] frame = new byte[8 + data];
+			final boolean low = random.nextInt(4) == 0;
+			frame[0] = (byte) (0x90 | RepeatFlag | (low ? 0x0c : 0x04));
+			frame[1] = (byte) 0xff;
+			frame[2] = (byte) (1 + random.nextInt(250));
+			frame[3] = (byte) random.nextInt(0x80);
+			frame[4] = (byte) random.nextInt(0x100);
+			frame[5] = (byte) (0xe0 | data);
+			frame[6] = 0;
+			frame[7] = (byte) 0x80;
+			for (int i = 8; i < frame.length - 1; i++)
+				frame[i] = (byte) random.nextInt(0x100);
+			setChecksum(frame);
+			pending.add(new Transmission(null, frame, nextLoadFrame));
+
+			final int bits = InterFrameBits + frame.length * CharBits + AckSlotBits + CharBits;
+			final double mean = bitTimes(bits) / load;
+			nextLoadFrame += (long) (-Math.log(1 - random.nextDouble()) * mean);
+		}
+	}
+
+	private void sleepUntil(final long deadline) throws InterruptedException {
+		for (long now = System.nanoTime(); now < deadline; now = System.nanoTime()) {
+			if (closed)
+				throw new InterruptedException();
+			LockSupport.parkNanos(deadline - now);
+		}
+	}
+
+	private static long bitTimes(final int bits) { return (long) (bits * BitTime); }
+
+	private static KNXAddress destination(final byte[] tp1) {
+		final boolean std = (tp1[0] & 0x80) == 0x80;
+		final byte[] addr = std ? new byte[] { tp1[3], tp1[4] } : new byte[] { tp1[4], tp1[5] };
+		final boolean group = ((std ? tp1[5] : tp1[1]) & 0x80) == 0x80;
+		return group ? new GroupAddress(addr) : new IndividualAddress(addr);
+	}
+
+	private static byte[] corrupt(final byte[] frame) {
+		final byte[] copy = frame.clone();
+		copy[copy.length - 1] ^= 0x01;
+		return copy;
+	}
+
+	private static void setChecksum(final byte[] frame) {
+		int cs = 0;
+		for (int i = 0; i < frame.length - 1; i++)
+			cs ^= frame[i];
+		frame[frame.length - 1] = (byte) ~cs;
+	}
+
+	private static final class Transmission {
+		final TpuartPort sender;
+		final byte[] frame;
+		final long submitted;
+		final int rank;
+		int repetitions;
+
+		Transmission(final TpuartPort sender, final byte[] frame, final long submitted) {
+			this.sender = sender;
+			this.frame = frame;
+			this.submitted = submitted;
+			// TP1 arbitration order: system, urgent, normal, low
+			rank = switch ((frame[0] >> 2) & 0x03) {
+				case 0 -> 0;
+				case 2 -> 1;
+				case 1 -> 2;
+				default -> 3;
+			};
+		}
+
+		byte[] frame() { return frame; }
+
+		long submitted() { return submitted; }
+
+		int rank() { return rank; }
+
+		void repeat() {
+			repetitions++;
+			frame[0] &= (byte) ~RepeatFlag;
+			setChecksum(frame);
+		}
+	}
+
+	// TP-UART controller attached to the simulated bus
+	final class TpuartPort implements SerialCom {
+		private final BlockingQueue<Byte> rx = new LinkedBlockingQueue<>();
+		private final long receiveTimeout;
+		volatile boolean acked;
+
+		private final OutputStream os = new OutputStream() {
+			private final byte[] frame = new byte[64];
+			private int length;
+			private boolean dataExpected;
+			private boolean endOfFrame;
+
+			@Override
+			public void write(final int value) {
+				final int b = value & 0xff;
+				if (dataExpected) {
+					dataExpected = false;
+					frame[length++] = (byte) b;
+					if (endOfFrame) {
+						submit(new Transmission(TpuartPort.this, Arrays.copyOf(frame, length), System.nanoTime()));
+						length = 0;
+					}
+				}
+				else if ((b & 0xc0) == 0x80) { // L_DataStart
+					dataExpected = true;
+					endOfFrame = false;
+					if ((b & 0x3f) == 0)
+						length = 0;
+				}
+				else if ((b & 0xc0) == 0x40) { // L_DataEnd
+					dataExpected = true;
+					endOfFrame = true;
+				}
+				else if (b == 0x01) // Reset.req
+					input(0x03);
+				else if (b == 0x02) // State.req
+					input(0x07);
+				else if ((b & 0xf0) == 0x10) // AckInformation, bit 0 set for addressed
+					acked |= (b & 0x01) == 0x01;
+			}
+		};
+
+		private final InputStream is = new InputStream() {
+			@Override
+			public int read() {
+				try {
+					final Byte b = rx.poll(receiveTimeout, TimeUnit.NANOSECONDS);
+					return b == null ? -1 : b & 0xff;
+				}
+				catch (final InterruptedException e) {
+					Thread.currentThread().interrupt();
+					return -1;
+				}
+			}
+
+			@Override
+			public int read(final byte[] b, final int off, final int len) {
+				int read = 0;
+				for (Byte next; read < len && (next = rx.poll()) != null; read++)
+					b[off + read] = next;
+				return read;
+			}
+
+			@Override
+			public int available() { return rx.size(); }
+		};
+
+		private TpuartPort(final Duration receiveTimeout) {
+			this.receiveTimeout = receiveTimeout.isZero() ? Duration.ofMillis(5).toNanos() : receiveTimeout.toNanos();
+		}
+
+		@Override
+		public int baudRate() { return 19_200; }
+
+		@Override
+		public InputStream inputStream() { return is; }
+
+		@Override
+		public OutputStream outputStream() { return os; }
+
+		@Override
+		public void close() { ports.remove(this); }
+
+		@Override
+		public String toString() { return Tp1BusSimulator.this + " TP-UART port"; }
+
+		private void receive(final byte[] frame) {
+			for (final byte b : frame)
+				rx.add(b);
+		}
+
+		private void confirm(final boolean positive) {
+			input(positive ? 0x8b : 0x0b);
+		}
+
+		private void input(final int b) {
+			rx.add((byte) b);
+		}
+	}
+}
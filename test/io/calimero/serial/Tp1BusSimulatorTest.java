@@ -0,0 +1,179 @@
+/*
+    Calimero 3 - A library for KNX network access
+    Copyright (c) 2026 B. Malinowsky
+
+    This program is free software; you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation; either version 2 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program; if not, write to the Free Software
+    Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+
+    Linking this library statically or dynamically with other modules is
+    making a combined work based on this library. Thus, the terms and
+    conditions of the GNU General Public License cover the whole
+    combination.
+
+    As a special exception, the copyright holders of this library give you
+    permission to link this library with independent modules to produce an
+    executable, regardless of the license terms of these independent
+    modules, and to copy and distribute the resulting executable under terms
+    of your choice, provided that you also meet, for each linked independent
+    module, the terms and conditions of the license of that module. An
+    independent module is a module which is not derived from or based on
+    this library. If you modify this library, you may extend this exception
+    to your version of the library, but you are not obligated to do so. If
+    you do not wish to do so, delete this exception statement from your
+    version.
+*/
+
+package io.calimero.serial;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.calimero.FrameEvent;
+import io.calimero.GroupAddress;
+import io.calimero.IndividualAddress;
+import io.calimero.KNXAckTimeoutException;
+import io.calimero.KNXException;
+import io.calimero.Priority;
+import io.calimero.cemi.CEMILData;
+import tag.Slow;
+
+class Tp1BusSimulatorTest {
+	private static final GroupAddress dst = new GroupAddress(1, 0, 1);
+
+	private final Tp1BusSimulator bus = new Tp1BusSimulator("test", 42);
+	private final List<TpuartConnection> connections = new ArrayList<>();
+
+	@AfterEach
+	void tearDown() {
+		connections.forEach(TpuartConnection::close);
+		bus.close();
+	}
+
+	@Test
+	void portIsAvailableFromProvider() {
+		assertTrue(SerialConnectionFactory.portIdentifiers().contains(bus.portId()));
+	}
+
+	@Test
+	void frameIsReceivedAndAcknowledged() throws Exception {
+		final var sender = connect();
+		final var receiver = connect(dst);
+		final var received = new CopyOnWriteArrayList<CEMILData>();
+		receiver.addConnectionListener((final FrameEvent e) -> received.add((CEMILData) e.getFrame()));
+
+		assertTrue(sender.sendAsync(groupWrite(Priority.LOW)).get(1, TimeUnit.SECONDS));
+		assertEquals(1, received.size());
+		assertEquals(dst, received.getFirst().getDestination());
+
+		final var stats = bus.statistics();
+		assertEquals(1, stats.frames());
+		assertEquals(0, stats.repetitions());
+	}
+
+	@Test
+	void unacknowledgedFrameIsRepeated() throws Exception {
+		final var sender = connect();
+		assertFalse(sender.sendAsync(groupWrite(Priority.LOW)).get(1, TimeUnit.SECONDS));
+
+		final var stats = bus.statistics();
+		assertEquals(4, stats.frames());
+		assertEquals(3, stats.repetitions());
+		assertEquals(1, stats.unacknowledged());
+	}
+
+	@Test
+	void simulatedDeviceAcknowledges() throws Exception {
+		bus.addDevice(new IndividualAddress(1, 1, 10), dst);
+		final var sender = connect();
+		assertTrue(sender.sendAsync(groupWrite(Priority.LOW)).get(1, TimeUnit.SECONDS));
+		assertEquals(0, bus.statistics().repetitions());
+	}
+
+	@Test
+	void corruptedFramesAreRepeated() throws Exception {
+		bus.addDevice(new IndividualAddress(1, 1, 10), dst);
+		bus.corruptionRate(1);
+		final var sender = connect();
+		assertFalse(sender.sendAsync(groupWrite(Priority.LOW)).get(1, TimeUnit.SECONDS));
+		assertEquals(4, bus.statistics().corrupted());
+	}
+
+	@Test
+	void generatedBusLoad() throws InterruptedException {
+		bus.busLoad(0.5);
+		Thread.sleep(1000);
+		final var stats = bus.statistics();
+		assertTrue(stats.frames() > 10, "frames " + stats.frames());
+		assertTrue(stats.busLoad() > 0.3 && stats.busLoad() < 0.7, "bus load " + stats.busLoad());
+	}
+
+	@Test
+	@Slow
+	void latencyUnderLoad() throws Exception {
+		bus.busLoad(0.3);
+		bus.addDevice(new IndividualAddress(1, 1, 10), dst);
+		final var sender = connect();
+
+		final int frames = 200;
+		long total = 0;
+		long max = 0;
+		int lost = 0;
+		final long start = System.nanoTime();
+		// one frame per 50 ms adds about 40 % bus load
+		final long interval = 50_000_000;
+		for (int i = 0; i < frames; i++) {
+			final long due = start + i * interval;
+			while (System.nanoTime() < due)
+				Thread.sleep(1);
+			final long sent = System.nanoTime();
+			try {
+				if (!sender.sendAsync(groupWrite(Priority.LOW)).get(2, TimeUnit.SECONDS))
+					lost++;
+			}
+			catch (final ExecutionException e) {
+				if (!(e.getCause() instanceof KNXAckTimeoutException))
+					throw e;
+				lost++;
+			}
+			final long latency = System.nanoTime() - sent;
+			total += latency;
+			max = Math.max(max, latency);
+		}
+		final double seconds = (System.nanoTime() - start) / 1e9;
+		System.out.printf("%d frames, %.1f frames/s, latency avg %.1f ms, max %.1f ms, lost %d, %s%n", frames,
+				frames / seconds, total / frames / 1e6, max / 1e6, lost, bus.statistics());
+		assertTrue(lost <= frames / 20, "lost " + lost + " frames");
+	}
+
+	private TpuartConnection connect(final GroupAddress... acknowledge) throws KNXException {
+		final var c = new TpuartConnection(bus.portId(), List.of(acknowledge));
+		connections.add(c);
+		return c;
+	}
+
+	private static byte[] groupWrite(final Priority priority) {
+		return new CEMILData(CEMILData.MC_LDATA_REQ, new IndividualAddress(1, 1, 1), dst, new byte[] { 0, (byte) 0x81 },
+				priority).toByteArray();
+	}
+}
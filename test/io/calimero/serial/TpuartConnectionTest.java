@@ -0,0 +1,253 @@
+/*
+    Calimero 3 - A library for KNX network access
+    Copyright (c) 2026 B. Malinowsky
+
+    This program is free software; you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation; either version 2 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program; if not, write to the Free Software
+    Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+
+    Linking this library statically or dynamically with other modules is
+    making a combined work based on this library. Thus, the terms and
+    conditions of the GNU General Public License cover the whole
+    combination.
+
+    As a special exception, the copyright holders of this library give you
+    permission to link this library with independent modules to produce an
+    executable, regardless of the license terms of these independent
+    modules, and to copy and distribute the resulting executable under terms
+    of your choice, provided that you also meet, for each linked independent
+    module, the terms and conditions of the license of that module. An
+    independent module is a module which is not derived from or based on
+    this library. If you modify this library, you may extend this exception
+    to your version of the library, but you are not obligated to do so. If
+    you do not wish to do so, delete this exception statement from your
+    version.
+*/
+
+package io.calimero.serial;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.calimero.FrameEvent;
+import io.calimero.GroupAddress;
+import io.calimero.IndividualAddress;
+import io.calimero.KNXException;
+import io.calimero.Priority;
+import io.calimero.cemi.CEMILData;
+
+class TpuartConnectionTest {
+	private static final GroupAddress dst = new GroupAddress(1, 0, 1);
+
+	// std TP1 frame 1.1.5 -> 1/0/1, group value read, without checksum
+	private static final int[] tp1Frame = { 0xbc, 0x11, 0x05, 0x08, 0x01, 0xe1, 0x00, 0x00 };
+
+	private final TpuartEmulator emulator = new TpuartEmulator();
+	private final List<CEMILData> received = new CopyOnWriteArrayList<>();
+	private TpuartConnection c;
+
+	@BeforeEach
+	void init() throws KNXException {
+		c = new TpuartConnection(emulator, "emulator", List.of(dst));
+		c.addConnectionListener((final FrameEvent e) -> {
+			if (e.getFrame() instanceof final CEMILData ldata && ldata.getMessageCode() == CEMILData.MC_LDATA_IND)
+				received.add(ldata);
+		});
+	}
+
+	@AfterEach
+	void tearDown() {
+		c.close();
+	}
+
+	@Test
+	void receiveFrameWithSingleRead() throws InterruptedException {
+		emulator.input(withChecksum(tp1Frame));
+		awaitReceived(1);
+		assertEquals(dst, received.getFirst().getDestination());
+		assertEquals(new IndividualAddress(1, 1, 5), received.getFirst().getSource());
+		assertTrue(emulator.acks.contains(0x11), "positive ack for acknowledged address");
+	}
+
+	@Test
+	void receiveFrameSplitOverSeveralReads() throws InterruptedException {
+		final int[] frame = withChecksum(tp1Frame);
+		emulator.input(frame[0], frame[1], frame[2]);
+		Thread.sleep(2);
+		for (int i = 3; i < frame.length; i++)
+			emulator.input(frame[i]);
+		awaitReceived(1);
+		assertEquals(dst, received.getFirst().getDestination());
+	}
+
+	@Test
+	void discardPartialFrameAfterInterByteTimeout() throws InterruptedException {
+		final int[] frame = withChecksum(tp1Frame);
+		emulator.input(frame[0], frame[1], frame[2]);
+		Thread.sleep(50);
+		frame[2] = 0x06;
+		emulator.input(withChecksum(Arrays.copyOf(frame, frame.length - 1)));
+		awaitReceived(1);
+		Thread.sleep(20);
+		assertEquals(1, received.size());
+		assertEquals(new IndividualAddress(1, 1, 6), received.getFirst().getSource());
+	}
+
+	@Test
+	void sendWaitsForConfirmation() throws Exception {
+		final var ldata = new CEMILData(CEMILData.MC_LDATA_REQ, new IndividualAddress(0), dst, new byte[] { 0, (byte) 0x80 },
+				Priority.LOW);
+		c.send(ldata.toByteArray(), true);
+		assertEquals(1, emulator.sent.size());
+		final byte[] tp1 = emulator.sent.getFirst();
+		assertArrayEquals(new byte[] { 0x08, 0x01 }, new byte[] { tp1[3], tp1[4] });
+	}
+
+	@Test
+	void sendAsyncCompletesOnConfirmation() throws Exception {
+		final var future = c.sendAsync(groupRead(Priority.LOW));
+		assertTrue(future.get(1, TimeUnit.SECONDS));
+		assertEquals(0, c.sendQueueSize());
+	}
+
+	@Test
+	void queuedFramesAreSentInPriorityOrder() throws Exception {
+		emulator.holdConfirmations();
+		final var first = c.sendAsync(groupRead(Priority.LOW));
+		while (emulator.sent.isEmpty())
+			Thread.sleep(1);
+
+		final var futures = List.of(c.sendAsync(groupRead(Priority.LOW)), c.sendAsync(groupRead(Priority.NORMAL)),
+				c.sendAsync(groupRead(Priority.SYSTEM)), c.sendAsync(groupRead(Priority.URGENT)));
+		assertEquals(4, c.sendQueueSize());
+		emulator.releaseConfirmations();
+
+		first.get(1, TimeUnit.SECONDS);
+		for (final var future : futures)
+			future.get(1, TimeUnit.SECONDS);
+
+		final var priorities = emulator.sent.stream().map(tp1 -> Priority.get((tp1[0] >> 2) & 0x03)).toList();
+		assertEquals(List.of(Priority.LOW, Priority.SYSTEM, Priority.URGENT, Priority.NORMAL, Priority.LOW),
+				priorities);
+	}
+
+	@Test
+	void concurrentSendsAreNotInterleaved() throws Exception {
+		final int senders = 4;
+		final int frames = 5;
+		final var executor = Executors.newFixedThreadPool(senders);
+		try {
+			final var tasks = new ArrayList<Future<?>>();
+			for (int i = 0; i < senders; i++) {
+				final byte[] frame = groupRead(Priority.NORMAL);
+				frame[frame.length - 2] = (byte) i; // tag frame with sender
+				tasks.add(executor.submit(() -> {
+					for (int k = 0; k < frames; k++)
+						c.send(frame, true);
+					return null;
+				}));
+			}
+			for (final var task : tasks)
+				task.get(10, TimeUnit.SECONDS);
+		}
+		finally {
+			executor.shutdownNow();
+		}
+		assertEquals(senders * frames, emulator.sent.size());
+		for (final byte[] tp1 : emulator.sent)
+			assertEquals(9, tp1.length);
+	}
+
+	@Test
+	void cancelRemovesQueuedFrame() throws Exception {
+		emulator.holdConfirmations();
+		final var first = c.sendAsync(groupRead(Priority.LOW));
+		while (emulator.sent.isEmpty())
+			Thread.sleep(1);
+
+		final var queued = new ArrayList<CompletableFuture<Boolean>>();
+		for (int i = 0; i < 64; i++)
+			queued.add(c.sendAsync(groupRead(Priority.LOW)));
+		final var full = c.sendAsync(groupRead(Priority.LOW));
+		assertThrows(ExecutionException.class, () -> full.get(1, TimeUnit.SECONDS));
+
+		queued.getFirst().cancel(false);
+		assertEquals(63, c.sendQueueSize());
+		final var next = c.sendAsync(groupRead(Priority.LOW));
+		assertFalse(next.isDone(), "slot of cancelled frame is free");
+
+		emulator.releaseConfirmations();
+		first.get(1, TimeUnit.SECONDS);
+		next.get(5, TimeUnit.SECONDS);
+		assertEquals(65, emulator.sent.size());
+	}
+
+	@Test
+	void closeFailsQueuedSends() throws InterruptedException {
+		emulator.holdConfirmations();
+		final var first = c.sendAsync(groupRead(Priority.LOW));
+		final var queued = c.sendAsync(groupRead(Priority.LOW));
+		c.close();
+		final var e = assertThrows(ExecutionException.class, () -> queued.get(1, TimeUnit.SECONDS));
+		assertInstanceOf(KNXPortClosedException.class, e.getCause());
+		assertThrows(ExecutionException.class, () -> first.get(1, TimeUnit.SECONDS));
+		assertThrows(KNXPortClosedException.class, () -> c.send(groupRead(Priority.LOW), false));
+	}
+
+	@Test
+	void idleReceiverWaitsForInput() throws InterruptedException {
+		final int before = emulator.reads.get();
+		Thread.sleep(200);
+		final int reads = emulator.reads.get() - before;
+		// each read waits up to 5 ms receive timeout
+		assertTrue(reads <= 45, "receiver polled " + reads + " times within 200 ms");
+	}
+
+	private void awaitReceived(final int frames) throws InterruptedException {
+		for (int i = 0; i < 100 && received.size() < frames; i++)
+			Thread.sleep(5);
+		assertEquals(frames, received.size());
+	}
+
+	private static byte[] groupRead(final Priority priority) {
+		return new CEMILData(CEMILData.MC_LDATA_REQ, new IndividualAddress(0), dst, new byte[] { 0, 0 }, priority)
+				.toByteArray();
+	}
+
+	private static int[] withChecksum(final int[] frame) {
+		final int[] data = Arrays.copyOf(frame, frame.length + 1);
+		int cs = 0;
+		for (final int b : frame)
+			cs ^= b;
+		data[frame.length] = ~cs & 0xff;
+		return data;
+	}
+}
@@ -0,0 +1,151 @@
+/*
+    Calimero 3 - A library for KNX network access
+    Copyright (c) 2026 B. Malinowsky
+
+    This program is free software; you can redistribute it and/or modify
+    it under the terms of the GNU General Public License as published by
+    the Free Software Foundation; either version 2 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program; if not, write to the Free Software
+    Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+
+    Linking this library statically or dynamically with other modules is
+    making a combined work based on this library. Thus, the terms and
+    conditions of the GNU General Public License cover the whole
+    combination.
+
+    As a special exception, the copyright holders of this library give you
+    permission to link this library with independent modules to produce an
+    executable, regardless of the license terms of these independent
+    modules, and to copy and distribute the resulting executable under terms
+    of your choice, provided that you also meet, for each linked independent
+    module, the terms and conditions of the license of that module. An
+    independent module is a module which is not derived from or based on
+    this library. If you modify this library, you may extend this exception
+    to your version of the library, but you are not obligated to do so. If
+    you do not wish to do so, delete this exception statement from your
+    version.
+*/
+
+package io.calimero.serial;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.calimero.serial.spi.SerialCom;
+
+// Minimal TP-UART controller emulation: answers reset and state requests, and confirms every sent frame
+class TpuartEmulator implements SerialCom {
+	private final BlockingQueue<Byte> rx = new LinkedBlockingQueue<>();
+
+	// TP1 frames written by the connection, and ack services written by the connection
+	final List<byte[]> sent = new CopyOnWriteArrayList<>();
+	final List<Integer> acks = new CopyOnWriteArrayList<>();
+	final AtomicInteger reads = new AtomicInteger();
+
+	// if set, L_Data.con services are held back until released
+	private volatile boolean holdCon;
+	private final List<Integer> heldCon = new CopyOnWriteArrayList<>();
+
+	private final OutputStream os = new OutputStream() {
+		private final ByteArrayOutputStream frame = new ByteArrayOutputStream();
+		private boolean dataExpected;
+		private boolean endOfFrame;
+
+		@Override
+		public void write(final int value) {
+			final int b = value & 0xff;
+			if (dataExpected) {
+				dataExpected = false;
+				frame.write(b);
+				if (endOfFrame) {
+					sent.add(frame.toByteArray());
+					frame.reset();
+					if (holdCon)
+						heldCon.add(0x8b);
+					else
+						input(0x8b); // positive L_Data.con
+				}
+			}
+			else if ((b & 0xc0) == 0x80) { // L_DataStart
+				dataExpected = true;
+				endOfFrame = false;
+			}
+			else if ((b & 0xc0) == 0x40) { // L_DataEnd
+				dataExpected = true;
+				endOfFrame = true;
+			}
+			else if (b == 0x01) // Reset.req
+				input(0x03);
+			else if (b == 0x02) // State.req
+				input(0x07);
+			else if ((b & 0xf0) == 0x10) // AckInformation
+				acks.add(b);
+		}
+	};
+
+	private final InputStream is = new InputStream() {
+		@Override
+		public int read() {
+			reads.incrementAndGet();
+			try {
+				final Byte b = rx.poll(5, TimeUnit.MILLISECONDS);
+				return b == null ? -1 : b & 0xff;
+			}
+			catch (final InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return -1;
+			}
+		}
+
+		@Override
+		public int read(final byte[] b, final int off, final int len) {
+			int read = 0;
+			for (Byte next; read < len && (next = rx.poll()) != null; read++)
+				b[off + read] = next;
+			return read;
+		}
+
+		@Override
+		public int available() { return rx.size(); }
+	};
+
+	void holdConfirmations() { holdCon = true; }
+
+	void releaseConfirmations() {
+		holdCon = false;
+		heldCon.forEach(this::input);
+		heldCon.clear();
+	}
+
+	void input(final int... data) {
+		for (final int b : data)
+			rx.add((byte) b);
+	}
+
+	@Override
+	public int baudRate() { return 19_200; }
+
+	@Override
+	public InputStream inputStream() { return is; }
+
+	@Override
+	public OutputStream outputStream() { return os; }
+
+	@Override
+	public void close() {}
+}